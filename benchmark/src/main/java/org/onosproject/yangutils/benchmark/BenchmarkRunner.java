@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yangutils.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * Runs the benchmarks with the GC profiler and compares the throughput and
+ * the normalized allocation rate of each of them with a baseline. The
+ * arguments are the JMH command line options.
+ * <p>
+ * The baseline is read from the file given by the "benchmark.baseline"
+ * system property, "baseline.properties" by default. It is written with the
+ * results of the run when it does not exist, or when "benchmark.update" is
+ * true. A result is reported as a regression when it is worse than the
+ * baseline by more than the ratio given by "benchmark.threshold", 0.1 by
+ * default, and the runner then exits with a non-zero status.
+ */
+public final class BenchmarkRunner {
+
+    private static final String BASELINE_PROPERTY = "benchmark.baseline";
+    private static final String DEFAULT_BASELINE = "baseline.properties";
+    private static final String UPDATE_PROPERTY = "benchmark.update";
+    private static final String THRESHOLD_PROPERTY = "benchmark.threshold";
+    private static final double DEFAULT_THRESHOLD = 0.1;
+    private static final String ALLOC_RATE_NORM = "\u00b7gc.alloc.rate.norm";
+    private static final String THROUGHPUT_SUFFIX = ".ops";
+    private static final String ALLOC_SUFFIX = ".alloc";
+
+    /**
+     * Creates an instance of benchmark runner.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks and compares the results with the baseline.
+     *
+     * @param args JMH command line options
+     * @throws Exception when fails to run the benchmarks
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        Map<String, Double> scores = getScores(new Runner(options).run());
+
+        File baselineFile = new File(System.getProperty(
+                BASELINE_PROPERTY, DEFAULT_BASELINE));
+        if (Boolean.getBoolean(UPDATE_PROPERTY) || !baselineFile.exists()) {
+            writeBaseline(baselineFile, scores);
+            System.out.println("Baseline written to " + baselineFile);
+            return;
+        }
+
+        double threshold = Double.parseDouble(System.getProperty(
+                THRESHOLD_PROPERTY, String.valueOf(DEFAULT_THRESHOLD)));
+        List<String> regressions = compare(readBaseline(baselineFile),
+                                           scores, threshold);
+        if (regressions.isEmpty()) {
+            System.out.println("No regression against " + baselineFile);
+            return;
+        }
+        System.out.println("Regressions against " + baselineFile + ":");
+        for (String regression : regressions) {
+            System.out.println("    " + regression);
+        }
+        System.exit(1);
+    }
+
+    /**
+     * Returns the throughput and the normalized allocation rate of each
+     * benchmark, keyed by the benchmark name and parameters.
+     *
+     * @param results results of the benchmarks
+     * @return scores of the benchmarks
+     */
+    private static Map<String, Double> getScores(Collection<RunResult> results) {
+        Map<String, Double> scores = new TreeMap<>();
+        for (RunResult result : results) {
+            String key = getKey(result.getParams());
+            scores.put(key + THROUGHPUT_SUFFIX,
+                       result.getPrimaryResult().getScore());
+            Result alloc = result.getSecondaryResults().get(ALLOC_RATE_NORM);
+            if (alloc != null) {
+                scores.put(key + ALLOC_SUFFIX, alloc.getScore());
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the key of a benchmark, made of its name and parameters.
+     *
+     * @param params benchmark parameters
+     * @return benchmark key
+     */
+    private static String getKey(BenchmarkParams params) {
+        StringBuilder key = new StringBuilder(params.getBenchmark());
+        for (String param : params.getParamsKeys()) {
+            key.append('@').append(param).append('-')
+                    .append(params.getParam(param));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the description of the results which are worse than the
+     * baseline by more than the threshold. Throughput is worse when it is
+     * lower, allocation is worse when it is higher.
+     *
+     * @param baseline  baseline scores
+     * @param scores    scores of the run
+     * @param threshold allowed ratio of change
+     * @return regressions
+     */
+    private static List<String> compare(Map<String, Double> baseline,
+                                        Map<String, Double> scores,
+                                        double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> score : scores.entrySet()) {
+            Double base = baseline.get(score.getKey());
+            if (base == null || base == 0) {
+                continue;
+            }
+            double change = (score.getValue() - base) / base;
+            boolean isRegression = score.getKey().endsWith(THROUGHPUT_SUFFIX) ?
+                    change < -threshold : change > threshold;
+            if (isRegression) {
+                regressions.add(String.format("%s: %.3f -> %.3f (%+.1f%%)",
+                                              score.getKey(), base,
+                                              score.getValue(), change * 100));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Reads the baseline scores.
+     *
+     * @param file baseline file
+     * @return baseline scores
+     * @throws IOException when fails to read the baseline
+     */
+    private static Map<String, Double> readBaseline(File file)
+            throws IOException {
+        Properties properties = new Properties();
+        InputStream in = new FileInputStream(file);
+        try {
+            properties.load(in);
+        } finally {
+            in.close();
+        }
+        Map<String, Double> baseline = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            baseline.put(key, Double.valueOf(properties.getProperty(key)));
+        }
+        return baseline;
+    }
+
+    /**
+     * Writes the scores as the baseline, in the order of benchmark keys.
+     *
+     * @param file   baseline file
+     * @param scores scores of the run
+     * @throws IOException when fails to write the baseline
+     */
+    private static void writeBaseline(File file, Map<String, Double> scores)
+            throws IOException {
+        StringBuilder content = new StringBuilder(
+                "# Throughput (ops/s) and allocation (B/op) of benchmarks.\n");
+        for (Map.Entry<String, Double> score : scores.entrySet()) {
+            content.append(score.getKey()).append('=')
+                    .append(score.getValue()).append('\n');
+        }
+        Files.write(file.toPath(), content.toString().getBytes(ISO_8859_1));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the heap counters of an iteration of the memory benchmarks,
+ * which are the growth of the peak heap in the measured step of the
+ * iteration, and the heap retained by the objects built in the iteration.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class HeapCounters {
+
+    /**
+     * Growth of the peak usage of the old generation in kilobytes.
+     */
+    public long peakOldGenKb;
+
+    /**
+     * Heap retained by the objects built in the iteration in kilobytes.
+     */
+    public long retainedKb;
+
+    private final List<MemoryPoolMXBean> oldGenPools = new ArrayList<>();
+    private long usedBefore;
+    private long heapUsedBefore;
+
+    /**
+     * Collects the garbage and resets the counters before an iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        resetPeak();
+        heapUsedBefore = getHeapUsed();
+        retainedKb = 0;
+    }
+
+    /**
+     * Collects the garbage and resets the peak usage of the old generation
+     * before the measured step of an iteration.
+     */
+    void resetPeak() {
+        if (oldGenPools.isEmpty()) {
+            for (MemoryPoolMXBean pool : ManagementFactory
+                    .getMemoryPoolMXBeans()) {
+                String name = pool.getName();
+                if (pool.getType() == MemoryType.HEAP &&
+                        (name.contains("Old") || name.contains("Tenured"))) {
+                    oldGenPools.add(pool);
+                }
+            }
+        }
+        System.gc();
+        usedBefore = 0;
+        for (MemoryPoolMXBean pool : oldGenPools) {
+            pool.resetPeakUsage();
+            usedBefore += pool.getUsage().getUsed();
+        }
+        peakOldGenKb = 0;
+    }
+
+    /**
+     * Records the growth of the peak usage of the old generation.
+     */
+    void record() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : oldGenPools) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        peakOldGenKb = (peak - usedBefore) / 1024;
+    }
+
+    /**
+     * Collects the garbage and records the heap retained since the counters
+     * are reset.
+     */
+    void recordRetained() {
+        System.gc();
+        retainedKb = (getHeapUsed() - heapUsedBefore) / 1024;
+    }
+
+    /**
+     * Returns the used heap.
+     *
+     * @return used heap in bytes
+     */
+    private static long getHeapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage()
+                .getUsed();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.benchmark;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the heap of inter-file linking of parsed YANG files, which
+ * expands the uses of groupings into the data model trees. The IETF models
+ * include the TE topology models, which use large groupings many times.
+ * <p>
+ * The heap is measured the same way as by the parser memory benchmark. The
+ * growth of the peak heap while linking, from the parsed data model trees,
+ * is reported as the "peakOldGenKb" counter, and the heap retained by the
+ * linked trees as the "retainedKb" counter. The parse trees are released
+ * while linking, so the retained heap is measured from before parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseSerialGC", "-Xmn2m"})
+public class LinkerMemoryBenchmark {
+
+    @Param({YangModels.IETF, YangModels.SYNTHETIC})
+    public String model;
+
+    @Param("50")
+    public int syntheticModules;
+
+    private File modelDir;
+    private List<String> files;
+    private Set<YangNode> nodes;
+
+    /**
+     * Writes the YANG files of the model.
+     *
+     * @throws IOException when fails to write the YANG files
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        modelDir = YangModels.createModelDir(model, syntheticModules);
+        files = YangModels.getModelFiles(modelDir);
+    }
+
+    /**
+     * Parses the YANG files of the model, and then resets the peak heap,
+     * so that the peak of linking is measured from the parsed data model
+     * trees.
+     *
+     * @param counters heap counters
+     * @throws IOException        when fails to read a YANG file
+     * @throws DataModelException when fails to link a YANG file
+     */
+    @Setup(Level.Iteration)
+    public void parse(HeapCounters counters)
+            throws IOException, DataModelException {
+        nodes = YangModels.parse(files);
+        counters.resetPeak();
+    }
+
+    /**
+     * Releases the linked data model trees, so that they are not retained
+     * in the next iteration.
+     */
+    @TearDown(Level.Iteration)
+    public void release() {
+        nodes = null;
+    }
+
+    /**
+     * Deletes the YANG files of the model.
+     *
+     * @throws IOException when fails to delete the YANG files
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        YangModels.deleteDir(modelDir);
+    }
+
+    /**
+     * Links the parsed YANG files and records the peak and the retained
+     * heap.
+     *
+     * @param counters heap counters
+     * @return linked root nodes
+     */
+    @Benchmark
+    public Set<YangNode> resolveDependencies(HeapCounters counters) {
+        new YangLinkerManager().resolveDependencies(nodes);
+        counters.record();
+        counters.recordRetained();
+        return nodes;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.benchmark;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the peak heap of parsing YANG files, with the data model
+ * trees built by walking the complete parse tree of each file, and built
+ * while the files are parsed in single pass.
+ * <p>
+ * The forked JVM runs with the serial collector and a small young
+ * generation, so that the objects alive across a few collections, such as
+ * the parse tree of a file, are promoted. The growth of the peak usage of
+ * the old generation in an iteration then follows the peak of the live
+ * heap, and is reported as the "peakOldGenKb" counter of the heap counters.
+ * The heap retained by the data model trees is reported as the
+ * "retainedKb" counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseSerialGC", "-Xmn2m"})
+public class ParserMemoryBenchmark {
+
+    private static final String TREE = "tree";
+    private static final String SINGLE_PASS = "singlePass";
+
+    @Param({YangModels.IETF, YangModels.SYNTHETIC})
+    public String model;
+
+    @Param("50")
+    public int syntheticModules;
+
+    @Param({TREE, SINGLE_PASS})
+    public String mode;
+
+    private File modelDir;
+    private List<String> files;
+
+    /**
+     * Writes the YANG files of the model.
+     *
+     * @throws IOException when fails to write the YANG files
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        modelDir = YangModels.createModelDir(model, syntheticModules);
+        files = YangModels.getModelFiles(modelDir);
+    }
+
+    /**
+     * Deletes the YANG files of the model.
+     *
+     * @throws IOException when fails to delete the YANG files
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        YangModels.deleteDir(modelDir);
+    }
+
+    /**
+     * Parses all the YANG files of the model and records the peak and the
+     * retained heap.
+     *
+     * @param counters heap counters
+     * @return root nodes of the YANG files
+     * @throws IOException        when fails to read a YANG file
+     * @throws DataModelException when fails to link a YANG file
+     */
+    @Benchmark
+    public Set<YangNode> parse(HeapCounters counters)
+            throws IOException, DataModelException {
+        Set<YangNode> nodes = YangModels.parse(files, SINGLE_PASS.equals(mode));
+        counters.record();
+        counters.recordRetained();
+        return nodes;
+    }
+}
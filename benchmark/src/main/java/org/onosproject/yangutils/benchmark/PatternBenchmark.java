@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.benchmark;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangPatternRestriction;
+import org.onosproject.yangutils.datamodel.YangStringRestriction;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.YangTypeDef;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.STRING;
+
+/**
+ * Benchmark of validation of values against the patterns of the
+ * ietf-inet-types typedefs, compiling the patterns for each check as
+ * against using the compiled patterns of the restriction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PatternBenchmark {
+
+    private static final String INET_TYPES = "ietf-inet-types.yang";
+
+    @Param({"ipv4-address", "ipv6-address", "ipv4-prefix", "ipv6-prefix",
+            "domain-name"})
+    public String typeDef;
+
+    private YangPatternRestriction restriction;
+    private String value;
+
+    /**
+     * Parses ietf-inet-types and finds the pattern restriction of the
+     * typedef.
+     *
+     * @throws IOException        when fails to read the YANG file
+     * @throws DataModelException when fails to link the YANG file
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DataModelException {
+        File modelDir = YangModels.createModelDir(YangModels.IETF, 0);
+        try {
+            String file = new File(modelDir, INET_TYPES).getPath();
+            YangNode module = YangModels.parse(
+                    Collections.singletonList(file)).iterator().next();
+            restriction = getPatternRestriction(module, typeDef);
+        } finally {
+            YangModels.deleteDir(modelDir);
+        }
+        value = getValue(typeDef);
+        if (!restriction.isMatching(value)) {
+            throw new IllegalStateException(
+                    "Value " + value + " does not match " + typeDef);
+        }
+    }
+
+    /**
+     * Returns the pattern restriction of a string typedef of a module.
+     *
+     * @param module module
+     * @param name   name of the typedef
+     * @return pattern restriction
+     */
+    private static YangPatternRestriction getPatternRestriction(
+            YangNode module, String name) {
+        for (YangNode node = module.getChild(); node != null;
+             node = node.getNextSibling()) {
+            if (node instanceof YangTypeDef && name.equals(node.getName())) {
+                YangType<?> type = ((YangTypeDef) node).getTypeDefBaseType();
+                if (type.getDataType() == STRING) {
+                    return ((YangStringRestriction) type
+                            .getDataTypeExtendedInfo()).getPatternRestriction();
+                }
+            }
+        }
+        throw new IllegalArgumentException(
+                "No string typedef " + name + " with pattern");
+    }
+
+    /**
+     * Returns a valid value of a typedef.
+     *
+     * @param name name of the typedef
+     * @return value
+     */
+    private static String getValue(String name) {
+        switch (name) {
+            case "ipv4-address":
+                return "192.168.100.254%eth0";
+            case "ipv6-address":
+                return "2001:db8:85a3::8a2e:370:7334";
+            case "ipv4-prefix":
+                return "10.128.0.0/16";
+            case "ipv6-prefix":
+                return "2001:db8:85a3::/48";
+            case "domain-name":
+                return "www.opennetworking.example.org.";
+            default:
+                throw new IllegalArgumentException("Unknown typedef " + name);
+        }
+    }
+
+    /**
+     * Validates the value by compiling each pattern for the check.
+     *
+     * @return true if the value is valid
+     */
+    @Benchmark
+    public boolean uncompiledPatterns() {
+        for (String pattern : restriction.getPatternList()) {
+            if (value.matches(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Validates the value using the compiled patterns of the restriction.
+     *
+     * @return true if the value is valid
+     */
+    @Benchmark
+    public boolean compiledPatterns() {
+        return restriction.isMatching(value);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.benchmark;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaFile;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading linked data models from a schema file, compared with
+ * reading the same models from a Java serialized list of root nodes, which
+ * was the serialized form of the data model before schema files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SchemaFileBenchmark {
+
+    @Param({YangModels.IETF, YangModels.SYNTHETIC})
+    public String model;
+
+    @Param("50")
+    public int syntheticModules;
+
+    private byte[] serialized;
+    private byte[] schemaFile;
+    private Set<String> moduleName;
+
+    /**
+     * Links the YANG files of the model and writes them in both forms.
+     *
+     * @throws IOException        when fails to read or write the models
+     * @throws DataModelException when fails to link a YANG file
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DataModelException {
+        File modelDir = YangModels.createModelDir(model, syntheticModules);
+        Set<YangNode> nodes;
+        try {
+            nodes = YangModels.parse(YangModels.getModelFiles(modelDir));
+        } finally {
+            YangModels.deleteDir(modelDir);
+        }
+        new YangLinkerManager().resolveDependencies(nodes);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeObject(new ArrayList<>(nodes));
+        objectOut.close();
+        serialized = out.toByteArray();
+
+        out = new ByteArrayOutputStream();
+        YangSchemaFile.write(nodes, out);
+        schemaFile = out.toByteArray();
+        moduleName = Collections.singleton(nodes.iterator().next().getName());
+    }
+
+    /**
+     * Reads all the models from the Java serialized list.
+     *
+     * @return root nodes
+     * @throws IOException            when fails to read the models
+     * @throws ClassNotFoundException when a class of the models is not found
+     */
+    @Benchmark
+    public List<?> readSerialized() throws IOException,
+            ClassNotFoundException {
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(serialized));
+        return (List<?>) in.readObject();
+    }
+
+    /**
+     * Reads all the models from the schema file.
+     *
+     * @return root nodes
+     * @throws IOException when fails to read the models
+     */
+    @Benchmark
+    public Set<YangNode> readSchemaFile() throws IOException {
+        return YangSchemaFile.read(new ByteArrayInputStream(schemaFile), null);
+    }
+
+    /**
+     * Reads a single model, with the models it refers to, from the schema
+     * file.
+     *
+     * @return root nodes
+     * @throws IOException when fails to read the models
+     */
+    @Benchmark
+    public Set<YangNode> readSchemaFileModule() throws IOException {
+        return YangSchemaFile.read(new ByteArrayInputStream(schemaFile),
+                                   moduleName);
+    }
+}
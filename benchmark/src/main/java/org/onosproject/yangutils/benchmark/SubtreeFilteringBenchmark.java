@@ -0,0 +1,208 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.benchmark;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yangutils.translator.tojava.JavaCodeGeneratorUtil.generateJavaCode;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+
+/**
+ * Benchmark of the subtree filtering of the code generated for the IETF
+ * network model, with the results built eagerly or lazily. The code is
+ * generated, compiled and loaded once per trial, and a network with the
+ * given number of nodes is filtered by the network id, which either matches
+ * or does not match it. It is meant to be run with the GC profiler, which
+ * reports the allocation of each filtering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SubtreeFilteringBenchmark {
+
+    private static final String CODE_GEN_DIR = "gen";
+    private static final String EAGER = "eager";
+    private static final String LAZY = "lazy";
+    private static final List<String> MODELS = Arrays.asList(
+            "ietf-inet-types.yang", "ietf-network.yang");
+    private static final String NETWORK_ID = "network-1";
+    private static final String OTHER_NETWORK_ID = "network-2";
+    private static final String PACKAGE = "org.onosproject.yang.gen.v1.urn." +
+            "ietf.params.xml.ns.yang.ietf.network.rev20151208.ietfnetwork.";
+    private static final String NETWORK = PACKAGE + "networks.Network";
+    private static final String DEFAULT_NETWORK =
+            PACKAGE + "networks.DefaultNetwork";
+    private static final String NETWORK_ID_CLASS = PACKAGE + "NetworkId";
+    private static final String NODE = PACKAGE + "networks.network.Node";
+    private static final String DEFAULT_NODE =
+            PACKAGE + "networks.network.DefaultNode";
+    private static final String NODE_ID_CLASS = PACKAGE + "NodeId";
+
+    @Param({EAGER, LAZY})
+    public String result;
+
+    @Param({"true", "false"})
+    public boolean isMatching;
+
+    @Param("100")
+    public int nodes;
+
+    private File modelDir;
+    private URLClassLoader classLoader;
+    private Method filter;
+    private Object filterNetwork;
+    private Object network;
+
+    /**
+     * Generates, compiles and loads the code of the IETF network model,
+     * and builds the filter and the network to be filtered.
+     *
+     * @throws Exception when fails to generate or to load the code
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        modelDir = YangModels.createModelDir(YangModels.IETF, 0);
+        File genDir = new File(modelDir, CODE_GEN_DIR);
+        generate(YangModels.getModelFiles(modelDir), genDir);
+        compileCode(genDir.getPath());
+        classLoader = new URLClassLoader(new URL[]{genDir.toURI().toURL()},
+                                         getClass().getClassLoader());
+
+        Class<?> networkClass = classLoader.loadClass(NETWORK);
+        filter = classLoader.loadClass(DEFAULT_NETWORK).getMethod(
+                "processSubtreeFiltering", networkClass, boolean.class);
+        filterNetwork = getNetwork(isMatching ? NETWORK_ID : OTHER_NETWORK_ID,
+                                   0);
+        network = getNetwork(NETWORK_ID, nodes);
+    }
+
+    /**
+     * Generates the code of the IETF network model and of the types it
+     * imports, with the results of subtree filtering built as given by the
+     * benchmark parameter.
+     *
+     * @param files  YANG files of the IETF models
+     * @param genDir directory of generated code
+     * @throws Exception when fails to link the files or to write the code
+     */
+    private void generate(List<String> files, File genDir) throws Exception {
+        List<String> modelFiles = new ArrayList<>();
+        for (String file : files) {
+            if (MODELS.contains(new File(file).getName())) {
+                modelFiles.add(file);
+            }
+        }
+        YangLinkerManager linker = new YangLinkerManager();
+        linker.resolveDependencies(YangModels.parse(modelFiles));
+        List<YangNode> sortedNodes = new ArrayList<>(linker.getYangNodeSet());
+        Collections.sort(sortedNodes);
+
+        YangPluginConfig pluginConfig = new YangPluginConfig();
+        pluginConfig.setCodeGenDir(genDir.getPath() + File.separator);
+        pluginConfig.setLazySubtreeFiltering(LAZY.equals(result));
+        for (YangNode node : sortedNodes) {
+            if (node.isToTranslate()) {
+                generateJavaCode(node, pluginConfig);
+            }
+        }
+    }
+
+    /**
+     * Returns a network of the generated code, built with its builder.
+     *
+     * @param networkId network id
+     * @param nodeCount number of nodes of network
+     * @return network
+     * @throws Exception when fails to build the network
+     */
+    private Object getNetwork(String networkId, int nodeCount)
+            throws Exception {
+        Class<?> networkIdClass = classLoader.loadClass(NETWORK_ID_CLASS);
+        Object builder = classLoader.loadClass(DEFAULT_NETWORK)
+                .getMethod("builder").invoke(null);
+        Class<?> builderClass = builder.getClass();
+        builderClass.getMethod("networkId", networkIdClass).invoke(
+                builder, networkIdClass.getMethod("fromString", String.class)
+                        .invoke(null, networkId));
+
+        Class<?> nodeClass = classLoader.loadClass(NODE);
+        Class<?> nodeIdClass = classLoader.loadClass(NODE_ID_CLASS);
+        Method nodeBuilder = classLoader.loadClass(DEFAULT_NODE)
+                .getMethod("builder");
+        Method fromString = nodeIdClass.getMethod("fromString", String.class);
+        Method addToNode = builderClass.getMethod("addToNode", nodeClass);
+        for (int i = 0; i < nodeCount; i++) {
+            Object node = nodeBuilder.invoke(null);
+            node.getClass().getMethod("nodeId", nodeIdClass).invoke(
+                    node, fromString.invoke(null, "node-" + i));
+            addToNode.invoke(builder, node.getClass().getMethod("build")
+                    .invoke(node));
+        }
+        return builderClass.getMethod("build").invoke(builder);
+    }
+
+    /**
+     * Closes the class loader and deletes the YANG files and the generated
+     * code.
+     *
+     * @throws Exception when fails to delete the files
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        classLoader.close();
+        YangModels.deleteDir(modelDir);
+    }
+
+    /**
+     * Filters the network with the filter network.
+     *
+     * @return filtered network, null if it does not match
+     * @throws Exception when fails to filter the network
+     */
+    @Benchmark
+    public Object filter() throws Exception {
+        return filter.invoke(filterNetwork, network, false);
+    }
+}
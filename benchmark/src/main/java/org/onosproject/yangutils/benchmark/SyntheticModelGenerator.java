@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yangutils.benchmark;
+
+/**
+ * Represents the generator of synthetic YANG modules, used to benchmark
+ * large models. The modules form a binary tree of imports, in which module
+ * i imports module (i - 1) / 2, uses its grouping, refers to its typedef
+ * and augments its root container, so that every inter-file construct is
+ * linked and translated.
+ */
+public final class SyntheticModelGenerator {
+
+    private static final String MODULE_PREFIX = "synthetic-";
+    private static final String NAMESPACE =
+            "urn:onos:yang:benchmark:synthetic-";
+    private static final int CONTAINER_COUNT = 8;
+    private static final int LEAF_COUNT = 6;
+
+    /**
+     * Creates an instance of synthetic model generator.
+     */
+    private SyntheticModelGenerator() {
+    }
+
+    /**
+     * Returns the name of a synthetic module.
+     *
+     * @param index index of the module
+     * @return module name
+     */
+    public static String getModuleName(int index) {
+        return MODULE_PREFIX + index;
+    }
+
+    /**
+     * Returns the YANG text of a synthetic module.
+     *
+     * @param index index of the module
+     * @return YANG text
+     */
+    public static String getModule(int index) {
+        StringBuilder yang = new StringBuilder();
+        yang.append("module ").append(getModuleName(index)).append(" {\n")
+                .append("    yang-version 1;\n")
+                .append("    namespace \"").append(NAMESPACE).append(index)
+                .append("\";\n")
+                .append("    prefix s").append(index).append(";\n");
+        if (index > 0) {
+            yang.append("    import ").append(getModuleName(getParent(index)))
+                    .append(" {\n        prefix p;\n    }\n");
+        }
+        yang.append("    revision 2016-11-01 {\n")
+                .append("        description \"Synthetic benchmark model.\";\n")
+                .append("    }\n")
+                .append("    typedef counter {\n")
+                .append("        type uint32 {\n")
+                .append("            range \"0..100000\";\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("    grouping entry {\n")
+                .append("        leaf name {\n")
+                .append("            type string {\n")
+                .append("                length \"1..64\";\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        leaf value {\n")
+                .append("            type counter;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("    container root {\n");
+        for (int c = 0; c < CONTAINER_COUNT; c++) {
+            appendContainer(yang, index, c);
+        }
+        if (index > 0) {
+            yang.append("        container imported {\n")
+                    .append("            uses p:entry;\n")
+                    .append("            leaf total {\n")
+                    .append("                type p:counter;\n")
+                    .append("            }\n")
+                    .append("        }\n");
+        }
+        yang.append("    }\n");
+        if (index > 0) {
+            yang.append("    augment \"/p:root\" {\n")
+                    .append("        leaf extension-").append(index)
+                    .append(" {\n")
+                    .append("            type p:counter;\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+        return yang.append("}\n").toString();
+    }
+
+    /**
+     * Appends a container with a keyed list of leaves.
+     *
+     * @param yang  YANG text
+     * @param index index of the module
+     * @param c     index of the container
+     */
+    private static void appendContainer(StringBuilder yang, int index,
+                                        int c) {
+        yang.append("        container group-").append(c).append(" {\n")
+                .append("            list item {\n")
+                .append("                key \"name\";\n")
+                .append("                uses entry;\n");
+        for (int l = 0; l < LEAF_COUNT; l++) {
+            yang.append("                leaf attribute-").append(l)
+                    .append(" {\n")
+                    .append("                    type ")
+                    .append(l % 2 == 0 ? "int32" : "counter").append(";\n")
+                    .append("                }\n");
+        }
+        yang.append("                leaf-list tag {\n")
+                .append("                    type string;\n")
+                .append("                }\n")
+                .append("                leaf kind {\n")
+                .append("                    type enumeration {\n")
+                .append("                        enum first;\n")
+                .append("                        enum second;\n")
+                .append("                    }\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("            leaf enabled-").append(index)
+                .append(" {\n")
+                .append("                type boolean;\n")
+                .append("            }\n")
+                .append("        }\n");
+    }
+
+    /**
+     * Returns the index of the module imported by a module.
+     *
+     * @param index index of the module
+     * @return index of the imported module
+     */
+    private static int getParent(int index) {
+        return (index - 1) / 2;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yangutils.benchmark;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yangutils.translator.tojava.JavaCodeGeneratorUtil.generateJavaCode;
+
+/**
+ * Benchmark of Java code generation of linked YANG files. The files are
+ * parsed and linked again before each invocation, since translation updates
+ * the data model trees, and the generated code is deleted after it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final String CODE_GEN_DIR = "gen";
+
+    @Param({YangModels.IETF, YangModels.SYNTHETIC})
+    public String model;
+
+    @Param("50")
+    public int syntheticModules;
+
+    private File modelDir;
+    private List<String> files;
+    private List<YangNode> sortedNodes;
+    private YangPluginConfig pluginConfig;
+
+    /**
+     * Writes the YANG files of the model.
+     *
+     * @throws IOException when fails to write the YANG files
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        modelDir = YangModels.createModelDir(model, syntheticModules);
+        files = YangModels.getModelFiles(modelDir);
+        pluginConfig = new YangPluginConfig();
+        pluginConfig.setCodeGenDir(new File(modelDir, CODE_GEN_DIR).getPath() +
+                                           File.separator);
+    }
+
+    /**
+     * Parses and links the YANG files of the model.
+     *
+     * @throws IOException        when fails to read a YANG file
+     * @throws DataModelException when fails to link a YANG file
+     */
+    @Setup(Level.Invocation)
+    public void link() throws IOException, DataModelException {
+        YangLinkerManager linker = new YangLinkerManager();
+        linker.resolveDependencies(YangModels.parse(files));
+        sortedNodes = new ArrayList<>(linker.getYangNodeSet());
+        Collections.sort(sortedNodes);
+    }
+
+    /**
+     * Deletes the generated code.
+     *
+     * @throws IOException when fails to delete the generated code
+     */
+    @TearDown(Level.Invocation)
+    public void deleteGeneratedCode() throws IOException {
+        YangModels.deleteDir(new File(modelDir, CODE_GEN_DIR));
+    }
+
+    /**
+     * Deletes the YANG files of the model.
+     *
+     * @throws IOException when fails to delete the YANG files
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        YangModels.deleteDir(modelDir);
+    }
+
+    /**
+     * Generates Java code for the linked YANG files, in the order of their
+     * priority.
+     *
+     * @return translated root nodes
+     * @throws IOException when fails to write the generated code
+     */
+    @Benchmark
+    public List<YangNode> translate() throws IOException {
+        for (YangNode node : sortedNodes) {
+            if (node.isToTranslate()) {
+                generateJavaCode(node, pluginConfig);
+            }
+        }
+        return sortedNodes;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yangutils.benchmark;
+
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IDENTITYREF;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.resolveGroupingInDefinationScope;
+import static org.onosproject.yangutils.utils.io.impl.YangFileScanner.getYangFiles;
+
+/**
+ * Represents the YANG models used by the benchmarks. The models are either
+ * the IETF network models used by the plugin tests, or synthetic models of
+ * a given size, written to a temporary directory.
+ */
+public final class YangModels {
+
+    /**
+     * Name of the IETF network models.
+     */
+    public static final String IETF = "ietf";
+
+    /**
+     * Name of the synthetic models.
+     */
+    public static final String SYNTHETIC = "synthetic";
+
+    private static final String IETF_RESOURCE_DIR = "/models/ietf/";
+    private static final String[] IETF_MODELS = {
+            "ietf-inet-types.yang",
+            "ietf-yang-types.yang",
+            "ietf-network.yang",
+            "ietf-network-topology.yang",
+            "ietf-schedule.yang",
+            "ietf-te-types.yang",
+            "ietf-te-topology.yang"
+    };
+
+    /**
+     * Creates an instance of YANG models.
+     */
+    private YangModels() {
+    }
+
+    /**
+     * Writes the YANG files of a model to a new temporary directory.
+     *
+     * @param model       name of the model, IETF or synthetic
+     * @param moduleCount number of modules of synthetic model
+     * @return directory of YANG files
+     * @throws IOException when fails to write the YANG files
+     */
+    public static File createModelDir(String model, int moduleCount)
+            throws IOException {
+        File dir = Files.createTempDirectory("yang-benchmark").toFile();
+        if (IETF.equals(model)) {
+            for (String name : IETF_MODELS) {
+                InputStream in = YangModels.class.getResourceAsStream(
+                        IETF_RESOURCE_DIR + name);
+                if (in == null) {
+                    throw new IOException("Missing YANG model " + name);
+                }
+                try {
+                    Files.copy(in, new File(dir, name).toPath(),
+                               REPLACE_EXISTING);
+                } finally {
+                    in.close();
+                }
+            }
+        } else if (SYNTHETIC.equals(model)) {
+            for (int i = 0; i < moduleCount; i++) {
+                Files.write(new File(dir, SyntheticModelGenerator
+                                    .getModuleName(i) + ".yang").toPath(),
+                            SyntheticModelGenerator.getModule(i)
+                                    .getBytes(UTF_8));
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown YANG model " + model);
+        }
+        return dir;
+    }
+
+    /**
+     * Returns the YANG files of a directory.
+     *
+     * @param dir directory of YANG files
+     * @return YANG files
+     * @throws IOException when fails to scan the directory
+     */
+    public static List<String> getModelFiles(File dir) throws IOException {
+        return getYangFiles(dir.getPath());
+    }
+
+    /**
+     * Parses the YANG files and resolves the self file linking of them, the
+     * same way as the YANG plugin does before inter-file linking.
+     *
+     * @param files YANG files
+     * @return root nodes of the YANG files
+     * @throws IOException        when fails to read a YANG file
+     * @throws DataModelException when fails to link a YANG file
+     */
+    public static Set<YangNode> parse(List<String> files)
+            throws IOException, DataModelException {
+        return parse(files, false);
+    }
+
+    /**
+     * Parses the YANG files, building the data model trees while parsing
+     * when single pass is true, and resolves the self file linking of them.
+     *
+     * @param files        YANG files
+     * @param isSinglePass flag for single pass parsing
+     * @return root nodes of the YANG files
+     * @throws IOException        when fails to read a YANG file
+     * @throws DataModelException when fails to link a YANG file
+     */
+    public static Set<YangNode> parse(List<String> files, boolean isSinglePass)
+            throws IOException, DataModelException {
+        YangUtilsParserManager parser = new YangUtilsParserManager();
+        parser.setSinglePass(isSinglePass);
+        Set<YangNode> nodes = new LinkedHashSet<>();
+        for (String file : files) {
+            YangNode node = parser.getDataModel(file);
+            resolveGroupingInDefinationScope((YangReferenceResolver) node);
+            ((YangReferenceResolver) node)
+                    .resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
+            ((YangReferenceResolver) node)
+                    .resolveSelfFileLinking(YANG_IDENTITYREF);
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    /**
+     * Deletes a directory with its content.
+     *
+     * @param dir directory
+     * @throws IOException when fails to delete the directory
+     */
+    public static void deleteDir(File dir) throws IOException {
+        File[] children = dir.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteDir(child);
+            }
+        }
+        Files.deleteIfExists(dir.toPath());
+    }
+}
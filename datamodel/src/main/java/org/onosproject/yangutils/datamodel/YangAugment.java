@@ -173,8 +173,8 @@ public abstract class YangAugment
             YangSchemaNodeIdentifier schemaNodeIdentifier,
             YangSchemaNodeContextInfo yangSchemaNodeContextInfo)
             throws DataModelException {
-        getYsnContextInfoMap()
-                .put(schemaNodeIdentifier, yangSchemaNodeContextInfo);
+        addToYsnContextInfoMap(schemaNodeIdentifier,
+                               yangSchemaNodeContextInfo);
         YangSchemaNodeContextInfo yangSchemaNodeContextInfo1 =
                 new YangSchemaNodeContextInfo();
         yangSchemaNodeContextInfo1
@@ -22,7 +22,6 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 
-import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.findReferredNode;
 
 /*-
  *   Reference 6020.
@@ -176,8 +175,19 @@ public class YangBelongsTo extends DefaultLocationInfo implements Parsable, Seri
      */
     public void linkWithModule(Set<YangNode> yangNodeSet)
             throws DataModelException {
+        linkWithModule(new YangModuleRegistry(yangNodeSet));
+    }
+
+    /**
+     * Links the belongs to with a module.
+     *
+     * @param registry registry of modules
+     * @throws DataModelException a violation in data model rule
+     */
+    public void linkWithModule(YangModuleRegistry registry)
+            throws DataModelException {
         String belongsToModuleName = getBelongsToModuleName();
-        YangNode moduleNode = findReferredNode(yangNodeSet, belongsToModuleName);
+        YangNode moduleNode = registry.getNode(belongsToModuleName);
         if (moduleNode != null) {
             if (moduleNode instanceof YangModule) {
                 setModuleNode(moduleNode);
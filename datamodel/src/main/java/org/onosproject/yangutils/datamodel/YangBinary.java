@@ -36,6 +36,12 @@ public class YangBinary extends DefaultLocationInfo implements YangBuiltInDataTy
     // Binary data is a decoded value by base64 decoding scheme from data input (jason)
     private byte[] binaryData;
 
+    /**
+     * Creates a binary object whose value is not set.
+     */
+    public YangBinary() {
+    }
+
     /**
      * Creates a binary object corresponding to the base 64 encoding value.
      *
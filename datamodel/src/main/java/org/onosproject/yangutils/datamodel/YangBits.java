@@ -223,16 +223,25 @@ public class YangBits extends DefaultLocationInfo implements Parsable, Serializa
     }
 
     /**
-     * Returns the object of YANG bits based on specific set of bit names.
+     * Returns a new object of YANG bits with the bits of the given names set.
+     * The new object shares the bit definitions of this object, which is not
+     * changed, so that values can be parsed concurrently.
      *
      * @param bits set of bit names
      * @return Object of YANG bits
      */
     public YangBits fromString(String bits) {
+        YangBits value = new YangBits();
+        value.setBitsName(bitsName);
+        value.setBitNameMap(bitNameMap);
+        value.setBitPositionMap(bitPositionMap);
+        value.setLineNumber(getLineNumber());
+        value.setCharPosition(getCharPosition());
+        value.setFileName(getFileName());
         try {
             String[] bitNames = bits.trim().split(Pattern.quote(SPACE));
-            setBitDataSet(bitNames);
-            return this;
+            value.setBitDataSet(bitNames);
+            return value;
         } catch (Exception e) {
         }
         return null;
@@ -144,7 +144,7 @@ public abstract class YangCase
      */
     private List<YangIfFeature> ifFeatureList;
 
-    private final List<YangAugment> yangAugmentedInfo;
+    private List<YangAugment> yangAugmentedInfo;
 
     /**
      * Creates a choice node.
@@ -161,7 +161,7 @@ public abstract class YangCase
     public void addToChildSchemaMap(YangSchemaNodeIdentifier id,
                                     YangSchemaNodeContextInfo context)
             throws DataModelException {
-        getYsnContextInfoMap().put(id, context);
+        addToYsnContextInfoMap(id, context);
         YangSchemaNodeContextInfo contextInfo = new YangSchemaNodeContextInfo();
         contextInfo.setSchemaNode(context.getSchemaNode());
         contextInfo.setContextSwitchedNode(this);
@@ -416,11 +416,13 @@ public abstract class YangCase
 
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.add(augmentInfo);
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.remove(augmentInfo);
     }
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.onosproject.yangutils.datamodel.utils.YangNamespaceIds.getNamespaceId;
+
+/**
+ * Represents the index of the child schema nodes of a node by their name.
+ * The nodes with the same name and different namespaces are chained under
+ * the name, and are told apart by the id of their namespace, which is read
+ * from the namespace at lookup so that the index stays valid when the
+ * namespace ids are assigned again.
+ */
+final class YangChildSchemaIndex {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Creates the index of a child schema map.
+     *
+     * @param ysnContextInfoMap YSN context info map
+     */
+    YangChildSchemaIndex(Map<YangSchemaNodeIdentifier,
+            YangSchemaNodeContextInfo> ysnContextInfoMap) {
+        for (Map.Entry<YangSchemaNodeIdentifier, YangSchemaNodeContextInfo>
+                child : ysnContextInfoMap.entrySet()) {
+            String name = child.getKey().getName();
+            entries.put(name, new Entry(child.getKey().getNameSpace(),
+                                        child.getValue(), entries.get(name)));
+        }
+    }
+
+    /**
+     * Returns the context info of the child schema node with the given name
+     * and namespace id.
+     *
+     * @param name        name of the child
+     * @param namespaceId namespace id of the child
+     * @return context info, null if not present
+     */
+    YangSchemaNodeContextInfo get(String name, int namespaceId) {
+        for (Entry entry = entries.get(name); entry != null;
+             entry = entry.next) {
+            if (getNamespaceId(entry.namespace) == namespaceId) {
+                return entry.contextInfo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Represents a child schema node in the chain of a name.
+     */
+    private static final class Entry {
+
+        private final YangNamespace namespace;
+        private final YangSchemaNodeContextInfo contextInfo;
+        private final Entry next;
+
+        /**
+         * Creates an entry of the chain.
+         *
+         * @param namespace   namespace of the child
+         * @param contextInfo context info of the child
+         * @param next        next entry of the chain
+         */
+        private Entry(YangNamespace namespace,
+                      YangSchemaNodeContextInfo contextInfo, Entry next) {
+            this.namespace = namespace;
+            this.contextInfo = contextInfo;
+            this.next = next;
+        }
+    }
+}
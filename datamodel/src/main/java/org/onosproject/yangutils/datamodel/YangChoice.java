@@ -160,7 +160,7 @@ public abstract class YangChoice
      */
     private List<YangIfFeature> ifFeatureList;
 
-    private final List<YangAugment> yangAugmentedInfo;
+    private List<YangAugment> yangAugmentedInfo;
 
     /**
      * YANG application error information.
@@ -184,7 +184,7 @@ public abstract class YangChoice
     public void addToChildSchemaMap(YangSchemaNodeIdentifier id,
                                     YangSchemaNodeContextInfo context)
             throws DataModelException {
-        getYsnContextInfoMap().put(id, context);
+        addToYsnContextInfoMap(id, context);
         YangSchemaNodeContextInfo contextInfo =
                 new YangSchemaNodeContextInfo();
         contextInfo.setSchemaNode(context.getSchemaNode());
@@ -464,11 +464,13 @@ public abstract class YangChoice
 
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.add(augmentInfo);
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.remove(augmentInfo);
     }
 
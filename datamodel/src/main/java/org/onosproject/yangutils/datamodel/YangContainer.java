@@ -164,7 +164,7 @@ public abstract class YangContainer
     @Override
     public void addToChildSchemaMap(YangSchemaNodeIdentifier schemaNodeIdentifier,
                                     YangSchemaNodeContextInfo yangSchemaNodeContextInfo) {
-        getYsnContextInfoMap().put(schemaNodeIdentifier, yangSchemaNodeContextInfo);
+        addToYsnContextInfoMap(schemaNodeIdentifier, yangSchemaNodeContextInfo);
     }
 
     @Override
@@ -492,11 +492,13 @@ public abstract class YangContainer
 
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.add(augmentInfo);
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.remove(augmentInfo);
     }
 
@@ -251,9 +251,6 @@ public class YangDecimal64<T> extends DefaultLocationInfo
             boolean isMatched = false;
             while (rangeListIterator.hasNext()) {
                 YangRangeInterval rangeInterval = rangeListIterator.next();
-                rangeInterval.setCharPosition(getCharPosition());
-                rangeInterval.setLineNumber(getLineNumber());
-                rangeInterval.setFileName(getFileName());
                 BigDecimal startValue = ((YangDecimal64) rangeInterval.getStartValue()).getValue();
                 BigDecimal endValue = ((YangDecimal64) rangeInterval.getEndValue()).getValue();
                 if (value.compareTo(startValue) >= ZERO &&
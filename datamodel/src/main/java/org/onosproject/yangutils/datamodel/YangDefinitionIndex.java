@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the index of the definitions in the scope of a node, i.e. the
+ * typedef, grouping and identity children of the node by their name. When
+ * more than one definition has the same name, the first one in the sibling
+ * list is indexed.
+ */
+final class YangDefinitionIndex {
+
+    private final Map<String, YangTypeDef> typeDefs = new HashMap<>();
+    private final Map<String, YangGrouping> groupings = new HashMap<>();
+    private final Map<String, YangIdentity> identities = new HashMap<>();
+
+    /**
+     * Creates the index of the definitions of a scope node.
+     *
+     * @param scope scope node
+     */
+    YangDefinitionIndex(YangNode scope) {
+        YangNode node = scope.getChild();
+        while (node != null) {
+            if (node instanceof YangTypeDef) {
+                typeDefs.putIfAbsent(node.getName(), (YangTypeDef) node);
+            } else if (node instanceof YangGrouping) {
+                groupings.putIfAbsent(node.getName(), (YangGrouping) node);
+            } else if (node instanceof YangIdentity) {
+                identities.putIfAbsent(node.getName(), (YangIdentity) node);
+            }
+            node = node.getNextSibling();
+        }
+    }
+
+    /**
+     * Returns the typedef with the given name.
+     *
+     * @param name typedef name
+     * @return typedef, null if not defined
+     */
+    YangTypeDef getTypeDef(String name) {
+        return typeDefs.get(name);
+    }
+
+    /**
+     * Returns the grouping with the given name.
+     *
+     * @param name grouping name
+     * @return grouping, null if not defined
+     */
+    YangGrouping getGrouping(String name) {
+        return groupings.get(name);
+    }
+
+    /**
+     * Returns the identity with the given name.
+     *
+     * @param name identity name
+     * @return identity, null if not defined
+     */
+    YangIdentity getIdentity(String name) {
+        return identities.get(name);
+    }
+}
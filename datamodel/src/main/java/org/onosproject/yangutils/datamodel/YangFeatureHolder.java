@@ -41,4 +41,12 @@ public interface YangFeatureHolder {
      * @param listOfFeature the list of feature to set
      */
     void setListOfFeature(List<YangFeature> listOfFeature);
+
+    /**
+     * Returns the feature with the given name.
+     *
+     * @param name feature name
+     * @return feature, null if not defined
+     */
+    YangFeature getFeature(String name);
 }
@@ -23,7 +23,6 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 
-import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.findReferredNode;
 
 /*
  *  Reference:RFC 6020.
@@ -219,6 +218,16 @@ public class YangImport extends DefaultLocationInfo
      * @throws DataModelException a violation of data model rules
      */
     public void addReferenceToImport(Set<YangNode> yangNodeSet) throws DataModelException {
+        addReferenceToImport(new YangModuleRegistry(yangNodeSet));
+    }
+
+    /**
+     * Adds reference to an import.
+     *
+     * @param registry registry of modules
+     * @throws DataModelException a violation of data model rules
+     */
+    public void addReferenceToImport(YangModuleRegistry registry) throws DataModelException {
         String importedModuleName = getModuleName();
         Date importedModuleRevision = getRevision();
         YangNode moduleNode = null;
@@ -227,8 +236,7 @@ public class YangImport extends DefaultLocationInfo
          * specified revision if revision is not null.
          */
         if (importedModuleRevision != null) {
-            String importedModuleNameWithRevision = importedModuleName + "@" + importedModuleRevision;
-            moduleNode = findReferredNode(yangNodeSet, importedModuleNameWithRevision);
+            moduleNode = registry.getNode(importedModuleName, importedModuleRevision);
         }
 
         /*
@@ -236,7 +244,7 @@ public class YangImport extends DefaultLocationInfo
          * revision if can't find with revision.
          */
         if (moduleNode == null) {
-            moduleNode = findReferredNode(yangNodeSet, importedModuleName);
+            moduleNode = registry.getNode(importedModuleName);
         }
 
         if (moduleNode != null) {
@@ -23,7 +23,6 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
 
-import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.findReferredNode;
 
 /*
  * Reference:RFC 6020.
@@ -156,6 +155,17 @@ public class YangInclude extends DefaultLocationInfo
      * @throws DataModelException a violation of data model rules
      */
     public YangSubModule addReferenceToInclude(Set<YangNode> yangNodeSet) throws DataModelException {
+        return addReferenceToInclude(new YangModuleRegistry(yangNodeSet));
+    }
+
+    /**
+     * Adds reference to an include.
+     *
+     * @param registry registry of modules
+     * @return YANG sub module node
+     * @throws DataModelException a violation of data model rules
+     */
+    public YangSubModule addReferenceToInclude(YangModuleRegistry registry) throws DataModelException {
         String includedSubModuleName = getSubModuleName();
         Date includedSubModuleRevision = getRevision();
         YangNode subModuleNode = null;
@@ -165,8 +175,7 @@ public class YangInclude extends DefaultLocationInfo
          * specified revision if revision is not null.
          */
         if (includedSubModuleRevision != null) {
-            String includedSubModuleNameWithRevision = includedSubModuleName + "@" + includedSubModuleRevision;
-            subModuleNode = findReferredNode(yangNodeSet, includedSubModuleNameWithRevision);
+            subModuleNode = registry.getNode(includedSubModuleName, includedSubModuleRevision);
         }
 
         /*
@@ -174,7 +183,7 @@ public class YangInclude extends DefaultLocationInfo
          * revision if can't find with revision.
          */
         if (subModuleNode == null) {
-            subModuleNode = findReferredNode(yangNodeSet, includedSubModuleName);
+            subModuleNode = registry.getNode(includedSubModuleName);
         }
 
         if (subModuleNode != null) {
@@ -94,7 +94,7 @@ public abstract class YangInput
      */
     private List<YangLeafList> listOfLeafList;
 
-    private final List<YangAugment> yangAugmentedInfo;
+    private List<YangAugment> yangAugmentedInfo;
 
     /**
      * Create a rpc input node.
@@ -110,7 +110,7 @@ public abstract class YangInput
     public void addToChildSchemaMap(YangSchemaNodeIdentifier id,
                                     YangSchemaNodeContextInfo context)
             throws DataModelException {
-        getYsnContextInfoMap().put(id, context);
+        addToYsnContextInfoMap(id, context);
     }
 
     @Override
@@ -200,11 +200,13 @@ public abstract class YangInput
 
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.add(augmentInfo);
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.remove(augmentInfo);
     }
 
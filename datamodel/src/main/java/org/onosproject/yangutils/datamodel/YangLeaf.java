@@ -24,6 +24,7 @@ import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /*
  * Reference:RFC 6020.
@@ -74,6 +75,12 @@ public abstract class YangLeaf extends DefaultLocationInfo
      */
     private YangSchemaNodeIdentifier yangSchemaNodeIdentifier;
 
+    /**
+     * Flag if the schema node identifier is shared with the leaf it is
+     * cloned from, or with the leafs cloned from it.
+     */
+    private boolean isSchemaNodeIdentifierShared;
+
     /**
      * If the leaf is a config parameter.
      */
@@ -135,6 +142,12 @@ public abstract class YangLeaf extends DefaultLocationInfo
      */
     private List<YangIfFeature> ifFeatureList;
 
+    /**
+     * Flag if the must and if-feature lists are shared with the leaf it is
+     * cloned from, or with the leafs cloned from it.
+     */
+    private boolean isConstraintListShared;
+
     /**
      * Referred schema leaf.
      */
@@ -343,7 +356,10 @@ public abstract class YangLeaf extends DefaultLocationInfo
     public YangLeaf clone()
             throws CloneNotSupportedException {
         YangLeaf cl = (YangLeaf) super.clone();
-        cl.yangSchemaNodeIdentifier = yangSchemaNodeIdentifier.clone();
+        isSchemaNodeIdentifierShared = true;
+        cl.isSchemaNodeIdentifierShared = true;
+        isConstraintListShared = true;
+        cl.isConstraintListShared = true;
         return cl;
     }
 
@@ -395,6 +411,7 @@ public abstract class YangLeaf extends DefaultLocationInfo
 
     @Override
     public void addMust(YangMust must) {
+        copyConstraintLists();
         if (getListOfMust() == null) {
             setListOfMust(new LinkedList<>());
         }
@@ -408,6 +425,7 @@ public abstract class YangLeaf extends DefaultLocationInfo
 
     @Override
     public void addIfFeatureList(YangIfFeature ifFeature) {
+        copyConstraintLists();
         if (getIfFeatureList() == null) {
             setIfFeatureList(new LinkedList<>());
         }
@@ -430,6 +448,12 @@ public abstract class YangLeaf extends DefaultLocationInfo
                 " in " + getFileName() + "\"");
     }
 
+    @Override
+    public YangSchemaNodeContextInfo findChildSchema(String name,
+                                                     int namespaceId) {
+        return null;
+    }
+
     @Override
     public void isValueValid(String value)
             throws DataModelException {
@@ -489,6 +513,7 @@ public abstract class YangLeaf extends DefaultLocationInfo
             this.yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         this.yangSchemaNodeIdentifier = yangSchemaNodeIdentifier;
+        isSchemaNodeIdentifierShared = false;
     }
 
     /**
@@ -508,6 +533,11 @@ public abstract class YangLeaf extends DefaultLocationInfo
     public void setName(String name) {
         if (yangSchemaNodeIdentifier == null) {
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
+        } else if (isSchemaNodeIdentifierShared) {
+            if (Objects.equals(name, yangSchemaNodeIdentifier.getName())) {
+                return;
+            }
+            copySchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setName(name);
     }
@@ -525,10 +555,44 @@ public abstract class YangLeaf extends DefaultLocationInfo
     public void setNameSpace(YangNamespace namespace) {
         if (yangSchemaNodeIdentifier == null) {
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
+        } else if (isSchemaNodeIdentifierShared) {
+            if (namespace == yangSchemaNodeIdentifier.getNameSpace()) {
+                return;
+            }
+            copySchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setNameSpace(namespace);
     }
 
+    /**
+     * Copies the shared schema node identifier, before it is written.
+     */
+    private void copySchemaNodeIdentifier() {
+        try {
+            yangSchemaNodeIdentifier = yangSchemaNodeIdentifier.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        isSchemaNodeIdentifierShared = false;
+    }
+
+    /**
+     * Copies the shared must and if-feature lists, before one of them is
+     * written.
+     */
+    private void copyConstraintLists() {
+        if (!isConstraintListShared) {
+            return;
+        }
+        if (mustConstraintList != null) {
+            mustConstraintList = new LinkedList<>(mustConstraintList);
+        }
+        if (ifFeatureList != null) {
+            ifFeatureList = new LinkedList<>(ifFeatureList);
+        }
+        isConstraintListShared = false;
+    }
+
     @Override
     public YangSchemaNode getNotificationSchemaNode(String notificationNameInEnum)
             throws DataModelException {
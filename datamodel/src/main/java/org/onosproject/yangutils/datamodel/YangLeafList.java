@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 import org.onosproject.yangutils.datamodel.utils.YangConstructType;
@@ -69,6 +70,12 @@ public abstract class YangLeafList extends DefaultLocationInfo
      */
     private YangSchemaNodeIdentifier yangSchemaNodeIdentifier;
 
+    /**
+     * Flag if the schema node identifier is shared with the leaf-list it is
+     * cloned from, or with the leaf-lists cloned from it.
+     */
+    private boolean isSchemaNodeIdentifierShared;
+
     /**
      * If the leaf-list is a config parameter.
      */
@@ -151,6 +158,12 @@ public abstract class YangLeafList extends DefaultLocationInfo
      */
     private List<YangIfFeature> ifFeatureList;
 
+    /**
+     * Flag if the must and if-feature lists are shared with the leaf-list it is
+     * cloned from, or with the leaf-lists cloned from it.
+     */
+    private boolean isConstraintListShared;
+
     /**
      * Referred schema leaf list.
      */
@@ -360,7 +373,10 @@ public abstract class YangLeafList extends DefaultLocationInfo
     public YangLeafList clone()
             throws CloneNotSupportedException {
         YangLeafList cll  = (YangLeafList) super.clone();
-        cll.yangSchemaNodeIdentifier = yangSchemaNodeIdentifier.clone();
+        isSchemaNodeIdentifierShared = true;
+        cll.isSchemaNodeIdentifierShared = true;
+        isConstraintListShared = true;
+        cll.isConstraintListShared = true;
         return cll;
     }
 
@@ -405,6 +421,7 @@ public abstract class YangLeafList extends DefaultLocationInfo
 
     @Override
     public void addIfFeatureList(YangIfFeature ifFeature) {
+        copyConstraintLists();
         if (getIfFeatureList() == null) {
             setIfFeatureList(new LinkedList<>());
         }
@@ -428,6 +445,7 @@ public abstract class YangLeafList extends DefaultLocationInfo
 
     @Override
     public void addMust(YangMust must) {
+        copyConstraintLists();
         if (getListOfMust() == null) {
             setListOfMust(new LinkedList<>());
         }
@@ -445,6 +463,12 @@ public abstract class YangLeafList extends DefaultLocationInfo
                 " in " + getFileName() + "\"");
     }
 
+    @Override
+    public YangSchemaNodeContextInfo findChildSchema(String name,
+                                                     int namespaceId) {
+        return null;
+    }
+
     @Override
     public void isValueValid(String value)
             throws DataModelException {
@@ -503,6 +527,7 @@ public abstract class YangLeafList extends DefaultLocationInfo
             this.yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         this.yangSchemaNodeIdentifier = yangSchemaNodeIdentifier;
+        isSchemaNodeIdentifierShared = false;
     }
 
     /**
@@ -522,6 +547,11 @@ public abstract class YangLeafList extends DefaultLocationInfo
     public void setName(String name) {
         if (yangSchemaNodeIdentifier == null) {
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
+        } else if (isSchemaNodeIdentifierShared) {
+            if (Objects.equals(name, yangSchemaNodeIdentifier.getName())) {
+                return;
+            }
+            copySchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setName(name);
     }
@@ -539,10 +569,44 @@ public abstract class YangLeafList extends DefaultLocationInfo
     public void setNameSpace(YangNamespace namespace) {
         if (yangSchemaNodeIdentifier == null) {
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
+        } else if (isSchemaNodeIdentifierShared) {
+            if (namespace == yangSchemaNodeIdentifier.getNameSpace()) {
+                return;
+            }
+            copySchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setNameSpace(namespace);
     }
 
+    /**
+     * Copies the shared schema node identifier, before it is written.
+     */
+    private void copySchemaNodeIdentifier() {
+        try {
+            yangSchemaNodeIdentifier = yangSchemaNodeIdentifier.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        isSchemaNodeIdentifierShared = false;
+    }
+
+    /**
+     * Copies the shared must and if-feature lists, before one of them is
+     * written.
+     */
+    private void copyConstraintLists() {
+        if (!isConstraintListShared) {
+            return;
+        }
+        if (mustConstraintList != null) {
+            mustConstraintList = new LinkedList<>(mustConstraintList);
+        }
+        if (ifFeatureList != null) {
+            ifFeatureList = new LinkedList<>(ifFeatureList);
+        }
+        isConstraintListShared = false;
+    }
+
     @Override
     public YangSchemaNode getNotificationSchemaNode(String notificationNameInEnum)
             throws DataModelException {
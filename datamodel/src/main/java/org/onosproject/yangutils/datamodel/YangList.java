@@ -225,7 +225,7 @@ public abstract class YangList
     @Override
     public void addToChildSchemaMap(YangSchemaNodeIdentifier schemaNodeIdentifier,
                                     YangSchemaNodeContextInfo yangSchemaNodeContextInfo) {
-        getYsnContextInfoMap().put(schemaNodeIdentifier, yangSchemaNodeContextInfo);
+        addToYsnContextInfoMap(schemaNodeIdentifier, yangSchemaNodeContextInfo);
     }
 
     @Override
@@ -769,11 +769,13 @@ public abstract class YangList
 
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.add(augmentInfo);
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.remove(augmentInfo);
     }
 
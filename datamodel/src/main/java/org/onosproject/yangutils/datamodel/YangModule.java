@@ -39,6 +39,7 @@ import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.detectCol
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.linkInterFileReferences;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.resolveLinkingForResolutionList;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.MODULE_DATA;
+import static org.onosproject.yangutils.datamodel.utils.YangNamespaceIds.UNKNOWN_NAMESPACE_ID;
 
 /*-
  * Reference:RFC 6020.
@@ -137,6 +138,11 @@ public abstract class YangModule
      */
     private List<YangFeature> listOfFeature;
 
+    /**
+     * Index of features by name, built when first needed.
+     */
+    private transient volatile Map<String, YangFeature> featureIndex;
+
     /**
      * Reference:RFC 6020.
      * <p>
@@ -263,6 +269,11 @@ public abstract class YangModule
      */
     private String namespace;
 
+    /**
+     * Canonical id of the namespace, assigned when the node is linked.
+     */
+    private int namespaceId = UNKNOWN_NAMESPACE_ID;
+
     /**
      * Creates a YANG node of module type.
      */
@@ -290,7 +301,7 @@ public abstract class YangModule
     @Override
     public void addToChildSchemaMap(YangSchemaNodeIdentifier id,
                                     YangSchemaNodeContextInfo context) {
-        getYsnContextInfoMap().put(id, context);
+        addToYsnContextInfoMap(id, context);
     }
 
     @Override
@@ -456,11 +467,28 @@ public abstract class YangModule
     @Override
     public void addFeatureList(YangFeature feature) {
         listOfFeature.add(feature);
+        featureIndex = null;
     }
 
     @Override
     public void setListOfFeature(List<YangFeature> listOfFeature) {
         this.listOfFeature = listOfFeature;
+        featureIndex = null;
+    }
+
+    @Override
+    public YangFeature getFeature(String name) {
+        Map<String, YangFeature> index = featureIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            if (listOfFeature != null) {
+                for (YangFeature feature : listOfFeature) {
+                    index.putIfAbsent(feature.getName(), feature);
+                }
+            }
+            featureIndex = index;
+        }
+        return index.get(name);
     }
 
     /**
@@ -732,19 +760,31 @@ public abstract class YangModule
     @Override
     public void addReferencesToImportList(Set<YangNode> yangNodeSet)
             throws DataModelException {
+        addReferencesToImportList(new YangModuleRegistry(yangNodeSet));
+    }
+
+    @Override
+    public void addReferencesToImportList(YangModuleRegistry registry)
+            throws DataModelException {
         // Run through the imported list to add references.
         for (YangImport yangImport : getImportList()) {
-            yangImport.addReferenceToImport(yangNodeSet);
+            yangImport.addReferenceToImport(registry);
         }
     }
 
     @Override
     public void addReferencesToIncludeList(Set<YangNode> yangNodeSet)
             throws DataModelException {
+        addReferencesToIncludeList(new YangModuleRegistry(yangNodeSet));
+    }
+
+    @Override
+    public void addReferencesToIncludeList(YangModuleRegistry registry)
+            throws DataModelException {
         // Run through the included list to add references.
         for (YangInclude yangInclude : getIncludeList()) {
             YangSubModule subModule = yangInclude
-                    .addReferenceToInclude(yangNodeSet);
+                    .addReferenceToInclude(registry);
 
             // Check if the referred sub-modules parent is self
             if (!subModule.getBelongsTo().getModuleNode().equals(this)) {
@@ -817,4 +857,22 @@ public abstract class YangModule
     public void setModuleNamespace(String namespace) {
         this.namespace = namespace;
     }
+
+    /**
+     * Returns the canonical id of the namespace.
+     *
+     * @return namespace id, unknown if not assigned
+     */
+    public int getNamespaceId() {
+        return namespaceId;
+    }
+
+    /**
+     * Sets the canonical id of the namespace.
+     *
+     * @param namespaceId namespace id
+     */
+    public void setNamespaceId(int namespaceId) {
+        this.namespaceId = namespaceId;
+    }
 }
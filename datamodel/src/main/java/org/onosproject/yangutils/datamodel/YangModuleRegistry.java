@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the registry of modules and sub-modules of a build, by name and
+ * by name with revision. It is used to find the imported module, the
+ * included sub-module and the module a sub-module belongs to.
+ */
+public class YangModuleRegistry {
+
+    private static final String REVISION_SEPARATOR = "@";
+
+    /**
+     * Modules and sub-modules by name, and by name with revision.
+     */
+    private final Map<String, YangNode> nodes = new HashMap<>();
+
+    /**
+     * Creates an empty registry of modules.
+     */
+    public YangModuleRegistry() {
+    }
+
+    /**
+     * Creates a registry of the given modules and sub-modules.
+     *
+     * @param yangNodes root nodes of modules and sub-modules
+     */
+    public YangModuleRegistry(Collection<YangNode> yangNodes) {
+        addNodes(yangNodes);
+    }
+
+    /**
+     * Adds modules and sub-modules to the registry.
+     *
+     * @param yangNodes root nodes of modules and sub-modules
+     */
+    public void addNodes(Collection<YangNode> yangNodes) {
+        for (YangNode yangNode : yangNodes) {
+            addNode(yangNode);
+        }
+    }
+
+    /**
+     * Adds a module or sub-module to the registry. When more than one node
+     * has the same name, the node added first is found by name.
+     *
+     * @param yangNode root node of module or sub-module
+     */
+    public void addNode(YangNode yangNode) {
+        nodes.putIfAbsent(yangNode.getName(), yangNode);
+        YangRevision revision = yangNode.getRevision();
+        if (revision != null && revision.getRevDate() != null) {
+            nodes.putIfAbsent(getKey(yangNode.getName(),
+                                     revision.getRevDate()), yangNode);
+        }
+    }
+
+    /**
+     * Returns the module or sub-module with the given name.
+     *
+     * @param name name of module or sub-module
+     * @return root node, null if not present
+     */
+    public YangNode getNode(String name) {
+        return nodes.get(name);
+    }
+
+    /**
+     * Returns the module or sub-module with the given name and revision.
+     *
+     * @param name     name of module or sub-module
+     * @param revision revision date
+     * @return root node, null if not present
+     */
+    public YangNode getNode(String name, Date revision) {
+        return nodes.get(getKey(name, revision));
+    }
+
+    /**
+     * Returns the key of a module or sub-module with revision.
+     *
+     * @param name     name of module or sub-module
+     * @param revision revision date
+     * @return key with revision
+     */
+    private static String getKey(String name, Date revision) {
+        return name + REVISION_SEPARATOR + revision.getTime();
+    }
+}
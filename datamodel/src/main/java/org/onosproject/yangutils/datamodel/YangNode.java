@@ -19,9 +19,13 @@ import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
 import org.onosproject.yangutils.datamodel.utils.Parsable;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
+import static java.util.Collections.emptyMap;
 import static org.onosproject.yangutils.datamodel.TraversalType.CHILD;
 import static org.onosproject.yangutils.datamodel.TraversalType.PARENT;
 import static org.onosproject.yangutils.datamodel.TraversalType.SIBILING;
@@ -31,6 +35,12 @@ import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.updateClo
 
 /**
  * Represents base class of a node in data model tree.
+ * <p>
+ * A node cloned from a grouping for a uses shares the state of the grouping
+ * definition which is written per instance, such as its schema node
+ * identifier with the namespace and its augment info, and the state is
+ * copied when either node first writes it. The child schema map of a cloned
+ * node is created when the first child schema is added.
  */
 public abstract class YangNode
         implements Cloneable, Serializable, YangSchemaNode,
@@ -38,11 +48,27 @@ public abstract class YangNode
 
     private static final long serialVersionUID = 806201601L;
 
+    // Empty child schema map shared by cloned nodes.
+    private static final Map<YangSchemaNodeIdentifier,
+            YangSchemaNodeContextInfo> EMPTY_CONTEXT_INFO_MAP = emptyMap();
+
     /**
      * YANG schema node identifier.
      */
     private YangSchemaNodeIdentifier yangSchemaNodeIdentifier;
 
+    /**
+     * Flag if the schema node identifier is shared with the node it is
+     * cloned from, or with the nodes cloned from it.
+     */
+    private boolean isSchemaNodeIdentifierShared;
+
+    /**
+     * Flag if the augment info list is shared with the node it is cloned
+     * from, or with the nodes cloned from it.
+     */
+    private boolean isAugmentedInfoShared;
+
     /**
      * Type of node.
      */
@@ -112,6 +138,24 @@ public abstract class YangNode
      */
     private YangNode referredSchemaNode;
 
+    /**
+     * Index of typedef, grouping and identity children, built when first
+     * needed and discarded when the children of the node change.
+     */
+    private transient volatile YangDefinitionIndex definitionIndex;
+
+    /**
+     * Index of child schema nodes by name and namespace id, built when first
+     * needed and discarded when the child schema map changes.
+     */
+    private transient volatile YangChildSchemaIndex childSchemaIndex;
+
+    /**
+     * Flag to check whether the node is frozen in a schema snapshot, after
+     * which its links with other nodes cannot change.
+     */
+    private transient boolean isFrozen;
+
     /**
      * Returns the priority of the node.
      *
@@ -200,6 +244,7 @@ public abstract class YangNode
      * @param parent node
      */
     public void setParent(YangNode parent) {
+        checkNotFrozen();
         this.parent = parent;
     }
 
@@ -218,7 +263,9 @@ public abstract class YangNode
      * @param child is only child to be set
      */
     public void setChild(YangNode child) {
+        checkNotFrozen();
         this.child = child;
+        definitionIndex = null;
     }
 
     /**
@@ -236,7 +283,11 @@ public abstract class YangNode
      * @param sibling YANG node
      */
     public void setNextSibling(YangNode sibling) {
+        checkNotFrozen();
         nextSibling = sibling;
+        if (parent != null) {
+            parent.definitionIndex = null;
+        }
     }
 
     /**
@@ -254,9 +305,86 @@ public abstract class YangNode
      * @param previousSibling points to predecessor sibling
      */
     public void setPreviousSibling(YangNode previousSibling) {
+        checkNotFrozen();
         this.previousSibling = previousSibling;
     }
 
+    /**
+     * Returns true if the node is frozen in a schema snapshot.
+     *
+     * @return true if the node is frozen
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
+    /**
+     * Freezes the node, after building the state which is otherwise built
+     * on first use.
+     */
+    void freeze() {
+        getDefinitionIndex();
+        if (ysnContextInfoMap != null) {
+            getChildSchemaIndex();
+        }
+        isFrozen = true;
+    }
+
+    /**
+     * Checks the links of the node can be changed.
+     */
+    private void checkNotFrozen() {
+        if (isFrozen) {
+            throw new IllegalStateException("YANG node " + getName() +
+                                                    " is frozen in a schema snapshot");
+        }
+    }
+
+    /**
+     * Returns the typedef child of the node with the given name.
+     *
+     * @param name typedef name
+     * @return typedef, null if not defined in the node
+     */
+    public YangTypeDef getTypeDef(String name) {
+        return getDefinitionIndex().getTypeDef(name);
+    }
+
+    /**
+     * Returns the grouping child of the node with the given name.
+     *
+     * @param name grouping name
+     * @return grouping, null if not defined in the node
+     */
+    public YangGrouping getGrouping(String name) {
+        return getDefinitionIndex().getGrouping(name);
+    }
+
+    /**
+     * Returns the identity child of the node with the given name.
+     *
+     * @param name identity name
+     * @return identity, null if not defined in the node
+     */
+    public YangIdentity getIdentity(String name) {
+        return getDefinitionIndex().getIdentity(name);
+    }
+
+    /**
+     * Returns the index of the definitions of the node, after building it
+     * when it is not present.
+     *
+     * @return index of definitions
+     */
+    private YangDefinitionIndex getDefinitionIndex() {
+        YangDefinitionIndex index = definitionIndex;
+        if (index == null) {
+            index = new YangDefinitionIndex(this);
+            definitionIndex = index;
+        }
+        return index;
+    }
+
     /**
      * Adds a child node, the children sibling list will be sorted based on node
      * type.
@@ -404,6 +532,7 @@ public abstract class YangNode
     public YangNode clone(YangUses yangUses)
             throws CloneNotSupportedException {
         YangNode clonedNode = (YangNode) super.clone();
+        clonedNode.isFrozen = false;
         clonedNode.referredSchemaNode = this;
         if (clonedNode instanceof YangLeavesHolder) {
             try {
@@ -418,9 +547,12 @@ public abstract class YangNode
         clonedNode.setChild(null);
         clonedNode.setNextSibling(null);
         clonedNode.setPreviousSibling(null);
-        clonedNode.yangSchemaNodeIdentifier =
-                clonedNode.yangSchemaNodeIdentifier.clone();
-        clonedNode.ysnContextInfoMap = new HashMap<>();
+        isSchemaNodeIdentifierShared = true;
+        isAugmentedInfoShared = true;
+        clonedNode.isSchemaNodeIdentifierShared = true;
+        clonedNode.isAugmentedInfoShared = true;
+        clonedNode.ysnContextInfoMap = EMPTY_CONTEXT_INFO_MAP;
+        clonedNode.childSchemaIndex = null;
         return clonedNode;
     }
 
@@ -674,6 +806,30 @@ public abstract class YangNode
         return childSchemaContext;
     }
 
+    @Override
+    public YangSchemaNodeContextInfo findChildSchema(String name,
+                                                     int namespaceId) {
+        if (ysnContextInfoMap == null) {
+            return null;
+        }
+        return getChildSchemaIndex().get(name, namespaceId);
+    }
+
+    /**
+     * Returns the index of the child schema nodes, after building it when it
+     * is not present.
+     *
+     * @return index of child schema nodes
+     */
+    private YangChildSchemaIndex getChildSchemaIndex() {
+        YangChildSchemaIndex index = childSchemaIndex;
+        if (index == null) {
+            index = new YangChildSchemaIndex(ysnContextInfoMap);
+            childSchemaIndex = index;
+        }
+        return index;
+    }
+
     @Override
     public int getMandatoryChildCount()
             throws DataModelException {
@@ -777,6 +933,7 @@ public abstract class YangNode
     public void setYsnContextInfoMap(Map<YangSchemaNodeIdentifier,
             YangSchemaNodeContextInfo> ysnContextInfoMap) {
         this.ysnContextInfoMap = ysnContextInfoMap;
+        childSchemaIndex = null;
     }
 
     /**
@@ -788,7 +945,12 @@ public abstract class YangNode
     public void addToYsnContextInfoMap(YangSchemaNodeIdentifier
                                                yangSchemaNodeIdentifier, YangSchemaNodeContextInfo
                                                yangSchemaNodeContextInfo) {
+        if (ysnContextInfoMap == EMPTY_CONTEXT_INFO_MAP) {
+            // Map of a cloned node is created on first addition.
+            ysnContextInfoMap = new HashMap<>();
+        }
         getYsnContextInfoMap().put(yangSchemaNodeIdentifier, yangSchemaNodeContextInfo);
+        childSchemaIndex = null;
     }
 
     @Override
@@ -816,6 +978,7 @@ public abstract class YangNode
             this.yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         this.yangSchemaNodeIdentifier = yangSchemaNodeIdentifier;
+        isSchemaNodeIdentifierShared = false;
     }
 
     @Override
@@ -831,6 +994,11 @@ public abstract class YangNode
     public void setName(String name) {
         if (yangSchemaNodeIdentifier == null) {
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
+        } else if (isSchemaNodeIdentifierShared) {
+            if (Objects.equals(name, yangSchemaNodeIdentifier.getName())) {
+                return;
+            }
+            copySchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setName(name);
     }
@@ -848,10 +1016,43 @@ public abstract class YangNode
     public void setNameSpace(YangNamespace namespace) {
         if (yangSchemaNodeIdentifier == null) {
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
+        } else if (isSchemaNodeIdentifierShared) {
+            if (namespace == yangSchemaNodeIdentifier.getNameSpace()) {
+                return;
+            }
+            copySchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setNameSpace(namespace);
     }
 
+    /**
+     * Copies the shared schema node identifier, before it is written.
+     */
+    private void copySchemaNodeIdentifier() {
+        try {
+            yangSchemaNodeIdentifier = yangSchemaNodeIdentifier.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        isSchemaNodeIdentifierShared = false;
+    }
+
+    /**
+     * Returns the augment info list of the node to be written. The shared
+     * list is copied on first write.
+     *
+     * @param augmentedInfo augment info list of the node
+     * @return augment info list owned by the node
+     */
+    protected List<YangAugment> getWritableAugmentedInfo(
+            List<YangAugment> augmentedInfo) {
+        if (!isAugmentedInfoShared) {
+            return augmentedInfo;
+        }
+        isAugmentedInfoShared = false;
+        return new ArrayList<>(augmentedInfo);
+    }
+
     /**
      * Returns YANG revision.
      *
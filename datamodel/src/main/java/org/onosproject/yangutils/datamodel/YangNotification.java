@@ -120,7 +120,7 @@ public abstract class YangNotification
      */
     private List<YangIfFeature> ifFeatureList;
 
-    private final List<YangAugment> yangAugmentedInfo;
+    private List<YangAugment> yangAugmentedInfo;
 
     /**
      * Create a notification node.
@@ -137,7 +137,7 @@ public abstract class YangNotification
     public void addToChildSchemaMap(YangSchemaNodeIdentifier id,
                                     YangSchemaNodeContextInfo context)
             throws DataModelException {
-        getYsnContextInfoMap().put(id, context);
+        addToYsnContextInfoMap(id, context);
     }
 
     @Override
@@ -267,11 +267,13 @@ public abstract class YangNotification
 
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.add(augmentInfo);
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.remove(augmentInfo);
     }
 
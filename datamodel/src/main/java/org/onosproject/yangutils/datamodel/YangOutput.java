@@ -92,7 +92,7 @@ public abstract class YangOutput
      */
     private List<YangLeafList> listOfLeafList;
 
-    private final List<YangAugment> yangAugmentedInfo;
+    private List<YangAugment> yangAugmentedInfo;
 
     /**
      * Create a rpc output node.
@@ -108,7 +108,7 @@ public abstract class YangOutput
     public void addToChildSchemaMap(YangSchemaNodeIdentifier id,
                                     YangSchemaNodeContextInfo context)
             throws DataModelException {
-        getYsnContextInfoMap().put(id, context);
+        addToYsnContextInfoMap(id, context);
     }
 
     @Override
@@ -196,11 +196,13 @@ public abstract class YangOutput
 
     @Override
     public void addAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.add(augmentInfo);
     }
 
     @Override
     public void removeAugmentation(YangAugment augmentInfo) {
+        yangAugmentedInfo = getWritableAugmentedInfo(yangAugmentedInfo);
         yangAugmentedInfo.remove(augmentInfo);
     }
 
@@ -17,10 +17,13 @@
 package org.onosproject.yangutils.datamodel;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static java.util.Collections.unmodifiableList;
+import static org.onosproject.yangutils.datamodel.utils.YangRegexUtils.getPattern;
 
 /*-
  *  Reference RFC 6020.
@@ -64,6 +67,11 @@ public class YangPatternRestriction extends DefaultLocationInfo
      */
     private final List<String> patternList;
 
+    /**
+     * Compiled patterns of the pattern restriction, created on first use.
+     */
+    private transient volatile List<Pattern> compiledPatterns;
+
     /**
      * YANG application error information.
      */
@@ -93,6 +101,42 @@ public class YangPatternRestriction extends DefaultLocationInfo
      */
     public void addPattern(String newPattern) {
         patternList.add(newPattern);
+        compiledPatterns = null;
+    }
+
+    /**
+     * Returns the compiled patterns of the pattern restriction. The patterns
+     * are compiled once and shared with the other restrictions using the
+     * same regular expression.
+     *
+     * @return compiled patterns
+     */
+    public List<Pattern> getCompiledPatterns() {
+        List<Pattern> patterns = compiledPatterns;
+        if (patterns == null) {
+            patterns = new ArrayList<>(patternList.size());
+            for (String pattern : patternList) {
+                patterns.add(getPattern(pattern));
+            }
+            patterns = unmodifiableList(patterns);
+            compiledPatterns = patterns;
+        }
+        return patterns;
+    }
+
+    /**
+     * Returns true if the value matches any of the patterns.
+     *
+     * @param value value to be checked
+     * @return true if the value matches any of the patterns
+     */
+    public boolean isMatching(String value) {
+        for (Pattern pattern : getCompiledPatterns()) {
+            if (pattern.matcher(value).matches()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangBuiltInDataTypeInfo;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt16;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt32;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt64;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt8;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint16;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint32;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint64;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint8;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DECIMAL64;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT16;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT32;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT64;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT8;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UINT16;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UINT32;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UINT64;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UINT8;
+
+/**
+ * Represents the checker of values of integer and decimal64 types against
+ * range restrictions. The intervals of the restriction are kept as arrays of
+ * primitive values and a value is checked by parsing it to a primitive value
+ * and searching the interval, without creating any object.
+ * <p>
+ * Values of uint64 are kept with the sign bit flipped, so that they are
+ * ordered as signed values, and decimal64 values are kept scaled by the
+ * fraction digits. Values which are not in plain decimal notation, or which
+ * are not in the value space of the type, are not parsed by the checker and
+ * are left to the data type objects, which report the error.
+ */
+final class YangRangeChecker {
+
+    /**
+     * Value is in one of the intervals.
+     */
+    static final int IN_RANGE = 0;
+
+    /**
+     * Value is not in any of the intervals.
+     */
+    static final int OUT_OF_RANGE = 1;
+
+    /**
+     * Value is not parsed by the checker.
+     */
+    static final int NOT_PARSED = 2;
+
+    private static final int MAX_FRACTION_DIGITS = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_FRACTION_DIGITS + 1];
+
+    // Largest unsigned magnitudes which can be scaled by the powers of ten.
+    private static final long[] MAX_SCALABLE = new long[MAX_FRACTION_DIGITS + 1];
+
+    // Largest unsigned magnitude to which a digit can be appended.
+    private static final long MAX_BEFORE_DIGIT = Long.divideUnsigned(-1L, 10);
+    private static final int MAX_LAST_DIGIT = (int) Long.remainderUnsigned(-1L, 10);
+
+    // Checkers of types without range restriction.
+    private static final Map<YangDataTypes, YangRangeChecker> TYPE_CHECKERS =
+            new EnumMap<>(YangDataTypes.class);
+    private static final YangRangeChecker[] DECIMAL64_CHECKERS =
+            new YangRangeChecker[MAX_FRACTION_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        MAX_SCALABLE[0] = -1L;
+        for (int i = 1; i <= MAX_FRACTION_DIGITS; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+            MAX_SCALABLE[i] = Long.divideUnsigned(-1L, POWERS_OF_TEN[i]);
+        }
+        addTypeChecker(INT8, YangInt8.MIN_VALUE, YangInt8.MAX_VALUE);
+        addTypeChecker(INT16, YangInt16.MIN_VALUE, YangInt16.MAX_VALUE);
+        addTypeChecker(INT32, YangInt32.MIN_VALUE, YangInt32.MAX_VALUE);
+        addTypeChecker(INT64, YangInt64.MIN_VALUE, YangInt64.MAX_VALUE);
+        addTypeChecker(UINT8, YangUint8.MIN_VALUE, YangUint8.MAX_VALUE);
+        addTypeChecker(UINT16, YangUint16.MIN_VALUE, YangUint16.MAX_VALUE);
+        addTypeChecker(UINT32, YangUint32.MIN_VALUE, YangUint32.MAX_VALUE);
+        addTypeChecker(UINT64, Long.MIN_VALUE, Long.MAX_VALUE);
+        for (int i = 1; i <= MAX_FRACTION_DIGITS; i++) {
+            DECIMAL64_CHECKERS[i] = new YangRangeChecker(
+                    DECIMAL64, i, Long.MIN_VALUE, Long.MAX_VALUE,
+                    new long[]{Long.MIN_VALUE}, new long[]{Long.MAX_VALUE});
+        }
+    }
+
+    private final YangDataTypes type;
+    private final int fractionDigits;
+    private final long minValue;
+    private final long maxValue;
+    private final long[] startValues;
+    private final long[] endValues;
+
+    /**
+     * Creates a range checker.
+     *
+     * @param type           data type
+     * @param fractionDigits fraction digits of decimal64, 0 otherwise
+     * @param minValue       minimum value of the type
+     * @param maxValue       maximum value of the type
+     * @param startValues    ascending start values of intervals
+     * @param endValues      ascending end values of intervals
+     */
+    private YangRangeChecker(YangDataTypes type, int fractionDigits,
+                             long minValue, long maxValue,
+                             long[] startValues, long[] endValues) {
+        this.type = type;
+        this.fractionDigits = fractionDigits;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.startValues = startValues;
+        this.endValues = endValues;
+    }
+
+    /**
+     * Adds the checker of a type without range restriction.
+     *
+     * @param type     data type
+     * @param minValue minimum value of the type
+     * @param maxValue maximum value of the type
+     */
+    private static void addTypeChecker(YangDataTypes type, long minValue,
+                                       long maxValue) {
+        TYPE_CHECKERS.put(type, new YangRangeChecker(
+                type, 0, minValue, maxValue, new long[]{minValue},
+                new long[]{maxValue}));
+    }
+
+    /**
+     * Returns the checker of an integer type without range restriction.
+     *
+     * @param type integer data type
+     * @return range checker, or null if the type is not an integer type
+     */
+    static YangRangeChecker getTypeChecker(YangDataTypes type) {
+        return TYPE_CHECKERS.get(type);
+    }
+
+    /**
+     * Returns the checker of decimal64 without range restriction.
+     *
+     * @param fractionDigits fraction digits
+     * @return range checker, or null if the fraction digits are not valid
+     */
+    static YangRangeChecker getDecimal64Checker(int fractionDigits) {
+        if (fractionDigits < 1 || fractionDigits > MAX_FRACTION_DIGITS) {
+            return null;
+        }
+        return DECIMAL64_CHECKERS[fractionDigits];
+    }
+
+    /**
+     * Returns the checker of the intervals of a range restriction.
+     *
+     * @param intervals      ascending intervals of range restriction
+     * @param fractionDigits fraction digits of decimal64, 0 otherwise
+     * @return range checker, or null if the type of the intervals is not
+     * supported
+     */
+    static YangRangeChecker getRangeChecker(
+            List<? extends YangRangeInterval<?>> intervals, int fractionDigits) {
+        YangDataTypes type = intervals.get(0).getStartValue().getYangType();
+        YangRangeChecker typeChecker = type == DECIMAL64 ?
+                getDecimal64Checker(fractionDigits) : TYPE_CHECKERS.get(type);
+        if (typeChecker == null) {
+            return null;
+        }
+
+        int size = intervals.size();
+        long[] startValues = new long[size];
+        long[] endValues = new long[size];
+        int index = 0;
+        for (YangRangeInterval<?> interval : intervals) {
+            startValues[index] = toLong(interval.getStartValue(),
+                                        fractionDigits, RoundingMode.CEILING);
+            endValues[index] = toLong(interval.getEndValue(), fractionDigits,
+                                      RoundingMode.FLOOR);
+            index++;
+        }
+        return new YangRangeChecker(type, typeChecker.fractionDigits,
+                                    typeChecker.minValue, typeChecker.maxValue,
+                                    startValues, endValues);
+    }
+
+    /**
+     * Returns the primitive value of a range boundary.
+     *
+     * @param value          range boundary
+     * @param fractionDigits fraction digits of decimal64
+     * @param roundingMode   rounding of decimal64 boundary to fraction digits
+     * @return primitive value
+     */
+    private static long toLong(YangBuiltInDataTypeInfo<?> value,
+                               int fractionDigits, RoundingMode roundingMode) {
+        switch (value.getYangType()) {
+            case INT8:
+                return ((YangInt8) value).getValue();
+            case INT16:
+                return ((YangInt16) value).getValue();
+            case INT32:
+                return ((YangInt32) value).getValue();
+            case INT64:
+                return ((YangInt64) value).getValue();
+            case UINT8:
+                return ((YangUint8) value).getValue();
+            case UINT16:
+                return ((YangUint16) value).getValue();
+            case UINT32:
+                return ((YangUint32) value).getValue();
+            case UINT64:
+                return ((YangUint64) value).getValue().longValue() ^ Long.MIN_VALUE;
+            case DECIMAL64:
+                BigInteger scaled = ((YangDecimal64<?>) value).getValue()
+                        .movePointRight(fractionDigits)
+                        .setScale(0, roundingMode).toBigInteger();
+                if (scaled.bitLength() < Long.SIZE) {
+                    return scaled.longValue();
+                }
+                return scaled.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported range type " + value.getYangType());
+        }
+    }
+
+    /**
+     * Returns the fraction digits of decimal64 values of the checker.
+     *
+     * @return fraction digits, 0 for integer types
+     */
+    int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    /**
+     * Checks a value against the intervals.
+     *
+     * @param value value in string
+     * @return IN_RANGE, OUT_OF_RANGE or NOT_PARSED
+     */
+    int check(String value) {
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0) {
+            char sign = value.charAt(0);
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                index++;
+            }
+        }
+
+        // Magnitude of the value, unsigned and scaled for decimal64.
+        long magnitude = 0;
+        int digits = 0;
+        int fractionCount = -1;
+        for (; index < length; index++) {
+            char ch = value.charAt(index);
+            if (ch == '.' && fractionDigits > 0 && fractionCount < 0) {
+                fractionCount = 0;
+                continue;
+            }
+            if (ch < '0' || ch > '9') {
+                return NOT_PARSED;
+            }
+            if (fractionCount >= 0 && ++fractionCount > fractionDigits) {
+                return NOT_PARSED;
+            }
+            int digit = ch - '0';
+            int overflow = Long.compareUnsigned(magnitude, MAX_BEFORE_DIGIT);
+            if (overflow > 0 || overflow == 0 && digit > MAX_LAST_DIGIT) {
+                return NOT_PARSED;
+            }
+            magnitude = magnitude * 10 + digit;
+            digits++;
+        }
+        if (digits == 0) {
+            return NOT_PARSED;
+        }
+        if (fractionDigits > 0) {
+            int scale = fractionDigits - Math.max(fractionCount, 0);
+            if (Long.compareUnsigned(magnitude, MAX_SCALABLE[scale]) > 0) {
+                return NOT_PARSED;
+            }
+            magnitude *= POWERS_OF_TEN[scale];
+        }
+
+        long number;
+        if (type == UINT64) {
+            if (negative && magnitude != 0) {
+                return NOT_PARSED;
+            }
+            number = magnitude ^ Long.MIN_VALUE;
+        } else if (negative) {
+            if (Long.compareUnsigned(magnitude, Long.MIN_VALUE) > 0) {
+                return NOT_PARSED;
+            }
+            number = -magnitude;
+        } else {
+            if (magnitude < 0) {
+                return NOT_PARSED;
+            }
+            number = magnitude;
+        }
+        if (number < minValue || number > maxValue) {
+            return NOT_PARSED;
+        }
+        return isInRange(number) ? IN_RANGE : OUT_OF_RANGE;
+    }
+
+    /**
+     * Returns true if the primitive value is in one of the intervals.
+     *
+     * @param number primitive value
+     * @return true if the value is in one of the intervals
+     */
+    private boolean isInRange(long number) {
+        int low = 0;
+        int high = startValues.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (number < startValues[mid]) {
+                high = mid - 1;
+            } else if (number > endValues[mid]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+}
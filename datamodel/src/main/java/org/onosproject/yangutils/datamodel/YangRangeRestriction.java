@@ -28,6 +28,8 @@ import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onosproject.yangutils.datamodel.BuiltInTypeObjectFactory.getDataObjectFromString;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.IN_RANGE;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.NOT_PARSED;
 import static org.onosproject.yangutils.datamodel.exceptions.ErrorMessages.getErrorMsg;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.RANGE_DATA;
 
@@ -88,6 +90,11 @@ public class YangRangeRestriction<T extends YangBuiltInDataTypeInfo<T>>
      */
     private YangAppErrorInfo yangAppErrorInfo;
 
+    /**
+     * Checker of values against the intervals, created on first use.
+     */
+    private transient volatile YangRangeChecker rangeChecker;
+
     /**
      * Creates YANG range restriction object.
      */
@@ -163,6 +170,7 @@ public class YangRangeRestriction<T extends YangBuiltInDataTypeInfo<T>>
              */
             ascendingRangeIntervals = new LinkedList<>();
             ascendingRangeIntervals.add(newInterval);
+            rangeChecker = null;
             return;
         }
 
@@ -173,6 +181,28 @@ public class YangRangeRestriction<T extends YangBuiltInDataTypeInfo<T>>
                     "", getLineNumber(), getCharPosition(), getFileName() + "\""));
         }
         getAscendingRangeIntervals().add(getAscendingRangeIntervals().size(), newInterval);
+        rangeChecker = null;
+    }
+
+    /**
+     * Returns the checker of values against the intervals of the restriction.
+     *
+     * @param fractionDigits fraction digits of decimal64, 0 otherwise
+     * @return range checker, or null if the values of the intervals are not
+     * of integer or decimal64 type
+     */
+    YangRangeChecker getRangeChecker(int fractionDigits) {
+        if (getAscendingRangeIntervals() == null
+                || getAscendingRangeIntervals().isEmpty()) {
+            return null;
+        }
+        YangRangeChecker checker = rangeChecker;
+        if (checker == null || checker.getFractionDigits() != fractionDigits) {
+            checker = YangRangeChecker.getRangeChecker(
+                    getAscendingRangeIntervals(), fractionDigits);
+            rangeChecker = checker;
+        }
+        return checker;
     }
 
     /**
@@ -193,6 +223,14 @@ public class YangRangeRestriction<T extends YangBuiltInDataTypeInfo<T>>
                     "", getLineNumber(), getCharPosition(), getFileName() + "\""));
         }
 
+        YangRangeChecker checker = getRangeChecker(0);
+        if (checker != null) {
+            int result = checker.check(valueInString);
+            if (result != NOT_PARSED) {
+                return result == IN_RANGE;
+            }
+        }
+
         YangDataTypes type = getAscendingRangeIntervals().get(0).getStartValue().getYangType();
         YangBuiltInDataTypeInfo<?> value = getDataObjectFromString(valueInString, type);
 
@@ -136,6 +136,15 @@ public interface YangReferenceResolver {
     void addReferencesToIncludeList(Set<YangNode> yangNodeSet)
             throws DataModelException;
 
+    /**
+     * Adds references to include.
+     *
+     * @param registry registry of modules
+     * @throws DataModelException a violation of data model rules
+     */
+    void addReferencesToIncludeList(YangModuleRegistry registry)
+            throws DataModelException;
+
     /**
      * Adds references to import.
      *
@@ -144,4 +153,13 @@ public interface YangReferenceResolver {
      */
     void addReferencesToImportList(Set<YangNode> yangNodeSet)
             throws DataModelException;
+
+    /**
+     * Adds references to import.
+     *
+     * @param registry registry of modules
+     * @throws DataModelException a violation of data model rules
+     */
+    void addReferencesToImportList(YangModuleRegistry registry)
+            throws DataModelException;
 }
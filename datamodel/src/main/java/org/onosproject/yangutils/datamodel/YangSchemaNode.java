@@ -44,6 +44,17 @@ public interface YangSchemaNode extends LocationInfo {
     YangSchemaNodeContextInfo getChildSchema(YangSchemaNodeIdentifier dataNodeIdentifier)
             throws DataModelException;
 
+    /**
+     * Returns child schema information for the child name and the canonical
+     * namespace id, without building a data node identifier. It is used by
+     * YMS for the child lookups of decoding.
+     *
+     * @param name        name of the child
+     * @param namespaceId namespace id of the child
+     * @return YANG data node context information, null if not a child
+     */
+    YangSchemaNodeContextInfo findChildSchema(String name, int namespaceId);
+
     /**
      * Validates whether the leaf/leaf-list value is valid as per YANG. It is
      * used by YMS to validate input value.
@@ -19,6 +19,8 @@ package org.onosproject.yangutils.datamodel;
 import java.io.Serializable;
 import java.util.Objects;
 
+import static org.onosproject.yangutils.datamodel.utils.YangNamespaceIds.getNamespaceId;
+
 /**
  * Represents YANG data node identifier which is a combination of name and namespace.
  * Namespace will be present only if node is module/sub-module or augmented node.
@@ -67,6 +69,15 @@ public class YangSchemaNodeIdentifier extends DefaultLocationInfo
         return namespace;
     }
 
+    /**
+     * Returns the canonical id of the namespace of the node.
+     *
+     * @return namespace id, unknown if the node has no namespace
+     */
+    public int getNameSpaceId() {
+        return getNamespaceId(namespace);
+    }
+
     /**
      * Sets namespace of the node.
      *
@@ -88,6 +99,9 @@ public class YangSchemaNodeIdentifier extends DefaultLocationInfo
             if (!Objects.equals(name, other.name)) {
                 return false;
             }
+            if (namespace == null || other.namespace == null) {
+                return namespace == other.namespace;
+            }
             String name = namespace.getModuleName();
             String otherName = other.getNameSpace().getModuleName();
             if (name != null && otherName != null) {
@@ -113,8 +127,13 @@ public class YangSchemaNodeIdentifier extends DefaultLocationInfo
         return (YangSchemaNodeIdentifier) super.clone();
     }
 
+    /*
+     * Identifiers are equal when their names are equal and either their
+     * module names or their namespace URIs are equal, so the hash code is
+     * based on the name only.
+     */
     @Override
     public int hashCode() {
-        return 0;
+        return Objects.hashCode(name);
     }
 }
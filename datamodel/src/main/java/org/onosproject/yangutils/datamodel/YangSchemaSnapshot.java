@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Represents a read-only snapshot of linked YANG schema trees, which can be
+ * shared by threads for schema lookup and value validation without locks.
+ * <p>
+ * Freezing the trees builds all the state which is otherwise built on first
+ * use, that is the definition indexes of nodes and the validators of types,
+ * so that lookups and validation do not write to the trees. The links
+ * between nodes of a frozen tree cannot change any more. The snapshot keeps
+ * the trees in final fields, so a snapshot published through a data race is
+ * seen fully built by other threads.
+ */
+public final class YangSchemaSnapshot {
+
+    private final List<YangNode> rootNodes;
+    private final YangModuleRegistry registry;
+
+    /**
+     * Creates a snapshot of frozen trees.
+     *
+     * @param rootNodes root nodes of frozen trees
+     */
+    private YangSchemaSnapshot(List<YangNode> rootNodes) {
+        this.rootNodes = unmodifiableList(rootNodes);
+        registry = new YangModuleRegistry(rootNodes);
+    }
+
+    /**
+     * Freezes the linked trees of modules and sub-modules and returns the
+     * snapshot of them. The trees must not be updated by the linker or the
+     * translator after this.
+     *
+     * @param rootNodes root nodes of linked modules and sub-modules
+     * @return schema snapshot
+     */
+    public static YangSchemaSnapshot freeze(Collection<? extends YangNode> rootNodes) {
+        List<YangNode> nodes = new ArrayList<>(rootNodes);
+        for (YangNode rootNode : nodes) {
+            freezeTree(rootNode);
+        }
+        return new YangSchemaSnapshot(nodes);
+    }
+
+    /**
+     * Freezes all the nodes of a tree.
+     *
+     * @param rootNode root node of the tree
+     */
+    private static void freezeTree(YangNode rootNode) {
+        Deque<YangNode> nodes = new ArrayDeque<>();
+        nodes.push(rootNode);
+        while (!nodes.isEmpty()) {
+            YangNode node = nodes.pop();
+            for (YangNode child = node.getChild(); child != null;
+                 child = child.getNextSibling()) {
+                nodes.push(child);
+            }
+            freezeNode(node);
+        }
+    }
+
+    /**
+     * Freezes a node and the types of its leaves and type definitions.
+     *
+     * @param node YANG node
+     */
+    private static void freezeNode(YangNode node) {
+        if (node instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) node;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    freezeType(leaf.getDataType());
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    freezeType(leafList.getDataType());
+                }
+            }
+        }
+        if (node instanceof YangTypeHolder) {
+            for (YangType<?> type : ((YangTypeHolder) node).getTypeList()) {
+                freezeType(type);
+            }
+        }
+        node.freeze();
+    }
+
+    /**
+     * Freezes a type.
+     *
+     * @param type YANG type, or null
+     */
+    private static void freezeType(YangType<?> type) {
+        if (type != null && type.getDataType() != null) {
+            type.freeze();
+        }
+    }
+
+    /**
+     * Returns the root nodes of the frozen trees.
+     *
+     * @return root nodes
+     */
+    public List<YangNode> getRootNodes() {
+        return rootNodes;
+    }
+
+    /**
+     * Returns the module or sub-module with the given name.
+     *
+     * @param name name of module or sub-module
+     * @return root node, null if not present
+     */
+    public YangNode getNode(String name) {
+        return registry.getNode(name);
+    }
+
+    /**
+     * Returns the module or sub-module with the given name and revision.
+     *
+     * @param name     name of module or sub-module
+     * @param revision revision date
+     * @return root node, null if not present
+     */
+    public YangNode getNode(String name, Date revision) {
+        return registry.getNode(name, revision);
+    }
+}
@@ -216,9 +216,6 @@ public class YangStringRestriction extends DefaultLocationInfo
         boolean isMatched = false;
         while (rangeListIterator.hasNext()) {
             YangRangeInterval rangeInterval = rangeListIterator.next();
-            rangeInterval.setCharPosition(getCharPosition());
-            rangeInterval.setLineNumber(getLineNumber());
-            rangeInterval.setFileName(getFileName());
             BigInteger startValue = ((YangUint64) rangeInterval.getStartValue()).getValue();
             BigInteger endValue = ((YangUint64) rangeInterval.getEndValue()).getValue();
             if (valueInString.length() >= startValue.intValue() &&
@@ -244,16 +241,7 @@ public class YangStringRestriction extends DefaultLocationInfo
             return true;
         }
 
-        ListIterator<String> patternListIterator =
-                patternRestriction.getPatternList().listIterator();
-        boolean isMatched = false;
-        while (patternListIterator.hasNext()) {
-            if (valueInString.matches(patternListIterator.next())) {
-                isMatched = true;
-                break;
-            }
-        }
-        return isMatched;
+        return patternRestriction.isMatching(valueInString);
     }
 
     @Override
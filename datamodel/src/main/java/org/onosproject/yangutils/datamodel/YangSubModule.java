@@ -40,6 +40,7 @@ import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.detectCol
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.linkInterFileReferences;
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.resolveLinkingForResolutionList;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.SUB_MODULE_DATA;
+import static org.onosproject.yangutils.datamodel.utils.YangNamespaceIds.UNKNOWN_NAMESPACE_ID;
 
 /*
  *  Reference RFC 6020.
@@ -146,6 +147,11 @@ public abstract class YangSubModule
      */
     private List<YangFeature> listOfFeature;
 
+    /**
+     * Index of features by name, built when first needed.
+     */
+    private transient volatile Map<String, YangFeature> featureIndex;
+
     /**
      * Organization owner of the sub-module.
      */
@@ -267,6 +273,11 @@ public abstract class YangSubModule
      */
     private String namespace;
 
+    /**
+     * Canonical id of the namespace, assigned when the node is linked.
+     */
+    private int namespaceId = UNKNOWN_NAMESPACE_ID;
+
     /**
      * Creates a sub module node.
      */
@@ -294,7 +305,7 @@ public abstract class YangSubModule
     @Override
     public void addToChildSchemaMap(YangSchemaNodeIdentifier id,
                                     YangSchemaNodeContextInfo context) {
-        getYsnContextInfoMap().put(id, context);
+        addToYsnContextInfoMap(id, context);
     }
 
     @Override
@@ -689,7 +700,18 @@ public abstract class YangSubModule
      */
     public void linkWithModule(Set<YangNode> yangNodeSet)
             throws DataModelException {
-        belongsTo.linkWithModule(yangNodeSet);
+        linkWithModule(new YangModuleRegistry(yangNodeSet));
+    }
+
+    /**
+     * Links the sub-module with module.
+     *
+     * @param registry registry of modules
+     * @throws DataModelException a violation in data model rule
+     */
+    public void linkWithModule(YangModuleRegistry registry)
+            throws DataModelException {
+        belongsTo.linkWithModule(registry);
         namespace = ((YangNamespace) belongsTo.getModuleNode())
                 .getModuleNamespace();
     }
@@ -697,9 +719,15 @@ public abstract class YangSubModule
     @Override
     public void addReferencesToIncludeList(Set<YangNode> yangNodeSet)
             throws DataModelException {
+        addReferencesToIncludeList(new YangModuleRegistry(yangNodeSet));
+    }
+
+    @Override
+    public void addReferencesToIncludeList(YangModuleRegistry registry)
+            throws DataModelException {
         // Run through the included list to add references.
         for (YangInclude yangInclude : getIncludeList()) {
-            YangSubModule subModule = yangInclude.addReferenceToInclude(yangNodeSet);
+            YangSubModule subModule = yangInclude.addReferenceToInclude(registry);
             // Check if the referred sub-modules parent is self
             if (!Objects.equals(subModule.getBelongsTo().getModuleNode(), getBelongsTo()
                     .getModuleNode())) {
@@ -711,9 +739,15 @@ public abstract class YangSubModule
     @Override
     public void addReferencesToImportList(Set<YangNode> yangNodeSet)
             throws DataModelException {
+        addReferencesToImportList(new YangModuleRegistry(yangNodeSet));
+    }
+
+    @Override
+    public void addReferencesToImportList(YangModuleRegistry registry)
+            throws DataModelException {
         // Run through the imported list to add references.
         for (YangImport yangImport : getImportList()) {
-            yangImport.addReferenceToImport(yangNodeSet);
+            yangImport.addReferenceToImport(registry);
         }
     }
 
@@ -725,11 +759,28 @@ public abstract class YangSubModule
     @Override
     public void addFeatureList(YangFeature feature) {
         listOfFeature.add(feature);
+        featureIndex = null;
     }
 
     @Override
     public void setListOfFeature(List<YangFeature> listOfFeature) {
         this.listOfFeature = listOfFeature;
+        featureIndex = null;
+    }
+
+    @Override
+    public YangFeature getFeature(String name) {
+        Map<String, YangFeature> index = featureIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            if (listOfFeature != null) {
+                for (YangFeature feature : listOfFeature) {
+                    index.putIfAbsent(feature.getName(), feature);
+                }
+            }
+            featureIndex = index;
+        }
+        return index.get(name);
     }
 
     /**
@@ -824,4 +875,22 @@ public abstract class YangSubModule
     public void setModuleNamespace(String namespace) {
         this.namespace = namespace;
     }
+
+    /**
+     * Returns the canonical id of the namespace.
+     *
+     * @return namespace id, unknown if not assigned
+     */
+    public int getNamespaceId() {
+        return namespaceId;
+    }
+
+    /**
+     * Sets the canonical id of the namespace.
+     *
+     * @param namespaceId namespace id
+     */
+    public void setNamespaceId(int namespaceId) {
+        this.namespaceId = namespaceId;
+    }
 }
@@ -31,10 +31,15 @@ import java.util.Iterator;
 import java.util.ListIterator;
 
 import static org.onosproject.yangutils.datamodel.BuiltInTypeObjectFactory.getDataObjectFromString;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.IN_RANGE;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.NOT_PARSED;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.getDecimal64Checker;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.getTypeChecker;
 import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.UNRESOLVED;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.TYPE_DATA;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypeUtils.isOfRangeRestrictedType;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UNION;
 
 /*
  * Reference:RFC 6020.
@@ -106,6 +111,12 @@ public class YangType<T> extends DefaultLocationInfo
      */
     private boolean isTypeNotResolvedTillRootNode;
 
+    /**
+     * Compiled validator of values of the type, kept once the type is
+     * resolved.
+     */
+    private transient volatile YangTypeValidator validator;
+
     /**
      * Creates a YANG type object.
      */
@@ -167,6 +178,7 @@ public class YangType<T> extends DefaultLocationInfo
      */
     public void setDataType(YangDataTypes dataType) {
         this.dataType = dataType;
+        validator = null;
     }
 
     /**
@@ -185,6 +197,7 @@ public class YangType<T> extends DefaultLocationInfo
      */
     public void setDataTypeExtendedInfo(T dataTypeInfo) {
         this.dataTypeExtendedInfo = dataTypeInfo;
+        validator = null;
     }
 
     /**
@@ -299,6 +312,51 @@ public class YangType<T> extends DefaultLocationInfo
      */
     void isValidValue(String value)
             throws DataModelException {
+        if (!getValidator().isValid(value)) {
+            validateValue(value);
+        }
+    }
+
+    /**
+     * Returns the compiled validator of values of the type. The validator is
+     * compiled once the type is resolved, and for each use before that.
+     *
+     * @return validator of the type
+     */
+    YangTypeValidator getValidator() {
+        YangTypeValidator compiled = validator;
+        if (compiled == null) {
+            compiled = YangTypeValidator.compile(this);
+            if (YangTypeValidator.isReusable(this)) {
+                validator = compiled;
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles and keeps the validator of the type and of its union member
+     * types, whether or not the type is resolved.
+     */
+    void freeze() {
+        if (getDataType() == UNION && getDataTypeExtendedInfo() != null) {
+            for (YangType<?> memberType :
+                    ((YangUnion) getDataTypeExtendedInfo()).getTypeList()) {
+                memberType.freeze();
+            }
+        }
+        validator = YangTypeValidator.compile(this);
+    }
+
+    /**
+     * Validates the input data value against the permissible value for the
+     * type, without the compiled validator.
+     *
+     * @param value input data value
+     * @throws DataModelException a violation of data model rules
+     */
+    private void validateValue(String value)
+            throws DataModelException {
         switch (getDataType()) {
             case INT8:
             case INT16:
@@ -309,7 +367,7 @@ public class YangType<T> extends DefaultLocationInfo
             case UINT32:
             case UINT64: {
                 if (getDataTypeExtendedInfo() == null) {
-                    getDataObjectFromString(value, getDataType());
+                    validateInteger(value, getDataType());
                 } else {
                     if (!((YangRangeRestriction) getDataTypeExtendedInfo()).isValidValueString(value)) {
                         throw new DataTypeException("YANG file error : Input value \"" + value + "\" is not a valid " +
@@ -420,9 +478,7 @@ public class YangType<T> extends DefaultLocationInfo
                 YangDataTypes dataType = ((YangDerivedInfo) getDataTypeExtendedInfo()).getEffectiveBuiltInType();
                 if (isOfRangeRestrictedType(dataType)) {
                     if (((YangDerivedInfo) getDataTypeExtendedInfo()).getResolvedExtendedInfo() == null) {
-                        getDataObjectFromString(value,
-                                                ((YangDerivedInfo) getDataTypeExtendedInfo())
-                                                        .getEffectiveBuiltInType());
+                        validateInteger(value, dataType);
                     } else {
                         if (!((YangRangeRestriction) ((YangDerivedInfo) getDataTypeExtendedInfo())
                                 .getResolvedExtendedInfo()).isValidValueString(value)) {
@@ -486,12 +542,31 @@ public class YangType<T> extends DefaultLocationInfo
      */
     private void validateDecimal64(String value, int fractionDigit, YangRangeRestriction rangeRestriction)
             throws DataModelException {
+        YangRangeChecker checker = rangeRestriction == null ?
+                getDecimal64Checker(fractionDigit) :
+                rangeRestriction.getRangeChecker(fractionDigit);
+        if (checker != null && checker.check(value) == IN_RANGE) {
+            return;
+        }
         YangDecimal64<YangRangeRestriction> decimal64 = YangDecimal64.fromString(value);
         decimal64.setFractionDigit(fractionDigit);
         decimal64.setRangeRestrictedExtendedInfo(rangeRestriction);
         decimal64.validateDecimal64();
     }
 
+    /**
+     * Checks whether specific string is valid value of integer type.
+     *
+     * @param value    integer value
+     * @param dataType integer data type
+     */
+    private static void validateInteger(String value, YangDataTypes dataType) {
+        YangRangeChecker checker = getTypeChecker(dataType);
+        if (checker == null || checker.check(value) == NOT_PARSED) {
+            getDataObjectFromString(value, dataType);
+        }
+    }
+
     /**
      * Checks whether specific string is valid binary.
      *
@@ -517,9 +592,6 @@ public class YangType<T> extends DefaultLocationInfo
         boolean isMatched = false;
         while (rangeListIterator.hasNext()) {
             YangRangeInterval rangeInterval = rangeListIterator.next();
-            rangeInterval.setFileName(getFileName());
-            rangeInterval.setLineNumber(getLineNumber());
-            rangeInterval.setCharPosition(getCharPosition());
             BigInteger startValue = ((YangUint64) rangeInterval.getStartValue()).getValue();
             BigInteger endValue = ((YangUint64) rangeInterval.getEndValue()).getValue();
             // convert (encode) back and check length
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel;
+
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint64;
+
+import java.math.BigInteger;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.IN_RANGE;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.getDecimal64Checker;
+import static org.onosproject.yangutils.datamodel.YangRangeChecker.getTypeChecker;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.FALSE;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.TRUE;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypeUtils.isOfRangeRestrictedType;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.BINARY;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.BITS;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DECIMAL64;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.STRING;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UNION;
+
+/**
+ * Represents the validator of values of a YANG type, compiled from the type
+ * once and used for each value. The typedef chain of a derived type is
+ * followed at compile time, the names of enumeration and bits are kept in
+ * hash sets, and members of a union are checked without exceptions.
+ * <p>
+ * A validator returns true only for values which are valid for the type.
+ * Values for which it returns false are checked again by the type, which
+ * reports the error, or accepts the value in notations not known to the
+ * compiled form, such as the "min" and "max" keywords of integer types.
+ */
+abstract class YangTypeValidator {
+
+    /**
+     * Validator of types whose values are not checked.
+     */
+    private static final YangTypeValidator ANY_VALUE = new YangTypeValidator() {
+        @Override
+        boolean isValid(String value) {
+            return true;
+        }
+    };
+
+    /**
+     * Validator of types whose values are checked only by the type.
+     */
+    private static final YangTypeValidator NO_VALUE = new YangTypeValidator() {
+        @Override
+        boolean isValid(String value) {
+            return false;
+        }
+    };
+
+    /**
+     * Validator of boolean type.
+     */
+    private static final YangTypeValidator BOOLEAN_VALUE = new YangTypeValidator() {
+        @Override
+        boolean isValid(String value) {
+            return value.equals(TRUE) || value.equals(FALSE);
+        }
+    };
+
+    /**
+     * Validator of empty type.
+     */
+    private static final YangTypeValidator EMPTY_VALUE = new YangTypeValidator() {
+        @Override
+        boolean isValid(String value) {
+            return value.isEmpty();
+        }
+    };
+
+    /**
+     * Returns true if the value is valid for the type.
+     *
+     * @param value value in string
+     * @return true if the value is valid, false if it is to be checked by
+     * the type
+     */
+    abstract boolean isValid(String value);
+
+    /**
+     * Returns true if the compiled validator of the type does not change any
+     * more, that is the type and all its union member types are resolved.
+     *
+     * @param type YANG type
+     * @return true if the validator of the type can be reused
+     */
+    static boolean isReusable(YangType<?> type) {
+        if (type.getDataType() == DERIVED) {
+            return type.getResolvableStatus() == RESOLVED;
+        }
+        if (type.getDataType() == UNION && type.getDataTypeExtendedInfo() != null) {
+            for (YangType<?> memberType :
+                    ((YangUnion) type.getDataTypeExtendedInfo()).getTypeList()) {
+                if (!isReusable(memberType)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiles the validator of a type.
+     *
+     * @param type YANG type
+     * @return validator of the type
+     */
+    static YangTypeValidator compile(YangType<?> type) {
+        Object info = type.getDataTypeExtendedInfo();
+        switch (type.getDataType()) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case UINT64:
+                return getRangeValidator(info == null ?
+                        getTypeChecker(type.getDataType()) :
+                        ((YangRangeRestriction<?>) info).getRangeChecker(0));
+            case DECIMAL64:
+                return getDecimal64Validator((YangDecimal64<?>) info);
+            case STRING:
+                return info == null ? ANY_VALUE :
+                        new StringValidator((YangStringRestriction) info);
+            case BOOLEAN:
+                return BOOLEAN_VALUE;
+            case ENUMERATION:
+                return new EnumerationValidator((YangEnumeration) info);
+            case BITS:
+                return new BitsValidator((YangBits) info);
+            case BINARY:
+                return new BinaryValidator((YangRangeRestriction<?>) info);
+            case EMPTY:
+                return EMPTY_VALUE;
+            case UNION:
+                return new UnionValidator((YangUnion) info);
+            case LEAFREF:
+            case IDENTITYREF:
+            case INSTANCE_IDENTIFIER:
+                return ANY_VALUE;
+            case DERIVED:
+                return compileDerived((YangDerivedInfo<?>) info);
+            default:
+                return NO_VALUE;
+        }
+    }
+
+    /**
+     * Compiles the validator of a derived type from the effective built-in
+     * type and the restrictions resolved over the typedef chain.
+     *
+     * @param derivedInfo derived info of the type
+     * @return validator of the type
+     */
+    private static YangTypeValidator compileDerived(YangDerivedInfo<?> derivedInfo) {
+        YangDataTypes dataType = derivedInfo.getEffectiveBuiltInType();
+        Object info = derivedInfo.getResolvedExtendedInfo();
+        if (isOfRangeRestrictedType(dataType)) {
+            return getRangeValidator(info == null ? getTypeChecker(dataType) :
+                    ((YangRangeRestriction<?>) info).getRangeChecker(0));
+        }
+        if (dataType == STRING) {
+            return info instanceof YangStringRestriction ?
+                    new StringValidator((YangStringRestriction) info) : ANY_VALUE;
+        }
+        if (dataType == BITS) {
+            YangType<?> baseType = getBaseType(derivedInfo);
+            return baseType == null ? NO_VALUE :
+                    new BitsValidator((YangBits) baseType.getDataTypeExtendedInfo());
+        }
+        if (dataType == BINARY) {
+            return new BinaryValidator((YangRangeRestriction<?>) info);
+        }
+        if (dataType == DECIMAL64) {
+            YangType<?> baseType = getBaseType(derivedInfo);
+            return baseType == null ? NO_VALUE : getDecimal64Validator(
+                    (YangDecimal64<?>) baseType.getDataTypeExtendedInfo());
+        }
+        // Values of other derived types are not checked by the type.
+        return ANY_VALUE;
+    }
+
+    /**
+     * Returns the built-in type at the end of the typedef chain of a derived
+     * type.
+     *
+     * @param derivedInfo derived info of the type
+     * @return built-in type, or null if the typedef chain is not linked
+     */
+    private static YangType<?> getBaseType(YangDerivedInfo<?> derivedInfo) {
+        YangDerivedInfo<?> curInfo = derivedInfo;
+        while (curInfo.getReferredTypeDef() != null) {
+            YangType<?> type = curInfo.getReferredTypeDef().getTypeDefBaseType();
+            if (type == null) {
+                return null;
+            }
+            if (type.getDataType() != DERIVED) {
+                return type;
+            }
+            curInfo = (YangDerivedInfo<?>) type.getDataTypeExtendedInfo();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the validator of integer and decimal64 values with a range
+     * checker.
+     *
+     * @param checker range checker
+     * @return validator
+     */
+    private static YangTypeValidator getRangeValidator(YangRangeChecker checker) {
+        if (checker == null) {
+            return NO_VALUE;
+        }
+        return new YangTypeValidator() {
+            @Override
+            boolean isValid(String value) {
+                return checker.check(value) == IN_RANGE;
+            }
+        };
+    }
+
+    /**
+     * Returns the validator of decimal64 values.
+     *
+     * @param decimal64 decimal64 info of the type
+     * @return validator
+     */
+    private static YangTypeValidator getDecimal64Validator(YangDecimal64<?> decimal64) {
+        Object range = decimal64.getRangeRestrictedExtendedInfo();
+        int fractionDigits = decimal64.getFractionDigit();
+        return getRangeValidator(range == null ?
+                getDecimal64Checker(fractionDigits) :
+                ((YangRangeRestriction<?>) range).getRangeChecker(fractionDigits));
+    }
+
+    /**
+     * Returns the intervals of a length restriction, as start and end values
+     * alternately.
+     *
+     * @param restriction length restriction
+     * @return intervals, or null if there is no length restriction
+     */
+    private static long[] getLengthIntervals(YangRangeRestriction<?> restriction) {
+        if (restriction == null || restriction.getAscendingRangeIntervals() == null
+                || restriction.getAscendingRangeIntervals().isEmpty()) {
+            return null;
+        }
+        List<? extends YangRangeInterval<?>> intervals =
+                restriction.getAscendingRangeIntervals();
+        long[] lengths = new long[intervals.size() * 2];
+        int index = 0;
+        for (YangRangeInterval<?> interval : intervals) {
+            lengths[index++] = getLength(interval.getStartValue());
+            lengths[index++] = getLength(interval.getEndValue());
+        }
+        return lengths;
+    }
+
+    /**
+     * Returns the length given by a boundary of a length restriction.
+     *
+     * @param value boundary of length restriction
+     * @return length
+     */
+    private static long getLength(Object value) {
+        BigInteger length = ((YangUint64) value).getValue();
+        return length.bitLength() < Long.SIZE ? length.longValue() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if the length is in one of the intervals.
+     *
+     * @param lengths intervals, or null if there is no length restriction
+     * @param length  length
+     * @return true if the length is valid
+     */
+    private static boolean isValidLength(long[] lengths, int length) {
+        if (lengths == null) {
+            return true;
+        }
+        for (int i = 0; i < lengths.length; i += 2) {
+            if (length >= lengths[i] && length <= lengths[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Represents the validator of string values.
+     */
+    private static final class StringValidator extends YangTypeValidator {
+
+        private final long[] lengths;
+        private final YangPatternRestriction patternRestriction;
+
+        /**
+         * Creates a validator of the string restriction.
+         *
+         * @param restriction string restriction
+         */
+        private StringValidator(YangStringRestriction restriction) {
+            lengths = getLengthIntervals(restriction.getLengthRestriction());
+            YangPatternRestriction patterns = restriction.getPatternRestriction();
+            patternRestriction = patterns == null ||
+                    patterns.getPatternList().isEmpty() ? null : patterns;
+        }
+
+        @Override
+        boolean isValid(String value) {
+            return isValidLength(lengths, value.length()) &&
+                    (patternRestriction == null ||
+                            patternRestriction.isMatching(value));
+        }
+    }
+
+    /**
+     * Represents the validator of enumeration values.
+     */
+    private static final class EnumerationValidator extends YangTypeValidator {
+
+        private final Set<String> names = new HashSet<>();
+
+        /**
+         * Creates a validator of the enumeration.
+         *
+         * @param enumeration enumeration
+         */
+        private EnumerationValidator(YangEnumeration enumeration) {
+            for (YangEnum yangEnum : enumeration.getEnumSet()) {
+                names.add(yangEnum.getNamedValue());
+            }
+        }
+
+        @Override
+        boolean isValid(String value) {
+            return names.contains(value);
+        }
+    }
+
+    /**
+     * Represents the validator of bits values, the names of set bits
+     * separated by a space.
+     */
+    private static final class BitsValidator extends YangTypeValidator {
+
+        private final Set<String> names;
+
+        /**
+         * Creates a validator of the bits.
+         *
+         * @param bits bits
+         */
+        private BitsValidator(YangBits bits) {
+            names = new HashSet<>(bits.getBitNameMap().keySet());
+        }
+
+        @Override
+        boolean isValid(String value) {
+            String bits = value.trim();
+            int start = 0;
+            while (true) {
+                int end = bits.indexOf(' ', start);
+                if (!names.contains(bits.substring(
+                        start, end < 0 ? bits.length() : end))) {
+                    return false;
+                }
+                if (end < 0) {
+                    return true;
+                }
+                start = end + 1;
+            }
+        }
+    }
+
+    /**
+     * Represents the validator of base64 encoded binary values.
+     */
+    private static final class BinaryValidator extends YangTypeValidator {
+
+        private final long[] lengths;
+
+        /**
+         * Creates a validator of binary with the length restriction.
+         *
+         * @param restriction length restriction, or null
+         */
+        private BinaryValidator(YangRangeRestriction<?> restriction) {
+            lengths = getLengthIntervals(restriction);
+        }
+
+        @Override
+        boolean isValid(String value) {
+            byte[] data;
+            try {
+                data = Base64.getDecoder().decode(value);
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+            // Length restriction applies to the encoded length.
+            return data.length > 0 &&
+                    isValidLength(lengths, (data.length + 2) / 3 * 4);
+        }
+    }
+
+    /**
+     * Represents the validator of union values.
+     */
+    private static final class UnionValidator extends YangTypeValidator {
+
+        private final YangTypeValidator[] memberValidators;
+
+        /**
+         * Creates a validator of the union.
+         *
+         * @param union union
+         */
+        private UnionValidator(YangUnion union) {
+            List<YangType<?>> types = union.getTypeList();
+            memberValidators = new YangTypeValidator[types.size()];
+            for (int i = 0; i < memberValidators.length; i++) {
+                memberValidators[i] = types.get(i).getValidator();
+            }
+        }
+
+        @Override
+        boolean isValid(String value) {
+            for (YangTypeValidator validator : memberValidators) {
+                if (validator.isValid(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -40,24 +40,24 @@ import org.onosproject.yangutils.datamodel.YangType;
 import org.onosproject.yangutils.datamodel.YangUnion;
 import org.onosproject.yangutils.datamodel.YangUses;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.YangJarSchemaCache.SchemaEntry;
 import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Enumeration;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+
+import static org.onosproject.yangutils.datamodel.utils.YangJarSchemaCache.getSchemaEntries;
 
 /**
  * Represents utilities for data model tree.
@@ -325,19 +325,64 @@ public final class DataModelUtils {
     public static Set<YangNode> deSerializeDataModel(String serializedFileInfo)
             throws IOException {
 
+        FileInputStream fileInputStream;
+        try {
+            fileInputStream = new FileInputStream(serializedFileInfo);
+        } catch (IOException e) {
+            throw new IOException(serializedFileInfo + " not found.");
+        }
+        return deSerializeDataModel(new BufferedInputStream(fileInputStream),
+                                    serializedFileInfo);
+    }
+
+    /**
+     * Returns de-serializes YANG data-model nodes from an input stream. The
+     * stream is closed after reading.
+     *
+     * @param inputStream        input stream of serialized data-model
+     * @param serializedFileInfo serialized file name
+     * @return de-serializes YANG data-model nodes
+     * @throws IOException when fails do IO operations
+     */
+    private static Set<YangNode> deSerializeDataModel(InputStream inputStream,
+                                                      String serializedFileInfo)
+            throws IOException {
+
         Set<YangNode> nodes;
         try {
-            FileInputStream fileInputStream = new FileInputStream(serializedFileInfo);
-            ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
+            ObjectInputStream objectInputStream = new ObjectInputStream(inputStream);
             nodes = (Set<YangNode>) objectInputStream.readObject();
             objectInputStream.close();
-            fileInputStream.close();
         } catch (IOException | ClassNotFoundException e) {
             throw new IOException(serializedFileInfo + " not found.");
+        } finally {
+            inputStream.close();
         }
         return nodes;
     }
 
+    /**
+     * Returns YANG data-model nodes read from a schema file. When module
+     * names are given, only these modules and the modules they refer to are
+     * read.
+     *
+     * @param schemaFile  schema file
+     * @param moduleNames names of modules to be read, null to read all
+     * @return YANG data-model nodes
+     * @throws IOException when fails do IO operations
+     */
+    public static Set<YangNode> readSchemaFile(String schemaFile,
+                                               Set<String> moduleNames)
+            throws IOException {
+        InputStream inputStream = new BufferedInputStream(
+                new FileInputStream(schemaFile));
+        try {
+            return YangSchemaFile.read(inputStream, moduleNames);
+        } finally {
+            inputStream.close();
+        }
+    }
+
     /**
      * Adds the list of leaf present under a node to resolution list, after
      * cloning. Under the cloned node, with cloned leaf, attributes are set
@@ -354,7 +399,7 @@ public final class DataModelUtils {
 
         List<YangLeaf> leaves = clonedNode.getListOfLeaf();
         if (nonEmpty(leaves)) {
-            List<YangLeaf> clonedLeaves = new LinkedList<>();
+            List<YangLeaf> clonedLeaves = new ArrayList<>(leaves.size());
             for (YangLeaf leaf : leaves) {
                 YangLeaf clonedLeaf = leaf.clone();
                 clonedLeaf.setReferredLeaf(leaf);
@@ -417,7 +462,8 @@ public final class DataModelUtils {
 
         List<YangLeafList> listOfLeafList = clonedNode.getListOfLeafList();
         if (nonEmpty(listOfLeafList)) {
-            List<YangLeafList> clonedList = new LinkedList<>();
+            List<YangLeafList> clonedList =
+                    new ArrayList<>(listOfLeafList.size());
             for (YangLeafList leafList : listOfLeafList) {
                 YangLeafList clonedLeafList = leafList.clone();
                 clonedLeafList.setReferredSchemaLeafList(leafList);
@@ -765,47 +811,42 @@ public final class DataModelUtils {
      * Parses jar file and returns list of serialized file names.
      *
      * @param jarFile   jar file to be parsed
-     * @param directory directory where to search
+     * @param directory directory where to search, not used since the data
+     *                  model is read directly from the jar
      * @return list of serialized files
      * @throws IOException when fails to do IO operations
      */
     public static List<YangNode> parseJarFile(String jarFile, String directory)
             throws IOException {
+        return parseJarFile(jarFile, (Set<String>) null);
+    }
 
-        List<YangNode> nodes = new ArrayList<>();
-        JarFile jar = new JarFile(jarFile);
-        Enumeration<?> enumEntries = jar.entries();
-
-        while (enumEntries.hasMoreElements()) {
-            JarEntry file = (JarEntry) enumEntries.nextElement();
-            if (file.getName().endsWith(".ser")) {
-
-                if (file.getName().contains(SLASH)) {
-                    String[] strArray = file.getName().split(SLASH);
-                    String tempPath = "";
-                    for (int i = 0; i < strArray.length - 1; i++) {
-                        tempPath = SLASH + tempPath + SLASH + strArray[i];
-                    }
-                    File dir = new File(directory + tempPath);
-                    dir.mkdirs();
-                }
-                File serializedFile = new File(directory + SLASH + file.getName());
-                if (file.isDirectory()) {
-                    serializedFile.mkdirs();
-                    continue;
-                }
-                InputStream inputStream = jar.getInputStream(file);
+    /**
+     * Parses jar file and returns list of data model nodes of the given
+     * modules. The data model entries are read directly from the jar, or
+     * from the jar schema cache when the jar is not changed. Serialized
+     * files of the earlier format are read completely.
+     *
+     * @param jarFile     jar file to be parsed
+     * @param moduleNames names of modules to be read, null to read all
+     * @return list of data model nodes
+     * @throws IOException when fails to do IO operations
+     */
+    public static List<YangNode> parseJarFile(String jarFile,
+                                              Set<String> moduleNames)
+            throws IOException {
 
-                FileOutputStream fileOutputStream = new FileOutputStream(serializedFile);
-                while (inputStream.available() > 0) {
-                    fileOutputStream.write(inputStream.read());
-                }
-                fileOutputStream.close();
-                inputStream.close();
-                nodes.addAll(deSerializeDataModel(serializedFile.toString()));
+        List<YangNode> nodes = new ArrayList<>();
+        for (SchemaEntry entry : getSchemaEntries(jarFile)) {
+            InputStream inputStream =
+                    new ByteArrayInputStream(entry.getContent());
+            if (entry.isSchemaFile()) {
+                nodes.addAll(YangSchemaFile.read(inputStream, moduleNames));
+            } else {
+                nodes.addAll(deSerializeDataModel(inputStream,
+                                                  entry.getName()));
             }
         }
-        jar.close();
         return nodes;
     }
 }
@@ -18,6 +18,8 @@ package org.onosproject.yangutils.datamodel.utils;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.onosproject.yangutils.datamodel.DefaultLocationInfo;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
@@ -93,7 +95,32 @@ public final class FractionDigits extends DefaultLocationInfo {
         }
     }
 
-    private static ArrayList<Range> decimal64ValueRange = null;
+    // Decimal64 value range by fraction-digits as index, which is shared by
+    // the parser threads and so is not modifiable.
+    private static final List<Range> DECIMAL64_VALUE_RANGE;
+
+    static {
+        List<Range> ranges = new ArrayList<>();
+        ranges.add(new Range(-922337203685477580.8, 922337203685477580.7)); // fraction-digit: 1
+        ranges.add(new Range(-92233720368547758.08, 92233720368547758.07)); // fraction-digit: 2
+        ranges.add(new Range(-9223372036854775.808, 9223372036854775.807)); // fraction-digit: 3
+        ranges.add(new Range(-922337203685477.5808, 922337203685477.5807)); // fraction-digit: 4
+        ranges.add(new Range(-92233720368547.75808, 92233720368547.75807)); // fraction-digit: 5
+        ranges.add(new Range(-9223372036854.775808, 9223372036854.775807)); // fraction-digit: 6
+        ranges.add(new Range(-922337203685.4775808, 922337203685.4775807)); // fraction-digit: 7
+        ranges.add(new Range(-92233720368.54775808, 92233720368.54775807)); // fraction-digit: 8
+        ranges.add(new Range(-9223372036.854775808, 9223372036.854775807)); // fraction-digit: 9
+        ranges.add(new Range(-922337203.6854775808, 922337203.6854775807)); // fraction-digit: 10
+        ranges.add(new Range(-92233720.36854775808, 92233720.36854775807)); // fraction-digit: 11
+        ranges.add(new Range(-9223372.036854775808, 9223372.036854775807)); // fraction-digit: 12
+        ranges.add(new Range(-922337.2036854775808, 922337.2036854775807)); // fraction-digit: 13
+        ranges.add(new Range(-92233.72036854775808, 92233.72036854775807)); // fraction-digit: 14
+        ranges.add(new Range(-9223.372036854775808, 9223.372036854775807)); // fraction-digit: 15
+        ranges.add(new Range(-922.3372036854775808, 922.3372036854775807)); // fraction-digit: 16
+        ranges.add(new Range(-92.23372036854775808, 92.23372036854775807)); // fraction-digit: 17
+        ranges.add(new Range(-9.223372036854775808, 9.223372036854775807)); // fraction-digit: 18
+        DECIMAL64_VALUE_RANGE = Collections.unmodifiableList(ranges);
+    }
 
     /**
      * Creates a fraction-digits instance.
@@ -102,33 +129,12 @@ public final class FractionDigits extends DefaultLocationInfo {
     }
 
     /**
-     * Generates decimal64 value range based on fraction-digits.
+     * Returns decimal64 value range based on fraction-digits.
      *
      * @return decimal64 value range by fraction-digits as index
      */
-    public static ArrayList<Range> getDecimal64ValueRange() {
-        if (decimal64ValueRange == null) {
-            decimal64ValueRange = new ArrayList<>();
-            decimal64ValueRange.add(new Range(-922337203685477580.8, 922337203685477580.7)); // fraction-digit: 1
-            decimal64ValueRange.add(new Range(-92233720368547758.08, 92233720368547758.07)); // fraction-digit: 2
-            decimal64ValueRange.add(new Range(-9223372036854775.808, 9223372036854775.807)); // fraction-digit: 3
-            decimal64ValueRange.add(new Range(-922337203685477.5808, 922337203685477.5807)); // fraction-digit: 4
-            decimal64ValueRange.add(new Range(-92233720368547.75808, 92233720368547.75807)); // fraction-digit: 5
-            decimal64ValueRange.add(new Range(-9223372036854.775808, 9223372036854.775807)); // fraction-digit: 6
-            decimal64ValueRange.add(new Range(-922337203685.4775808, 922337203685.4775807)); // fraction-digit: 7
-            decimal64ValueRange.add(new Range(-92233720368.54775808, 92233720368.54775807)); // fraction-digit: 8
-            decimal64ValueRange.add(new Range(-9223372036.854775808, 9223372036.854775807)); // fraction-digit: 9
-            decimal64ValueRange.add(new Range(-922337203.6854775808, 922337203.6854775807)); // fraction-digit: 10
-            decimal64ValueRange.add(new Range(-92233720.36854775808, 92233720.36854775807)); // fraction-digit: 11
-            decimal64ValueRange.add(new Range(-9223372.036854775808, 9223372.036854775807)); // fraction-digit: 12
-            decimal64ValueRange.add(new Range(-922337.2036854775808, 922337.2036854775807)); // fraction-digit: 13
-            decimal64ValueRange.add(new Range(-92233.72036854775808, 92233.72036854775807)); // fraction-digit: 14
-            decimal64ValueRange.add(new Range(-9223.372036854775808, 9223.372036854775807)); // fraction-digit: 15
-            decimal64ValueRange.add(new Range(-922.3372036854775808, 922.3372036854775807)); // fraction-digit: 16
-            decimal64ValueRange.add(new Range(-92.23372036854775808, 92.23372036854775807)); // fraction-digit: 17
-            decimal64ValueRange.add(new Range(-9.223372036854775808, 9.223372036854775807)); // fraction-digit: 18
-        }
-        return decimal64ValueRange;
+    public static List<Range> getDecimal64ValueRange() {
+        return DECIMAL64_VALUE_RANGE;
     }
 
     /**
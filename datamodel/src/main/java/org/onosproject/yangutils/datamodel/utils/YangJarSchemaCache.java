@@ -0,0 +1,336 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaFile.SCHEMA_FILE_EXTENSION;
+
+/**
+ * Represents the in-memory cache of the data model entries of dependency
+ * jars, which saves reading a jar again for each build of a process that
+ * runs several builds, such as a multi-module Maven build. The entries of a
+ * jar are kept against the jar path. They are read again only when the size
+ * or modification time of the jar changes and the checksum of an entry
+ * differs from the cached one.
+ * <p>
+ * The entries are cached, and not the data model nodes, since the nodes of
+ * a dependency jar are updated by the linker of each build which uses them.
+ * The cache is not persisted, since the jars in the local repository are
+ * already the persisted form of the entries.
+ * <p>
+ * The total size of cached entries is bounded by the cache limit. When it
+ * is exceeded, the least recently used jars are removed from the cache, and
+ * the entries of a jar bigger than the limit are not cached.
+ */
+public final class YangJarSchemaCache {
+
+    /**
+     * File extension of serialized data model files of earlier format.
+     */
+    public static final String SERIALIZED_FILE_EXTENSION = ".ser";
+
+    /**
+     * Default limit of the total size of cached entries, in bytes.
+     */
+    public static final long DEFAULT_CACHE_LIMIT = 64L * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Data model entries of each jar, keyed by its canonical path, in the
+    // order of use. Guarded by the lock of the map.
+    private static final Map<String, JarSchema> JAR_SCHEMAS =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    // Total size of cached entries and its limit, guarded by JAR_SCHEMAS.
+    private static long cachedSize;
+    private static long cacheLimit = DEFAULT_CACHE_LIMIT;
+
+    /**
+     * Creates an instance of jar schema cache.
+     */
+    private YangJarSchemaCache() {
+    }
+
+    /**
+     * Returns the data model entries of a jar.
+     *
+     * @param jarFile jar file path
+     * @return data model entries of the jar
+     * @throws IOException when fails to read the jar
+     */
+    public static List<SchemaEntry> getSchemaEntries(String jarFile)
+            throws IOException {
+        File file = new File(jarFile);
+        String key = file.getCanonicalPath();
+        long length = file.length();
+        long lastModified = file.lastModified();
+
+        JarSchema cached;
+        synchronized (JAR_SCHEMAS) {
+            cached = JAR_SCHEMAS.get(key);
+        }
+        if (cached != null && cached.length == length &&
+                cached.lastModified == lastModified) {
+            return cached.entries;
+        }
+
+        List<SchemaEntry> entries;
+        JarFile jar = new JarFile(file);
+        try {
+            List<JarEntry> jarEntries = getJarEntries(jar);
+            if (cached != null && isSameContent(cached.entries, jarEntries)) {
+                entries = cached.entries;
+            } else {
+                entries = new ArrayList<>();
+                for (JarEntry jarEntry : jarEntries) {
+                    entries.add(new SchemaEntry(
+                            jarEntry.getName(), jarEntry.getCrc(),
+                            readEntry(jar, jarEntry)));
+                }
+                entries = Collections.unmodifiableList(entries);
+            }
+        } finally {
+            jar.close();
+        }
+        put(key, new JarSchema(length, lastModified, entries));
+        return entries;
+    }
+
+    /**
+     * Sets the limit of the total size of cached entries, and removes the
+     * least recently used jars from the cache until it is not exceeded.
+     *
+     * @param limit limit in bytes
+     */
+    public static void setCacheLimit(long limit) {
+        synchronized (JAR_SCHEMAS) {
+            cacheLimit = limit;
+            evict();
+        }
+    }
+
+    /**
+     * Removes all the jars from the cache.
+     */
+    public static void clear() {
+        synchronized (JAR_SCHEMAS) {
+            JAR_SCHEMAS.clear();
+            cachedSize = 0;
+        }
+    }
+
+    /**
+     * Caches the entries of a jar, unless they are bigger than the cache
+     * limit, and removes the least recently used jars when the limit is
+     * exceeded.
+     *
+     * @param key       canonical path of jar
+     * @param jarSchema entries of jar
+     */
+    private static void put(String key, JarSchema jarSchema) {
+        synchronized (JAR_SCHEMAS) {
+            JarSchema old = JAR_SCHEMAS.remove(key);
+            if (old != null) {
+                cachedSize -= old.size;
+            }
+            if (jarSchema.size > cacheLimit) {
+                return;
+            }
+            JAR_SCHEMAS.put(key, jarSchema);
+            cachedSize += jarSchema.size;
+            evict();
+        }
+    }
+
+    /**
+     * Removes the least recently used jars from the cache until the cache
+     * limit is not exceeded. The caller holds the lock of the cache.
+     */
+    private static void evict() {
+        Iterator<JarSchema> it = JAR_SCHEMAS.values().iterator();
+        while (cachedSize > cacheLimit && it.hasNext()) {
+            cachedSize -= it.next().size;
+            it.remove();
+        }
+    }
+
+    /**
+     * Returns the data model entries of a jar, in the order of the jar.
+     *
+     * @param jar jar file
+     * @return data model entries
+     */
+    private static List<JarEntry> getJarEntries(JarFile jar) {
+        List<JarEntry> jarEntries = new ArrayList<>();
+        Enumeration<JarEntry> enumEntries = jar.entries();
+        while (enumEntries.hasMoreElements()) {
+            JarEntry jarEntry = enumEntries.nextElement();
+            String name = jarEntry.getName();
+            if (!jarEntry.isDirectory() &&
+                    (name.endsWith(SCHEMA_FILE_EXTENSION) ||
+                            name.endsWith(SERIALIZED_FILE_EXTENSION))) {
+                jarEntries.add(jarEntry);
+            }
+        }
+        return jarEntries;
+    }
+
+    /**
+     * Returns true if the cached entries have the same names and checksums
+     * as the entries of the jar.
+     *
+     * @param entries    cached entries
+     * @param jarEntries entries of the jar
+     * @return true if content is same
+     */
+    private static boolean isSameContent(List<SchemaEntry> entries,
+                                         List<JarEntry> jarEntries) {
+        if (entries.size() != jarEntries.size()) {
+            return false;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            SchemaEntry entry = entries.get(i);
+            JarEntry jarEntry = jarEntries.get(i);
+            if (jarEntry.getCrc() == -1 ||
+                    !entry.name.equals(jarEntry.getName()) ||
+                    entry.crc != jarEntry.getCrc()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the content of a jar entry.
+     *
+     * @param jar      jar file
+     * @param jarEntry jar entry
+     * @return content of the entry
+     * @throws IOException when fails to read the entry
+     */
+    private static byte[] readEntry(JarFile jar, JarEntry jarEntry)
+            throws IOException {
+        long size = jarEntry.getSize();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                size > 0 && size < Integer.MAX_VALUE ? (int) size : BUFFER_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        InputStream in = jar.getInputStream(jarEntry);
+        try {
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+        } finally {
+            in.close();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Represents a data model entry of a jar.
+     */
+    public static final class SchemaEntry {
+
+        private final String name;
+        private final long crc;
+        private final byte[] content;
+
+        /**
+         * Creates a data model entry.
+         *
+         * @param name    entry name
+         * @param crc     checksum of entry content
+         * @param content entry content
+         */
+        private SchemaEntry(String name, long crc, byte[] content) {
+            this.name = name;
+            this.crc = crc;
+            this.content = content;
+        }
+
+        /**
+         * Returns the entry name.
+         *
+         * @return entry name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns true if the entry is in schema file format.
+         *
+         * @return true if entry is a schema file
+         */
+        public boolean isSchemaFile() {
+            return name.endsWith(SCHEMA_FILE_EXTENSION);
+        }
+
+        /**
+         * Returns the entry content. The content is shared by the users of
+         * the cache and must not be modified.
+         *
+         * @return entry content
+         */
+        public byte[] getContent() {
+            return content;
+        }
+    }
+
+    /**
+     * Represents the cached data model entries of a jar.
+     */
+    private static final class JarSchema {
+
+        private final long length;
+        private final long lastModified;
+        private final List<SchemaEntry> entries;
+        private final long size;
+
+        /**
+         * Creates the cached data model entries of a jar.
+         *
+         * @param length       jar size
+         * @param lastModified jar modification time
+         * @param entries      data model entries
+         */
+        private JarSchema(long length, long lastModified,
+                          List<SchemaEntry> entries) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.entries = entries;
+            long contentSize = 0;
+            for (SchemaEntry entry : entries) {
+                contentSize += entry.content.length;
+            }
+            size = contentSize;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNamespace;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the canonical integer ids of the YANG namespaces of a set of
+ * linked modules. The ids are assigned when the modules are linked, and
+ * each module and sub-module keeps the id of its namespace, so the lookups
+ * of child schema nodes compare ids without building schema node
+ * identifiers and without updating shared state.
+ * <p>
+ * A namespace is identified by its URI, so a sub-module has the id of the
+ * module it belongs to. The module name identifies a namespace only when
+ * it has no URI. Ids of different sets of modules are not comparable.
+ */
+public final class YangNamespaceIds {
+
+    /**
+     * Id returned for a namespace which is not known.
+     */
+    public static final int UNKNOWN_NAMESPACE_ID = -1;
+
+    // Ids keyed by the namespace URI and by the module name.
+    private final Map<String, Integer> uriIds = new HashMap<>();
+    private final Map<String, Integer> moduleIds = new HashMap<>();
+
+    // Id to be assigned to the next new namespace.
+    private int nextId;
+
+    /**
+     * Creates an empty set of namespace ids.
+     */
+    public YangNamespaceIds() {
+    }
+
+    /**
+     * Assigns the ids of the namespaces of the given modules and
+     * sub-modules. The sub-modules are linked with their modules already.
+     *
+     * @param yangNodes root nodes of modules and sub-modules
+     */
+    public void addNamespaces(Collection<YangNode> yangNodes) {
+        for (YangNode yangNode : yangNodes) {
+            if (yangNode instanceof YangNamespace) {
+                addNamespace((YangNamespace) yangNode);
+            }
+        }
+    }
+
+    /**
+     * Assigns the id of a namespace, which is the id already assigned to
+     * its URI, or a new one. When the namespace is a module or sub-module,
+     * the id is set in it.
+     *
+     * @param namespace YANG namespace
+     * @return namespace id, unknown if namespace has neither URI nor module
+     * name
+     */
+    public int addNamespace(YangNamespace namespace) {
+        String uri = namespace.getModuleNamespace();
+        String moduleName = namespace.getModuleName();
+        Map<String, Integer> ids = uri != null ? uriIds : moduleIds;
+        String key = uri != null ? uri : moduleName;
+        if (key == null) {
+            return UNKNOWN_NAMESPACE_ID;
+        }
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = nextId++;
+            ids.put(key, id);
+        }
+        if (moduleName != null) {
+            moduleIds.putIfAbsent(moduleName, id);
+        }
+        if (namespace instanceof YangModule) {
+            ((YangModule) namespace).setNamespaceId(id);
+        } else if (namespace instanceof YangSubModule) {
+            ((YangSubModule) namespace).setNamespaceId(id);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the namespace with the given URI or module name.
+     *
+     * @param uriOrModuleName namespace URI or module name
+     * @return namespace id, unknown if namespace is not known
+     */
+    public int getNamespaceId(String uriOrModuleName) {
+        Integer id = uriIds.get(uriOrModuleName);
+        if (id == null) {
+            id = moduleIds.get(uriOrModuleName);
+        }
+        return id == null ? UNKNOWN_NAMESPACE_ID : id;
+    }
+
+    /**
+     * Returns the id assigned to a namespace when it was linked.
+     *
+     * @param namespace YANG namespace
+     * @return namespace id, unknown if namespace is not a linked module or
+     * sub-module
+     */
+    public static int getNamespaceId(YangNamespace namespace) {
+        if (namespace instanceof YangModule) {
+            return ((YangModule) namespace).getNamespaceId();
+        } else if (namespace instanceof YangSubModule) {
+            return ((YangSubModule) namespace).getNamespaceId();
+        }
+        return UNKNOWN_NAMESPACE_ID;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/*-
+ * Reference RFC 6020.
+ *
+ * The regular expression of the "pattern" statement follows the XML
+ * Schema regular expression syntax (XSD-TYPES). It differs from the
+ * Java syntax in a few places:
+ *
+ *  o an expression always matches the whole value, "^" and "$" are
+ *    normal characters;
+ *  o "\i" and "\c" match the initial and other characters of XML names,
+ *    "\I" and "\C" their complements;
+ *  o "\p{IsBlock}" matches the characters of a Unicode block;
+ *  o "\d" matches any Unicode decimal digit and "\s" only space, tab,
+ *    line feed and carriage return;
+ *  o "[base-[sub]]" matches the characters of base which are not in sub,
+ *    and "&" is a normal character in a character class.
+ */
+
+/**
+ * Represents utilities for the regular expressions of YANG pattern
+ * restrictions. The expressions are translated to Java syntax and compiled
+ * once per process.
+ */
+public final class YangRegexUtils {
+
+    private static final char ESCAPE = '\\';
+    private static final char CLASS_START = '[';
+    private static final char CLASS_END = ']';
+    private static final char NEGATION = '^';
+    private static final char END_ANCHOR = '$';
+    private static final char SUBTRACTION = '-';
+    private static final char INTERSECTION = '&';
+    private static final String BLOCK_PREFIX = "{Is";
+    private static final String JAVA_BLOCK_PREFIX = "{In";
+
+    // Characters matched by XML name start character and name character.
+    private static final String NAME_START_CHARS = ":A-Z_a-z" +
+            "\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D" +
+            "\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF" +
+            "\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD";
+    private static final String NAME_CHARS = NAME_START_CHARS +
+            "\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040";
+    private static final String SPACE_CHARS = " \\t\\n\\r";
+    private static final String DIGIT = "\\p{Nd}";
+    private static final String NON_DIGIT = "\\P{Nd}";
+
+    // Compiled patterns, keyed by the YANG regular expression.
+    private static final Map<String, Pattern> PATTERNS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance of YANG regular expression utilities.
+     */
+    private YangRegexUtils() {
+    }
+
+    /**
+     * Returns the compiled pattern of a YANG regular expression. An
+     * expression is compiled once and shared by all pattern restrictions
+     * using it.
+     *
+     * @param yangRegex YANG regular expression
+     * @return compiled pattern
+     * @throws PatternSyntaxException when the expression is not valid
+     */
+    public static Pattern getPattern(String yangRegex) {
+        Pattern pattern = PATTERNS.get(yangRegex);
+        if (pattern == null) {
+            pattern = Pattern.compile(toJavaRegex(yangRegex));
+            Pattern cached = PATTERNS.putIfAbsent(yangRegex, pattern);
+            if (cached != null) {
+                pattern = cached;
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Translates a YANG regular expression to Java regular expression
+     * syntax. The returned expression is meant to be used with whole value
+     * matching.
+     *
+     * @param yangRegex YANG regular expression
+     * @return Java regular expression
+     */
+    public static String toJavaRegex(String yangRegex) {
+        StringBuilder javaRegex = new StringBuilder(yangRegex.length() + 16);
+        int classDepth = 0;
+        boolean classStart = false;
+        int length = yangRegex.length();
+        int index = 0;
+
+        while (index < length) {
+            char ch = yangRegex.charAt(index);
+            boolean inClass = classDepth > 0;
+            boolean newClass = false;
+
+            if (ch == ESCAPE && index + 1 < length) {
+                index = appendEscape(yangRegex, index + 1, inClass,
+                                     javaRegex);
+            } else if (ch == CLASS_START && !inClass) {
+                javaRegex.append(ch);
+                classDepth++;
+                newClass = true;
+                index++;
+            } else if (ch == CLASS_START) {
+                javaRegex.append(ESCAPE).append(ch);
+                index++;
+            } else if (ch == CLASS_END && inClass) {
+                javaRegex.append(ch);
+                classDepth--;
+                index++;
+            } else if (ch == SUBTRACTION && inClass && index + 1 < length &&
+                    yangRegex.charAt(index + 1) == CLASS_START) {
+                // Subtraction of a negated class is intersection with it.
+                index += 2;
+                javaRegex.append("&&[");
+                if (index < length && yangRegex.charAt(index) == NEGATION) {
+                    index++;
+                } else {
+                    javaRegex.append(NEGATION);
+                }
+                classDepth++;
+            } else if (ch == NEGATION && !(inClass && classStart)) {
+                javaRegex.append(ESCAPE).append(ch);
+                index++;
+            } else if (ch == END_ANCHOR && !inClass) {
+                javaRegex.append(ESCAPE).append(ch);
+                index++;
+            } else if (ch == INTERSECTION && inClass) {
+                javaRegex.append(ESCAPE).append(ch);
+                index++;
+            } else {
+                javaRegex.append(ch);
+                index++;
+            }
+            classStart = newClass;
+        }
+        return javaRegex.toString();
+    }
+
+    /**
+     * Appends the Java form of an escape sequence.
+     *
+     * @param yangRegex YANG regular expression
+     * @param index     index of the character after the escape character
+     * @param inClass   true if the escape is in a character class
+     * @param javaRegex Java regular expression
+     * @return index of the character after the escape sequence
+     */
+    private static int appendEscape(String yangRegex, int index,
+                                    boolean inClass, StringBuilder javaRegex) {
+        char ch = yangRegex.charAt(index);
+        switch (ch) {
+            case 'i':
+                appendClass(NAME_START_CHARS, false, inClass, javaRegex);
+                break;
+            case 'I':
+                appendClass(NAME_START_CHARS, true, inClass, javaRegex);
+                break;
+            case 'c':
+                appendClass(NAME_CHARS, false, inClass, javaRegex);
+                break;
+            case 'C':
+                appendClass(NAME_CHARS, true, inClass, javaRegex);
+                break;
+            case 's':
+                appendClass(SPACE_CHARS, false, inClass, javaRegex);
+                break;
+            case 'S':
+                appendClass(SPACE_CHARS, true, inClass, javaRegex);
+                break;
+            case 'd':
+                javaRegex.append(DIGIT);
+                break;
+            case 'D':
+                javaRegex.append(NON_DIGIT);
+                break;
+            case 'p':
+            case 'P':
+                javaRegex.append(ESCAPE).append(ch);
+                if (yangRegex.startsWith(BLOCK_PREFIX, index + 1)) {
+                    javaRegex.append(JAVA_BLOCK_PREFIX);
+                    return index + 1 + BLOCK_PREFIX.length();
+                }
+                break;
+            default:
+                javaRegex.append(ESCAPE).append(ch);
+                break;
+        }
+        return index + 1;
+    }
+
+    /**
+     * Appends a set of characters given by the content of a character
+     * class.
+     *
+     * @param chars     content of the character class
+     * @param negated   true if the complement of the set is to be appended
+     * @param inClass   true if the set is appended in a character class
+     * @param javaRegex Java regular expression
+     */
+    private static void appendClass(String chars, boolean negated,
+                                    boolean inClass, StringBuilder javaRegex) {
+        if (inClass && !negated) {
+            javaRegex.append(chars);
+            return;
+        }
+        javaRegex.append(CLASS_START);
+        if (negated) {
+            javaRegex.append(NEGATION);
+        }
+        javaRegex.append(chars).append(CLASS_END);
+    }
+}
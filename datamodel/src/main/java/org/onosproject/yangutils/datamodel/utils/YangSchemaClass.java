@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the record layout of a data model class in the schema file.
+ * The record of an object holds the values of its serializable fields,
+ * which are the non-static and non-transient fields declared by the
+ * serializable classes of its class hierarchy, in the same way as for Java
+ * serialization. Fields are identified by their declaring class and name,
+ * so that a record written by another version of a class can be read as
+ * long as the fields are not changed in type.
+ * <p>
+ * An object is created from its record by the no-argument constructor of
+ * its class, after which the fields of the record are set. Fields not in
+ * the record keep the values set by the constructor.
+ */
+final class YangSchemaClass {
+
+    /**
+     * Kind of a field holding a reference.
+     */
+    static final char REFERENCE = 'L';
+
+    private static final String JAVA_PACKAGE = "java.";
+
+    // Layouts of the classes, created once per class.
+    private static final Map<Class<?>, YangSchemaClass> LAYOUTS =
+            new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+    private final Field[] fields;
+    private final char[] kinds;
+    private final Constructor<?> constructor;
+
+    /**
+     * Creates the record layout of a class.
+     *
+     * @param type data model class
+     * @throws IOException when the class can not be stored in a record
+     */
+    private YangSchemaClass(Class<?> type) throws IOException {
+        if (!Serializable.class.isAssignableFrom(type)) {
+            throw new NotSerializableException(type.getName());
+        }
+        List<Field> fieldList = new ArrayList<>();
+        List<Class<?>> hierarchy = new ArrayList<>();
+        Class<?> cls = type;
+        while (Serializable.class.isAssignableFrom(cls)) {
+            if (cls.getName().startsWith(JAVA_PACKAGE)) {
+                throw new NotSerializableException(
+                        type.getName() + " extends " + cls.getName());
+            }
+            hierarchy.add(0, cls);
+            cls = cls.getSuperclass();
+        }
+        for (Class<?> serializable : hierarchy) {
+            Field[] declared = serializable.getDeclaredFields();
+            Arrays.sort(declared, Comparator.comparing(Field::getName));
+            for (Field field : declared) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) &&
+                        !Modifier.isTransient(modifiers)) {
+                    field.setAccessible(true);
+                    fieldList.add(field);
+                }
+            }
+        }
+        this.type = type;
+        fields = fieldList.toArray(new Field[fieldList.size()]);
+        kinds = new char[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            kinds[i] = getKind(fields[i].getType());
+        }
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new NotSerializableException(
+                    type.getName() + " has no constructor without arguments");
+        }
+    }
+
+    /**
+     * Returns the record layout of a class.
+     *
+     * @param type data model class
+     * @return record layout
+     * @throws IOException when the class can not be stored in a record
+     */
+    static YangSchemaClass getLayout(Class<?> type) throws IOException {
+        YangSchemaClass layout = LAYOUTS.get(type);
+        if (layout == null) {
+            layout = new YangSchemaClass(type);
+            LAYOUTS.putIfAbsent(type, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Returns the kind of a field of the given type, which is the JVM type
+     * descriptor character of a primitive type, or the kind of reference.
+     *
+     * @param fieldType type of field
+     * @return kind of field
+     */
+    static char getKind(Class<?> fieldType) {
+        if (fieldType == boolean.class) {
+            return 'Z';
+        } else if (fieldType == byte.class) {
+            return 'B';
+        } else if (fieldType == char.class) {
+            return 'C';
+        } else if (fieldType == short.class) {
+            return 'S';
+        } else if (fieldType == int.class) {
+            return 'I';
+        } else if (fieldType == long.class) {
+            return 'J';
+        } else if (fieldType == float.class) {
+            return 'F';
+        } else if (fieldType == double.class) {
+            return 'D';
+        }
+        return REFERENCE;
+    }
+
+    /**
+     * Returns the class of the layout.
+     *
+     * @return data model class
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the fields of a record in their order in the record.
+     *
+     * @return fields of record
+     */
+    Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the kinds of the fields of a record.
+     *
+     * @return kinds of fields
+     */
+    char[] getKinds() {
+        return kinds;
+    }
+
+    /**
+     * Returns the field declared by a class of the hierarchy with the given
+     * name and kind.
+     *
+     * @param declaringClass name of declaring class
+     * @param name           name of field
+     * @param kind           kind of field
+     * @return field, null if the class has no such field
+     */
+    Field getField(String declaringClass, String name, char kind) {
+        for (int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+            if (kinds[i] == kind && field.getName().equals(name) &&
+                    field.getDeclaringClass().getName()
+                            .equals(declaringClass)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a new object of the class, created by its constructor without
+     * arguments.
+     *
+     * @return new object
+     * @throws IOException when fails to create the object
+     */
+    Object newInstance() throws IOException {
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException |
+                InvocationTargetException e) {
+            throw new IOException("Failed to create " + type.getName(), e);
+        }
+    }
+}
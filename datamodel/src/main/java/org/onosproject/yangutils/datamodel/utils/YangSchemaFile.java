@@ -0,0 +1,519 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Represents the compact schema file format of linked YANG data model. It
+ * is used to carry the data model of a YANG jar to the builds which depend
+ * on it, in place of Java serialization.
+ * <p>
+ * A schema file starts with a versioned header, which contains the string
+ * table, the class table, the module index and the segment table. Each
+ * segment holds the records of the nodes of one or more modules. A record
+ * holds the field values of a data model object, with strings stored as
+ * their index in the string table, so that each distinct string is stored
+ * once in the file and shared across the loaded data model. The class table
+ * holds the name of each class and the declaring class, name and kind of
+ * the fields of its records, so that records are read by field name. The
+ * nodes, leaves and leaf-lists of modules in other segments are stored as
+ * references to their index in the referred module, so that a segment is
+ * loaded only with the segments it refers to. Modules which refer to each
+ * other are kept in the same segment.
+ */
+public final class YangSchemaFile {
+
+    /**
+     * File extension of schema file.
+     */
+    public static final String SCHEMA_FILE_EXTENSION = ".yms";
+
+    private static final int MAGIC = 0x594d5346;
+    private static final int VERSION = 2;
+
+    /**
+     * Type of a referred node.
+     */
+    static final int NODE = 0;
+
+    /**
+     * Type of a referred leaf.
+     */
+    static final int LEAF = 1;
+
+    /**
+     * Type of a referred leaf-list.
+     */
+    static final int LEAF_LIST = 2;
+
+    /**
+     * Creates an instance of schema file.
+     */
+    private YangSchemaFile() {
+    }
+
+    /**
+     * Writes the data model of the root nodes to the output stream in schema
+     * file format.
+     *
+     * @param rootNodes root nodes of linked modules and sub-modules
+     * @param out       output stream
+     * @throws IOException when fails to write the schema file
+     */
+    public static void write(Collection<YangNode> rootNodes, OutputStream out)
+            throws IOException {
+
+        List<YangNode> modules = new ArrayList<>(rootNodes);
+        Map<Object, EntityRef> entities = new IdentityHashMap<>();
+        for (int i = 0; i < modules.size(); i++) {
+            addEntities(i, modules.get(i), entities);
+        }
+
+        // Writes each module to know the modules it refers to.
+        YangSchemaRecordWriter.Tables tables =
+                new YangSchemaRecordWriter.Tables();
+        List<byte[]> records = new ArrayList<>();
+        List<Set<Integer>> referredModules = new ArrayList<>();
+        for (int i = 0; i < modules.size(); i++) {
+            Set<Integer> segment = new TreeSet<>();
+            segment.add(i);
+            Set<Integer> referred = new TreeSet<>();
+            records.add(getRecords(modules, segment, entities, tables,
+                                   referred));
+            referredModules.add(referred);
+        }
+
+        List<Set<Integer>> segments =
+                new SegmentBuilder(referredModules).getSegments();
+        int[] moduleSegment = new int[modules.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            for (int module : segments.get(i)) {
+                moduleSegment[module] = i;
+            }
+        }
+
+        // Records of each segment.
+        List<byte[]> segmentRecords = new ArrayList<>();
+        List<Set<Integer>> segmentReferences = new ArrayList<>();
+        for (Set<Integer> segment : segments) {
+            byte[] bytes;
+            Set<Integer> referred = new TreeSet<>();
+            if (segment.size() == 1) {
+                int module = segment.iterator().next();
+                bytes = records.get(module);
+                referred.addAll(referredModules.get(module));
+            } else {
+                bytes = getRecords(modules, segment, entities, tables,
+                                   referred);
+            }
+            Set<Integer> referredSegments = new TreeSet<>();
+            for (int module : referred) {
+                referredSegments.add(moduleSegment[module]);
+            }
+            segmentRecords.add(bytes);
+            segmentReferences.add(referredSegments);
+        }
+
+        int[] nameIndex = new int[modules.size()];
+        for (int i = 0; i < modules.size(); i++) {
+            nameIndex[i] = tables.getStringIndex(modules.get(i).getName());
+        }
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(VERSION);
+
+        // String table and class table, then module index.
+        tables.write(dataOut);
+        dataOut.writeInt(modules.size());
+        for (int i = 0; i < modules.size(); i++) {
+            dataOut.writeInt(nameIndex[i]);
+            dataOut.writeInt(moduleSegment[i]);
+        }
+
+        // Segment table.
+        dataOut.writeInt(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            dataOut.writeInt(segmentRecords.get(i).length);
+            dataOut.writeInt(segmentReferences.get(i).size());
+            for (int segmentIndex : segmentReferences.get(i)) {
+                dataOut.writeInt(segmentIndex);
+            }
+        }
+        for (byte[] bytes : segmentRecords) {
+            dataOut.write(bytes);
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * Reads the data model from the input stream in schema file format.
+     * When module names are given, only the segments of these modules and
+     * the segments they refer to are loaded.
+     *
+     * @param in          input stream
+     * @param moduleNames names of modules or sub-modules to be loaded, null
+     *                    to load all of them
+     * @return root nodes of loaded modules and sub-modules
+     * @throws IOException when fails to read the schema file
+     */
+    public static Set<YangNode> read(InputStream in, Set<String> moduleNames)
+            throws IOException {
+
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("Not a YANG schema file.");
+        }
+        int version = dataIn.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported YANG schema file version " +
+                                          version + ".");
+        }
+
+        YangSchemaRecordReader.Tables tables =
+                new YangSchemaRecordReader.Tables(dataIn);
+        int moduleCount = dataIn.readInt();
+        String[] names = new String[moduleCount];
+        int[] moduleSegment = new int[moduleCount];
+        for (int i = 0; i < moduleCount; i++) {
+            names[i] = tables.getString(dataIn.readInt());
+            moduleSegment[i] = dataIn.readInt();
+        }
+        int segmentCount = dataIn.readInt();
+        int[] lengths = new int[segmentCount];
+        int[][] referredSegments = new int[segmentCount][];
+        for (int i = 0; i < segmentCount; i++) {
+            lengths[i] = dataIn.readInt();
+            referredSegments[i] = new int[dataIn.readInt()];
+            for (int j = 0; j < referredSegments[i].length; j++) {
+                referredSegments[i][j] = dataIn.readInt();
+            }
+        }
+
+        // Finds the segments to be loaded.
+        boolean[] toLoad = new boolean[segmentCount];
+        Queue<Integer> pending = new ArrayDeque<>();
+        for (int i = 0; i < moduleCount; i++) {
+            if (moduleNames == null || moduleNames.contains(names[i])) {
+                pending.add(moduleSegment[i]);
+            }
+        }
+        while (!pending.isEmpty()) {
+            int segment = pending.poll();
+            if (!toLoad[segment]) {
+                toLoad[segment] = true;
+                for (int referred : referredSegments[segment]) {
+                    pending.add(referred);
+                }
+            }
+        }
+
+        /*
+         * Segments are stored after the segments they refer to, hence the
+         * referred entities are always loaded before they are needed.
+         */
+        List<List<Integer>> segmentModules = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            segmentModules.add(new ArrayList<>());
+        }
+        for (int i = 0; i < moduleCount; i++) {
+            segmentModules.get(moduleSegment[i]).add(i);
+        }
+        Map<Integer, List<YangNode>> loadedNodes = new HashMap<>();
+        Set<YangNode> rootNodes = new LinkedHashSet<>();
+        for (int i = 0; i < segmentCount; i++) {
+            if (!toLoad[i]) {
+                skipFully(dataIn, lengths[i]);
+                continue;
+            }
+            byte[] bytes = new byte[lengths[i]];
+            dataIn.readFully(bytes);
+            YangSchemaRecordReader recordIn = new YangSchemaRecordReader(
+                    tables, loadedNodes, bytes);
+            for (int module : segmentModules.get(i)) {
+                YangNode rootNode;
+                try {
+                    rootNode = (YangNode) recordIn.readValue();
+                } catch (ClassCastException | IndexOutOfBoundsException e) {
+                    throw new IOException("Invalid YANG schema file record " +
+                                                  "of " + names[module], e);
+                }
+                loadedNodes.put(module, getNodes(rootNode));
+                rootNodes.add(rootNode);
+            }
+        }
+        return rootNodes;
+    }
+
+    /**
+     * Returns the records of the modules of a segment.
+     *
+     * @param modules  root nodes of all modules
+     * @param segment  index of modules of the segment
+     * @param entities index of entities of all modules
+     * @param tables   string and class tables of the schema file
+     * @param referred index of modules referred by the segment
+     * @return records of segment
+     * @throws IOException when fails to write records
+     */
+    private static byte[] getRecords(List<YangNode> modules,
+                                     Set<Integer> segment,
+                                     Map<Object, EntityRef> entities,
+                                     YangSchemaRecordWriter.Tables tables,
+                                     Set<Integer> referred)
+            throws IOException {
+        YangSchemaRecordWriter out = new YangSchemaRecordWriter(
+                tables, segment, entities, referred);
+        for (int module : segment) {
+            out.writeValue(modules.get(module));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Adds the nodes, leaves and leaf-lists of a module to entity index.
+     *
+     * @param module   index of module
+     * @param rootNode root node of module
+     * @param entities index of entities
+     */
+    private static void addEntities(int module, YangNode rootNode,
+                                    Map<Object, EntityRef> entities) {
+        List<YangNode> nodes = getNodes(rootNode);
+        for (int i = 0; i < nodes.size(); i++) {
+            YangNode node = nodes.get(i);
+            entities.put(node, new EntityRef(module, i, NODE, 0));
+            if (node instanceof YangLeavesHolder) {
+                YangLeavesHolder holder = (YangLeavesHolder) node;
+                List<YangLeaf> leaves = holder.getListOfLeaf();
+                for (int j = 0; leaves != null && j < leaves.size(); j++) {
+                    entities.put(leaves.get(j),
+                                 new EntityRef(module, i, LEAF, j));
+                }
+                List<YangLeafList> leafLists = holder.getListOfLeafList();
+                for (int j = 0; leafLists != null && j < leafLists.size();
+                     j++) {
+                    entities.put(leafLists.get(j),
+                                 new EntityRef(module, i, LEAF_LIST, j));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the nodes of a module in breadth first order.
+     *
+     * @param rootNode root node of module
+     * @return nodes of module
+     */
+    private static List<YangNode> getNodes(YangNode rootNode) {
+        List<YangNode> nodes = new ArrayList<>();
+        Queue<YangNode> queue = new LinkedList<>();
+        queue.add(rootNode);
+        while (!queue.isEmpty()) {
+            YangNode node = queue.poll();
+            nodes.add(node);
+            YangNode child = node.getChild();
+            while (child != null) {
+                queue.add(child);
+                child = child.getNextSibling();
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Skips the given number of bytes of the input stream.
+     *
+     * @param in     input stream
+     * @param length number of bytes to be skipped
+     * @throws IOException when the stream ends before
+     */
+    private static void skipFully(DataInputStream in, int length)
+            throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                in.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Represents the reference to a node, leaf or leaf-list of a module in
+     * another segment.
+     */
+    static final class EntityRef {
+
+        private final int module;
+        private final int node;
+        private final int type;
+        private final int index;
+
+        /**
+         * Creates a reference to an entity of a module.
+         *
+         * @param module index of module
+         * @param node   index of node in module
+         * @param type   type of entity
+         * @param index  index of leaf or leaf-list in node
+         */
+        private EntityRef(int module, int node, int type, int index) {
+            this.module = module;
+            this.node = node;
+            this.type = type;
+            this.index = index;
+        }
+
+        /**
+         * Returns the index of the module of the entity.
+         *
+         * @return index of module
+         */
+        int getModule() {
+            return module;
+        }
+
+        /**
+         * Returns the index of the node of the entity in its module.
+         *
+         * @return index of node
+         */
+        int getNode() {
+            return node;
+        }
+
+        /**
+         * Returns the type of the entity.
+         *
+         * @return type of entity
+         */
+        int getType() {
+            return type;
+        }
+
+        /**
+         * Returns the index of the leaf or leaf-list in its node.
+         *
+         * @return index of leaf or leaf-list
+         */
+        int getIndex() {
+            return index;
+        }
+    }
+
+    /**
+     * Represents the builder of segments. Modules which refer to each other,
+     * directly or indirectly, are put in the same segment and segments are
+     * ordered such that a segment comes after the segments it refers to.
+     */
+    private static final class SegmentBuilder {
+
+        private final List<Set<Integer>> referredModules;
+        private final int[] order;
+        private final int[] lowLink;
+        private final boolean[] onStack;
+        private final ArrayDeque<Integer> stack = new ArrayDeque<>();
+        private final List<Set<Integer>> segments = new ArrayList<>();
+        private int counter;
+
+        /**
+         * Creates the builder of segments.
+         *
+         * @param referredModules modules referred by each module
+         */
+        private SegmentBuilder(List<Set<Integer>> referredModules) {
+            this.referredModules = referredModules;
+            int size = referredModules.size();
+            order = new int[size];
+            lowLink = new int[size];
+            onStack = new boolean[size];
+        }
+
+        /**
+         * Returns the segments of modules.
+         *
+         * @return index of modules of each segment
+         */
+        private List<Set<Integer>> getSegments() {
+            for (int i = 0; i < referredModules.size(); i++) {
+                if (order[i] == 0) {
+                    visit(i);
+                }
+            }
+            return segments;
+        }
+
+        /**
+         * Visits a module to find the modules which refer to each other.
+         *
+         * @param module index of module
+         */
+        private void visit(int module) {
+            counter++;
+            order[module] = counter;
+            lowLink[module] = counter;
+            stack.push(module);
+            onStack[module] = true;
+            for (int referred : referredModules.get(module)) {
+                if (order[referred] == 0) {
+                    visit(referred);
+                    lowLink[module] = Math.min(lowLink[module],
+                                               lowLink[referred]);
+                } else if (onStack[referred]) {
+                    lowLink[module] = Math.min(lowLink[module],
+                                               order[referred]);
+                }
+            }
+            if (lowLink[module] == order[module]) {
+                Set<Integer> segment = new TreeSet<>();
+                int member;
+                do {
+                    member = stack.pop();
+                    onStack[member] = false;
+                    segment.add(member);
+                } while (member != module);
+                segments.add(segment);
+            }
+        }
+    }
+}
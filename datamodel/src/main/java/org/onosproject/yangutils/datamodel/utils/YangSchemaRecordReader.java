@@ -0,0 +1,696 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaClass.REFERENCE;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaClass.getKind;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaClass.getLayout;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaFile.LEAF;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaFile.LEAF_LIST;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.ARRAY;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.ARRAY_LIST;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.BIG_DECIMAL;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.BIG_INTEGER;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.BIT_SET;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.BOOLEAN;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.BYTE;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.CHARACTER;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.DATE;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.DOUBLE;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.EMPTY_LIST;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.EMPTY_MAP;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.EMPTY_SET;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.ENTITY;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.ENUM;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.FLOAT;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.HANDLE;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.HASH_MAP;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.HASH_SET;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.INTEGER;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.LINKED_HASH_MAP;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.LINKED_HASH_SET;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.LINKED_LIST;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.LONG;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.NULL;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.RECORD;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.SERIALIZED;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.SHORT;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.STACK;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.STRING;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.TREE_MAP;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.TREE_SET;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaRecordWriter.VECTOR;
+
+/**
+ * Represents the reader of the records of a segment of the schema file,
+ * which are written by the schema record writer. The objects are created
+ * and their fields are set directly from the records, without the class
+ * descriptors and the block data of Java serialization.
+ */
+final class YangSchemaRecordReader {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 16;
+
+    // Primitive classes of the class table, by their name.
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> primitive : new Class<?>[]{
+                boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class}) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    private final Tables tables;
+    private final Map<Integer, List<YangNode>> loadedNodes;
+    private final List<Object> handles = new ArrayList<>();
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Creates the reader of the records of a segment.
+     *
+     * @param tables      string and class tables of the schema file
+     * @param loadedNodes nodes of the loaded modules
+     * @param buffer      records of segment
+     */
+    YangSchemaRecordReader(Tables tables,
+                           Map<Integer, List<YangNode>> loadedNodes,
+                           byte[] buffer) {
+        this.tables = tables;
+        this.loadedNodes = loadedNodes;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads a value from the segment.
+     *
+     * @return value read
+     * @throws IOException when the records are not valid
+     */
+    Object readValue() throws IOException {
+        int tag = readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case HANDLE:
+                return getHandle(readVarInt());
+            case STRING:
+                return tables.getString(readVarInt());
+            case ENTITY:
+                return getEntity(readVarInt(), readVarInt(), readVarInt(),
+                                 readVarInt());
+            case RECORD:
+                return readRecord(tables.getRecordClass(readVarInt()));
+            case ENUM:
+                return getEnum(tables.getClass(readVarInt()),
+                               tables.getString(readVarInt()));
+            case BOOLEAN:
+                return readByte() != 0;
+            case BYTE:
+                return (byte) readByte();
+            case CHARACTER:
+                return (char) readVarInt();
+            case SHORT:
+                return (short) readVarLong();
+            case INTEGER:
+                return (int) readVarLong();
+            case LONG:
+                return readVarLong();
+            case FLOAT:
+                return Float.intBitsToFloat((int) readFixed(4));
+            case DOUBLE:
+                return Double.longBitsToDouble(readFixed(8));
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case BIG_DECIMAL:
+                return new BigDecimal(new BigInteger(readBytes()),
+                                      (int) readVarLong());
+            case EMPTY_LIST:
+                return Collections.emptyList();
+            case EMPTY_SET:
+                return Collections.emptySet();
+            case EMPTY_MAP:
+                return Collections.emptyMap();
+            case BIT_SET:
+                return readBitSet();
+            case DATE:
+                return addHandle(new Date(readVarLong()));
+            case ARRAY:
+                return readArray(tables.getClass(readVarInt()));
+            case SERIALIZED:
+                return readSerialized();
+            default:
+                return readContainer(tag);
+        }
+    }
+
+    /**
+     * Reads the record of a data model object, and sets its fields.
+     *
+     * @param recordClass class of record
+     * @return data model object
+     * @throws IOException when the record is not valid
+     */
+    private Object readRecord(RecordClass recordClass) throws IOException {
+        Object value = recordClass.layout.newInstance();
+        addHandle(value);
+        Field[] fields = recordClass.fields;
+        char[] kinds = recordClass.kinds;
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                switch (kinds[i]) {
+                    case 'Z':
+                        boolean booleanValue = readByte() != 0;
+                        if (field != null) {
+                            field.setBoolean(value, booleanValue);
+                        }
+                        break;
+                    case 'I':
+                        int intValue = (int) readVarLong();
+                        if (field != null) {
+                            field.setInt(value, intValue);
+                        }
+                        break;
+                    case REFERENCE:
+                        Object reference = readValue();
+                        if (field != null) {
+                            field.set(value, reference);
+                        }
+                        break;
+                    default:
+                        Object primitive = readPrimitive(kinds[i]);
+                        if (field != null) {
+                            field.set(value, primitive);
+                        }
+                        break;
+                }
+            }
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new IOException("Invalid record of " +
+                                          recordClass.layout.getType()
+                                                  .getName(), e);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a collection or a map with its elements.
+     *
+     * @param tag tag of collection or map class
+     * @return collection or map
+     * @throws IOException when the records are not valid
+     */
+    @SuppressWarnings("unchecked")
+    private Object readContainer(int tag) throws IOException {
+        int size = readVarInt();
+        Object container;
+        switch (tag) {
+            case ARRAY_LIST:
+                container = new ArrayList<>(size);
+                break;
+            case LINKED_LIST:
+                container = new LinkedList<>();
+                break;
+            case VECTOR:
+                container = new Vector<>(size);
+                break;
+            case STACK:
+                container = new Stack<>();
+                break;
+            case HASH_SET:
+                container = new HashSet<>(getCapacity(size));
+                break;
+            case LINKED_HASH_SET:
+                container = new LinkedHashSet<>(getCapacity(size));
+                break;
+            case TREE_SET:
+                container = new TreeSet<>();
+                break;
+            case HASH_MAP:
+                container = new HashMap<>(getCapacity(size));
+                break;
+            case LINKED_HASH_MAP:
+                container = new LinkedHashMap<>(getCapacity(size));
+                break;
+            case TREE_MAP:
+                container = new TreeMap<>();
+                break;
+            default:
+                throw new IOException("Invalid YANG schema file tag " +
+                                              tag + ".");
+        }
+        addHandle(container);
+        if (container instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) container;
+            for (int i = 0; i < size; i++) {
+                Object key = readValue();
+                map.put(key, readValue());
+            }
+        } else {
+            Collection<Object> collection = (Collection<Object>) container;
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue());
+            }
+        }
+        return container;
+    }
+
+    /**
+     * Reads an array with its elements.
+     *
+     * @param component component class of array
+     * @return array
+     * @throws IOException when the records are not valid
+     */
+    private Object readArray(Class<?> component) throws IOException {
+        int length = readVarInt();
+        Object array = addHandle(Array.newInstance(component, length));
+        char kind = getKind(component);
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, kind == REFERENCE ?
+                    readValue() : readPrimitive(kind));
+        }
+        return array;
+    }
+
+    /**
+     * Reads a bit set.
+     *
+     * @return bit set
+     */
+    private Object readBitSet() {
+        long[] words = new long[readVarInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = readVarLong();
+        }
+        return addHandle(BitSet.valueOf(words));
+    }
+
+    /**
+     * Reads a value of a class of the Java platform, written with Java
+     * serialization.
+     *
+     * @return value read
+     * @throws IOException when the value can not be deserialized
+     */
+    private Object readSerialized() throws IOException {
+        int handle = handles.size();
+        addHandle(null);
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(readBytes()));
+        try {
+            Object value = in.readObject();
+            handles.set(handle, value);
+            return value;
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Invalid YANG schema file value", e);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads a primitive value.
+     *
+     * @param kind kind of primitive
+     * @return boxed primitive value
+     */
+    private Object readPrimitive(char kind) {
+        switch (kind) {
+            case 'Z':
+                return readByte() != 0;
+            case 'B':
+                return (byte) readByte();
+            case 'C':
+                return (char) readVarInt();
+            case 'S':
+                return (short) readVarLong();
+            case 'I':
+                return (int) readVarLong();
+            case 'J':
+                return readVarLong();
+            case 'F':
+                return Float.intBitsToFloat((int) readFixed(4));
+            default:
+                return Double.longBitsToDouble(readFixed(8));
+        }
+    }
+
+    /**
+     * Returns a node, leaf or leaf-list of a module of another segment.
+     *
+     * @param module index of module
+     * @param node   index of node in module
+     * @param type   type of entity
+     * @param index  index of leaf or leaf-list in node
+     * @return referred entity
+     * @throws IOException when the referred module is not loaded
+     */
+    private Object getEntity(int module, int node, int type, int index)
+            throws IOException {
+        List<YangNode> nodes = loadedNodes.get(module);
+        if (nodes == null || node >= nodes.size()) {
+            throw new IOException("Referred module is not loaded.");
+        }
+        YangNode referred = nodes.get(node);
+        switch (type) {
+            case LEAF:
+                return ((YangLeavesHolder) referred).getListOfLeaf()
+                        .get(index);
+            case LEAF_LIST:
+                return ((YangLeavesHolder) referred).getListOfLeafList()
+                        .get(index);
+            default:
+                return referred;
+        }
+    }
+
+    /**
+     * Returns the constant of an enum.
+     *
+     * @param type enum class
+     * @param name name of constant
+     * @return enum constant
+     * @throws IOException when the enum has no such constant
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object getEnum(Class<?> type, String name)
+            throws IOException {
+        try {
+            return Enum.valueOf((Class<? extends Enum>) type, name);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Invalid enum constant " + name + " of " +
+                                          type.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the initial capacity of a hash based collection for the
+     * given number of elements.
+     *
+     * @param size number of elements
+     * @return initial capacity
+     */
+    private static int getCapacity(int size) {
+        return Math.max((int) (size / LOAD_FACTOR) + 1, MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the object of a handle.
+     *
+     * @param handle handle
+     * @return object of handle
+     * @throws IOException when the handle is not valid
+     */
+    private Object getHandle(int handle) throws IOException {
+        if (handle >= handles.size()) {
+            throw new IOException("Invalid YANG schema file handle " +
+                                          handle + ".");
+        }
+        return handles.get(handle);
+    }
+
+    /**
+     * Assigns the next handle to an object.
+     *
+     * @param value object
+     * @return object
+     */
+    private Object addHandle(Object value) {
+        handles.add(value);
+        return value;
+    }
+
+    /**
+     * Reads a byte.
+     *
+     * @return byte value, from 0 to 255
+     */
+    private int readByte() {
+        return buffer[position++] & 0xff;
+    }
+
+    /**
+     * Reads a non-negative integer written in variable length.
+     *
+     * @return non-negative integer
+     */
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = buffer[position++];
+            value |= (b & 0x7f) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    /**
+     * Reads a signed integer written in variable length.
+     *
+     * @return signed integer
+     */
+    private long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = buffer[position++];
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * Reads the given number of bytes of a value.
+     *
+     * @param count number of bytes
+     * @return value
+     */
+    private long readFixed(int count) {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value = value << 8 | readByte();
+        }
+        return value;
+    }
+
+    /**
+     * Reads a byte array with its length.
+     *
+     * @return byte array
+     */
+    private byte[] readBytes() {
+        byte[] bytes = new byte[readVarInt()];
+        System.arraycopy(buffer, position, bytes, 0, bytes.length);
+        position += bytes.length;
+        return bytes;
+    }
+
+    /**
+     * Represents the fields of a class of records, as they are written in
+     * the records, mapped to the fields of the class being loaded.
+     */
+    private static final class RecordClass {
+
+        private final YangSchemaClass layout;
+        private final Field[] fields;
+        private final char[] kinds;
+
+        /**
+         * Creates the fields of a class of records.
+         *
+         * @param layout record layout of the loaded class
+         * @param fields fields of the loaded class, null for the fields
+         *               which it does not have
+         * @param kinds  kinds of the fields in the records
+         */
+        private RecordClass(YangSchemaClass layout, Field[] fields,
+                            char[] kinds) {
+            this.layout = layout;
+            this.fields = fields;
+            this.kinds = kinds;
+        }
+    }
+
+    /**
+     * Represents the string and class tables of a schema file. The strings
+     * are decoded and the classes are loaded when they are first used, so
+     * that loading a segment does not need the strings and classes of other
+     * segments.
+     */
+    static final class Tables {
+
+        private final byte[][] encodedStrings;
+        private final String[] strings;
+        private final int[][] classEntries;
+        private final Class<?>[] classes;
+        private final RecordClass[] recordClasses;
+
+        /**
+         * Reads the string table and the class table of a schema file.
+         *
+         * @param in input stream
+         * @throws IOException when fails to read the tables
+         */
+        Tables(DataInputStream in) throws IOException {
+            encodedStrings = new byte[in.readInt()][];
+            for (int i = 0; i < encodedStrings.length; i++) {
+                encodedStrings[i] = new byte[in.readInt()];
+                in.readFully(encodedStrings[i]);
+            }
+            strings = new String[encodedStrings.length];
+            classEntries = new int[in.readInt()][];
+            for (int i = 0; i < classEntries.length; i++) {
+                int nameIndex = in.readInt();
+                int fieldCount = in.readInt();
+                if (fieldCount < 0) {
+                    classEntries[i] = new int[]{nameIndex};
+                    continue;
+                }
+                int[] entry = new int[1 + fieldCount * 3];
+                entry[0] = nameIndex;
+                for (int j = 1; j < entry.length; j += 3) {
+                    entry[j] = in.readInt();
+                    entry[j + 1] = in.readInt();
+                    entry[j + 2] = in.readByte();
+                }
+                classEntries[i] = entry;
+            }
+            classes = new Class<?>[classEntries.length];
+            recordClasses = new RecordClass[classEntries.length];
+        }
+
+        /**
+         * Returns a string of the string table.
+         *
+         * @param index index of string
+         * @return string
+         * @throws IOException when the index is not valid
+         */
+        String getString(int index) throws IOException {
+            if (index >= strings.length) {
+                throw new IOException("Invalid YANG schema file string " +
+                                              "index " + index + ".");
+            }
+            String string = strings[index];
+            if (string == null) {
+                string = new String(encodedStrings[index],
+                                    StandardCharsets.UTF_8);
+                strings[index] = string;
+            }
+            return string;
+        }
+
+        /**
+         * Returns a class of the class table.
+         *
+         * @param index index of class
+         * @return class
+         * @throws IOException when the class is not found
+         */
+        Class<?> getClass(int index) throws IOException {
+            if (index >= classes.length) {
+                throw new IOException("Invalid YANG schema file class " +
+                                              "index " + index + ".");
+            }
+            Class<?> type = classes[index];
+            if (type == null) {
+                String name = getString(classEntries[index][0]);
+                type = PRIMITIVES.get(name);
+                if (type == null) {
+                    try {
+                        type = Class.forName(
+                                name, false,
+                                YangSchemaRecordReader.class.getClassLoader());
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException("Class of YANG schema file " +
+                                                      "is not found", e);
+                    }
+                }
+                classes[index] = type;
+            }
+            return type;
+        }
+
+        /**
+         * Returns a class of records of the class table, with its fields
+         * mapped to the fields of the loaded class.
+         *
+         * @param index index of class
+         * @return class of records
+         * @throws IOException when the class can not be loaded
+         */
+        private RecordClass getRecordClass(int index) throws IOException {
+            RecordClass recordClass = index < recordClasses.length ?
+                    recordClasses[index] : null;
+            if (recordClass != null) {
+                return recordClass;
+            }
+            YangSchemaClass layout = getLayout(getClass(index));
+            int[] entry = classEntries[index];
+            int fieldCount = (entry.length - 1) / 3;
+            Field[] fields = new Field[fieldCount];
+            char[] kinds = new char[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                kinds[i] = (char) entry[3 + i * 3];
+                fields[i] = layout.getField(getString(entry[1 + i * 3]),
+                                            getString(entry[2 + i * 3]),
+                                            kinds[i]);
+            }
+            recordClass = new RecordClass(layout, fields, kinds);
+            recordClasses[index] = recordClass;
+            return recordClass;
+        }
+    }
+}
@@ -0,0 +1,616 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.datamodel.utils;
+
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeafList;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaFile.EntityRef;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaClass.REFERENCE;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaClass.getKind;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaClass.getLayout;
+
+/**
+ * Represents the writer of the records of a segment of the schema file.
+ * <p>
+ * A value is written as a tag followed by its content. Strings are written
+ * as their index in the string table of the schema file, and the classes of
+ * records, enums and arrays as their index in the class table. A record
+ * holds the values of the fields of an object, in the order of the fields
+ * in the class table. Collections, maps and arrays hold their size and their
+ * elements. Objects which are written again are written as a handle, which
+ * is the index of the object in the order the objects are written in the
+ * segment. Nodes, leaves and leaf-lists of modules of other segments are
+ * written as references to their index in the referred module.
+ * <p>
+ * Numbers, sizes and indices are written as variable length integers.
+ */
+final class YangSchemaRecordWriter {
+
+    static final int NULL = 0;
+    static final int HANDLE = 1;
+    static final int STRING = 2;
+    static final int ENTITY = 3;
+    static final int RECORD = 4;
+    static final int ENUM = 5;
+    static final int BOOLEAN = 6;
+    static final int BYTE = 7;
+    static final int CHARACTER = 8;
+    static final int SHORT = 9;
+    static final int INTEGER = 10;
+    static final int LONG = 11;
+    static final int FLOAT = 12;
+    static final int DOUBLE = 13;
+    static final int BIG_INTEGER = 14;
+    static final int BIG_DECIMAL = 15;
+    static final int ARRAY_LIST = 16;
+    static final int LINKED_LIST = 17;
+    static final int VECTOR = 18;
+    static final int STACK = 19;
+    static final int HASH_SET = 20;
+    static final int LINKED_HASH_SET = 21;
+    static final int TREE_SET = 22;
+    static final int HASH_MAP = 23;
+    static final int LINKED_HASH_MAP = 24;
+    static final int TREE_MAP = 25;
+    static final int EMPTY_LIST = 26;
+    static final int EMPTY_SET = 27;
+    static final int EMPTY_MAP = 28;
+    static final int BIT_SET = 29;
+    static final int DATE = 30;
+    static final int ARRAY = 31;
+    static final int SERIALIZED = 32;
+
+    private static final int INITIAL_SIZE = 4096;
+    private static final String JAVA_PACKAGE = "java.";
+
+    // Tags of the supported collection and map classes.
+    private static final Map<Class<?>, Integer> CONTAINER_TAGS =
+            new HashMap<>();
+
+    static {
+        CONTAINER_TAGS.put(ArrayList.class, ARRAY_LIST);
+        CONTAINER_TAGS.put(LinkedList.class, LINKED_LIST);
+        CONTAINER_TAGS.put(Vector.class, VECTOR);
+        CONTAINER_TAGS.put(Stack.class, STACK);
+        CONTAINER_TAGS.put(HashSet.class, HASH_SET);
+        CONTAINER_TAGS.put(LinkedHashSet.class, LINKED_HASH_SET);
+        CONTAINER_TAGS.put(TreeSet.class, TREE_SET);
+        CONTAINER_TAGS.put(HashMap.class, HASH_MAP);
+        CONTAINER_TAGS.put(LinkedHashMap.class, LINKED_HASH_MAP);
+        CONTAINER_TAGS.put(TreeMap.class, TREE_MAP);
+    }
+
+    private final Tables tables;
+    private final Set<Integer> segment;
+    private final Map<Object, EntityRef> entities;
+    private final Set<Integer> referred;
+    private final Map<Object, Integer> handles = new IdentityHashMap<>();
+    private byte[] buffer = new byte[INITIAL_SIZE];
+    private int size;
+
+    /**
+     * Creates the writer of the records of a segment.
+     *
+     * @param tables   string and class tables of the schema file
+     * @param segment  index of modules of the segment
+     * @param entities index of entities of all modules
+     * @param referred index of modules referred by the segment
+     */
+    YangSchemaRecordWriter(Tables tables, Set<Integer> segment,
+                           Map<Object, EntityRef> entities,
+                           Set<Integer> referred) {
+        this.tables = tables;
+        this.segment = segment;
+        this.entities = entities;
+        this.referred = referred;
+    }
+
+    /**
+     * Returns the records written to the segment.
+     *
+     * @return records of segment
+     */
+    byte[] toByteArray() {
+        byte[] bytes = new byte[size];
+        System.arraycopy(buffer, 0, bytes, 0, size);
+        return bytes;
+    }
+
+    /**
+     * Writes a value to the segment.
+     *
+     * @param value value to be written
+     * @throws IOException when the value can not be written
+     */
+    void writeValue(Object value) throws IOException {
+        if (value == null) {
+            writeByte(NULL);
+            return;
+        }
+        if (value instanceof String) {
+            writeByte(STRING);
+            writeVarInt(tables.getStringIndex((String) value));
+            return;
+        }
+        Integer handle = handles.get(value);
+        if (handle != null) {
+            writeByte(HANDLE);
+            writeVarInt(handle);
+            return;
+        }
+        if (value instanceof YangNode || value instanceof YangLeaf ||
+                value instanceof YangLeafList) {
+            EntityRef ref = entities.get(value);
+            if (ref != null && !segment.contains(ref.getModule())) {
+                referred.add(ref.getModule());
+                writeByte(ENTITY);
+                writeVarInt(ref.getModule());
+                writeVarInt(ref.getNode());
+                writeVarInt(ref.getType());
+                writeVarInt(ref.getIndex());
+                return;
+            }
+        }
+        if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            writeByte(ENUM);
+            writeVarInt(tables.getClassIndex(constant.getDeclaringClass()));
+            writeVarInt(tables.getStringIndex(constant.name()));
+            return;
+        }
+        if (writeNumber(value)) {
+            return;
+        }
+        Class<?> type = value.getClass();
+        Integer containerTag = CONTAINER_TAGS.get(type);
+        if (containerTag != null) {
+            writeContainer(containerTag, value);
+        } else if (value == Collections.emptyList()) {
+            writeByte(EMPTY_LIST);
+        } else if (value == Collections.emptySet()) {
+            writeByte(EMPTY_SET);
+        } else if (value == Collections.emptyMap()) {
+            writeByte(EMPTY_MAP);
+        } else if (type == BitSet.class) {
+            addHandle(value);
+            writeByte(BIT_SET);
+            long[] words = ((BitSet) value).toLongArray();
+            writeVarInt(words.length);
+            for (long word : words) {
+                writeVarLong(word);
+            }
+        } else if (type == Date.class) {
+            addHandle(value);
+            writeByte(DATE);
+            writeVarLong(((Date) value).getTime());
+        } else if (type.isArray()) {
+            writeArray(value);
+        } else if (!type.getName().startsWith(JAVA_PACKAGE)) {
+            writeRecord(value);
+        } else if (value instanceof Serializable &&
+                !(value instanceof Collection) && !(value instanceof Map)) {
+            writeSerialized(value);
+        } else {
+            throw new NotSerializableException(type.getName());
+        }
+    }
+
+    /**
+     * Writes a boxed primitive or a big number, which are written as values
+     * without handles.
+     *
+     * @param value value to be written
+     * @return true if the value is a number
+     */
+    private boolean writeNumber(Object value) {
+        if (value instanceof Integer) {
+            writeByte(INTEGER);
+            writeVarLong((Integer) value);
+        } else if (value instanceof Long) {
+            writeByte(LONG);
+            writeVarLong((Long) value);
+        } else if (value instanceof Boolean) {
+            writeByte(BOOLEAN);
+            writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Short) {
+            writeByte(SHORT);
+            writeVarLong((Short) value);
+        } else if (value instanceof Byte) {
+            writeByte(BYTE);
+            writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            writeByte(CHARACTER);
+            writeVarInt((Character) value);
+        } else if (value instanceof Float) {
+            writeByte(FLOAT);
+            writeFixed(Float.floatToIntBits((Float) value), 4);
+        } else if (value instanceof Double) {
+            writeByte(DOUBLE);
+            writeFixed(Double.doubleToLongBits((Double) value), 8);
+        } else if (value.getClass() == BigInteger.class) {
+            writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (value.getClass() == BigDecimal.class) {
+            writeByte(BIG_DECIMAL);
+            BigDecimal decimal = (BigDecimal) value;
+            writeBytes(decimal.unscaledValue().toByteArray());
+            writeVarLong(decimal.scale());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes a collection or a map with its elements.
+     *
+     * @param tag   tag of collection or map class
+     * @param value collection or map
+     * @throws IOException when an element can not be written
+     */
+    private void writeContainer(int tag, Object value) throws IOException {
+        if (value instanceof TreeSet &&
+                ((TreeSet<?>) value).comparator() != null ||
+                value instanceof TreeMap &&
+                        ((TreeMap<?, ?>) value).comparator() != null) {
+            throw new NotSerializableException(
+                    value.getClass().getName() + " with comparator");
+        }
+        addHandle(value);
+        writeByte(tag);
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        } else {
+            Collection<?> collection = (Collection<?>) value;
+            writeVarInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        }
+    }
+
+    /**
+     * Writes an array with its component class and its elements.
+     *
+     * @param value array
+     * @throws IOException when an element can not be written
+     */
+    private void writeArray(Object value) throws IOException {
+        Class<?> component = value.getClass().getComponentType();
+        addHandle(value);
+        writeByte(ARRAY);
+        writeVarInt(tables.getClassIndex(component));
+        int length = Array.getLength(value);
+        writeVarInt(length);
+        char kind = getKind(component);
+        if (kind == REFERENCE) {
+            Object[] elements = (Object[]) value;
+            for (Object element : elements) {
+                writeValue(element);
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            writePrimitive(kind, Array.get(value, i));
+        }
+    }
+
+    /**
+     * Writes the record of a data model object, with the values of its
+     * fields.
+     *
+     * @param value data model object
+     * @throws IOException when the object can not be written
+     */
+    private void writeRecord(Object value) throws IOException {
+        YangSchemaClass layout = getLayout(value.getClass());
+        addHandle(value);
+        writeByte(RECORD);
+        writeVarInt(tables.getRecordIndex(layout));
+        Field[] fields = layout.getFields();
+        char[] kinds = layout.getKinds();
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                if (kinds[i] == REFERENCE) {
+                    writeValue(fields[i].get(value));
+                } else {
+                    writePrimitive(kinds[i], fields[i].get(value));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IOException("Failed to write " +
+                                          value.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Writes a value of a class of the Java platform which is not known to
+     * the schema file, with Java serialization.
+     *
+     * @param value value to be written
+     * @throws IOException when the value can not be serialized
+     */
+    private void writeSerialized(Object value) throws IOException {
+        addHandle(value);
+        writeByte(SERIALIZED);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(value);
+        out.close();
+        writeBytes(bytes.toByteArray());
+    }
+
+    /**
+     * Writes a primitive value.
+     *
+     * @param kind  kind of primitive
+     * @param value boxed primitive value
+     */
+    private void writePrimitive(char kind, Object value) {
+        switch (kind) {
+            case 'Z':
+                writeByte((Boolean) value ? 1 : 0);
+                break;
+            case 'B':
+                writeByte((Byte) value);
+                break;
+            case 'C':
+                writeVarInt((Character) value);
+                break;
+            case 'S':
+                writeVarLong((Short) value);
+                break;
+            case 'I':
+                writeVarLong((Integer) value);
+                break;
+            case 'J':
+                writeVarLong((Long) value);
+                break;
+            case 'F':
+                writeFixed(Float.floatToIntBits((Float) value), 4);
+                break;
+            default:
+                writeFixed(Double.doubleToLongBits((Double) value), 8);
+                break;
+        }
+    }
+
+    /**
+     * Assigns the next handle to an object.
+     *
+     * @param value object
+     */
+    private void addHandle(Object value) {
+        handles.put(value, handles.size());
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param value byte value
+     */
+    private void writeByte(int value) {
+        if (size == buffer.length) {
+            byte[] grown = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, size);
+            buffer = grown;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Writes a non-negative integer in variable length, seven bits a byte.
+     *
+     * @param value non-negative integer
+     */
+    private void writeVarInt(int value) {
+        int remaining = value;
+        while ((remaining & ~0x7f) != 0) {
+            writeByte(remaining & 0x7f | 0x80);
+            remaining >>>= 7;
+        }
+        writeByte(remaining);
+    }
+
+    /**
+     * Writes a signed integer in variable length, with its sign in the
+     * lowest bit so that small negative values are short.
+     *
+     * @param value signed integer
+     */
+    private void writeVarLong(long value) {
+        long remaining = value << 1 ^ value >> 63;
+        while ((remaining & ~0x7fL) != 0) {
+            writeByte((int) (remaining & 0x7f | 0x80));
+            remaining >>>= 7;
+        }
+        writeByte((int) remaining);
+    }
+
+    /**
+     * Writes the given number of low order bytes of a value.
+     *
+     * @param value value
+     * @param count number of bytes
+     */
+    private void writeFixed(long value, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            writeByte((int) (value >>> i * 8));
+        }
+    }
+
+    /**
+     * Writes a byte array with its length.
+     *
+     * @param bytes byte array
+     */
+    private void writeBytes(byte[] bytes) {
+        writeVarInt(bytes.length);
+        for (byte b : bytes) {
+            writeByte(b);
+        }
+    }
+
+    /**
+     * Represents the string and class tables of a schema file, which are
+     * shared by the records of all segments.
+     */
+    static final class Tables {
+
+        private final Map<String, Integer> stringIndex = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<Class<?>, Integer> classIndex = new HashMap<>();
+        private final List<Class<?>> classes = new ArrayList<>();
+        private final List<YangSchemaClass> layouts = new ArrayList<>();
+
+        /**
+         * Returns the index of a string, after adding it to the string
+         * table when it is not present.
+         *
+         * @param string string
+         * @return index of string
+         */
+        int getStringIndex(String string) {
+            Integer index = stringIndex.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.add(string);
+                stringIndex.put(string, index);
+            }
+            return index;
+        }
+
+        /**
+         * Returns the index of a class, after adding it to the class table
+         * when it is not present.
+         *
+         * @param type class
+         * @return index of class
+         */
+        int getClassIndex(Class<?> type) {
+            Integer index = classIndex.get(type);
+            if (index == null) {
+                index = classes.size();
+                classes.add(type);
+                layouts.add(null);
+                classIndex.put(type, index);
+            }
+            return index;
+        }
+
+        /**
+         * Returns the index of the class of records, after adding it to
+         * the class table with its fields when it is not present.
+         *
+         * @param layout record layout of class
+         * @return index of class
+         */
+        int getRecordIndex(YangSchemaClass layout) {
+            int index = getClassIndex(layout.getType());
+            layouts.set(index, layout);
+            return index;
+        }
+
+        /**
+         * Writes the string table and the class table. A class of records
+         * is written with the declaring class, the name and the kind of its
+         * fields, other classes are written without fields.
+         *
+         * @param out output stream
+         * @throws IOException when fails to write the tables
+         */
+        void write(DataOutputStream out) throws IOException {
+            int[][] classEntries = new int[classes.size()][];
+            for (int i = 0; i < classes.size(); i++) {
+                YangSchemaClass layout = layouts.get(i);
+                int nameIndex = getStringIndex(classes.get(i).getName());
+                if (layout == null) {
+                    classEntries[i] = new int[]{nameIndex};
+                    continue;
+                }
+                Field[] fields = layout.getFields();
+                int[] entry = new int[1 + fields.length * 3];
+                entry[0] = nameIndex;
+                for (int j = 0; j < fields.length; j++) {
+                    entry[1 + j * 3] = getStringIndex(
+                            fields[j].getDeclaringClass().getName());
+                    entry[2 + j * 3] = getStringIndex(fields[j].getName());
+                    entry[3 + j * 3] = layout.getKinds()[j];
+                }
+                classEntries[i] = entry;
+            }
+
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(classEntries.length);
+            for (int[] entry : classEntries) {
+                out.writeInt(entry[0]);
+                if (entry.length == 1) {
+                    out.writeInt(-1);
+                    continue;
+                }
+                out.writeInt((entry.length - 1) / 3);
+                for (int j = 1; j < entry.length; j += 3) {
+                    out.writeInt(entry[j]);
+                    out.writeInt(entry[j + 1]);
+                    out.writeByte(entry[j + 2]);
+                }
+            }
+        }
+    }
+}
@@ -53,7 +53,13 @@ public class YangInt16 extends DefaultLocationInfo
     /**
      * The value of YANG's int16.
      */
-    private final short value;
+    private short value;
+
+    /**
+     * Creates an object of YANG's int16 whose value is not set.
+     */
+    public YangInt16() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
@@ -53,7 +53,13 @@ public class YangInt32 extends DefaultLocationInfo
     /**
      * The value of YANG's int32.
      */
-    private final int value;
+    private int value;
+
+    /**
+     * Creates an object of YANG's int32 whose value is not set.
+     */
+    public YangInt32() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
@@ -53,7 +53,13 @@ public class YangInt64 extends DefaultLocationInfo
     /**
      * The value of YANG's int64.
      */
-    private final long value;
+    private long value;
+
+    /**
+     * Creates an object of YANG's int64 whose value is not set.
+     */
+    public YangInt64() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
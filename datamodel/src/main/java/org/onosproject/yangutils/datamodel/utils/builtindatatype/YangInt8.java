@@ -53,7 +53,13 @@ public class YangInt8 extends DefaultLocationInfo
     /**
      * The value of YANG's int8.
      */
-    private final byte value;
+    private byte value;
+
+    /**
+     * Creates an object of YANG's int8 whose value is not set.
+     */
+    public YangInt8() {
+    }
 
     /**
      * Creates an object with the value initialized with value represented in
@@ -54,6 +54,12 @@ public class YangUint16 extends DefaultLocationInfo
      */
     private int value;
 
+    /**
+     * Creates an object of YANG's uint16 whose value is not set.
+     */
+    public YangUint16() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
@@ -48,6 +48,12 @@ public class YangUint32 extends DefaultLocationInfo
      */
     private long value;
 
+    /**
+     * Creates an object of YANG's uint32 whose value is not set.
+     */
+    public YangUint32() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
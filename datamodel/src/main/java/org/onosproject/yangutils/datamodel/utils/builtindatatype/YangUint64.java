@@ -56,6 +56,12 @@ public class YangUint64 extends DefaultLocationInfo
      */
     private BigInteger value;
 
+    /**
+     * Creates an object of YANG's uint64 whose value is not set.
+     */
+    public YangUint64() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
@@ -55,6 +55,12 @@ public class YangUint8 extends DefaultLocationInfo
      */
     private short value;
 
+    /**
+     * Creates an object of YANG's uint8 whose value is not set.
+     */
+    public YangUint8() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
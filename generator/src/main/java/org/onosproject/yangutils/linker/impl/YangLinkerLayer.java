@@ -0,0 +1,357 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.linker.impl;
+
+import org.onosproject.yangutils.datamodel.YangAtomicPath;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
+import org.onosproject.yangutils.datamodel.YangDerivedInfo;
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangInclude;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.YangResolutionInfo;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.YangTypeDef;
+import org.onosproject.yangutils.datamodel.YangUses;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_AUGMENT;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_COMPILER_ANNOTATION;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_USES;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.LEAFREF;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.getKeyGroups;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.getNamespaceKey;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.mergeKeyGroups;
+
+/**
+ * Represents a layer of YANG files of same priority, which are linked
+ * concurrently. Files of a layer neither import nor include each other, but
+ * linking of a file updates the data model of some of the files it refers
+ * to, so the layer is divided into groups of files which are linked one
+ * after another.
+ * <p>
+ * Files are in the same group when they share the namespace of:
+ * <ul>
+ * <li>the file itself, which covers sub-modules of a module;</li>
+ * <li>a file augmented or annotated by them, whose schema tree is
+ * updated, and the files reading such a schema tree through import;</li>
+ * <li>a file whose groupings are used by them, since the types of cloned
+ * leaves are shared with the grouping;</li>
+ * <li>an imported file having a typedef of leafref, since the leafref is
+ * shared with the types derived from it.</li>
+ * </ul>
+ */
+public class YangLinkerLayer {
+
+    private final int priority;
+    private final List<YangNode> nodes;
+    private List<List<YangNode>> groups;
+    private long linkingTime;
+
+    /**
+     * Creates a linker layer.
+     *
+     * @param priority priority of the YANG files
+     * @param nodes    root nodes of the YANG files in sorted order
+     */
+    YangLinkerLayer(int priority, List<YangNode> nodes) {
+        this.priority = priority;
+        this.nodes = Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Returns the priority of the YANG files of the layer.
+     *
+     * @return priority
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the root nodes of the YANG files of the layer.
+     *
+     * @return root nodes
+     */
+    public List<YangNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of groups of YANG files linked concurrently.
+     *
+     * @return number of groups
+     */
+    public int getGroupCount() {
+        return getLinkingGroups().size();
+    }
+
+    /**
+     * Returns the time taken to link the layer, in milliseconds.
+     *
+     * @return linking time
+     */
+    public long getLinkingTime() {
+        return linkingTime;
+    }
+
+    /**
+     * Sets the time taken to link the layer, in milliseconds.
+     *
+     * @param linkingTime linking time
+     */
+    void setLinkingTime(long linkingTime) {
+        this.linkingTime = linkingTime;
+    }
+
+    /**
+     * Returns the groups of the YANG files which can be linked
+     * independently. Each group keeps the order of the layer.
+     *
+     * @return groups of root nodes
+     */
+    List<List<YangNode>> getLinkingGroups() {
+        if (groups != null) {
+            return groups;
+        }
+        Map<YangNode, Set<Object>> schemaUpdates = new HashMap<>();
+        Set<Object> updatedSchemas = new HashSet<>();
+        for (YangNode node : nodes) {
+            Set<Object> keys = getSchemaUpdateKeys(node);
+            schemaUpdates.put(node, keys);
+            updatedSchemas.addAll(keys);
+        }
+
+        Map<Object, Object> keyParents = new HashMap<>();
+        Map<YangNode, Boolean> leafRefTypeDefs = new HashMap<>();
+        for (YangNode node : nodes) {
+            Set<Object> keys = schemaUpdates.get(node);
+            keys.add(getNamespaceKey(node));
+            keys.addAll(getUsedGroupingKeys(node));
+            for (YangNode imported : getImportedNodes(node)) {
+                Object key = getNamespaceKey(imported);
+                if (updatedSchemas.contains(key)) {
+                    keys.add(key);
+                }
+            }
+            for (YangNode referred : getReferredNodes(node)) {
+                if (hasLeafRefTypeDef(referred, leafRefTypeDefs)) {
+                    keys.add(getNamespaceKey(referred));
+                }
+            }
+
+            Object nodeKey = getNamespaceKey(node);
+            for (Object key : keys) {
+                mergeKeyGroups(keyParents, nodeKey, key);
+            }
+        }
+        groups = Collections.unmodifiableList(getKeyGroups(nodes, keyParents));
+        return groups;
+    }
+
+    /**
+     * Returns the keys of the files whose schema tree is updated by the
+     * augments and compiler annotations of a file.
+     *
+     * @param node root node of the file
+     * @return keys of updated files
+     */
+    private static Set<Object> getSchemaUpdateKeys(YangNode node) {
+        Set<Object> keys = new HashSet<>();
+        if (!(node instanceof YangReferenceResolver)) {
+            return keys;
+        }
+        YangReferenceResolver resolver = (YangReferenceResolver) node;
+        for (YangResolutionInfo info :
+                resolver.getUnresolvedResolutionList(YANG_AUGMENT)) {
+            Object entity = info.getEntityToResolveInfo().getEntityToResolve();
+            if (entity instanceof YangAugment) {
+                addPathKeys(node, ((YangAugment) entity).getTargetNode(), keys);
+            }
+        }
+        for (YangResolutionInfo info : resolver
+                .getUnresolvedResolutionList(YANG_COMPILER_ANNOTATION)) {
+            Object entity = info.getEntityToResolveInfo().getEntityToResolve();
+            if (entity instanceof YangCompilerAnnotation) {
+                addPathKeys(node, ((YangCompilerAnnotation) entity)
+                        .getAtomicPathList(), keys);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Adds the keys of the files referred by the prefixes of a path.
+     *
+     * @param node root node of the file having the path
+     * @param path atomic path
+     * @param keys keys of referred files
+     */
+    private static void addPathKeys(YangNode node, List<YangAtomicPath> path,
+                                    Set<Object> keys) {
+        if (path == null) {
+            return;
+        }
+        for (YangAtomicPath atomicPath : path) {
+            keys.add(getNamespaceKey(getPrefixedNode(
+                    node, atomicPath.getNodeIdentifier().getPrefix())));
+        }
+    }
+
+    /**
+     * Returns the keys of the files whose groupings are used by a file.
+     *
+     * @param node root node of the file
+     * @return keys of files having used groupings
+     */
+    private static Set<Object> getUsedGroupingKeys(YangNode node) {
+        Set<Object> keys = new HashSet<>();
+        if (!(node instanceof YangReferenceResolver)) {
+            return keys;
+        }
+        for (YangResolutionInfo info : ((YangReferenceResolver) node)
+                .getUnresolvedResolutionList(YANG_USES)) {
+            Object entity = info.getEntityToResolveInfo().getEntityToResolve();
+            if (entity instanceof YangUses) {
+                keys.add(getNamespaceKey(getPrefixedNode(
+                        node, ((YangUses) entity).getPrefix())));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the root node referred by a prefix in a file. It is the file
+     * itself when the prefix is its own or unknown.
+     *
+     * @param node   root node of the file
+     * @param prefix prefix
+     * @return referred root node
+     */
+    private static YangNode getPrefixedNode(YangNode node, String prefix) {
+        if (prefix == null || !(node instanceof YangReferenceResolver)) {
+            return node;
+        }
+        YangReferenceResolver resolver = (YangReferenceResolver) node;
+        if (prefix.equals(resolver.getPrefix())) {
+            return node;
+        }
+        for (YangImport yangImport : resolver.getImportList()) {
+            if (prefix.equals(yangImport.getPrefixId()) &&
+                    yangImport.getImportedNode() != null) {
+                return yangImport.getImportedNode();
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the root nodes of the files imported by a file.
+     *
+     * @param node root node of the file
+     * @return imported root nodes
+     */
+    private static List<YangNode> getImportedNodes(YangNode node) {
+        List<YangNode> imported = new ArrayList<>();
+        if (node instanceof YangReferenceResolver) {
+            for (YangImport yangImport :
+                    ((YangReferenceResolver) node).getImportList()) {
+                if (yangImport.getImportedNode() != null) {
+                    imported.add(yangImport.getImportedNode());
+                }
+            }
+        }
+        return imported;
+    }
+
+    /**
+     * Returns the root nodes of the files imported or included by a file,
+     * directly or through other files.
+     *
+     * @param node root node of the file
+     * @return referred root nodes
+     */
+    private static Set<YangNode> getReferredNodes(YangNode node) {
+        Set<YangNode> referred = new HashSet<>();
+        List<YangNode> toVisit = new ArrayList<>();
+        toVisit.add(node);
+        while (!toVisit.isEmpty()) {
+            YangNode cur = toVisit.remove(toVisit.size() - 1);
+            if (!(cur instanceof YangReferenceResolver)) {
+                continue;
+            }
+            List<YangNode> next = getImportedNodes(cur);
+            for (YangInclude include :
+                    ((YangReferenceResolver) cur).getIncludeList()) {
+                if (include.getIncludedNode() != null) {
+                    next.add(include.getIncludedNode());
+                }
+            }
+            for (YangNode nextNode : next) {
+                if (nextNode != node && referred.add(nextNode)) {
+                    toVisit.add(nextNode);
+                }
+            }
+        }
+        return referred;
+    }
+
+    /**
+     * Returns true if a file has a top level typedef whose effective type
+     * is leafref, or whose effective type is not known yet.
+     *
+     * @param node  root node of the file
+     * @param cache results of files checked earlier
+     * @return true if file has typedef of leafref
+     */
+    private static boolean hasLeafRefTypeDef(YangNode node,
+                                             Map<YangNode, Boolean> cache) {
+        Boolean result = cache.get(node);
+        if (result != null) {
+            return result;
+        }
+        result = false;
+        YangNode child = node.getChild();
+        while (child != null && !result) {
+            if (child instanceof YangTypeDef) {
+                YangType<?> type = ((YangTypeDef) child).getTypeDefBaseType();
+                if (type != null && type.getDataType() == LEAFREF) {
+                    result = true;
+                } else if (type != null && type.getDataType() == DERIVED) {
+                    Object info = type.getDataTypeExtendedInfo();
+                    result = !(info instanceof YangDerivedInfo) ||
+                            ((YangDerivedInfo<?>) info)
+                                    .getEffectiveBuiltInType() == null ||
+                            ((YangDerivedInfo<?>) info)
+                                    .getEffectiveBuiltInType() == LEAFREF;
+                }
+            }
+            child = child.getNextSibling();
+        }
+        cache.put(node, result);
+        return result;
+    }
+}
@@ -16,20 +16,28 @@
 
 package org.onosproject.yangutils.linker.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.onosproject.yangutils.datamodel.ResolvableType;
+import org.onosproject.yangutils.datamodel.YangModuleRegistry;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangReferenceResolver;
 import org.onosproject.yangutils.datamodel.YangSubModule;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.YangNamespaceIds;
 import org.onosproject.yangutils.linker.YangLinker;
 import org.onosproject.yangutils.linker.exceptions.LinkerException;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.updateFilePriority;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 
@@ -45,6 +53,29 @@ public class YangLinkerManager
      */
     private Set<YangNode> yangNodeSet = new HashSet<>();
 
+    /*
+     * Registry of the YANG nodes by name and by name with revision, used to
+     * find imported, included and belongs-to modules.
+     */
+    private final YangModuleRegistry moduleRegistry = new YangModuleRegistry();
+
+    /*
+     * Canonical ids of the namespaces of the linked modules.
+     */
+    private YangNamespaceIds namespaceIds = new YangNamespaceIds();
+
+    /*
+     * Number of worker threads used for inter-file linking. Files are linked
+     * one after another when it is not more than one.
+     */
+    private int linkerThreadCount = 1;
+
+    /*
+     * Layers of YANG files linked concurrently in the last inter-file
+     * linking.
+     */
+    private final List<YangLinkerLayer> linkerLayers = new ArrayList<>();
+
     /**
      * Returns set of YANG node.
      *
@@ -54,6 +85,26 @@ public class YangLinkerManager
         return yangNodeSet;
     }
 
+    /**
+     * Sets the number of worker threads used for inter-file linking.
+     *
+     * @param linkerThreadCount number of linker threads
+     */
+    public void setLinkerThreadCount(int linkerThreadCount) {
+        this.linkerThreadCount = linkerThreadCount;
+    }
+
+    /**
+     * Returns the layers of YANG files linked concurrently in the last
+     * inter-file linking, with the time taken by each of them. It is empty
+     * when files are linked one after another.
+     *
+     * @return linker layers
+     */
+    public List<YangLinkerLayer> getLinkerLayers() {
+        return Collections.unmodifiableList(linkerLayers);
+    }
+
     /**
      * Creates YANG nodes set.
      *
@@ -61,6 +112,7 @@ public class YangLinkerManager
      */
     public void createYangNodeSet(Set<YangNode> yangNodeSet) {
         getYangNodeSet().addAll(yangNodeSet);
+        moduleRegistry.addNodes(yangNodeSet);
     }
 
     @Override
@@ -72,6 +124,9 @@ public class YangLinkerManager
         // Carry out linking of sub module with module.
         linkSubModulesToParentModule(yangNodeSet);
 
+        // Assign canonical ids to the namespaces of the files.
+        assignNamespaceIds(yangNodeSet);
+
         // Add references to import list.
         addRefToYangFilesImportList(yangNodeSet);
 
@@ -87,6 +142,27 @@ public class YangLinkerManager
         processInterFileLinking(yangNodeSet);
     }
 
+    /**
+     * Assigns the canonical namespace ids of modules and sub-modules, after
+     * the sub-modules have the namespace of their parent module. The ids
+     * are assigned afresh for each linking.
+     *
+     * @param yangNodeSet set of YANG nodes
+     */
+    public void assignNamespaceIds(Set<YangNode> yangNodeSet) {
+        namespaceIds = new YangNamespaceIds();
+        namespaceIds.addNamespaces(yangNodeSet);
+    }
+
+    /**
+     * Returns the namespace ids assigned by the last linking.
+     *
+     * @return namespace ids
+     */
+    public YangNamespaceIds getNamespaceIds() {
+        return namespaceIds;
+    }
+
     /**
      * Resolves sub-module linking by linking sub module with parent module.
      *
@@ -98,7 +174,7 @@ public class YangLinkerManager
         for (YangNode yangNode : yangNodeSet) {
             if (yangNode instanceof YangSubModule) {
                 try {
-                    ((YangSubModule) yangNode).linkWithModule(getYangNodeSet());
+                    ((YangSubModule) yangNode).linkWithModule(moduleRegistry);
                 } catch (DataModelException e) {
                     String errorInfo = "Error in file: " + yangNode.getName() + " in " +
                             yangNode.getFileName() + " at " +
@@ -122,7 +198,7 @@ public class YangLinkerManager
         for (YangNode yangNode : yangNodeSet) {
             if (yangNode instanceof YangReferenceResolver) {
                 try {
-                    ((YangReferenceResolver) yangNode).addReferencesToImportList(getYangNodeSet());
+                    ((YangReferenceResolver) yangNode).addReferencesToImportList(moduleRegistry);
                 } catch (DataModelException e) {
                     String errorInfo = "Error in file: " + yangNode.getName() + " in " +
                             yangNode.getFileName() + " at " +
@@ -146,7 +222,7 @@ public class YangLinkerManager
         for (YangNode yangNode : yangNodeSet) {
             if (yangNode instanceof YangReferenceResolver) {
                 try {
-                    ((YangReferenceResolver) yangNode).addReferencesToIncludeList(getYangNodeSet());
+                    ((YangReferenceResolver) yangNode).addReferencesToIncludeList(moduleRegistry);
                 } catch (DataModelException e) {
                     String errorInfo = "Error in file: " + yangNode.getName() + " in " +
                             yangNode.getFileName() + " at " +
@@ -170,40 +246,130 @@ public class YangLinkerManager
         List<YangNode> yangNodeSortedList = new LinkedList<>();
         yangNodeSortedList.addAll(yangNodeSet);
         Collections.sort(yangNodeSortedList);
+        linkerLayers.clear();
+        if (linkerThreadCount > 1) {
+            processInterFileLinkingInLayers(yangNodeSortedList);
+            return;
+        }
         for (YangNode yangNode : yangNodeSortedList) {
+            processInterFileLinking(yangNode);
+        }
+    }
+
+    /**
+     * Processes inter file linking of the sorted YANG files concurrently on
+     * a pool of linker threads. Files of same priority form a layer, and
+     * layers are linked one after another, so that the imported and included
+     * files are linked before the files referring to them. Within a layer,
+     * the groups of files which update the same data model are linked
+     * concurrently, and the files of a group are linked in sorted order.
+     *
+     * @param sortedNodes root nodes of YANG files sorted by priority
+     * @throws LinkerException a violation in linker execution
+     */
+    private void processInterFileLinkingInLayers(List<YangNode> sortedNodes)
+            throws LinkerException {
+        ExecutorService executor = newFixedThreadPool(linkerThreadCount);
+        try {
+            int index = 0;
+            while (index < sortedNodes.size()) {
+                int priority = sortedNodes.get(index).getPriority();
+                List<YangNode> nodes = new ArrayList<>();
+                while (index < sortedNodes.size() &&
+                        sortedNodes.get(index).getPriority() == priority) {
+                    nodes.add(sortedNodes.get(index++));
+                }
+                long startTime = System.nanoTime();
+                YangLinkerLayer layer = new YangLinkerLayer(priority, nodes);
+                List<Future<Void>> results = new ArrayList<>();
+                for (List<YangNode> group : layer.getLinkingGroups()) {
+                    results.add(executor.submit(() -> {
+                        for (YangNode yangNode : group) {
+                            processInterFileLinking(yangNode);
+                        }
+                        return null;
+                    }));
+                }
+                waitForLinking(results);
+                layer.setLinkingTime(NANOSECONDS.toMillis(
+                        System.nanoTime() - startTime));
+                linkerLayers.add(layer);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for all the linker threads of a layer, and rethrows the failure
+     * of the first of them in sorted order.
+     *
+     * @param results results of the linker threads
+     * @throws LinkerException a violation in linker execution
+     */
+    private static void waitForLinking(List<Future<Void>> results)
+            throws LinkerException {
+        RuntimeException failure = null;
+        for (Future<Void> result : results) {
             try {
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_IF_FEATURE);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_USES);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_AUGMENT);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_DERIVED_DATA_TYPE);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_BASE);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_IDENTITYREF);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_LEAFREF);
-                ((YangReferenceResolver) yangNode)
-                        .resolveInterFileLinking(ResolvableType.YANG_COMPILER_ANNOTATION);
-            } catch (DataModelException e) {
-                String errorInfo = "Error in file: " + yangNode.getName() + " in " +
-                        yangNode.getFileName() + " at " +
-                        "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
-                        + e.getLocalizedMessage();
-                throw new LinkerException(errorInfo);
-                // TODO add file path in exception message in util manager.
-            } catch (LinkerException e) {
-                String errorInfo = "Error in file: " + yangNode.getName() + " in " +
-                        yangNode.getFileName() + " at " +
-                        "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
-                        + e.getLocalizedMessage();
-                throw new LinkerException(errorInfo);
-                // TODO add file path in exception message in util manager.
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LinkerException(
+                        "Linking of YANG files is interrupted.");
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+                    failure = cause instanceof RuntimeException ?
+                            (RuntimeException) cause :
+                            new LinkerException(cause.getMessage());
+                }
             }
         }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
+    /**
+     * Processes inter file linking for type and uses of a YANG file.
+     *
+     * @param yangNode root node of YANG file
+     * @throws LinkerException a violation in linker execution
+     */
+    private void processInterFileLinking(YangNode yangNode)
+            throws LinkerException {
+        try {
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_IF_FEATURE);
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_USES);
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_AUGMENT);
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_DERIVED_DATA_TYPE);
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_BASE);
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_IDENTITYREF);
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_LEAFREF);
+            ((YangReferenceResolver) yangNode)
+                    .resolveInterFileLinking(ResolvableType.YANG_COMPILER_ANNOTATION);
+        } catch (DataModelException e) {
+            String errorInfo = "Error in file: " + yangNode.getName() + " in " +
+                    yangNode.getFileName() + " at " +
+                    "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
+                    + e.getLocalizedMessage();
+            throw new LinkerException(errorInfo);
+            // TODO add file path in exception message in util manager.
+        } catch (LinkerException e) {
+            String errorInfo = "Error in file: " + yangNode.getName() + " in " +
+                    yangNode.getFileName() + " at " +
+                    "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
+                    + e.getLocalizedMessage();
+            throw new LinkerException(errorInfo);
+            // TODO add file path in exception message in util manager.
+        }
+    }
 }
@@ -33,6 +33,7 @@ import org.onosproject.yangutils.datamodel.YangLeafList;
 import org.onosproject.yangutils.datamodel.YangLeafRef;
 import org.onosproject.yangutils.datamodel.YangLeavesHolder;
 import org.onosproject.yangutils.datamodel.YangList;
+import org.onosproject.yangutils.datamodel.YangNamespace;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangNodeIdentifier;
 import org.onosproject.yangutils.datamodel.YangPathPredicate;
@@ -48,6 +49,7 @@ import org.onosproject.yangutils.linker.exceptions.LinkerException;
 import org.onosproject.yangutils.translator.exception.TranslatorException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -934,4 +936,75 @@ public final class YangLinkerUtils {
         exc.setLine(leafRef.getLineNumber());
         return exc;
     }
+
+    /**
+     * Returns the key of a root node used to group the files which cannot
+     * be processed concurrently. It is the module namespace, or the node
+     * itself when its namespace is unknown.
+     *
+     * @param node root node
+     * @return namespace key
+     */
+    public static Object getNamespaceKey(YangNode node) {
+        if (node instanceof YangNamespace) {
+            String namespace = ((YangNamespace) node).getModuleNamespace();
+            if (namespace != null) {
+                return namespace;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Merges the groups of two namespace keys, in the map from each key to
+     * a key of the same group, which leads to the key of the group.
+     *
+     * @param keyParents merged namespace keys
+     * @param key        namespace key
+     * @param otherKey   namespace key to be merged with the key
+     */
+    public static void mergeKeyGroups(Map<Object, Object> keyParents,
+                                      Object key, Object otherKey) {
+        keyParents.putIfAbsent(key, key);
+        keyParents.putIfAbsent(otherKey, otherKey);
+        keyParents.put(getRootKey(keyParents, otherKey),
+                       getRootKey(keyParents, key));
+    }
+
+    /**
+     * Returns the groups of root nodes whose namespace keys are merged.
+     * Each group keeps the order of the nodes.
+     *
+     * @param nodes      root nodes
+     * @param keyParents merged namespace keys
+     * @return groups of root nodes
+     */
+    public static List<List<YangNode>> getKeyGroups(
+            Collection<YangNode> nodes, Map<Object, Object> keyParents) {
+        Map<Object, List<YangNode>> groups = new LinkedHashMap<>();
+        for (YangNode node : nodes) {
+            Object key = getNamespaceKey(node);
+            keyParents.putIfAbsent(key, key);
+            groups.computeIfAbsent(getRootKey(keyParents, key),
+                                   k -> new ArrayList<>()).add(node);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * Returns the key representing the group of a namespace key.
+     *
+     * @param keyParents merged namespace keys
+     * @param key        namespace key
+     * @return key of the group
+     */
+    private static Object getRootKey(Map<Object, Object> keyParents,
+                                     Object key) {
+        Object parent = keyParents.get(key);
+        while (!parent.equals(key)) {
+            key = parent;
+            parent = keyParents.get(key);
+        }
+        return key;
+    }
 }
@@ -89,7 +89,6 @@ import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.FAILED_TO_FIND_ANNOTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.FAILED_TO_FIND_LEAD_INFO_HOLDER;
 import static org.onosproject.yangutils.utils.UtilConstants.FAILED_TO_LINK;
-import static org.onosproject.yangutils.utils.UtilConstants.INVALID_ENTITY;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_LINKER_STATE;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_RESOLVED_ENTITY;
 import static org.onosproject.yangutils.utils.UtilConstants.INVALID_TARGET;
@@ -435,8 +434,17 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
                 /*
                  * Check for the referred node defined in a ancestor scope
                  */
-            YangNode curRefNode = ancestorRefNode.getChild();
-            if (isReferredNodeInSiblingListProcessed(curRefNode)) {
+            YangNode refNode = getReferredDefinition(ancestorRefNode);
+            if (refNode != null) {
+
+                // Adds reference link of entity to the node under resolution.
+                addReferredEntityLink(refNode, LINKED);
+
+                /*
+                 * resolve the reference and update the partial resolution
+                 * stack with any further recursive references
+                 */
+                addUnresolvedRecursiveReferenceToStack(refNode);
                 return;
             }
             ancestorRefNode = ancestorRefNode.getParent();
@@ -503,7 +511,7 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
 
         YangFeatureHolder featureHolder = getFeatureHolder(ancestorRefNode);
         YangNode curRefNode = (YangNode) featureHolder;
-        if (isReferredNode(curRefNode)) {
+        if (curRefNode != null && isFeatureDefinedInNode(curRefNode)) {
 
             // Adds reference link of entity to the node under resolution.
             addReferredEntityLink(curRefNode, LINKED);
@@ -539,16 +547,8 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     private boolean isIdentityReferenceFound(String nodeName, YangNode ancestorRefNode)
             throws DataModelException {
 
-        // When child is not present return.
-        if (ancestorRefNode.getChild() == null) {
-            return false;
-        }
-
-        ancestorRefNode = ancestorRefNode.getChild();
-
-        // Checks all the siblings under the node and returns the matched node.
-        YangNode nodeFound = isReferredNodeInSiblingProcessedForIdentity(ancestorRefNode,
-                                                                         nodeName);
+        // Finds the identity defined under the node.
+        YangNode nodeFound = ancestorRefNode.getIdentity(nodeName);
 
         if (nodeFound != null) {
             // Adds reference link of entity to the node under resolution.
@@ -631,169 +631,43 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     }
 
     /**
-     * Checks for the referred parent node for the base/identity.
-     *
-     * @param refNode potential referred node
-     * @return the referred parent node of base/identity.
-     * @throws DataModelException data model errors
-     */
-    private YangNode isReferredNodeInSiblingProcessedForIdentity(YangNode refNode,
-                                                                 String refName)
-            throws DataModelException {
-
-        while (refNode != null) {
-            if (refNode instanceof YangIdentity) {
-                // Check if the potential referred node is the actual referred node
-                if (isReferredNodeForIdentity(refNode, refName)) {
-                    return refNode;
-                }
-            }
-            refNode = refNode.getNextSibling();
-        }
-        return null;
-    }
-
-    /**
-     * Checks if the current reference node name and the name in the base/identityref base are equal.
+     * Returns the typedef/grouping defined in the scope of a node, which is
+     * referred by the entity under resolution.
      *
-     * @param curRefNode the node where the reference is pointed
-     * @param name       name of the base in the base/identityref base
-     * @return status of the match between the name
+     * @param scope node in whose scope the definition is searched
+     * @return referred typedef/grouping, null if not defined in the scope
      * @throws DataModelException a violation of data model rules
      */
-    private boolean isReferredNodeForIdentity(YangNode curRefNode, String name)
-            throws DataModelException {
-        T entity = getCurEntityToResolveFromStack();
-        if (entity instanceof YangIdentityRef || entity instanceof YangBase) {
-
-            //Check if name of node name matches with the current reference node.
-            return curRefNode.getName().contentEquals(name);
-        } else {
-            throw new DataModelException(getErrorMsg(
-                    INVALID_ENTITY, curRefNode.getName(), curRefNode.getLineNumber(),
-                    curRefNode.getCharPosition(), curRefNode.getFileName()));
-        }
-    }
-
-    /**
-     * Checks for the referred node defined in a ancestor scope.
-     *
-     * @param refNode potential referred node
-     * @return status of resolution and updating the partial resolved stack with
-     * the any recursive references
-     * @throws DataModelException a violation of data model rules
-     */
-    private boolean isReferredNodeInSiblingListProcessed(YangNode refNode)
-            throws DataModelException {
-        while (refNode != null) {
-
-            // Check if the potential referred node is the actual referred node
-            if (isReferredNode(refNode)) {
-
-                // Adds reference link of entity to the node under resolution.
-                addReferredEntityLink(refNode, LINKED);
-
-                /*
-                 * resolve the reference and update the partial resolution stack
-                 * with any further recursive references
-                 */
-                addUnresolvedRecursiveReferenceToStack(refNode);
-
-                /*
-                 * return true, since the reference is linked and any recursive
-                 * unresolved references is added to the stack
-                 */
-                return true;
-            }
-
-            refNode = refNode.getNextSibling();
-        }
-        return false;
-    }
-
-    /**
-     * Checks if the potential referred node is the actual referred node.
-     *
-     * @param refNode typedef/grouping node
-     * @return true if node is of resolve type otherwise false
-     * @throws DataModelException a violation of data model rules
-     */
-    private boolean isReferredNode(YangNode refNode)
+    private YangNode getReferredDefinition(YangNode scope)
             throws DataModelException {
         T entity = getCurEntityToResolveFromStack();
         if (entity instanceof YangType) {
-            if (refNode instanceof YangTypeDef) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else if (entity instanceof YangUses) {
-            if (refNode instanceof YangGrouping) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else if (entity instanceof YangIfFeature) {
-            if (refNode instanceof YangFeatureHolder) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else if (entity instanceof YangBase || entity instanceof YangIdentityRef) {
-            if (refNode instanceof YangIdentity) {
-                return isNodeNameSameAsResolutionInfoName(refNode);
-            }
-        } else {
-            throw new DataModelException(getErrorMsg(
-                    LINKER_ERROR, refNode.getName(), refNode.getLineNumber(),
-                    refNode.getCharPosition(), refNode.getFileName()));
-        }
-        return false;
-    }
-
-    /**
-     * Checks if node name is same as name in resolution info, i.e. name of
-     * typedef/grouping is same as name of type/uses.
-     *
-     * @param node typedef/grouping node
-     * @return true if node name is same as name in resolution info, otherwise
-     * false
-     * @throws DataModelException a violation of data model rules
-     */
-
-    private boolean isNodeNameSameAsResolutionInfoName(YangNode node)
-            throws DataModelException {
-        T entity = getCurEntityToResolveFromStack();
-        if (entity instanceof YangType) {
-            return node.getName().contentEquals(((YangType<?>) entity)
-                                                        .getDataTypeName());
+            return scope.getTypeDef(((YangType<?>) entity).getDataTypeName());
         }
         if (entity instanceof YangUses) {
-            return node.getName().contentEquals(((YangUses) entity).getName());
-        }
-        if (entity instanceof YangIfFeature) {
-            return isFeatureDefinedInNode(node);
-        }
-        if (entity instanceof YangBase) {
-            return node.getName().contentEquals(((
-                    YangBase) entity).getBaseIdentifier().getName());
-        }
-        if (entity instanceof YangIdentityRef) {
-            return node.getName().contentEquals(((YangIdentityRef) entity).getName());
+            return scope.getGrouping(((YangUses) entity).getName());
         }
         throw new DataModelException(getErrorMsg(
-                INVALID_RESOLVED_ENTITY, node.getName(), node.getLineNumber(),
-                node.getCharPosition(), node.getFileName()));
+                LINKER_ERROR, scope.getName(), scope.getLineNumber(),
+                scope.getCharPosition(), scope.getFileName()));
     }
 
+    /**
+     * Checks if the feature of the if-feature under resolution is defined in
+     * the feature holder node, and if so, sets it as the referred feature.
+     *
+     * @param node feature holder node
+     * @return true if feature is defined in the node, otherwise false
+     */
     private boolean isFeatureDefinedInNode(YangNode node) {
         T entity = getCurEntityToResolveFromStack();
         YangNodeIdentifier ifFeature = ((YangIfFeature) entity).getName();
-        List<YangFeature> featureList = ((YangFeatureHolder) node).getFeatureList();
-        if (featureList != null && !featureList.isEmpty()) {
-            Iterator<YangFeature> iterator = featureList.iterator();
-            while (iterator.hasNext()) {
-                YangFeature feature = iterator.next();
-                if (ifFeature.getName().equals(feature.getName())) {
-                    ((YangIfFeature) entity).setReferredFeature(feature);
-                    ((YangIfFeature) entity).setReferredFeatureHolder(node);
-                    return true;
-                }
-            }
+        YangFeature feature = ((YangFeatureHolder) node)
+                .getFeature(ifFeature.getName());
+        if (feature != null) {
+            ((YangIfFeature) entity).setReferredFeature(feature);
+            ((YangIfFeature) entity).setReferredFeatureHolder(node);
+            return true;
         }
         return false;
     }
@@ -1512,18 +1386,8 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
      * @return referred grouping
      */
     private YangNode findRefGrouping(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangGrouping) {
-                if (tmpNode.getName()
-                        .equals(((YangUses) getCurEntityToResolveFromStack())
-                                        .getName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
+        return refNode.getGrouping(((YangUses) getCurEntityToResolveFromStack())
+                                           .getName());
     }
 
     /**
@@ -1535,15 +1399,11 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
     private YangNode findRefFeature(YangNode refNode) {
         T entity = getCurEntityToResolveFromStack();
         YangNodeIdentifier ifFeature = ((YangIfFeature) entity).getName();
-        List<YangFeature> featureList = ((YangFeatureHolder) refNode)
-                .getFeatureList();
-        if (featureList != null && !featureList.isEmpty()) {
-            for (YangFeature feature : featureList) {
-                if (ifFeature.getName().equals(feature.getName())) {
-                    ((YangIfFeature) entity).setReferredFeature(feature);
-                    return refNode;
-                }
-            }
+        YangFeature feature = ((YangFeatureHolder) refNode)
+                .getFeature(ifFeature.getName());
+        if (feature != null) {
+            ((YangIfFeature) entity).setReferredFeature(feature);
+            return refNode;
         }
         return null;
     }
@@ -1555,18 +1415,8 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
      * @return referred typedef
      */
     private YangNode findRefTypedef(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangTypeDef) {
-                if (tmpNode.getName()
-                        .equals(((YangType) getCurEntityToResolveFromStack())
-                                        .getDataTypeName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
+        return refNode.getTypeDef(((YangType) getCurEntityToResolveFromStack())
+                                          .getDataTypeName());
     }
 
     /**
@@ -1576,18 +1426,8 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
      * @return referred identity
      */
     private YangNode findRefIdentity(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangIdentity) {
-                if (tmpNode.getName()
-                        .equals(((YangBase) getCurEntityToResolveFromStack())
-                                        .getBaseIdentifier().getName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
+        return refNode.getIdentity(((YangBase) getCurEntityToResolveFromStack())
+                                           .getBaseIdentifier().getName());
     }
 
     /**
@@ -1597,18 +1437,8 @@ public class YangResolutionInfoImpl<T> extends DefaultLocationInfo
      * @return referred identity
      */
     private YangNode findRefIdentityRef(YangNode refNode) {
-        YangNode tmpNode = refNode.getChild();
-        while (tmpNode != null) {
-            if (tmpNode instanceof YangIdentity) {
-                if (tmpNode.getName()
-                        .equals(((YangIdentityRef) getCurEntityToResolveFromStack())
-                                        .getBaseIdentity().getName())) {
-                    return tmpNode;
-                }
-            }
-            tmpNode = tmpNode.getNextSibling();
-        }
-        return null;
+        return refNode.getIdentity(((YangIdentityRef) getCurEntityToResolveFromStack())
+                                           .getBaseIdentity().getName());
     }
 
     /**
@@ -39,14 +39,15 @@ import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.searchAndDelet
 public final class JavaCodeGeneratorUtil {
 
     /**
-     * Current YANG node.
+     * Current YANG node, kept per thread so that independent data model
+     * trees can be translated concurrently.
      */
-    private static YangNode curNode;
+    private static final ThreadLocal<YangNode> CUR_NODE = new ThreadLocal<>();
 
     /**
-     * Root node.
+     * Root node, kept per thread.
      */
-    private static YangNode rootNode;
+    private static final ThreadLocal<YangNode> ROOT_NODE = new ThreadLocal<>();
 
     /**
      * Creates a java code generator utility object.
@@ -60,7 +61,7 @@ public final class JavaCodeGeneratorUtil {
      * @return current YANG node
      */
     public static YangNode getCurNode() {
-        return curNode;
+        return CUR_NODE.get();
     }
 
     /**
@@ -69,7 +70,7 @@ public final class JavaCodeGeneratorUtil {
      * @param node current YANG node
      */
     public static void setCurNode(YangNode node) {
-        curNode = node;
+        CUR_NODE.set(node);
     }
 
     /**
@@ -306,7 +307,7 @@ public final class JavaCodeGeneratorUtil {
      * @return root node
      */
     private static YangNode getRootNode() {
-        return rootNode;
+        return ROOT_NODE.get();
     }
 
     /**
@@ -315,7 +316,7 @@ public final class JavaCodeGeneratorUtil {
      * @param rootNode root node
      */
     private static void setRootNode(YangNode rootNode) {
-        JavaCodeGeneratorUtil.rootNode = rootNode;
+        ROOT_NODE.set(rootNode);
     }
 
     /**
@@ -23,6 +23,7 @@ import java.io.IOException;
 
 import static org.onosproject.yangutils.translator.tojava.GeneratedTempFileType.CONSTRUCTOR_IMPL_MASK;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getConstructor;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getMemoizedHashCodeConstructor;
 import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.closeFile;
 
 /**
@@ -71,15 +72,22 @@ public class TempJavaBeanFragmentFiles
     }
 
     /**
-     * Adds constructor for class.
+     * Adds constructor for class. When hash code is memoized, the built
+     * object keeps its own copies of the builder collections.
      *
      * @param attr attribute info
      * @throws IOException when fails to append to temporary file
      */
     private void addConstructor(JavaAttributeInfo attr)
             throws IOException {
-        appendToFile(constructorImplTempFileHandle,
-                     getConstructor(attr, getGeneratedJavaFiles()));
+        if (isMemoizedHashCode()) {
+            appendToFile(constructorImplTempFileHandle,
+                         getMemoizedHashCodeConstructor(
+                                 attr, getGeneratedJavaFiles()));
+        } else {
+            appendToFile(constructorImplTempFileHandle,
+                         getConstructor(attr, getGeneratedJavaFiles()));
+        }
     }
 
     /**
@@ -37,6 +37,7 @@ import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaGroupingTra
 import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaLeafTranslator;
 import org.onosproject.yangutils.translator.tojava.utils.JavaExtendsListHolder;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.TempFragmentStore;
 
 import java.io.File;
 import java.io.IOException;
@@ -93,10 +94,12 @@ import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetterForClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getGetterString;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethod;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getPrimitiveEqualsMethod;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterForClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterString;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getToStringMethod;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getYangDataStructure;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.isPrimitiveAttribute;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.parseBuilderInterfaceBuildMethodString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getImportString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getOverRideString;
@@ -417,6 +420,19 @@ public class TempJavaFragmentFiles {
      */
     private File toStringImplTempFileHandle;
 
+    /**
+     * Equals method strings of the attributes which are neither primitive
+     * nor collections, compared after the primitive attributes when hash
+     * code is memoized.
+     */
+    private final StringBuilder objectEqualsImpl = new StringBuilder();
+
+    /**
+     * Equals method strings of the list, bit set and map attributes,
+     * compared last when hash code is memoized.
+     */
+    private final StringBuilder collectionEqualsImpl = new StringBuilder();
+
     /**
      * Temporary file handle for from string method of class.
      */
@@ -1112,7 +1128,8 @@ public class TempJavaFragmentFiles {
     private void addSubTreeFilteringForLeaf(JavaAttributeInfo attr)
             throws IOException {
         appendToFile(subtreeFilteringForLeafTempFileHandle,
-                     getSubtreeFilteringForLeaf(attr, attr.getAttributeType()) +
+                     getSubtreeFilteringForLeaf(attr, attr.getAttributeType(),
+                                                isLazySubtreeFiltering()) +
                              NEW_LINE);
     }
 
@@ -1125,7 +1142,8 @@ public class TempJavaFragmentFiles {
     private void addSubtreeFilteringForLeafList(JavaAttributeInfo attr)
             throws IOException {
         appendToFile(getSubtreeFilteringForListTempFileHandle,
-                     getSubtreeFilteringForLeafList(attr) + NEW_LINE);
+                     getSubtreeFilteringForLeafList(
+                             attr, isLazySubtreeFiltering()) + NEW_LINE);
     }
 
     /**
@@ -1137,7 +1155,8 @@ public class TempJavaFragmentFiles {
     private void addSubtreeFilteringForChildNode(JavaAttributeInfo attr)
             throws IOException {
         appendToFile(getSubtreeFilteringForChildNodeTempFileHandle,
-                     getSubtreeFilteringForNode(attr, attrNode) + NEW_LINE);
+                     getSubtreeFilteringForNode(
+                             attr, attrNode, isLazySubtreeFiltering()) + NEW_LINE);
     }
 
     /**
@@ -1327,13 +1346,19 @@ public class TempJavaFragmentFiles {
     }
 
     /**
-     * Adds hash code method for class.
+     * Adds hash code method for class. When hash code is memoized, bit set
+     * and queue attributes are left out of it, as they cannot be made
+     * unmodifiable; equals still compares them.
      *
      * @param attr attribute info
      * @throws IOException when fails to append to temporary file
      */
     private void addHashCodeMethod(JavaAttributeInfo attr)
             throws IOException {
+        if (javaFlagSet(DEFAULT_CLASS_MASK) && isMemoizedHashCode() &&
+                isModifiableAttribute(attr)) {
+            return;
+        }
         appendToFile(hashCodeImplTempFileHandle,
                      getHashCodeMethod(attr) + NEW_LINE);
     }
@@ -1346,8 +1371,60 @@ public class TempJavaFragmentFiles {
      */
     private void addEqualsMethod(JavaAttributeInfo attr)
             throws IOException {
-        appendToFile(equalsImplTempFileHandle,
-                     getEqualsMethod(attr) + NEW_LINE);
+        if (!javaFlagSet(DEFAULT_CLASS_MASK) || !isMemoizedHashCode()) {
+            appendToFile(equalsImplTempFileHandle,
+                         getEqualsMethod(attr) + NEW_LINE);
+        } else if (isPrimitiveAttribute(attr)) {
+            appendToFile(equalsImplTempFileHandle,
+                         getPrimitiveEqualsMethod(attr) + NEW_LINE);
+        } else if (isCollectionAttribute(attr)) {
+            collectionEqualsImpl.append(getEqualsMethod(attr)).append(NEW_LINE);
+        } else {
+            objectEqualsImpl.append(getEqualsMethod(attr)).append(NEW_LINE);
+        }
+    }
+
+    /**
+     * Adds the equals method strings of the attributes which are compared
+     * after the primitive attributes, in the order of their cost.
+     *
+     * @throws IOException when fails to append to temporary file
+     */
+    private void addDeferredEqualsMethods() throws IOException {
+        if (objectEqualsImpl.length() != 0 ||
+                collectionEqualsImpl.length() != 0) {
+            appendToFile(equalsImplTempFileHandle,
+                         objectEqualsImpl.toString() + collectionEqualsImpl);
+            objectEqualsImpl.setLength(0);
+            collectionEqualsImpl.setLength(0);
+        }
+    }
+
+    /**
+     * Returns true if the attribute is a bit set or a queue, which a built
+     * object cannot hold as unmodifiable.
+     *
+     * @param attr attribute info
+     * @return true if the attribute is modifiable
+     */
+    private static boolean isModifiableAttribute(JavaAttributeInfo attr) {
+        String attrName = attr.getAttributeName();
+        return attrName.equals(VALUE_LEAF) || attrName.equals(SELECT_LEAF) ||
+                attr.isListAttr() && getYangDataStructure(
+                        attr.getCompilerAnnotation()) == YangDataStructure.QUEUE;
+    }
+
+    /**
+     * Returns true if the attribute is a list, a bit set or a map.
+     *
+     * @param attr attribute info
+     * @return true if the attribute is a collection
+     */
+    private static boolean isCollectionAttribute(JavaAttributeInfo attr) {
+        String attrName = attr.getAttributeName();
+        return attr.isListAttr() || attrName.equals(VALUE_LEAF) ||
+                attrName.equals(SELECT_LEAF) ||
+                attrName.equals(YANG_AUGMENTED_INFO_MAP);
     }
 
     /**
@@ -1386,6 +1463,27 @@ public class TempJavaFragmentFiles {
     protected File getTemporaryFileHandle(String fileName)
             throws IOException {
         String path = getTempDirPath(absoluteDirPath);
+        if (isTempFragmentsInMemory()) {
+            /*
+             * Package directory is created as it is done along with the
+             * temporary directory, since generation of package info relies
+             * on it.
+             */
+            File pkgDir = new File(getPackageDirPathFromJavaJPackage(
+                    absoluteDirPath));
+            if (!pkgDir.exists() && !pkgDir.mkdirs()) {
+                throw new IOException("failed to create package directory " +
+                                              "for " + fileName);
+            }
+            File file = new File(path + fileName + TEMP_FILE_EXTENSION);
+            if (file.exists() || !TempFragmentStore.create(file)) {
+                throw new IOException(fileName + " is reused due to YANG " +
+                                              "naming. probably your " +
+                                              "previous build would have " +
+                                              "failed");
+            }
+            return file;
+        }
         File dir = new File(path);
         boolean isCreated;
         if (!dir.exists()) {
@@ -1434,7 +1532,11 @@ public class TempJavaFragmentFiles {
     public String getTemporaryDataFromFileHandle(File file, String absolutePath)
             throws IOException {
         String path = getTempDirPath(absolutePath);
-        if (new File(path + file.getName()).exists()) {
+        File tempFile = new File(path + file.getName());
+        if (TempFragmentStore.isBuffered(tempFile)) {
+            return TempFragmentStore.read(tempFile);
+        }
+        if (tempFile.exists()) {
             return readAppendFile(path + file.getName(), EMPTY_STRING);
         }
         throw new IOException("Unable to get data from the given " +
@@ -1495,12 +1597,58 @@ public class TempJavaFragmentFiles {
     protected void appendToFile(File file, String data)
             throws IOException {
         try {
-            insertDataIntoJavaFile(file, data);
+            if (TempFragmentStore.isBuffered(file)) {
+                TempFragmentStore.append(file, data,
+                                         getTempFragmentSpillThreshold());
+            } else {
+                insertDataIntoJavaFile(file, data);
+            }
         } catch (IOException ex) {
             throw new IOException("failed to write in temp file.");
         }
     }
 
+    /**
+     * Returns true if temporary code fragments are to be buffered in memory.
+     *
+     * @return true if temporary code fragments are buffered in memory
+     */
+    private boolean isTempFragmentsInMemory() {
+        YangPluginConfig config = javaFileInfo.getPluginConfig();
+        return config == null || config.isTempFragmentsInMemory();
+    }
+
+    /**
+     * Returns true if the generated subtree filtering builds its result
+     * lazily.
+     *
+     * @return true if the result of subtree filtering is built lazily
+     */
+    private boolean isLazySubtreeFiltering() {
+        YangPluginConfig config = javaFileInfo.getPluginConfig();
+        return config != null && config.isLazySubtreeFiltering();
+    }
+
+    /**
+     * Returns true if the generated default classes memoize their hash code.
+     *
+     * @return true if hash code is memoized
+     */
+    protected boolean isMemoizedHashCode() {
+        YangPluginConfig config = javaFileInfo.getPluginConfig();
+        return config != null && config.isMemoizedHashCode();
+    }
+
+    /**
+     * Returns the spill threshold of buffered temporary code fragments.
+     *
+     * @return spill threshold in characters, zero for no limit
+     */
+    private int getTempFragmentSpillThreshold() {
+        YangPluginConfig config = javaFileInfo.getPluginConfig();
+        return config == null ? 0 : config.getTempFragmentSpillThreshold();
+    }
+
     /**
      * Adds parent's info to current node import list.
      *
@@ -1898,6 +2046,7 @@ public class TempJavaFragmentFiles {
 
         if ((fileType & BUILDER_CLASS_MASK) != 0 ||
                 (fileType & DEFAULT_CLASS_MASK) != 0) {
+            addDeferredEqualsMethods();
             if (isAttributePresent) {
                 addImportsToStringAndHasCodeMethods(imports, true);
                 addArrayListImport(imports);
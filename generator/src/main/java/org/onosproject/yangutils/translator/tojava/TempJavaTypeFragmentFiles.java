@@ -591,9 +591,6 @@ public class TempJavaTypeFragmentFiles
         if ((getGeneratedTempFiles() & OF_STRING_IMPL_MASK) != 0) {
             closeFile(ofStringImplTempFileHandle, true);
         }
-        if ((getGeneratedTempFiles() & FROM_STRING_IMPL_MASK) != 0) {
-            closeFile(getFromStringImplTempFileHandle(), true);
-        }
 
         super.freeTemporaryResources(isErrorOccurred);
 
@@ -810,8 +810,8 @@ public final class YangJavaModelUtils {
         File interFace = tempFile.getBeanTempFiles().getJavaFileHandle(
                 name);
         //generate java code for interface file.
-        validateLineLength(generateInterfaceFile(interFace, null, rootNode,
-                                                 false));
+        generateInterfaceFile(interFace, null, rootNode, false);
         insertDataIntoJavaFile(interFace, CLOSE_CURLY_BRACKET);
+        validateLineLength(interFace);
     }
 }
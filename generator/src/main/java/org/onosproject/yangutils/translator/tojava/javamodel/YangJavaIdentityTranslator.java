@@ -161,10 +161,10 @@ public class YangJavaIdentityTranslator extends YangJavaIdentity
             File file = getFileObject(path, className, JAVA_FILE_EXTENSION, itsInfo);
 
             initiateJavaFileGeneration(file, GENERATE_IDENTITY_CLASS, imports, this, className);
-            file = validateLineLength(file);
             //Add to string and from string method to class
             addStringMethodsToClass(file, name);
             insertDataIntoJavaFile(file, CLOSE_CURLY_BRACKET);
+            file = validateLineLength(file);
 
             closeFile(file, false);
         } catch (IOException e) {
@@ -17,6 +17,10 @@ package org.onosproject.yangutils.translator.tojava.javamodel;
 
 import java.io.IOException;
 
+import org.onosproject.yangutils.datamodel.YangAppDataStructure;
+import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.javadatamodel.YangJavaList;
 import org.onosproject.yangutils.translator.exception.InvalidNodeForTranslatorException;
 import org.onosproject.yangutils.translator.exception.TranslatorException;
@@ -26,6 +30,8 @@ import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
 import org.onosproject.yangutils.translator.tojava.TempJavaCodeFragmentFiles;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
 
+import static org.onosproject.yangutils.datamodel.YangDataStructure.MAP;
+import static org.onosproject.yangutils.datamodel.utils.ResolvableStatus.RESOLVED;
 import static org.onosproject.yangutils.translator.tojava.GeneratedJavaFileType.GENERATE_INTERFACE_WITH_BUILDER;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.generateCodeAndUpdateInParent;
 import static org.onosproject.yangutils.translator.tojava.YangJavaModelUtils.generateJava;
@@ -110,6 +116,9 @@ public class YangJavaListTranslator
      */
     @Override
     public void generateCodeEntry(YangPluginConfig yangPlugin) throws TranslatorException {
+        if (yangPlugin.isKeyedListsAsMaps()) {
+            addMapDataStructure();
+        }
         try {
             generateCodeAndUpdateInParent(this, yangPlugin, true);
         } catch (IOException e) {
@@ -122,6 +131,32 @@ public class YangJavaListTranslator
         }
     }
 
+    /**
+     * Sets the map app data structure to the list, when it is a config list
+     * with keys and it has no compiler annotation. Lists of groupings and
+     * their copies under uses share the generated code of the grouping, so
+     * they are kept as lists.
+     */
+    private void addMapDataStructure() {
+        if (getCompilerAnnotation() != null || !isConfig() ||
+                getKeyList() == null || getKeyList().isEmpty() ||
+                getReferredSchema() != null) {
+            return;
+        }
+        for (YangNode node = getParent(); node != null;
+             node = node.getParent()) {
+            if (node instanceof YangGrouping) {
+                return;
+            }
+        }
+        YangAppDataStructure dataStructure = new YangAppDataStructure();
+        dataStructure.setDataStructure(MAP);
+        YangCompilerAnnotation annotation = new YangCompilerAnnotation();
+        annotation.setYangAppDataStructure(dataStructure);
+        annotation.setResolvableStatus(RESOLVED);
+        setCompilerAnnotation(annotation);
+    }
+
     /**
      * Creates a java file using the YANG list info.
      *
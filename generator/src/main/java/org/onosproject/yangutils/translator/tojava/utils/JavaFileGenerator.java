@@ -38,6 +38,7 @@ import org.onosproject.yangutils.translator.tojava.TempJavaEnumerationFragmentFi
 import org.onosproject.yangutils.translator.tojava.TempJavaEventFragmentFiles;
 import org.onosproject.yangutils.translator.tojava.TempJavaServiceFragmentFiles;
 import org.onosproject.yangutils.translator.tojava.TempJavaTypeFragmentFiles;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
 
 import java.io.File;
 import java.io.IOException;
@@ -116,6 +117,10 @@ import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethodClose;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getHashCodeMethodOpen;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getInterfaceLeafIdEnumSignature;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getMemoizedHashCodeAttributes;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getMemoizedHashCodeConstructorString;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getMemoizedHashCodeMethodClose;
+import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getMemoizedHashCodeMethodOpen;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getRangeValidatorMethodForUnion;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterForClass;
 import static org.onosproject.yangutils.translator.tojava.utils.MethodsGenerator.getSetterForSelectLeaf;
@@ -502,6 +507,9 @@ public final class JavaFileGenerator {
         while (attrIt.hasNext()) {
             attr = attrIt.next();
             typeInfo = attr.getImportInfo();
+            if (typeInfo.getPkgInfo() == null) {
+                continue;
+            }
             if (!typeInfo.getClassInfo().equals(className)) {
                 imports.add(getImportString(attr.getImportInfo().getPkgInfo(),
                                             attr.getImportInfo().getClassInfo()));
@@ -561,7 +569,7 @@ public final class JavaFileGenerator {
         insertDataIntoJavaFile(file, getCompareToForKeyClass(attrs, className));
 
         insertDataIntoJavaFile(file, CLOSE_CURLY_BRACKET);
-        return file;
+        return validateLineLength(file);
     }
 
     /**
@@ -626,19 +634,24 @@ public final class JavaFileGenerator {
             //Constructor.
             String constructor = getConstructorStart(className, rootNode) +
                     getDataFromTempFileHandle(
-                            CONSTRUCTOR_IMPL_MASK, getBeanFiles(curNode), path)
-                    + methodClose(FOUR_SPACE);
+                            CONSTRUCTOR_IMPL_MASK, getBeanFiles(curNode), path);
+            if (attrPresent && isMemoizedHashCode(curNode)) {
+                constructor += getMemoizedHashCodeConstructorString();
+            }
+            constructor += methodClose(FOUR_SPACE);
             methods.add(constructor);
             if (curNode.isOpTypeReq()) {
                 String augmentableSubTreeFiltering = EMPTY_STRING;
                 if (curNode instanceof YangAugmentableNode) {
                     // add is filter content match.
-                    augmentableSubTreeFiltering = getAugmentableSubTreeFiltering();
+                    YangPluginConfig config = fileInfo.getPluginConfig();
+                    augmentableSubTreeFiltering = getAugmentableSubTreeFiltering(
+                            config != null && config.isLazySubtreeFiltering());
                 }
                 methods.add(getProcessSubtreeFilteringStart(curNode) +
                                     getProcessSubtreeFunctionBody(curNode) +
                                     augmentableSubTreeFiltering +
-                                    getProcessSubTreeFilteringEnd(name));
+                                    getProcessSubTreeFilteringEnd(curNode, name));
 
                 if (curNode instanceof YangLeavesHolder) {
                     if (((YangLeavesHolder) curNode).getListOfLeaf() != null &&
@@ -698,10 +711,15 @@ public final class JavaFileGenerator {
                                                      boolean rootNode)
             throws IOException {
 
+        boolean isHashCodeMemoized = isMemoizedHashCode(curNode);
+
         //Add attribute strings.
         try {
             insertDataIntoJavaFile(file, getDataFromTempFileHandle(
                     ATTRIBUTES_MASK, getBeanFiles(curNode), path));
+            if (isHashCodeMemoized) {
+                insertDataIntoJavaFile(file, getMemoizedHashCodeAttributes());
+            }
         } catch (IOException e) {
             throw new IOException(getErrorMsg(className, IMPL_CLASS));
         }
@@ -712,21 +730,29 @@ public final class JavaFileGenerator {
                     GETTER_FOR_CLASS_MASK, getBeanFiles(curNode), path));
 
             // Hash code method.
-            methods.add(getHashCodeMethodClose(
-                    getHashCodeMethodOpen() + getDataFromTempFileHandle(
-                            HASH_CODE_IMPL_MASK, getBeanFiles(curNode), path)
-                            .replace(NEW_LINE, EMPTY_STRING)));
+            String hashCodeAttrs = getDataFromTempFileHandle(
+                    HASH_CODE_IMPL_MASK, getBeanFiles(curNode), path)
+                    .replace(NEW_LINE, EMPTY_STRING);
+            if (isHashCodeMemoized) {
+                methods.add(getMemoizedHashCodeMethodClose(
+                        getMemoizedHashCodeMethodOpen() + hashCodeAttrs));
+            } else {
+                methods.add(getHashCodeMethodClose(
+                        getHashCodeMethodOpen() + hashCodeAttrs));
+            }
 
             //Equals method.
             if (rootNode) {
                 methods.add(getEqualsMethodClose(
-                        getEqualsMethodOpen(opParamClassName) +
+                        getEqualsMethodOpen(opParamClassName,
+                                            isHashCodeMemoized) +
                                 getDataFromTempFileHandle(
                                         EQUALS_IMPL_MASK,
                                         getBeanFiles(curNode), path)));
             } else {
                 methods.add(getEqualsMethodClose(
-                        getEqualsMethodOpen(DEFAULT_CAPS + className) +
+                        getEqualsMethodOpen(DEFAULT_CAPS + className,
+                                            isHashCodeMemoized) +
                                 getDataFromTempFileHandle(EQUALS_IMPL_MASK,
                                                           getBeanFiles(curNode),
                                                           path)));
@@ -1312,4 +1338,16 @@ public final class JavaFileGenerator {
                 !holder.getListOfLeaf().isEmpty();
     }
 
+    /**
+     * Returns true if the default class of the node memoizes its hash code.
+     *
+     * @param curNode current YANG node
+     * @return true if hash code is memoized
+     */
+    private static boolean isMemoizedHashCode(YangNode curNode) {
+        YangPluginConfig config = ((JavaFileInfoContainer) curNode)
+                .getJavaFileInfo().getPluginConfig();
+        return config != null && config.isMemoizedHashCode();
+    }
+
 }
@@ -40,6 +40,7 @@ import org.onosproject.yangutils.translator.tojava.TempJavaTypeFragmentFiles;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
 import org.onosproject.yangutils.utils.io.impl.CopyrightHeader;
 import org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType;
+import org.onosproject.yangutils.utils.io.impl.JavaFileStore;
 
 import java.io.File;
 import java.io.IOException;
@@ -109,6 +110,7 @@ import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.EVE
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.INTERFACE;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.RPC_INTERFACE;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.getJavaDoc;
+import static org.onosproject.yangutils.utils.io.impl.JavaFileOutput.isReplaceable;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getCapitalCase;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getJavaPackageFromPackagePath;
@@ -365,18 +367,19 @@ public final class JavaFileGeneratorUtils {
                                                   String pkg)
             throws IOException {
 
-        if (file.exists()) {
+        if (file.exists() && !isReplaceable(file)) {
             throw new IOException(" file " + file.getName() + " is already generated." +
                                           ERROR_MSG_FOR_GEN_CODE);
         }
 
         boolean isFileCreated;
         try {
-            isFileCreated = file.createNewFile();
+            isFileCreated = file.exists() || file.createNewFile();
             if (!isFileCreated) {
                 throw new IOException("Failed to create " + file.getName() +
                                               " class file.");
             }
+            JavaFileStore.create(file);
             appendContents(file, className, genType, imports, pkg);
         } catch (IOException e) {
             throw new IOException("Failed to append contents in " + file.getName() +
@@ -399,17 +402,18 @@ public final class JavaFileGeneratorUtils {
                                                   YangNode curNode, String name)
             throws IOException {
 
-        if (file.exists()) {
+        if (file.exists() && !isReplaceable(file)) {
             throw new IOException(" file " + file.getName() + " is already generated." +
                                           ERROR_MSG_FOR_GEN_CODE);
         }
         boolean isFileCreated;
         try {
-            isFileCreated = file.createNewFile();
+            isFileCreated = file.exists() || file.createNewFile();
             if (!isFileCreated) {
                 throw new IOException("Failed to create " + file.getName() +
                                               " class file.");
             }
+            JavaFileStore.create(file);
             appendContents(file, genType, imports, curNode, name);
         } catch (IOException e) {
             throw new IOException("Failed to append contents in " + file.getName() +
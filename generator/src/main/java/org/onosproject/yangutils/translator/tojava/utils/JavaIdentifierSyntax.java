@@ -46,6 +46,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.REVISION_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
 import static org.onosproject.yangutils.utils.UtilConstants.UNDER_SCORE;
 import static org.onosproject.yangutils.utils.UtilConstants.VERSION_PREFIX;
+import static org.onosproject.yangutils.utils.io.impl.JavaFileOutput.isReplaceable;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.addPackageInfo;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.createDirectories;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.getAbsolutePackagePath;
@@ -244,7 +245,9 @@ public final class JavaIdentifierSyntax {
     }
 
     /**
-     * Checks if the package directory structure created.
+     * Checks if the package directory structure created. The package info
+     * file of the previous build which is not yet generated again is
+     * considered as not created.
      *
      * @param pkg Package to check if it is created
      * @return existence status of package
@@ -252,6 +255,7 @@ public final class JavaIdentifierSyntax {
     static boolean doesPackageExist(String pkg) {
         File pkgDir = new File(getPackageDirPathFromJavaJPackage(pkg));
         File pkgWithFile = new File(pkgDir + SLASH + "package-info.java");
-        return pkgDir.exists() && pkgWithFile.isFile();
+        return pkgDir.exists() && pkgWithFile.isFile() &&
+                !isReplaceable(pkgWithFile);
     }
 }
@@ -94,6 +94,7 @@ import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.methodSignatureClose;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.multiAttrMethodSignature;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.signatureClose;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.valueAssign;
 import static org.onosproject.yangutils.utils.UtilConstants.ADD;
 import static org.onosproject.yangutils.utils.UtilConstants.ADD_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.AND;
@@ -109,9 +110,11 @@ import static org.onosproject.yangutils.utils.UtilConstants.BUILD;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_LOWER_CASE;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILD_FOR_FILTER;
+import static org.onosproject.yangutils.utils.UtilConstants.BYTE;
 import static org.onosproject.yangutils.utils.UtilConstants.CASE;
 import static org.onosproject.yangutils.utils.UtilConstants.CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.CLASS_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.CLONE_METHOD;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_PARENTHESIS;
 import static org.onosproject.yangutils.utils.UtilConstants.COLON;
@@ -144,11 +147,13 @@ import static org.onosproject.yangutils.utils.UtilConstants.GET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.GOOGLE_MORE_OBJECT_METHOD_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.HASH;
 import static org.onosproject.yangutils.utils.UtilConstants.HASH_CODE_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.HASH_MAP;
 import static org.onosproject.yangutils.utils.UtilConstants.IF;
 import static org.onosproject.yangutils.utils.UtilConstants.INSTANCE_OF;
 import static org.onosproject.yangutils.utils.UtilConstants.INT;
 import static org.onosproject.yangutils.utils.UtilConstants.IS_EMPTY;
 import static org.onosproject.yangutils.utils.UtilConstants.IS_SELECT_LEAF;
+import static org.onosproject.yangutils.utils.UtilConstants.IS_YANG_HASH_CODE_CACHED;
 import static org.onosproject.yangutils.utils.UtilConstants.KEYS;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAF_IDENTIFIER;
@@ -188,10 +193,12 @@ import static org.onosproject.yangutils.utils.UtilConstants.RETURN;
 import static org.onosproject.yangutils.utils.UtilConstants.RPC_INPUT_VAR_NAME;
 import static org.onosproject.yangutils.utils.UtilConstants.SCHEMA_NAME;
 import static org.onosproject.yangutils.utils.UtilConstants.SELECT_ALL_CHILD;
+import static org.onosproject.yangutils.utils.UtilConstants.SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_SELECT_LEAF;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_VALUE_PARA;
+import static org.onosproject.yangutils.utils.UtilConstants.SHORT;
 import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.SPACE;
 import static org.onosproject.yangutils.utils.UtilConstants.SPLIT_STRING;
@@ -210,6 +217,10 @@ import static org.onosproject.yangutils.utils.UtilConstants.TO_STRING_METHOD;
 import static org.onosproject.yangutils.utils.UtilConstants.TRIM_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.TRUE;
 import static org.onosproject.yangutils.utils.UtilConstants.TWELVE_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.TWENTY_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.UNMODIFIABLE_LIST;
+import static org.onosproject.yangutils.utils.UtilConstants.UNMODIFIABLE_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.UNMODIFIABLE_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.VALIDATE_RANGE;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE;
 import static org.onosproject.yangutils.utils.UtilConstants.VALUE_CAPS;
@@ -218,6 +229,8 @@ import static org.onosproject.yangutils.utils.UtilConstants.VALUE_LEAF_SET;
 import static org.onosproject.yangutils.utils.UtilConstants.VOID;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO;
 import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_LOWER_CASE;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_AUGMENTED_INFO_MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_HASH_CODE;
 import static org.onosproject.yangutils.utils.UtilConstants.ZERO;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.BUILD_METHOD;
 import static org.onosproject.yangutils.utils.io.impl.JavaDocGen.JavaDocType.CONSTRUCTOR;
@@ -946,6 +959,144 @@ public final class MethodsGenerator {
         return attr.getAttributeName() + COMMA + SPACE;
     }
 
+    /**
+     * Returns the attributes of the memoized hash code of class.
+     *
+     * @return attributes of memoized hash code
+     */
+    static String getMemoizedHashCodeAttributes() {
+        return FOUR_SPACE_INDENTATION + PRIVATE + SPACE + BOOLEAN_DATA_TYPE +
+                SPACE + IS_YANG_HASH_CODE_CACHED + signatureClose() +
+                FOUR_SPACE_INDENTATION + PRIVATE + SPACE + INT + SPACE +
+                YANG_HASH_CODE + signatureClose();
+    }
+
+    /**
+     * Returns the constructor statement which enables memoizing the hash
+     * code of the objects created by builder.
+     *
+     * @return constructor statement
+     */
+    static String getMemoizedHashCodeConstructorString() {
+        return valueAssign(IS_YANG_HASH_CODE_CACHED, TRUE,
+                           EIGHT_SPACE_INDENTATION);
+    }
+
+    /**
+     * Returns the constructor statement of an attribute when hash code is
+     * memoized. Lists, sets and maps are copied into unmodifiable ones. Bit
+     * sets and queues are copied, so the built object does not share them
+     * with its builder.
+     *
+     * @param attr    attribute info
+     * @param genType generated java files
+     * @return constructor statement
+     */
+    public static String getMemoizedHashCodeConstructor(JavaAttributeInfo attr,
+                                                        int genType) {
+        String name = attr.getAttributeName();
+        String value = BUILDER_LOWER_CASE + OBJECT + PERIOD + name +
+                OPEN_CLOSE_BRACKET_STRING;
+        if (name.equals(VALUE_LEAF) || name.equals(SELECT_LEAF)) {
+            // valueLeafFlags = (BitSet) builderObject.valueLeafFlags().clone();
+            return valueAssign(name, getOpenCloseParaWithValue(BIT_SET) +
+                    SPACE + value + PERIOD + CLONE_METHOD,
+                               EIGHT_SPACE_INDENTATION);
+        }
+        if (name.equals(YANG_AUGMENTED_INFO_MAP)) {
+            return valueAssign(name, UNMODIFIABLE_MAP + OPEN_PARENTHESIS +
+                    NEW_LINE + SIXTEEN_SPACE_INDENTATION + NEW + SPACE +
+                    HASH_MAP + DIAMOND_OPEN_BRACKET +
+                    DIAMOND_CLOSE_BRACKET + getOpenCloseParaWithValue(value) +
+                    CLOSE_PARENTHESIS, EIGHT_SPACE_INDENTATION);
+        }
+        if (!attr.isListAttr()) {
+            return getConstructor(attr, genType);
+        }
+
+        /* generated code will look like this.
+        if (builderObject.leafList() != null) {
+            leafList = java.util.Collections.unmodifiableList(
+                    new ArrayList<>(builderObject.leafList()));
+        }
+        */
+        String type = ARRAY_LIST;
+        String wrapper = UNMODIFIABLE_LIST;
+        YangDataStructure struct = getYangDataStructure(
+                attr.getCompilerAnnotation());
+        if (struct == YangDataStructure.QUEUE) {
+            type = PRIORITY_QUEUE;
+            wrapper = null;
+        } else if (struct == YangDataStructure.SET) {
+            type = LINKED_HASH_SET;
+            wrapper = UNMODIFIABLE_SET;
+        } else if (struct == YangDataStructure.MAP) {
+            type = LINKED_HASH_MAP;
+            wrapper = UNMODIFIABLE_MAP;
+        }
+        String copy = NEW + SPACE + type.replace(
+                OPEN_CLOSE_BRACKET_STRING, getOpenCloseParaWithValue(value));
+        if (wrapper != null) {
+            copy = wrapper + OPEN_PARENTHESIS + NEW_LINE +
+                    TWENTY_SPACE_INDENTATION + copy + CLOSE_PARENTHESIS;
+        }
+        return getIfConditionBegin(EIGHT_SPACE_INDENTATION, value + SPACE +
+                NOT + EQUAL + SPACE + NULL) +
+                valueAssign(name, copy, TWELVE_SPACE_INDENTATION) +
+                methodClose(EIGHT_SPACE);
+    }
+
+    /**
+     * Returns memoized hash code method open strings.
+     *
+     * @return memoized hash code method open string
+     */
+    static String getMemoizedHashCodeMethodOpen() {
+        /* generated code will look like this.
+        public int hashCode() {
+            int hash = yangHashCode;
+            if (hash == 0) {
+                hash = Objects.hash(
+        */
+        return getOverRideString() +
+                methodSignature(HASH_CODE_STRING, EMPTY_STRING, PUBLIC, null,
+                                INT, null, CLASS_TYPE) +
+                EIGHT_SPACE_INDENTATION + INT + SPACE + HASH + SPACE + EQUAL +
+                SPACE + YANG_HASH_CODE + signatureClose() +
+                getIfConditionBegin(EIGHT_SPACE_INDENTATION,
+                                    HASH + SPACE + EQUAL + EQUAL + SPACE +
+                                            ZERO) +
+                TWELVE_SPACE_INDENTATION + HASH + SPACE + EQUAL + SPACE +
+                OBJECT_STRING + SUFFIX_S + PERIOD + HASH + OPEN_PARENTHESIS;
+    }
+
+    /**
+     * Returns memoized hash code method close string, which keeps the hash
+     * code only for objects created by builder.
+     *
+     * @param hashcodeString hash code string
+     * @return memoized hash code method close string
+     */
+    static String getMemoizedHashCodeMethodClose(String hashcodeString) {
+        /* generated code will look like this.
+                if (isYangHashCodeCached) {
+                    yangHashCode = hash;
+                }
+            }
+            return hash;
+        }
+        */
+        String[] array = {SPACE, COMMA};
+        hashcodeString = trimAtLast(hashcodeString, array);
+        return hashcodeString + CLOSE_PARENTHESIS + signatureClose() +
+                getIfConditionBegin(TWELVE_SPACE_INDENTATION,
+                                    IS_YANG_HASH_CODE_CACHED) +
+                valueAssign(YANG_HASH_CODE, HASH, SIXTEEN_SPACE_INDENTATION) +
+                methodClose(TWELVE_SPACE) + methodClose(EIGHT_SPACE) +
+                getReturnString(HASH, EIGHT_SPACE_INDENTATION) +
+                signatureClose() + methodClose(FOUR_SPACE);
+    }
+
     /**
      * Returns equals method open strings.
      *
@@ -953,12 +1104,26 @@ public final class MethodsGenerator {
      * @return equals method open string
      */
     static String getEqualsMethodOpen(String className) {
+        return getEqualsMethodOpen(className, false);
+    }
+
+    /**
+     * Returns equals method open strings, which return false for objects
+     * with different memoized hash codes when hash code is memoized.
+     *
+     * @param className          class name
+     * @param isHashCodeMemoized true if hash code is memoized
+     * @return equals method open string
+     */
+    static String getEqualsMethodOpen(String className,
+                                      boolean isHashCodeMemoized) {
         return getOverRideString() +
                 methodSignature(EQUALS_STRING, EMPTY_STRING, PUBLIC, OBJ,
                                 BOOLEAN_DATA_TYPE, OBJECT_STRING,
                                 CLASS_TYPE) +
                 getEqualsMethodsCommonIfCondition() +
-                getEqualsMethodsSpecificIfCondition(className);
+                getEqualsMethodsSpecificIfCondition(className,
+                                                    isHashCodeMemoized);
     }
 
     /**
@@ -976,17 +1141,38 @@ public final class MethodsGenerator {
     /**
      * Returns if condition for specific class object in equals method.
      *
-     * @param className class name
+     * @param className          class name
+     * @param isHashCodeMemoized true if hash code is memoized
      * @return if condition string
      */
-    private static String getEqualsMethodsSpecificIfCondition(String className) {
+    private static String getEqualsMethodsSpecificIfCondition(
+            String className, boolean isHashCodeMemoized) {
+        String hashCodeCondition = EMPTY_STRING;
+        if (isHashCodeMemoized) {
+            /* generated code will look like this.
+            if (yangHashCode != 0 && other.yangHashCode != 0 &&
+                    yangHashCode != other.yangHashCode) {
+                return false;
+            }
+            */
+            String otherHashCode = OTHER + PERIOD + YANG_HASH_CODE;
+            String cond = YANG_HASH_CODE + SPACE + NOT + EQUAL + SPACE + ZERO +
+                    SPACE + AND + AND + SPACE + otherHashCode + SPACE + NOT +
+                    EQUAL + SPACE + ZERO + SPACE + AND + AND + NEW_LINE +
+                    TWENTY_SPACE_INDENTATION + YANG_HASH_CODE + SPACE + NOT +
+                    EQUAL + SPACE + otherHashCode;
+            hashCodeCondition = getIfConditionBegin(TWELVE_SPACE_INDENTATION,
+                                                    cond) +
+                    getReturnString(FALSE, SIXTEEN_SPACE_INDENTATION) +
+                    signatureClose() + methodClose(TWELVE_SPACE);
+        }
         return EIGHT_SPACE_INDENTATION + IF + SPACE + OPEN_PARENTHESIS + OBJ +
                 INSTANCE_OF + className + CLOSE_PARENTHESIS + SPACE +
                 OPEN_CURLY_BRACKET + NEW_LINE + TWELVE_SPACE_INDENTATION +
                 className + SPACE + OTHER + SPACE + EQUAL + SPACE +
                 OPEN_PARENTHESIS + className + CLOSE_PARENTHESIS + SPACE + OBJ +
-                SEMI_COLON + NEW_LINE + TWELVE_SPACE_INDENTATION + RETURN +
-                NEW_LINE;
+                SEMI_COLON + NEW_LINE + hashCodeCondition +
+                TWELVE_SPACE_INDENTATION + RETURN + NEW_LINE;
     }
 
     /**
@@ -1026,6 +1212,36 @@ public final class MethodsGenerator {
                 CLOSE_PARENTHESIS + SPACE + AND + AND;
     }
 
+    /**
+     * Returns equals method for class, which compares the attribute with the
+     * equality operator.
+     *
+     * @param attr attribute info
+     * @return equals method
+     */
+    public static String getPrimitiveEqualsMethod(JavaAttributeInfo attr) {
+        String attributeName = attr.getAttributeName();
+        return SIXTEEN_SPACE_INDENTATION + attributeName + SPACE + EQUAL +
+                EQUAL + SPACE + OTHER + PERIOD + attributeName + SPACE + AND +
+                AND;
+    }
+
+    /**
+     * Returns true if the attribute is of an integer or boolean primitive
+     * type, which can be compared with the equality operator.
+     *
+     * @param attr attribute info
+     * @return true if the attribute is of integer or boolean primitive type
+     */
+    public static boolean isPrimitiveAttribute(JavaAttributeInfo attr) {
+        if (attr.isListAttr() || attr.getImportInfo() == null) {
+            return false;
+        }
+        String type = attr.getImportInfo().getClassInfo();
+        return BOOLEAN_DATA_TYPE.equals(type) || BYTE.equals(type) ||
+                SHORT.equals(type) || INT.equals(type) || LONG.equals(type);
+    }
+
     /**
      * Returns of method's string and java doc for special type.
      *
@@ -30,6 +30,7 @@ import org.onosproject.yangutils.translator.tojava.JavaAttributeInfo;
 import org.onosproject.yangutils.translator.tojava.JavaCodeGeneratorInfo;
 import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
 import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
 
 import java.io.IOException;
 import java.util.LinkedHashMap;
@@ -61,6 +62,7 @@ import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getReturnString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.getTwoParaEqualsString;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.methodClose;
+import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.methodSignature;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.multiAttrMethodSignature;
 import static org.onosproject.yangutils.translator.tojava.utils.StringGenerator.signatureClose;
 import static org.onosproject.yangutils.translator.tojava.utils.TranslatorUtils.getBeanFiles;
@@ -73,6 +75,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.BREAK;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILDER_LOWER_CASE;
 import static org.onosproject.yangutils.utils.UtilConstants.BUILD_FOR_FILTER;
+import static org.onosproject.yangutils.utils.UtilConstants.CLASS;
 import static org.onosproject.yangutils.utils.UtilConstants.CLASS_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_CURLY_BRACKET;
 import static org.onosproject.yangutils.utils.UtilConstants.CLOSE_PARENTHESIS;
@@ -90,7 +93,9 @@ import static org.onosproject.yangutils.utils.UtilConstants.EQUAL;
 import static org.onosproject.yangutils.utils.UtilConstants.EQUALS_STRING;
 import static org.onosproject.yangutils.utils.UtilConstants.EXTEND;
 import static org.onosproject.yangutils.utils.UtilConstants.FALSE;
+import static org.onosproject.yangutils.utils.UtilConstants.FINAL;
 import static org.onosproject.yangutils.utils.UtilConstants.FLAG;
+import static org.onosproject.yangutils.utils.UtilConstants.FOUR_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.GET;
 import static org.onosproject.yangutils.utils.UtilConstants.GET_KEY;
 import static org.onosproject.yangutils.utils.UtilConstants.GET_VALUE;
@@ -101,6 +106,7 @@ import static org.onosproject.yangutils.utils.UtilConstants.IS_SELECT_ALL_SCHEMA
 import static org.onosproject.yangutils.utils.UtilConstants.KEYS;
 import static org.onosproject.yangutils.utils.UtilConstants.LEAF_IDENTIFIER;
 import static org.onosproject.yangutils.utils.UtilConstants.MAP;
+import static org.onosproject.yangutils.utils.UtilConstants.NEW;
 import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yangutils.utils.UtilConstants.NOT;
 import static org.onosproject.yangutils.utils.UtilConstants.NULL;
@@ -126,7 +132,10 @@ import static org.onosproject.yangutils.utils.UtilConstants.SEMI_COLON;
 import static org.onosproject.yangutils.utils.UtilConstants.SET_METHOD_PREFIX;
 import static org.onosproject.yangutils.utils.UtilConstants.SIXTEEN_SPACE_INDENTATION;
 import static org.onosproject.yangutils.utils.UtilConstants.SPACE;
+import static org.onosproject.yangutils.utils.UtilConstants.STATIC;
 import static org.onosproject.yangutils.utils.UtilConstants.STF_BUILDER_PARAM;
+import static org.onosproject.yangutils.utils.UtilConstants.STF_CONTEXT_CLASS;
+import static org.onosproject.yangutils.utils.UtilConstants.STF_CONTEXT_PARAM;
 import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERED;
 import static org.onosproject.yangutils.utils.UtilConstants.SUBTREE_FILTERING_RESULT_BUILDER;
 import static org.onosproject.yangutils.utils.UtilConstants.THIRTY_TWO_SPACE_INDENTATION;
@@ -202,10 +211,12 @@ public final class SubtreeFilteringMethodsGenerator {
      *
      * @param javaAttributeInfo java attribute
      * @param type              data type
+     * @param isLazyResult      true if the result is built lazily
      * @return is filter content match for leaf
      */
     public static String getSubtreeFilteringForLeaf(
-            JavaAttributeInfo javaAttributeInfo, YangType<?> type) {
+            JavaAttributeInfo javaAttributeInfo, YangType<?> type,
+            boolean isLazyResult) {
         String attrQualifiedType;
         String attributeName = javaAttributeInfo.getAttributeName();
         attrQualifiedType = getIfFilterContentMatchMethodImpl(attributeName,
@@ -236,7 +247,7 @@ public final class SubtreeFilteringMethodsGenerator {
                 attributeName, VALUE_LEAF, EMPTY_STRING, GET)) +
                 getIfConditionBegin(TWELVE_SPACE_INDENTATION, attrQualifiedType) +
                 getIfConditionBegin(SIXTEEN_SPACE_INDENTATION, condition) +
-                TWENTY_SPACE_INDENTATION + SUBTREE_FILTERING_RESULT_BUILDER +
+                TWENTY_SPACE_INDENTATION + getResultBuilder(isLazyResult) +
                 PERIOD + attributeName + getOpenCloseParaWithValue(
                 attributeName + OPEN_CLOSE_BRACKET_STRING) + signatureClose() +
                 SIXTEEN_SPACE_INDENTATION + CLOSE_CURLY_BRACKET + ELSE +
@@ -246,18 +257,18 @@ public final class SubtreeFilteringMethodsGenerator {
                 TWELVE_SPACE_INDENTATION + CLOSE_CURLY_BRACKET + ELSE +
                 OPEN_CURLY_BRACKET + NEW_LINE +
                 getSubTreeBuilderCallString(SIXTEEN_SPACE_INDENTATION, attributeName,
-                                            TWELVE_SPACE) +
+                                            TWELVE_SPACE, isLazyResult) +
                 getElseIfConditionBegin(EIGHT_SPACE_INDENTATION, getLeafFlagSetString(
                         attributeName, SELECT_LEAF, EMPTY_STRING, GET) + SPACE +
                         OR_OPERATION + SPACE + IS_SELECT_ALL_SCHEMA_CHILD_FLAG) +
-                getSelectOrContainmentAssignString() +
+                getSelectOrContainmentAssignString(isLazyResult) +
                 getSubTreeBuilderCallString(TWELVE_SPACE_INDENTATION, attributeName,
-                                            EIGHT_SPACE);
+                                            EIGHT_SPACE, isLazyResult);
     }
 
     private static String getSubTreeBuilderCallString(String indent, String
-            name, IndentationType type) {
-        return indent + SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + name +
+            name, IndentationType type, boolean isLazyResult) {
+        return indent + getResultBuilder(isLazyResult) + PERIOD + name +
                 getOpenCloseParaWithValue(APP_INSTANCE + PERIOD + name +
                                                   OPEN_CLOSE_BRACKET_STRING) +
                 signatureClose() + methodClose(type);
@@ -320,11 +331,13 @@ public final class SubtreeFilteringMethodsGenerator {
      * Returns is filter content match for leaf.
      *
      * @param javaAttributeInfo java attribute
+     * @param isLazyResult      true if the result is built lazily
      * @return is filter content match for leaf
      */
     public static String getSubtreeFilteringForLeafList(
-            JavaAttributeInfo javaAttributeInfo) {
-        return getSubtreeFilteringForList(javaAttributeInfo, true, null);
+            JavaAttributeInfo javaAttributeInfo, boolean isLazyResult) {
+        return getSubtreeFilteringForList(javaAttributeInfo, true, null,
+                                          isLazyResult);
     }
 
     /**
@@ -496,17 +509,25 @@ public final class SubtreeFilteringMethodsGenerator {
         Map<String, String> param = new LinkedHashMap<>();
         param.put(instance, name);
         param.put(SELECT_ALL_CHILD_SCHEMA_PARAM, BOOLEAN_DATA_TYPE);
+        boolean isLazyResult = isLazyResult(curNode);
         builder.append(javadoc)
                 .append(multiAttrMethodSignature(PROCESS_SUBTREE_FILTERING, null,
                                                  PUBLIC, returnType, param,
                                                  CLASS_TYPE));
 
-        builder.append(getNewInstance(builderNamePrefix + BUILDER,
-                                      SUBTREE_FILTERING_RESULT_BUILDER,
-                                      EIGHT_SPACE_INDENTATION, EMPTY_STRING));
-        builder.append(getNewInstance(BIT_SET,
-                                      IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG,
-                                      EIGHT_SPACE_INDENTATION, EMPTY_STRING));
+        if (isLazyResult) {
+            // The result of each call is kept in a context of its own.
+            builder.append(getNewInstance(STF_CONTEXT_CLASS, STF_CONTEXT_PARAM,
+                                          EIGHT_SPACE_INDENTATION,
+                                          EMPTY_STRING));
+        } else {
+            builder.append(getNewInstance(builderNamePrefix + BUILDER,
+                                          SUBTREE_FILTERING_RESULT_BUILDER,
+                                          EIGHT_SPACE_INDENTATION, EMPTY_STRING));
+            builder.append(getNewInstance(BIT_SET,
+                                          IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG,
+                                          EIGHT_SPACE_INDENTATION, EMPTY_STRING));
+        }
         if (caseName != null) {
             builder.append(getCaseCastString(javaFileInfo, instance, curNode));
         }
@@ -539,10 +560,15 @@ public final class SubtreeFilteringMethodsGenerator {
             name = caseName;
         }
 
+        boolean isLazyResult = isLazyResult(curNode);
         Map<String, String> param = new LinkedHashMap<>();
         param.put(instance, name);
-        param.put(STF_BUILDER_PARAM, builderNamePrefix + BUILDER);
-        param.put(SELECT_OR_CONTAINMENT_NODE_PARAM, BIT_SET);
+        if (isLazyResult) {
+            param.put(STF_CONTEXT_PARAM, STF_CONTEXT_CLASS);
+        } else {
+            param.put(STF_BUILDER_PARAM, builderNamePrefix + BUILDER);
+            param.put(SELECT_OR_CONTAINMENT_NODE_PARAM, BIT_SET);
+        }
         param.put(SELECT_ALL_CHILD_SCHEMA_PARAM, BOOLEAN_DATA_TYPE);
 
         builder.append(multiAttrMethodSignature(methodName, null,
@@ -551,6 +577,22 @@ public final class SubtreeFilteringMethodsGenerator {
         if (caseName != null) {
             builder.append(getCaseCastString(javaFileInfo, instance, curNode));
         }
+        if (isLazyResult && methodName.equals(PROCESS_LEAF_STF_PARAM)) {
+            /*
+             * No leaf can match when no leaf value or selection is set:
+             * if (!isSelectAllSchemaChild && valueLeafFlags.isEmpty() &&
+             *         selectLeafFlags.isEmpty()) {
+             *     return true;
+             * }
+             */
+            String cond = NOT + IS_SELECT_ALL_SCHEMA_CHILD_FLAG + SPACE +
+                    AND_OPERATION + SPACE + VALUE_LEAF + PERIOD + IS_EMPTY +
+                    SPACE + AND_OPERATION + SPACE + SELECT_LEAF + PERIOD +
+                    IS_EMPTY;
+            builder.append(getIfConditionBegin(EIGHT_SPACE_INDENTATION, cond))
+                    .append(getReturnString(TRUE, TWELVE_SPACE_INDENTATION))
+                    .append(signatureClose()).append(methodClose(EIGHT_SPACE));
+        }
         builder.append(getDataFromTempFileHandle(file,
                                                  getBeanFiles(curNode), path))
                 .append(getReturnString(TRUE, EIGHT_SPACE_INDENTATION)).append(
@@ -567,6 +609,7 @@ public final class SubtreeFilteringMethodsGenerator {
      */
     static String getProcessSubtreeFunctionBody(YangNode curNode) {
         StringBuilder builder = new StringBuilder();
+        boolean isLazyResult = isLazyResult(curNode);
 
        /* if (!processLeafSubtreeFiltering(appInstance, subTreeFilteringResultBuilder,
                                          isAnySelectOrContainmentNode, isSelectAllSchemaChild)) {
@@ -584,36 +627,47 @@ public final class SubtreeFilteringMethodsGenerator {
         if (curNode instanceof YangLeavesHolder) {
             YangLeavesHolder holder = (YangLeavesHolder) curNode;
             if (!holder.getListOfLeaf().isEmpty()) {
-                builder.append(getInnerStfMethodClass(PROCESS_LEAF_STF_PARAM));
+                builder.append(getInnerStfMethodClass(PROCESS_LEAF_STF_PARAM,
+                                                      isLazyResult));
             }
             if (!holder.getListOfLeafList().isEmpty()) {
-                builder.append(getInnerStfMethodClass(PROCESS_LEAF_LIST_STF_PARAM));
+                builder.append(getInnerStfMethodClass(PROCESS_LEAF_LIST_STF_PARAM,
+                                                      isLazyResult));
             }
         }
         if (curNode.getChild() != null) {
-            builder.append(getInnerStfMethodClass(PROCESS_CHILD_NODE_STF_PARAM));
+            builder.append(getInnerStfMethodClass(PROCESS_CHILD_NODE_STF_PARAM,
+                                                  isLazyResult));
         }
 
         return builder.toString();
     }
 
     //Method calls for process subtree filtering method.
-    private static String getInnerStfMethodClass(String name) {
+    private static String getInnerStfMethodClass(String name,
+                                                 boolean isLazyResult) {
         StringBuilder builder = new StringBuilder()
                 .append(getIfConditionBegin(EIGHT_SPACE_INDENTATION,
-                                            getMethodCallsConditionsForStfMethods(name)))
+                                            getMethodCallsConditionsForStfMethods(
+                                                    name, isLazyResult)))
                 .append(getReturnString(NULL, TWELVE_SPACE_INDENTATION)).append(
                         signatureClose()).append(methodClose(EIGHT_SPACE));
         return builder.toString();
     }
 
     // Condition for if check in process sub tree method.
-    private static String getMethodCallsConditionsForStfMethods(String name) {
-        return NOT + name + getOpenCloseParaWithValue(getConditionString());
+    private static String getMethodCallsConditionsForStfMethods(
+            String name, boolean isLazyResult) {
+        return NOT + name + getOpenCloseParaWithValue(
+                getConditionString(isLazyResult));
     }
 
     //variable call for conditional method call
-    private static String getConditionString() {
+    private static String getConditionString(boolean isLazyResult) {
+        if (isLazyResult) {
+            return APP_INSTANCE + COMMA + SPACE + STF_CONTEXT_PARAM + COMMA +
+                    SPACE + SELECT_ALL_CHILD;
+        }
         return APP_INSTANCE + COMMA + SPACE + SUBTREE_FILTERING_RESULT_BUILDER +
                 COMMA + SPACE + SELECT_OR_CONTAINMENT_NODE_PARAM + COMMA + SPACE +
                 SELECT_ALL_CHILD;
@@ -622,26 +676,29 @@ public final class SubtreeFilteringMethodsGenerator {
     /**
      * Returns is filter content match for node.
      *
-     * @param attr attribute info
-     * @param node YANG node
+     * @param attr         attribute info
+     * @param node         YANG node
+     * @param isLazyResult true if the result is built lazily
      * @return is filter content match for node
      */
-    public static String getSubtreeFilteringForNode(JavaAttributeInfo attr, YangNode node) {
+    public static String getSubtreeFilteringForNode(JavaAttributeInfo attr, YangNode node,
+                                                    boolean isLazyResult) {
         boolean isList = attr.isListAttr();
         if (isList) {
-            return getSubtreeFilteringForList(attr, false, node);
+            return getSubtreeFilteringForList(attr, false, node, isLazyResult);
         } else {
-            return getSubtreeFilteringForChildNode(attr, node);
+            return getSubtreeFilteringForChildNode(attr, node, isLazyResult);
         }
     }
 
     /**
      * Returns is filter content match close.
      *
-     * @param name name of class
+     * @param curNode current node
+     * @param name    name of class
      * @return is filter content match close
      */
-    static String getProcessSubTreeFilteringEnd(String name) {
+    static String getProcessSubTreeFilteringEnd(YangNode curNode, String name) {
         /* generate code will look like this.
         if (!isSelectAllSchemaChild && !isAnySelectOrContainmentNode) {
             return processSubtreeFiltering(appInstance, true);
@@ -650,9 +707,16 @@ public final class SubtreeFilteringMethodsGenerator {
         */
 
         StringBuilder builder = new StringBuilder();
+        boolean isLazyResult = isLazyResult(curNode);
         String cond1 = NOT + IS_SELECT_ALL_SCHEMA_CHILD_FLAG + SPACE + AND_OPERATION +
-                SPACE + NOT + IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG +
-                PERIOD + GET + getOpenCloseParaWithValue(ZERO);
+                SPACE + NOT;
+        if (isLazyResult) {
+            cond1 = cond1 + STF_CONTEXT_PARAM + PERIOD +
+                    IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG;
+        } else {
+            cond1 = cond1 + IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG + PERIOD +
+                    GET + getOpenCloseParaWithValue(ZERO);
+        }
         String call = PROCESS_SUBTREE_FILTERING + getOpenCloseParaWithValue(
                 APP_INSTANCE + COMMA + SPACE + TRUE);
         builder.append(getIfConditionBegin(EIGHT_SPACE_INDENTATION, cond1))
@@ -660,23 +724,75 @@ public final class SubtreeFilteringMethodsGenerator {
                 .append(signatureClose()).append(methodClose(EIGHT_SPACE));
 
         call = getOpenCloseParaWithValue(name) + SPACE +
-                SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + BUILD_FOR_FILTER +
+                getResultBuilder(isLazyResult) + PERIOD + BUILD_FOR_FILTER +
                 OPEN_CLOSE_BRACKET_STRING;
         builder.append(getReturnString(call, EIGHT_SPACE_INDENTATION))
                 .append(signatureClose()).append(methodClose(FOUR_SPACE))
                 .append(NEW_LINE);
+        if (isLazyResult) {
+            builder.append(getContextClass(curNode));
+        }
         return builder.toString();
     }
 
+    /**
+     * Returns the class of the per call subtree filtering context, which
+     * creates the result builder on first use.
+     *
+     * @param curNode current node
+     * @return subtree filtering context class
+     */
+    private static String getContextClass(YangNode curNode) {
+        /* generate code will look like this.
+        private static final class SubtreeFilteringContext {
+            private LinkBuilder subTreeFilteringResultBuilder;
+            private boolean isAnySelectOrContainmentNode;
+
+            private LinkBuilder subTreeFilteringResultBuilder() {
+                if (subTreeFilteringResultBuilder == null) {
+                    subTreeFilteringResultBuilder = new LinkBuilder();
+                }
+                return subTreeFilteringResultBuilder;
+            }
+        }
+        */
+        String builderName = getCapitalCase(((JavaFileInfoContainer) curNode)
+                                                    .getJavaFileInfo()
+                                                    .getJavaName()) + BUILDER;
+        String cond = SUBTREE_FILTERING_RESULT_BUILDER + SPACE + EQUAL + EQUAL +
+                SPACE + NULL;
+        return FOUR_SPACE_INDENTATION + PRIVATE + SPACE + STATIC + SPACE +
+                FINAL + SPACE + CLASS + SPACE + STF_CONTEXT_CLASS + SPACE +
+                OPEN_CURLY_BRACKET + NEW_LINE + EIGHT_SPACE_INDENTATION +
+                PRIVATE + SPACE + builderName + SPACE +
+                SUBTREE_FILTERING_RESULT_BUILDER + signatureClose() +
+                EIGHT_SPACE_INDENTATION + PRIVATE + SPACE + BOOLEAN_DATA_TYPE +
+                SPACE + IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG +
+                signatureClose() + NEW_LINE + FOUR_SPACE_INDENTATION +
+                methodSignature(SUBTREE_FILTERING_RESULT_BUILDER, null, PRIVATE,
+                                null, builderName, null, CLASS_TYPE) +
+                getIfConditionBegin(TWELVE_SPACE_INDENTATION, cond) +
+                SIXTEEN_SPACE_INDENTATION + SUBTREE_FILTERING_RESULT_BUILDER +
+                SPACE + EQUAL + SPACE + NEW + SPACE + builderName +
+                OPEN_CLOSE_BRACKET_STRING + signatureClose() +
+                methodClose(TWELVE_SPACE) +
+                getReturnString(SUBTREE_FILTERING_RESULT_BUILDER,
+                                TWELVE_SPACE_INDENTATION) +
+                signatureClose() + methodClose(EIGHT_SPACE) +
+                methodClose(FOUR_SPACE) + NEW_LINE;
+    }
+
     /**
      * Returns filter content match for child nodes.
      *
-     * @param attr attribute to be added
-     * @param node YANG node
+     * @param attr         attribute to be added
+     * @param node         YANG node
+     * @param isLazyResult true if the result is built lazily
      * @return filter content match for child nodes
      */
     private static String getSubtreeFilteringForChildNode(JavaAttributeInfo attr,
-                                                          YangNode node) {
+                                                          YangNode node,
+                                                          boolean isLazyResult) {
         StringBuilder builder = new StringBuilder();
         String name = attr.getAttributeName();
         String clsInfo = attr.getImportInfo()
@@ -704,7 +820,7 @@ public final class SubtreeFilteringMethodsGenerator {
         String cond1 = name + OPEN_CLOSE_BRACKET_STRING + SPACE + NOT + EQUAL +
                 SPACE + NULL + SPACE + OR_OPERATION + SPACE + SELECT_ALL_CHILD;
         builder.append(getIfConditionBegin(EIGHT_SPACE_INDENTATION, cond1))
-                .append(getSelectOrContainmentAssignString());
+                .append(getSelectOrContainmentAssignString(isLazyResult));
 
         builder.append(getIfConditionBegin(TWELVE_SPACE_INDENTATION,
                                            getAppInstanceCondition(name, NOT)));
@@ -733,12 +849,12 @@ public final class SubtreeFilteringMethodsGenerator {
         builder.append(assignment).append(methodClose(SIXTEEN_SPACE))
                 .append(getIfConditionBegin(SIXTEEN_SPACE_INDENTATION, cond1));
 
-        assignment = TWENTY_SPACE_INDENTATION + SUBTREE_FILTERING_RESULT_BUILDER +
+        assignment = TWENTY_SPACE_INDENTATION + getResultBuilder(isLazyResult) +
                 PERIOD + name + getOpenCloseParaWithValue(RESULT) +
                 signatureClose();
         builder.append(assignment).append(methodClose(SIXTEEN_SPACE)).append(
                 TWELVE_SPACE_INDENTATION).append(CLOSE_CURLY_BRACKET)
-                .append(getSubTreeFilteredCondition(name)).append(methodClose(EIGHT_SPACE));
+                .append(getSubTreeFilteredCondition(name, isLazyResult)).append(methodClose(EIGHT_SPACE));
         return builder.toString();
     }
 
@@ -747,23 +863,59 @@ public final class SubtreeFilteringMethodsGenerator {
                 condition + EQUAL + SPACE + NULL;
     }
 
-    private static String getSelectOrContainmentAssignString() {
+    private static String getSelectOrContainmentAssignString(
+            boolean isLazyResult) {
+        if (isLazyResult) {
+            return TWELVE_SPACE_INDENTATION + STF_CONTEXT_PARAM + PERIOD +
+                    IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG + SPACE + EQUAL +
+                    SPACE + TRUE + signatureClose();
+        }
         return TWELVE_SPACE_INDENTATION + IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG +
                 PERIOD + SET_METHOD_PREFIX + getOpenCloseParaWithValue(ZERO) +
                 signatureClose();
     }
 
+    /**
+     * Returns the reference to the result builder, which is the builder
+     * parameter, or the context call creating the builder on first use when
+     * the result is built lazily.
+     *
+     * @param isLazyResult true if the result is built lazily
+     * @return reference to the result builder
+     */
+    private static String getResultBuilder(boolean isLazyResult) {
+        if (isLazyResult) {
+            return STF_CONTEXT_PARAM + PERIOD +
+                    SUBTREE_FILTERING_RESULT_BUILDER + OPEN_CLOSE_BRACKET_STRING;
+        }
+        return SUBTREE_FILTERING_RESULT_BUILDER;
+    }
+
+    /**
+     * Returns true if the subtree filtering of the node builds its result
+     * lazily.
+     *
+     * @param curNode YANG node
+     * @return true if the result is built lazily
+     */
+    private static boolean isLazyResult(YangNode curNode) {
+        YangPluginConfig config = ((JavaFileInfoContainer) curNode)
+                .getJavaFileInfo().getPluginConfig();
+        return config != null && config.isLazySubtreeFiltering();
+    }
+
     /**
      * Returns filter content match for list types.
      *
      * @param javaAttributeInfo attribute information
      * @param isLeafList        if for leaf list
      * @param node              YANG node
+     * @param isLazyResult      true if the result is built lazily
      * @return filter content match for list types
      */
     private static String getSubtreeFilteringForList(
             JavaAttributeInfo javaAttributeInfo, boolean isLeafList,
-            YangNode node) {
+            YangNode node, boolean isLazyResult) {
         StringBuilder builder = new StringBuilder();
         String caps = getCapitalCase(javaAttributeInfo.getAttributeName());
         String name = javaAttributeInfo.getAttributeName();
@@ -857,13 +1009,13 @@ public final class SubtreeFilteringMethodsGenerator {
                                                 classCast, true, isMap);
             builder.append(assignment);
             assignment = TWENTY_SPACE_INDENTATION +
-                    SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
+                    getResultBuilder(isLazyResult) + PERIOD + ADD_STRING +
                     getCapitalCase(TO) + caps + result +
                     signatureClose();
             builder.append(assignment);
         } else {
             assignment = TWENTY_SPACE_INDENTATION +
-                    SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
+                    getResultBuilder(isLazyResult) + PERIOD + ADD_STRING +
                     getCapitalCase(TO) + caps + getOpenCloseParaWithValue(name) +
                     signatureClose();
             builder.append(assignment);
@@ -876,7 +1028,7 @@ public final class SubtreeFilteringMethodsGenerator {
             subTreeFilteringResultBuilder.addToLeafList2(leafList2());
         }
     }*/
-        builder.append(getSubTreeFilteredCondition(name));
+        builder.append(getSubTreeFilteredCondition(name, isLazyResult));
 
         String cond = name + OPEN_CLOSE_BRACKET_STRING + SPACE + NOT + EQUAL +
                 SPACE + NULL;
@@ -885,7 +1037,7 @@ public final class SubtreeFilteringMethodsGenerator {
         builder.append(getElseIfConditionBegin(EIGHT_SPACE_INDENTATION, cond));
 
         if (!isLeafList) {
-            builder.append(getSelectOrContainmentAssignString());
+            builder.append(getSelectOrContainmentAssignString(isLazyResult));
         }
 
         //If there is any parameter in the query condition
@@ -925,7 +1077,7 @@ public final class SubtreeFilteringMethodsGenerator {
                     SPACE + TRUE + SEMI_COLON + NEW_LINE;
             builder.append(assignment);
             assignment = TWENTY_EIGHT_SPACE_INDENTATION +
-                    SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
+                    getResultBuilder(isLazyResult) + PERIOD + ADD_STRING +
                     getCapitalCase(TO) + caps + getOpenCloseParaWithValue(name + TWO) +
                     signatureClose();
             builder.append(assignment).append(TWENTY_EIGHT_SPACE_INDENTATION)
@@ -995,7 +1147,7 @@ public final class SubtreeFilteringMethodsGenerator {
                 result = getOpenCloseParaWithValue(RESULT);
             }
             assignment = THIRTY_TWO_SPACE_INDENTATION +
-                    SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
+                    getResultBuilder(isLazyResult) + PERIOD + ADD_STRING +
                     getCapitalCase(TO) + caps + result + signatureClose();
             builder.append(assignment).append(methodClose(TWENTY_EIGHT_SPACE))
                     //loop all the app instance(s)
@@ -1003,7 +1155,7 @@ public final class SubtreeFilteringMethodsGenerator {
                     //loop all the query condition instance(s)
                     .append(methodClose(TWENTY_SPACE))
                     .append(SIXTEEN_SPACE_INDENTATION).append(CLOSE_CURLY_BRACKET)
-                    .append(getSubTreeFilteredCondition(name));
+                    .append(getSubTreeFilteredCondition(name, isLazyResult));
             //if there is any app instance entry
         }
 
@@ -1012,7 +1164,7 @@ public final class SubtreeFilteringMethodsGenerator {
         builder.append(cond);
 
         if (isLeafList) {
-            builder.append(getSelectOrContainmentAssignString());
+            builder.append(getSelectOrContainmentAssignString(isLazyResult));
         }
 
         //need to pass name.getKey() and name.getValue() while adding to
@@ -1039,7 +1191,7 @@ public final class SubtreeFilteringMethodsGenerator {
             result = getOpenCloseParaWithValue(name);
         }
         assignment = TWENTY_FOUR_SPACE_INDENTATION +
-                SUBTREE_FILTERING_RESULT_BUILDER + PERIOD + ADD_STRING +
+                getResultBuilder(isLazyResult) + PERIOD + ADD_STRING +
                 getCapitalCase(TO) + caps + result + signatureClose();
         builder.append(assignment).append(methodClose(TWENTY_SPACE))// Close collection Iteration loop
                 // close  if condition
@@ -1050,7 +1202,14 @@ public final class SubtreeFilteringMethodsGenerator {
         return builder.toString();
     }
 
-    public static String getAugmentableSubTreeFiltering() {
+    /**
+     * Returns the subtree filtering of augmented info.
+     *
+     * @param isLazyResult true if the result is built lazily
+     * @return subtree filtering of augmented info
+     */
+    public static String getAugmentableSubTreeFiltering(boolean isLazyResult) {
+        String resultBuilder = getResultBuilder(isLazyResult);
         return "        if (yangAugmentedInfoMap.isEmpty()) {\n" +
                 "            Set<Map.Entry<Class<?>, Object>> augment =" +
                 " appInstance.yangAugmentedInfoMap().entrySet();\n" +
@@ -1078,7 +1237,7 @@ public final class SubtreeFilteringMethodsGenerator {
                 "\"processSubtreeFiltering\", augClass, boolean.class);\n" +
                 "                        Object result = method.invoke(" +
                 "defaultObj, aug.getValue(), true);\n" +
-                "                        subTreeFilteringResultBuilder." +
+                "                        " + resultBuilder + "." +
                 "addYangAugmentedInfo(result, augClass);\n" +
                 "                    } catch (ClassNotFoundException | InstantiationException\n" +
                 "                            | NoSuchMethodException |\n" +
@@ -1096,7 +1255,7 @@ public final class SubtreeFilteringMethodsGenerator {
                 "                Object appInstanceInfo = appInstance." +
                 "yangAugmentedInfo(augClass);\n" +
                 "                if (appInstanceInfo == null) {\n" +
-                "                    subTreeFilteringResultBuilder." +
+                "                    " + resultBuilder + "." +
                 "addYangAugmentedInfo(aug.getValue(), aug.getKey());\n" +
                 "                } else {\n" +
                 "                    Object processSubtreeFiltering;\n" +
@@ -1107,7 +1266,7 @@ public final class SubtreeFilteringMethodsGenerator {
                 " aug.getKey(), boolean.class)\n" +
                 "                                .invoke(aug.getValue(), appInstanceInfo, true);\n" +
                 "                        if (processSubtreeFiltering != null) {\n" +
-                "                            subTreeFilteringResultBuilder\n" +
+                "                            " + resultBuilder + "\n" +
                 "                                    .addYangAugmentedInfo(" +
                 "processSubtreeFiltering, aug.getKey());\n" +
                 "                        }\n" +
@@ -1119,7 +1278,8 @@ public final class SubtreeFilteringMethodsGenerator {
                 "        }\n";
     }
 
-    private static String getSubTreeFilteredCondition(String name) {
+    private static String getSubTreeFilteredCondition(String name,
+                                                      boolean isLazyResult) {
         StringBuilder builder = new StringBuilder();
         String cond = SUBTREE_FILTERED + SPACE + AND_OPERATION + SPACE + name +
                 OPEN_CLOSE_BRACKET_STRING + SPACE + NOT + EQUAL + SPACE + NULL;
@@ -1127,7 +1287,7 @@ public final class SubtreeFilteringMethodsGenerator {
         builder.append(ELSE).append(OPEN_CURLY_BRACKET).append(NEW_LINE)
                 .append(getIfConditionBegin(SIXTEEN_SPACE_INDENTATION, cond))
                 .append(TWENTY_SPACE_INDENTATION)
-                .append(SUBTREE_FILTERING_RESULT_BUILDER).append(PERIOD)
+                .append(getResultBuilder(isLazyResult)).append(PERIOD)
                 .append(name).append(getOpenCloseParaWithValue(name)).append(
                 signatureClose()).append(SIXTEEN_SPACE_INDENTATION).append(
                 CLOSE_CURLY_BRACKET).append(NEW_LINE).append(TWELVE_SPACE_INDENTATION)
@@ -912,6 +912,17 @@ public final class UtilConstants {
     public static final String IS_ANY_SELECT_OR_CONTAINMENT_NODE_FLAG =
             "isAnySelectOrContainmentNode";
 
+    /**
+     * Variable name of the memoized hash code.
+     */
+    public static final String YANG_HASH_CODE = "yangHashCode";
+
+    /**
+     * Variable name of the flag for memoizing the hash code.
+     */
+    public static final String IS_YANG_HASH_CODE_CACHED =
+            "isYangHashCodeCached";
+
     /**
      * variable name of the subtree  filtering to select all child.
      */
@@ -948,6 +959,29 @@ public final class UtilConstants {
      */
     public static final String LINKED_HASH_MAP = "java.util.LinkedHashMap<>()";
 
+    /**
+     * Static attribute for unmodifiable list.
+     */
+    public static final String UNMODIFIABLE_LIST =
+            "java.util.Collections.unmodifiableList";
+
+    /**
+     * Static attribute for unmodifiable set.
+     */
+    public static final String UNMODIFIABLE_SET =
+            "java.util.Collections.unmodifiableSet";
+
+    /**
+     * Static attribute for unmodifiable map.
+     */
+    public static final String UNMODIFIABLE_MAP =
+            "java.util.Collections.unmodifiableMap";
+
+    /**
+     * Static attribute for clone method call.
+     */
+    public static final String CLONE_METHOD = "clone()";
+
     /**
      * Static attribute for "throw new ".
      */
@@ -1909,6 +1943,17 @@ public final class UtilConstants {
      */
     public static final String SELECT_OR_CONTAINMENT_NODE_PARAM =
             "isAnySelectOrContainmentNode";
+
+    /**
+     * Static param for the subtree filtering context.
+     */
+    public static final String STF_CONTEXT_PARAM = "stfContext";
+
+    /**
+     * Class name of the subtree filtering context.
+     */
+    public static final String STF_CONTEXT_CLASS = "SubtreeFilteringContext";
+
     /**
      * Static param for isSelectAllSchemaChild.
      */
@@ -46,6 +46,32 @@ public final class YangPluginConfig {
      */
     private String codeGenerateForSbi;
 
+    /**
+     * Temporary code fragments are buffered in memory during translation.
+     */
+    private boolean tempFragmentsInMemory = true;
+
+    /**
+     * Size in characters beyond which a buffered temporary code fragment is
+     * spilled to its temporary file, zero when it is never spilled.
+     */
+    private int tempFragmentSpillThreshold;
+
+    /**
+     * Flag if the generated subtree filtering builds its result lazily.
+     */
+    private boolean lazySubtreeFiltering;
+
+    /**
+     * Flag if the generated default classes memoize their hash code.
+     */
+    private boolean memoizedHashCode;
+
+    /**
+     * Flag if the keyed lists are generated as maps indexed by their keys.
+     */
+    private boolean keyedListsAsMaps;
+
     /**
      * Creates an object for YANG plugin config.
      */
@@ -106,6 +132,107 @@ public final class YangPluginConfig {
         return conflictResolver;
     }
 
+    /**
+     * Returns true if temporary code fragments are buffered in memory.
+     *
+     * @return true if temporary code fragments are buffered in memory
+     */
+    public boolean isTempFragmentsInMemory() {
+        return tempFragmentsInMemory;
+    }
+
+    /**
+     * Sets true if temporary code fragments are to be buffered in memory,
+     * false if they are to be written to temporary files.
+     *
+     * @param tempFragmentsInMemory flag for in memory temporary fragments
+     */
+    public void setTempFragmentsInMemory(boolean tempFragmentsInMemory) {
+        this.tempFragmentsInMemory = tempFragmentsInMemory;
+    }
+
+    /**
+     * Returns the spill threshold of buffered temporary code fragments.
+     *
+     * @return spill threshold in characters, zero for no limit
+     */
+    public int getTempFragmentSpillThreshold() {
+        return tempFragmentSpillThreshold;
+    }
+
+    /**
+     * Sets the spill threshold of buffered temporary code fragments.
+     *
+     * @param tempFragmentSpillThreshold spill threshold in characters, zero
+     *                                   for no limit
+     */
+    public void setTempFragmentSpillThreshold(int tempFragmentSpillThreshold) {
+        this.tempFragmentSpillThreshold = tempFragmentSpillThreshold;
+    }
+
+    /**
+     * Returns true if the generated subtree filtering builds its result
+     * lazily.
+     *
+     * @return true if the result of subtree filtering is built lazily
+     */
+    public boolean isLazySubtreeFiltering() {
+        return lazySubtreeFiltering;
+    }
+
+    /**
+     * Sets true if the generated subtree filtering is to build its result
+     * only when content is matched, instead of creating the result builder
+     * for each call.
+     *
+     * @param lazySubtreeFiltering flag for lazy subtree filtering result
+     */
+    public void setLazySubtreeFiltering(boolean lazySubtreeFiltering) {
+        this.lazySubtreeFiltering = lazySubtreeFiltering;
+    }
+
+    /**
+     * Returns true if the generated default classes memoize their hash code.
+     *
+     * @return true if hash code is memoized
+     */
+    public boolean isMemoizedHashCode() {
+        return memoizedHashCode;
+    }
+
+    /**
+     * Sets true if the generated default classes are to memoize the hash
+     * code of the objects created by their builders, and to compare the
+     * primitive attributes before the other ones in equals.
+     *
+     * @param memoizedHashCode flag for memoized hash code
+     */
+    public void setMemoizedHashCode(boolean memoizedHashCode) {
+        this.memoizedHashCode = memoizedHashCode;
+    }
+
+    /**
+     * Returns true if the keyed lists are generated as maps indexed by their
+     * keys.
+     *
+     * @return true if keyed lists are generated as maps
+     */
+    public boolean isKeyedListsAsMaps() {
+        return keyedListsAsMaps;
+    }
+
+    /**
+     * Sets true if the config lists with keys, and without a compiler
+     * annotation of their own, are to be generated as maps indexed by their
+     * key classes, the same way as with the map app data structure
+     * annotation.
+     *
+     * @param keyedListsAsMaps flag for keyed lists generated as maps
+     */
+    public void setKeyedListsAsMaps(boolean keyedListsAsMaps) {
+        this.keyedListsAsMaps = keyedListsAsMaps;
+    }
+
     /**
      * Compiles the generated code for unit tests.
      *
@@ -53,7 +53,8 @@ public final class CopyrightHeader {
      * @return copyright file header
      * @throws IOException when fails to parse copyright header
      */
-    public static String getCopyrightHeader() throws IOException {
+    public static synchronized String getCopyrightHeader()
+            throws IOException {
 
         if (copyrightHeader == null) {
             parseCopyrightHeader();
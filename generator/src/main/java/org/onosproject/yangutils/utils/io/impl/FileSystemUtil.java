@@ -22,6 +22,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -52,8 +53,18 @@ public final class FileSystemUtil {
      */
     static void appendFileContents(File toAppend, File srcFile)
             throws IOException {
-        updateFileHandle(srcFile, readAppendFile(toAppend.toString(),
-                                                 FOUR_SPACE_INDENTATION), false);
+        String content;
+        if (JavaFileStore.isBuffered(toAppend)) {
+            content = JavaFileStore.read(toAppend, FOUR_SPACE_INDENTATION);
+        } else {
+            content = readAppendFile(toAppend.toString(),
+                                     FOUR_SPACE_INDENTATION);
+        }
+        if (JavaFileStore.isBuffered(srcFile)) {
+            JavaFileStore.append(srcFile, content);
+        } else {
+            updateFileHandle(srcFile, content, false);
+        }
     }
 
     /**
@@ -67,8 +78,36 @@ public final class FileSystemUtil {
     public static String readAppendFile(String toAppend, String spaces)
             throws IOException {
 
-        FileReader fileReader = new FileReader(toAppend);
-        BufferedReader bufferReader = new BufferedReader(fileReader);
+        return readAppendContent(new BufferedReader(new FileReader(toAppend)),
+                                 spaces);
+    }
+
+    /**
+     * Reads content in the same way as a file is read by read append file and
+     * converts it to string.
+     *
+     * @param content content to be converted
+     * @param spaces  spaces to be appended
+     * @return converted string
+     * @throws IOException when fails to convert to string
+     */
+    static String readAppendString(String content, String spaces)
+            throws IOException {
+        return readAppendContent(new BufferedReader(new StringReader(content)),
+                                 spaces);
+    }
+
+    /**
+     * Reads lines from the reader and converts them to string.
+     *
+     * @param bufferReader reader of the content
+     * @param spaces       spaces to be appended
+     * @return converted string
+     * @throws IOException when fails to convert to string
+     */
+    private static String readAppendContent(BufferedReader bufferReader,
+                                            String spaces)
+            throws IOException {
         try {
             StringBuilder stringBuilder = new StringBuilder();
             String line = bufferReader.readLine();
@@ -94,7 +133,6 @@ public final class FileSystemUtil {
             }
             return stringBuilder.toString();
         } finally {
-            fileReader.close();
             bufferReader.close();
         }
     }
@@ -139,6 +177,14 @@ public final class FileSystemUtil {
             throws IOException {
 
         if (file != null) {
+            if (TempFragmentStore.release(file) && !file.exists()) {
+                return;
+            }
+            if (toBeDeleted) {
+                JavaFileStore.release(file);
+            } else if (JavaFileStore.isBuffered(file)) {
+                JavaFileStore.write(file, false);
+            }
             updateFileHandle(file, null, true);
             if (toBeDeleted) {
                 boolean deleted = file.delete();
@@ -158,6 +204,10 @@ public final class FileSystemUtil {
     public static void closeFile(File file) throws IOException {
 
         if (file != null) {
+            if (TempFragmentStore.release(file) && !file.exists()) {
+                return;
+            }
+            JavaFileStore.release(file);
             updateFileHandle(file, null, true);
             boolean deleted = file.delete();
             if (!deleted) {
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.utils.io.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.onosproject.yangutils.utils.UtilConstants.JAVA_FILE_EXTENSION;
+
+/**
+ * Represents the output stage of the generated Java files under a root
+ * directory, which keeps the files of the previous build that are generated
+ * again with the same content. The content of a generated file is compared
+ * with the file of the previous build by its hash, and the file is written
+ * only when its content is changed, so that its timestamp is kept for the
+ * incremental compilation of the generated sources. The files of the
+ * previous build which are not generated again are deleted when the output
+ * stage is finished.
+ * <p>
+ * The files under the kept directories are neither compared nor deleted.
+ * They are used for the generated code of the YANG files which are not
+ * translated again in an incremental build.
+ */
+public final class JavaFileOutput {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    // Output stages of the code generation in progress, keyed by their root.
+    private static final Map<String, JavaFileOutput> OUTPUTS =
+            new ConcurrentHashMap<>();
+
+    private final String root;
+    private final List<String> keptDirs = new ArrayList<>();
+
+    // Generated files of the previous build, which are not yet generated.
+    private final Set<String> previousFiles =
+            ConcurrentHashMap.newKeySet();
+
+    // Generated files, with true if the file is written by this build.
+    private final Map<String, Boolean> generatedFiles =
+            new ConcurrentHashMap<>();
+
+    private int writtenCount;
+    private int unchangedCount;
+    private int deletedCount;
+
+    /**
+     * Creates an output stage of the generated Java files.
+     *
+     * @param root root directory of generated files
+     */
+    private JavaFileOutput(String root) {
+        this.root = getPrefix(root);
+    }
+
+    /**
+     * Starts the output stage of the generated Java files under a root
+     * directory, taking the Java files under it as the files of the
+     * previous build.
+     *
+     * @param root     root directory of generated files
+     * @param keptDirs directories of the files to be kept as they are
+     * @return output stage
+     */
+    public static JavaFileOutput start(String root, Set<String> keptDirs) {
+        JavaFileOutput output = new JavaFileOutput(root);
+        for (String dir : keptDirs) {
+            output.keptDirs.add(getPrefix(dir));
+        }
+        output.addPreviousFiles(new File(root));
+        OUTPUTS.put(output.root, output);
+        return output;
+    }
+
+    /**
+     * Returns the output stage of a generated file.
+     *
+     * @param file generated file
+     * @return output stage, null if the file is not in an output stage
+     */
+    static JavaFileOutput getOutput(File file) {
+        if (OUTPUTS.isEmpty()) {
+            return null;
+        }
+        String path = file.getPath();
+        for (JavaFileOutput output : OUTPUTS.values()) {
+            if (path.startsWith(output.root) && !output.isKept(path)) {
+                return output;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if an existing generated file is generated for the
+     * first time in the current build, and it can take the place of the
+     * file of the previous build.
+     *
+     * @param file generated file
+     * @return true if file is generated for the first time
+     */
+    public static boolean isReplaceable(File file) {
+        JavaFileOutput output = getOutput(file);
+        return output != null && !JavaFileStore.isBuffered(file) &&
+                !output.generatedFiles.containsKey(file.getPath());
+    }
+
+    /**
+     * Writes the content of a generated file. In an output stage, the file
+     * is not written when its content is the same as in the previous build.
+     *
+     * @param file    generated file
+     * @param content content of generated file
+     * @throws IOException when fails to write the file
+     */
+    public static void write(File file, String content) throws IOException {
+        byte[] bytes = content.getBytes(Charset.defaultCharset());
+        JavaFileOutput output = getOutput(file);
+        if (output == null) {
+            Files.write(file.toPath(), bytes);
+            return;
+        }
+        String path = file.getPath();
+        boolean isChanged = !file.isFile() ||
+                file.length() != bytes.length ||
+                !Arrays.equals(getHash(Files.readAllBytes(file.toPath())),
+                               getHash(bytes));
+        if (isChanged) {
+            Files.write(file.toPath(), bytes);
+        }
+        output.previousFiles.remove(path);
+        output.generatedFiles.merge(path, isChanged, Boolean::logicalOr);
+    }
+
+    /**
+     * Finishes the output stage by deleting the files of the previous build
+     * which are not generated again, and the directories left empty.
+     *
+     * @throws IOException when fails to delete a file
+     */
+    public void finish() throws IOException {
+        OUTPUTS.remove(root);
+        Set<File> dirs = new HashSet<>();
+        for (String path : previousFiles) {
+            File file = new File(path);
+            if (!file.delete()) {
+                throw new IOException("Failed to delete " + path);
+            }
+            dirs.add(file.getParentFile());
+            deletedCount++;
+        }
+        for (File dir : dirs) {
+            File rootDir = new File(root);
+            while (dir != null && !dir.equals(rootDir) && dir.delete()) {
+                dir = dir.getParentFile();
+            }
+        }
+        for (boolean isWritten : generatedFiles.values()) {
+            if (isWritten) {
+                writtenCount++;
+            } else {
+                unchangedCount++;
+            }
+        }
+    }
+
+    /**
+     * Stops the output stage, when the code generation fails.
+     */
+    public void release() {
+        OUTPUTS.remove(root);
+    }
+
+    /**
+     * Returns the number of generated files written by the current build.
+     *
+     * @return number of written files
+     */
+    public int getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * Returns the number of generated files kept from the previous build,
+     * since their content is not changed.
+     *
+     * @return number of unchanged files
+     */
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Returns the number of generated files of the previous build deleted,
+     * since they are not generated again.
+     *
+     * @return number of deleted files
+     */
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Adds the Java files under a directory as the files of the previous
+     * build.
+     *
+     * @param dir directory
+     */
+    private void addPreviousFiles(File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                addPreviousFiles(file);
+            } else if (file.getName().endsWith(JAVA_FILE_EXTENSION) &&
+                    !isKept(file.getPath())) {
+                previousFiles.add(file.getPath());
+            }
+        }
+    }
+
+    /**
+     * Returns true if the file is under a kept directory.
+     *
+     * @param path path of file
+     * @return true if file is kept
+     */
+    private boolean isKept(String path) {
+        for (String dir : keptDirs) {
+            if (path.startsWith(dir)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the path prefix of the files under a directory.
+     *
+     * @param dir directory
+     * @return path prefix
+     */
+    private static String getPrefix(String dir) {
+        return new File(dir).getPath() + File.separator;
+    }
+
+    /**
+     * Returns the hash of a file content.
+     *
+     * @param content file content
+     * @return content hash
+     */
+    private static byte[] getHash(byte[] content) {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
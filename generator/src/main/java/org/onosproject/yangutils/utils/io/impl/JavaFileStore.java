@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.utils.io.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.readAppendString;
+
+/**
+ * Represents the in-memory store of generated Java files. The content of a
+ * generated Java file is buffered against its file handle while it is
+ * generated, and is written to the file once, through the Java file writer
+ * which validates the line length of the content as it is written.
+ */
+public final class JavaFileStore {
+
+    // Buffered content of each generated Java file, keyed by its path.
+    private static final Map<String, StringBuilder> FILES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance of Java file store.
+     */
+    private JavaFileStore() {
+    }
+
+    /**
+     * Creates an empty buffer for a generated Java file, replacing the
+     * buffer left for the file by an earlier generation.
+     *
+     * @param file generated Java file handle
+     */
+    public static void create(File file) {
+        FILES.put(file.getPath(), new StringBuilder());
+    }
+
+    /**
+     * Returns true if the generated Java file is buffered in memory.
+     *
+     * @param file generated Java file handle
+     * @return true if file is buffered
+     */
+    public static boolean isBuffered(File file) {
+        return FILES.containsKey(file.getPath());
+    }
+
+    /**
+     * Appends content to the buffer of a generated Java file.
+     *
+     * @param file generated Java file handle
+     * @param data data to be appended
+     * @throws IOException when file is not buffered
+     */
+    public static void append(File file, String data) throws IOException {
+        getBuffer(file).append(data);
+    }
+
+    /**
+     * Returns the content of a generated Java file, read in the same way as
+     * from the file system.
+     *
+     * @param file   generated Java file handle
+     * @param spaces spaces to be appended
+     * @return content of the generated Java file
+     * @throws IOException when file is not buffered
+     */
+    public static String read(File file, String spaces) throws IOException {
+        return readAppendString(getBuffer(file).toString(), spaces);
+    }
+
+    /**
+     * Writes the buffered content of a generated Java file to the file and
+     * releases the buffer. The content written later to the file is
+     * appended to it. In an output stage of generated files, the file is
+     * written only when its content is changed since the previous build.
+     *
+     * @param file              generated Java file handle
+     * @param isLengthValidated true if the line length of the content is to
+     *                          be validated
+     * @throws IOException when fails to write the file
+     */
+    public static void write(File file, boolean isLengthValidated)
+            throws IOException {
+        StringBuilder buffer = FILES.remove(file.getPath());
+        if (buffer == null) {
+            throw new IOException("Generated file " + file.getName() +
+                                          " is not buffered.");
+        }
+        StringWriter content = null;
+        Writer out;
+        if (JavaFileOutput.getOutput(file) != null) {
+            content = new StringWriter(buffer.length());
+            out = content;
+        } else {
+            out = Files.newBufferedWriter(file.toPath(),
+                                          Charset.defaultCharset());
+        }
+        if (isLengthValidated) {
+            out = new JavaFileWriter(out);
+        }
+        try {
+            out.append(buffer);
+        } finally {
+            out.close();
+        }
+        if (content != null) {
+            JavaFileOutput.write(file, content.toString());
+        }
+    }
+
+    /**
+     * Releases the buffer of a generated Java file.
+     *
+     * @param file generated Java file handle
+     * @return true if the file was buffered
+     */
+    public static boolean release(File file) {
+        return FILES.remove(file.getPath()) != null;
+    }
+
+    /**
+     * Releases the buffers of all generated Java files under a directory.
+     *
+     * @param root root directory
+     */
+    public static void releaseAll(String root) {
+        String prefix = new File(root).getPath() + File.separator;
+        FILES.keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    /**
+     * Returns the buffer of a generated Java file.
+     *
+     * @param file generated Java file handle
+     * @return buffer of the file
+     * @throws IOException when file is not buffered
+     */
+    private static StringBuilder getBuffer(File file) throws IOException {
+        StringBuilder buffer = FILES.get(file.getPath());
+        if (buffer == null) {
+            throw new IOException("Generated file " + file.getName() +
+                                          " is not buffered.");
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.utils.io.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import static org.onosproject.yangutils.utils.UtilConstants.NEW_LINE;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.validateLine;
+
+/**
+ * Represents the writer of generated Java files, which validates the line
+ * length of the content as it is written. Each line is written to the
+ * underlying writer once it is complete, split when it is too long, and
+ * terminated with a new line, the same way as by reading the file back line
+ * by line and rewriting it.
+ */
+class JavaFileWriter extends Writer {
+
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder();
+    private boolean isLineFeedSkipped;
+
+    /**
+     * Creates a Java file writer.
+     *
+     * @param out underlying writer
+     */
+    JavaFileWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length)
+            throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            writeChar(buffer[i]);
+        }
+    }
+
+    @Override
+    public Writer append(CharSequence content) throws IOException {
+        for (int i = 0; i < content.length(); i++) {
+            writeChar(content.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a character of the content. A line is ended by a line feed, a
+     * carriage return, or a carriage return followed by a line feed.
+     *
+     * @param c character
+     * @throws IOException when fails to write the line
+     */
+    private void writeChar(char c) throws IOException {
+        if (isLineFeedSkipped) {
+            isLineFeedSkipped = false;
+            if (c == LINE_FEED) {
+                return;
+            }
+        }
+        if (c == LINE_FEED || c == CARRIAGE_RETURN) {
+            isLineFeedSkipped = c == CARRIAGE_RETURN;
+            writeLine();
+        } else {
+            line.append(c);
+        }
+    }
+
+    /**
+     * Writes the current line after validating its length.
+     *
+     * @throws IOException when fails to write the line
+     */
+    private void writeLine() throws IOException {
+        out.write(validateLine(line.toString()));
+        out.write(NEW_LINE);
+        line.setLength(0);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (line.length() > 0) {
+                writeLine();
+            }
+        } finally {
+            out.close();
+        }
+    }
+}
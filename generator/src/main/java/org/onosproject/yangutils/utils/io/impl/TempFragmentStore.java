@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.utils.io.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.readAppendString;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.updateFileHandle;
+
+/**
+ * Represents the in-memory store of temporary code fragments. A temporary
+ * code fragment is buffered against the handle of its temporary file, which
+ * is created only when the buffered content grows beyond the spill
+ * threshold.
+ */
+public final class TempFragmentStore {
+
+    // Buffered content of each temporary file, keyed by its path.
+    private static final Map<String, StringBuilder> FRAGMENTS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance of temporary fragment store.
+     */
+    private TempFragmentStore() {
+    }
+
+    /**
+     * Creates an empty buffer for a temporary file.
+     *
+     * @param file temporary file handle
+     * @return true if buffer is created, false if file is already buffered
+     */
+    public static boolean create(File file) {
+        return FRAGMENTS.putIfAbsent(file.getPath(),
+                                     new StringBuilder()) == null;
+    }
+
+    /**
+     * Returns true if the temporary file is buffered in memory.
+     *
+     * @param file temporary file handle
+     * @return true if file is buffered
+     */
+    public static boolean isBuffered(File file) {
+        return FRAGMENTS.containsKey(file.getPath());
+    }
+
+    /**
+     * Appends content to the buffer of a temporary file. When the buffered
+     * content exceeds the spill threshold, it is moved to the temporary file.
+     *
+     * @param file           temporary file handle
+     * @param data           data to be appended
+     * @param spillThreshold size in characters beyond which buffer is
+     *                       spilled to file, zero for no limit
+     * @throws IOException when fails to spill to temporary file
+     */
+    public static void append(File file, String data, int spillThreshold)
+            throws IOException {
+        StringBuilder buffer = getBuffer(file);
+        buffer.append(data);
+        if (spillThreshold > 0 && buffer.length() > spillThreshold) {
+            File dir = file.getParentFile();
+            if (dir != null && !dir.exists() && !dir.mkdirs()) {
+                throw new IOException("failed to create temporary directory " +
+                                              "for " + file.getName());
+            }
+            updateFileHandle(file, buffer.toString(), false);
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Returns the content of a temporary file, read in the same way as from
+     * the file system.
+     *
+     * @param file temporary file handle
+     * @return content of the temporary file
+     * @throws IOException when fails to read spilled content
+     */
+    public static String read(File file) throws IOException {
+        StringBuilder buffer = getBuffer(file);
+        String content = buffer.toString();
+        if (file.exists()) {
+            content = new String(Files.readAllBytes(file.toPath())) + content;
+        }
+        return readAppendString(content, EMPTY_STRING);
+    }
+
+    /**
+     * Releases the buffer of a temporary file.
+     *
+     * @param file temporary file handle
+     * @return true if the file was buffered
+     */
+    public static boolean release(File file) {
+        return FRAGMENTS.remove(file.getPath()) != null;
+    }
+
+    /**
+     * Releases the buffers of all temporary files under a directory.
+     *
+     * @param root root directory
+     */
+    public static void releaseAll(String root) {
+        String prefix = new File(root).getPath() + File.separator;
+        FRAGMENTS.keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    /**
+     * Returns the buffer of a temporary file.
+     *
+     * @param file temporary file handle
+     * @return buffer of the file
+     * @throws IOException when file is not buffered
+     */
+    private static StringBuilder getBuffer(File file) throws IOException {
+        StringBuilder buffer = FRAGMENTS.get(file.getPath());
+        if (buffer == null) {
+            throw new IOException("Temporary file " + file.getName() +
+                                          " is not buffered.");
+        }
+        return buffer;
+    }
+}
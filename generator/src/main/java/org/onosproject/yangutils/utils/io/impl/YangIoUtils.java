@@ -21,7 +21,6 @@ import org.onosproject.yangutils.translator.exception.TranslatorException;
 import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
@@ -124,27 +123,16 @@ public final class YangIoUtils {
         try {
 
             File packageInfo = new File(path + SLASH + "package-info.java");
-            if (!packageInfo.exists()) {
-                boolean isGenerated = packageInfo.createNewFile();
-                if (!isGenerated) {
-                    throw new IOException("failed to generated package-info " +
-                                                  path);
-                }
-            }
-            FileWriter fileWriter = new FileWriter(packageInfo);
-            BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-
-            bufferedWriter.write(getCopyrightHeader());
+            StringBuilder content = new StringBuilder(getCopyrightHeader());
             //TODO: get the compiler annotations and pass the info
-            bufferedWriter.write(getJavaDoc(PACKAGE_INFO, classInfo, isChildNode,
-                                            null));
+            content.append(getJavaDoc(PACKAGE_INFO, classInfo, isChildNode,
+                                      null));
             String pkg = PACKAGE + SPACE + pack + SEMI_COLON;
             if (pkg.length() >= LINE_SIZE) {
                 pkg = processModifications(pkg, LINE_SIZE);
             }
-            bufferedWriter.write(pkg);
-            bufferedWriter.close();
-            fileWriter.close();
+            content.append(pkg);
+            JavaFileOutput.write(packageInfo, content.toString());
         } catch (IOException e) {
             throw new IOException("Exception occurred while creating package info" +
                                           " file.");
@@ -178,13 +166,15 @@ public final class YangIoUtils {
     }
 
     /**
-     * Cleans the generated directory if already exist in source folder.
+     * Cleans the generated directory if already exist in source folder, and
+     * releases the generated Java files under it buffered in memory.
      *
      * @param dir generated directory in previous build
      * @throws IOException when failed to delete directory
      */
     public static void deleteDirectory(String dir)
             throws IOException {
+        JavaFileStore.releaseAll(dir);
         File generatedDirectory = new File(dir);
         if (generatedDirectory.exists()) {
             try {
@@ -198,13 +188,16 @@ public final class YangIoUtils {
     }
 
     /**
-     * Searches and deletes generated temporary directories.
+     * Searches and deletes generated temporary directories and releases the
+     * temporary files buffered in memory.
      *
      * @param root root directory
      * @throws IOException when fails to do IO operations.
      */
     public static void searchAndDeleteTempDir(String root)
             throws IOException {
+        TempFragmentStore.releaseAll(root);
+        JavaFileStore.releaseAll(root);
         List<File> store = new LinkedList<>();
         Stack<String> stack = new Stack<>();
         stack.push(root);
@@ -339,6 +332,10 @@ public final class YangIoUtils {
     public static void insertDataIntoJavaFile(File file, String data)
             throws IOException {
         try {
+            if (JavaFileStore.isBuffered(file)) {
+                JavaFileStore.append(file, data);
+                return;
+            }
             updateFileHandle(file, data, false);
         } catch (IOException e) {
             throw new IOException("Failed to insert in " + file + "file");
@@ -347,7 +344,9 @@ public final class YangIoUtils {
 
     /**
      * Validates a line size in given file whether it is having more then 120 characters.
-     * If yes it will update and give a new file.
+     * If yes it will update and give a new file. The content of a generated
+     * Java file buffered in memory is written to the file once, with its
+     * lines validated as they are written.
      *
      * @param dataFile file in which need to verify all lines.
      * @return updated file
@@ -355,6 +354,10 @@ public final class YangIoUtils {
      */
     public static File validateLineLength(File dataFile)
             throws IOException {
+        if (JavaFileStore.isBuffered(dataFile)) {
+            JavaFileStore.write(dataFile, true);
+            return dataFile;
+        }
         FileReader fileReader = new FileReader(dataFile);
         BufferedReader bufferReader = new BufferedReader(fileReader);
         try {
@@ -362,10 +365,7 @@ public final class YangIoUtils {
             String line = bufferReader.readLine();
 
             while (line != null) {
-                if (line.length() >= LINE_SIZE) {
-                    line = processModifications(line, LINE_SIZE);
-                }
-                stringBuilder.append(line);
+                stringBuilder.append(validateLine(line));
                 stringBuilder.append(NEW_LINE);
                 line = bufferReader.readLine();
             }
@@ -379,6 +379,20 @@ public final class YangIoUtils {
         }
     }
 
+    /**
+     * Returns the line split into lines of valid length, when it is longer
+     * than the line size.
+     *
+     * @param line line string
+     * @return validated line string
+     */
+    static String validateLine(String line) {
+        if (line.length() >= LINE_SIZE) {
+            return processModifications(line, LINE_SIZE);
+        }
+        return line;
+    }
+
     /**
      * Resolves validation of line length by modifying the string.
      *
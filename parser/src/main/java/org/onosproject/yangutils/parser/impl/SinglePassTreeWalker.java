@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.parser.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.onosproject.yangutils.parser.antlrgencode.GeneratedYangParser.BodyStatementsContext;
+
+/**
+ * Represents the parse listener, which walks the parse tree of a YANG file
+ * with the tree walk listener while the file is being parsed. Each body
+ * statement of the module or sub-module is walked as soon as it is parsed,
+ * and its subtree is then dropped from the parse tree, so that the parse
+ * tree of at most one body statement is kept together with the data model
+ * tree.
+ * <p>
+ * The callbacks of the tree walk listener are invoked in the same order as
+ * by the parse tree walker. The entry of the module, its header, linkage,
+ * meta and revision statements are walked before the first body statement,
+ * and the rest of the parse tree after the parsing is completed.
+ * <p>
+ * It is also an error listener of the parser. Once a syntax error is
+ * detected, or the tree walk listener fails, the contexts exited while the
+ * exception propagates are not walked, since they are incomplete.
+ */
+class SinglePassTreeWalker extends BaseErrorListener
+        implements ParseTreeListener {
+
+    private final ParseTreeWalker walker = new ParseTreeWalker();
+    private final String fileName;
+    private TreeWalkListener listener;
+
+    // Contexts from the root to the body statements, whose entry is walked.
+    private final List<ParserRuleContext> openContexts = new ArrayList<>();
+
+    // Index of the next open context in the children of each open context.
+    private final List<Integer> openChildIndexes = new ArrayList<>();
+
+    // Flag if the parsing or the walk has failed.
+    private boolean isFailed;
+
+    /**
+     * Creates a single pass tree walker of a YANG file.
+     *
+     * @param fileName YANG file name
+     */
+    SinglePassTreeWalker(String fileName) {
+        this.fileName = fileName;
+        reset();
+    }
+
+    /**
+     * Starts the walk again with a new tree walk listener, when the file is
+     * parsed again.
+     */
+    void reset() {
+        listener = new TreeWalkListener();
+        listener.setFileName(fileName);
+        openContexts.clear();
+        openChildIndexes.clear();
+        isFailed = false;
+    }
+
+    /**
+     * Returns the tree walk listener.
+     *
+     * @return tree walk listener
+     */
+    TreeWalkListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        ParserRuleContext parent = ctx.getParent();
+        if (isFailed || ctx.exception != null) {
+            isFailed = true;
+            return;
+        }
+        if (!(parent instanceof BodyStatementsContext)) {
+            return;
+        }
+        try {
+            if (openContexts.isEmpty()) {
+                open(parent);
+            }
+            walker.walk(listener, ctx);
+        } catch (RuntimeException e) {
+            isFailed = true;
+            throw e;
+        }
+        parent.removeLastChild();
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer,
+                            Object offendingSymbol, int line,
+                            int charPositionInLine, String msg,
+                            RecognitionException e) {
+        isFailed = true;
+    }
+
+    /**
+     * Walks the rest of the parse tree, once the parsing is completed.
+     *
+     * @param tree parse tree
+     */
+    void close(ParseTree tree) {
+        if (openContexts.isEmpty()) {
+            walker.walk(listener, tree);
+            return;
+        }
+        for (int i = openContexts.size() - 1; i >= 0; i--) {
+            ParserRuleContext ctx = openContexts.get(i);
+            walkChildren(ctx, openChildIndexes.get(i) + 1,
+                         ctx.getChildCount());
+            ctx.exitRule(listener);
+            listener.exitEveryRule(ctx);
+        }
+        openContexts.clear();
+        openChildIndexes.clear();
+    }
+
+    /**
+     * Walks the entry of the contexts from the root to the body statements,
+     * and their children which are parsed before the first body statement.
+     *
+     * @param bodyStatements context of body statements
+     */
+    private void open(ParserRuleContext bodyStatements) {
+        for (ParserRuleContext ctx = bodyStatements; ctx != null;
+             ctx = ctx.getParent()) {
+            openContexts.add(0, ctx);
+        }
+        for (int i = 0; i < openContexts.size(); i++) {
+            ParserRuleContext ctx = openContexts.get(i);
+            int index = i + 1 < openContexts.size() ?
+                    ctx.children.indexOf(openContexts.get(i + 1)) :
+                    ctx.getChildCount() - 1;
+            openChildIndexes.add(index);
+            listener.enterEveryRule(ctx);
+            ctx.enterRule(listener);
+            walkChildren(ctx, 0, index);
+        }
+    }
+
+    /**
+     * Walks the children of a context in the given range.
+     *
+     * @param ctx   context
+     * @param start index of first child
+     * @param end   index after the last child
+     */
+    private void walkChildren(ParserRuleContext ctx, int start, int end) {
+        for (int i = start; i < end; i++) {
+            ParseTree child = ctx.getChild(i);
+            if (child instanceof ErrorNode) {
+                listener.visitErrorNode((ErrorNode) child);
+            } else if (child instanceof TerminalNode) {
+                listener.visitTerminal((TerminalNode) child);
+            } else {
+                walker.walk(listener, child);
+            }
+        }
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        // do nothing.
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        // do nothing.
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        // do nothing.
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.parser.impl;
+
+import java.lang.ref.SoftReference;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Represents the cache of the parse trees of YANG files, kept for the life
+ * of the process. It lets the executions of the YANG plugin in the modules
+ * of a reactor build, which share the plugin class loader, parse each YANG
+ * file once. A parse tree is kept against the content hash of its file, so
+ * that the copies of a YANG file in the modules of a reactor share one parse
+ * tree, and a changed file is parsed again.
+ * <p>
+ * The parse trees are cached, and not the data model nodes, since the nodes
+ * are updated by the linker and the translator of each execution. A cached
+ * parse tree is only walked, to build a new data model tree. The DFA cache
+ * of the parser is static and is warm across executions of the process
+ * as well.
+ * <p>
+ * The parse trees are softly referenced, so that they are freed when memory
+ * is needed, and the number of cached parse trees is bounded by the cache
+ * limit. When it is exceeded, the least recently used parse trees are
+ * removed from the cache.
+ */
+public final class YangParseTreeCache {
+
+    /**
+     * Default limit of the number of cached parse trees.
+     */
+    public static final int DEFAULT_CACHE_LIMIT = 1024;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    // Parse trees keyed by the content hash of YANG file, in the order of
+    // use. Guarded by the lock of the map.
+    private static final Map<String, SoftReference<ParseTree>> PARSE_TREES =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    // Limit of the number of cached parse trees, guarded by PARSE_TREES.
+    private static int cacheLimit = DEFAULT_CACHE_LIMIT;
+
+    /**
+     * Creates an instance of parse tree cache.
+     */
+    private YangParseTreeCache() {
+    }
+
+    /**
+     * Returns the content hash of a YANG file.
+     *
+     * @param content content of YANG file
+     * @return content hash
+     */
+    static String getContentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM)
+                    .digest(content);
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(Character.forDigit((b >> 4) & 0xF, 16))
+                        .append(Character.forDigit(b & 0xF, 16));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the parse tree of a YANG file content, when it is cached.
+     *
+     * @param hash content hash of YANG file
+     * @return parse tree, null if content is not parsed yet or its parse
+     * tree is freed
+     */
+    static ParseTree getParseTree(String hash) {
+        SoftReference<ParseTree> tree;
+        synchronized (PARSE_TREES) {
+            tree = PARSE_TREES.get(hash);
+        }
+        return tree == null ? null : tree.get();
+    }
+
+    /**
+     * Adds the parse tree of a YANG file content, and removes the least
+     * recently used parse trees when the cache limit is exceeded.
+     *
+     * @param hash content hash of YANG file
+     * @param tree parse tree
+     */
+    static void addParseTree(String hash, ParseTree tree) {
+        synchronized (PARSE_TREES) {
+            PARSE_TREES.put(hash, new SoftReference<>(tree));
+            evict();
+        }
+    }
+
+    /**
+     * Sets the limit of the number of cached parse trees, and removes the
+     * least recently used parse trees from the cache until it is not
+     * exceeded.
+     *
+     * @param limit limit of number of parse trees
+     */
+    public static void setCacheLimit(int limit) {
+        synchronized (PARSE_TREES) {
+            cacheLimit = limit;
+            evict();
+        }
+    }
+
+    /**
+     * Returns the number of cached parse trees.
+     *
+     * @return number of parse trees
+     */
+    public static int size() {
+        synchronized (PARSE_TREES) {
+            return PARSE_TREES.size();
+        }
+    }
+
+    /**
+     * Removes all the parse trees from the cache.
+     */
+    public static void clear() {
+        synchronized (PARSE_TREES) {
+            PARSE_TREES.clear();
+        }
+    }
+
+    /**
+     * Removes the least recently used parse trees from the cache until the
+     * cache limit is not exceeded. The caller holds the lock of the cache.
+     */
+    private static void evict() {
+        Iterator<SoftReference<ParseTree>> it =
+                PARSE_TREES.values().iterator();
+        while (PARSE_TREES.size() > cacheLimit && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
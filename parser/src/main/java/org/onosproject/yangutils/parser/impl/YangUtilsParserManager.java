@@ -17,10 +17,17 @@
 package org.onosproject.yangutils.parser.impl;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 import org.antlr.v4.runtime.ANTLRFileStream;
 import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.onosproject.yangutils.datamodel.YangNode;
@@ -36,19 +43,156 @@ import org.onosproject.yangutils.parser.impl.parserutils.ParseTreeErrorListener;
  */
 public class YangUtilsParserManager implements YangUtilsParser {
 
+    // Flag if the parse trees are taken from and kept in the cache.
+    private boolean isParseTreeCached;
+
+    // Flag if the data model tree is built while parsing.
+    private boolean isSinglePass;
+
+    /**
+     * Sets true if the parse trees of YANG files are to be taken from the
+     * parse tree cache, when a file of the same content is already parsed
+     * in the process, and kept in it otherwise.
+     *
+     * @param isParseTreeCached flag for cached parse trees
+     */
+    public void setParseTreeCached(boolean isParseTreeCached) {
+        this.isParseTreeCached = isParseTreeCached;
+    }
+
+    /**
+     * Sets true if the data model tree is to be built while the YANG file
+     * is parsed, without keeping the complete parse tree. It is not used
+     * when the parse trees are cached, since the cache keeps complete parse
+     * trees.
+     *
+     * @param isSinglePass flag for single pass parsing
+     */
+    public void setSinglePass(boolean isSinglePass) {
+        this.isSinglePass = isSinglePass;
+    }
+
     @Override
     public YangNode getDataModel(String yangFile) throws IOException, ParserException {
 
+        ParseTree tree;
+        if (isParseTreeCached) {
+            tree = getCachedParseTree(yangFile);
+        } else {
+            /**
+             * Create a char stream that reads from YANG file. Throws an exception
+             * in case input YANG file is either null or non existent.
+             */
+            ANTLRInputStream input;
+            try {
+                input = new ANTLRFileStream(yangFile);
+            } catch (IOException e) {
+                throw new ParserException("YANG file error : YANG file does not exist. " + yangFile);
+            }
+            if (isSinglePass) {
+                return getSinglePassDataModel(yangFile, input);
+            }
+            tree = getParseTree(yangFile, input, null);
+        }
+
+        // Create a walker to walk the parse tree.
+        ParseTreeWalker walker = new ParseTreeWalker();
+
+        // Create a listener implementation class object.
+        TreeWalkListener treeWalker = new TreeWalkListener();
+        treeWalker.setFileName(yangFile);
         /**
-         * Create a char stream that reads from YANG file. Throws an exception
-         * in case input YANG file is either null or non existent.
+         * Walk parse tree, provide call backs to methods in listener and build
+         * data model tree.
          */
-        ANTLRInputStream input;
         try {
-            input = new ANTLRFileStream(yangFile);
+            walker.walk(treeWalker, tree);
+        } catch (ParserException listenerException) {
+            // TODO free incomplete data model tree.
+            listenerException.setFileName(yangFile);
+            throw listenerException;
+        } finally {
+            // TODO free parsable stack
+        }
+
+        // Returns the Root Node of the constructed data model tree.
+        return treeWalker.getRootNode();
+    }
+
+    /**
+     * Returns the parse tree of a YANG file from the parse tree cache. When
+     * the content of the file is not in the cache, the file is parsed and its
+     * parse tree is added to the cache.
+     *
+     * @param yangFile YANG file
+     * @return parse tree
+     * @throws ParserException when fails to read or to parse the file
+     */
+    private static ParseTree getCachedParseTree(String yangFile)
+            throws ParserException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(Paths.get(yangFile));
         } catch (IOException e) {
             throw new ParserException("YANG file error : YANG file does not exist. " + yangFile);
         }
+        String hash = YangParseTreeCache.getContentHash(content);
+        ParseTree tree = YangParseTreeCache.getParseTree(hash);
+        if (tree == null) {
+            ANTLRInputStream input = new ANTLRInputStream(
+                    new String(content, Charset.defaultCharset()));
+            input.name = yangFile;
+            tree = getParseTree(yangFile, input, null);
+            YangParseTreeCache.addParseTree(hash, tree);
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the root node of the data model tree of a YANG file, which is
+     * built by the single pass tree walker while the file is parsed.
+     *
+     * @param yangFile YANG file
+     * @param input    char stream of YANG file
+     * @return root node of data model tree
+     * @throws ParserException when fails to parse the file
+     */
+    private static YangNode getSinglePassDataModel(String yangFile,
+                                                   ANTLRInputStream input)
+            throws ParserException {
+        SinglePassTreeWalker walker = new SinglePassTreeWalker(yangFile);
+        ParseTree tree = getParseTree(yangFile, input, walker);
+        try {
+            walker.close(tree);
+        } catch (ParserException listenerException) {
+            listenerException.setFileName(yangFile);
+            throw listenerException;
+        }
+        return walker.getListener().getRootNode();
+    }
+
+    /**
+     * Returns the parse tree of a YANG file. The file is parsed first with
+     * SLL prediction, which bails out at the first syntax error. Only when
+     * it fails, the file is parsed again with full LL prediction and the
+     * default error strategy, which reports the same errors as before. The
+     * DFA cache of the lexer and parser is static, so it is shared by all
+     * the files parsed in the process.
+     * <p>
+     * When a single pass tree walker is given, it walks the parse tree while
+     * the file is parsed, and it is reset before the file is parsed again.
+     *
+     * @param yangFile YANG file
+     * @param input    char stream of YANG file
+     * @param walker   single pass tree walker, null if the parse tree is
+     *                 walked after parsing
+     * @return parse tree
+     * @throws ParserException when fails to parse the file
+     */
+    private static ParseTree getParseTree(String yangFile,
+                                          ANTLRInputStream input,
+                                          SinglePassTreeWalker walker)
+            throws ParserException {
 
         // Create a lexer that feeds off of input char stream.
         GeneratedYangLexer lexer = new GeneratedYangLexer(input);
@@ -62,43 +206,42 @@ public class YangUtilsParserManager implements YangUtilsParser {
         // Remove console error listener.
         parser.removeErrorListeners();
 
+        if (walker != null) {
+            parser.addParseListener(walker);
+            parser.addErrorListener(walker);
+        }
+
+        // Parse with SLL prediction, without reporting errors.
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return parser.yangfile();
+        } catch (ParseCancellationException e) {
+            // Retry with full LL prediction from the first token.
+        } catch (ParserException listenerException) {
+            listenerException.setFileName(yangFile);
+            throw listenerException;
+        }
+
+        parser.reset();
+        if (walker != null) {
+            walker.reset();
+        }
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+
         // Create instance of customized error listener.
         ParseTreeErrorListener parseTreeErrorListener = new ParseTreeErrorListener();
 
         // Add customized error listener to catch errors during parsing.
         parser.addErrorListener(parseTreeErrorListener);
 
-        ParseTree tree;
-
         try {
             // Begin parsing YANG file and generate parse tree.
-            tree = parser.yangfile();
+            return parser.yangfile();
         } catch (ParserException parserException) {
             parserException.setFileName(yangFile);
             throw parserException;
         }
-
-        // Create a walker to walk the parse tree.
-        ParseTreeWalker walker = new ParseTreeWalker();
-
-        // Create a listener implementation class object.
-        TreeWalkListener treeWalker = new TreeWalkListener();
-        treeWalker.setFileName(yangFile);
-        /**
-         * Walk parse tree, provide call backs to methods in listener and build
-         * data model tree.
-         */
-        try {
-            walker.walk(treeWalker, tree);
-        } catch (ParserException listenerException) {
-            // TODO free incomplete data model tree.
-            listenerException.setFileName(yangFile);
-            throw listenerException;
-        } finally {
-            // TODO free parsable stack
-        }
-
-        // Returns the Root Node of the constructed data model tree.
-        return treeWalker.getRootNode();
     }
 }
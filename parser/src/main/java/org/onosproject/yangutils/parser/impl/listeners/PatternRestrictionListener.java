@@ -29,11 +29,11 @@ import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.TreeWalkListener;
 
 import java.util.List;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.PATTERN_DATA;
 import static org.onosproject.yangutils.datamodel.utils.YangConstructType.TYPE_DATA;
+import static org.onosproject.yangutils.datamodel.utils.YangRegexUtils.getPattern;
 import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorLocation.ENTRY;
 import static org.onosproject.yangutils.parser.impl.parserutils.ListenerErrorLocation.EXIT;
@@ -189,7 +189,7 @@ public final class PatternRestrictionListener {
         }
         compile = userInputPattern.toString().replaceAll("[\'\"]", EMPTY_STRING);
         try {
-            Pattern.compile(compile);
+            getPattern(compile);
         } catch (PatternSyntaxException exception) {
             ParserException parserException = new ParserException("YANG file error : " +
                                                                           YangConstructType.getYangConstructType(PATTERN_DATA) + " name " + ctx.string().getText() +
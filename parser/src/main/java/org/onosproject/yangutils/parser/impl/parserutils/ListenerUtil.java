@@ -91,10 +91,6 @@ public final class ListenerUtil {
     private static final String REGEX_EQUAL = "[=]";
     private static final String REGEX_OPEN_BRACE = "[(]";
 
-    private static YangConstructType pathType;
-    private static PathStatementContext pathCtx;
-    private static YangLeafRef yangLeafRef;
-
     // No instantiation.
     private ListenerUtil() {
     }
@@ -713,34 +709,33 @@ public final class ListenerUtil {
                                     YangLeafRef leafRef) {
 
         String concatPath = removeQuotesAndHandleConcat(path);
-        pathType = type;
-        pathCtx = ctx;
-        yangLeafRef = leafRef;
+        PathContext pathCtx = new PathContext(type, ctx, leafRef);
         if (!concatPath.startsWith(SLASH_FOR_STRING) &&
                 !concatPath.startsWith(ANCESTOR)) {
-            throw getPathException();
+            throw getPathException(pathCtx);
         }
         leafRef.setPath(concatPath);
         if (concatPath.startsWith(SLASH_FOR_STRING)) {
             List<YangAtomicPath> atomicList = new LinkedList<>();
-            valAbsPath(concatPath, atomicList);
+            valAbsPath(concatPath, atomicList, pathCtx);
             leafRef.setPathType(ABSOLUTE_PATH);
             valPrefix(atomicList, leafRef);
             leafRef.setAtomicPath(atomicList);
             return;
         }
         leafRef.setPathType(RELATIVE_PATH);
-        valRelPath(concatPath, leafRef);
+        valRelPath(concatPath, pathCtx);
     }
 
     /**
      * Validates relative path, parses the string and stores it in the leaf-ref.
      *
      * @param path    leaf-ref path
-     * @param leafRef YANG leaf-ref
+     * @param pathCtx path context of the leaf-ref being parsed
      */
-    private static void valRelPath(String path, YangLeafRef leafRef) {
+    private static void valRelPath(String path, PathContext pathCtx) {
 
+        YangLeafRef leafRef = pathCtx.leafRef;
         YangRelativePath relPath = new YangRelativePath();
         int count = 0;
         while (path.startsWith(SLASH_ANCESTOR)) {
@@ -748,12 +743,12 @@ public final class ListenerUtil {
             count = count + 1;
         }
         if (path.isEmpty()) {
-            throw getPathException();
+            throw getPathException(pathCtx);
         }
 
         List<YangAtomicPath> atomicList = new ArrayList<>();
         relPath.setAncestorNodeCount(count);
-        valAbsPath(SLASH_FOR_STRING + path, atomicList);
+        valAbsPath(SLASH_FOR_STRING + path, atomicList, pathCtx);
         valPrefix(atomicList, leafRef);
         relPath.setAtomicPathList(atomicList);
         leafRef.setRelativePath(relPath);
@@ -764,21 +759,23 @@ public final class ListenerUtil {
      *
      * @param path    leaf-ref path
      * @param atomics atomic content list
+     * @param pathCtx path context of the leaf-ref being parsed
      */
-    private static void valAbsPath(String path, List<YangAtomicPath> atomics) {
+    private static void valAbsPath(String path, List<YangAtomicPath> atomics,
+                                   PathContext pathCtx) {
 
         String comPath = path;
         while (comPath != null) {
             comPath = comPath.substring(1);
             if (comPath.isEmpty()) {
-                throw getPathException();
+                throw getPathException(pathCtx);
             }
             int nodeId = comPath.indexOf(CHAR_OF_SLASH);
             int predicate = comPath.indexOf(CHAR_OF_OPEN_SQUARE_BRACKET);
             if (predicate < nodeId && predicate != -1) {
-                comPath = getPathWithPredicate(comPath, atomics);
+                comPath = getPathWithPredicate(comPath, atomics, pathCtx);
             } else {
-                comPath = getPath(comPath, atomics);
+                comPath = getPath(comPath, atomics, pathCtx);
             }
         }
     }
@@ -789,16 +786,18 @@ public final class ListenerUtil {
      *
      * @param path    leaf-ref path
      * @param atomics atomic content list
+     * @param pathCtx path context of the leaf-ref being parsed
      * @return parsed path after removing one atomic content.
      */
     private static String getPathWithPredicate(String path,
-                                               List<YangAtomicPath> atomics) {
+                                               List<YangAtomicPath> atomics,
+                                               PathContext pathCtx) {
 
         String[] node = new String[2];
         int bracket = path.indexOf(CHAR_OF_OPEN_SQUARE_BRACKET);
         node[0] = path.substring(0, bracket);
         node[1] = path.substring(bracket);
-        return getParsedPath(node[0], node[1], atomics);
+        return getParsedPath(node[0], node[1], atomics, pathCtx);
     }
 
     /**
@@ -808,17 +807,19 @@ public final class ListenerUtil {
      * @param nodeId  atomic content nodeId
      * @param path    leaf-ref path
      * @param atomics atomic content list
+     * @param pathCtx path context of the leaf-ref being parsed
      * @return parsed path after removing one atomic content.
      */
-    public static String getParsedPath(String nodeId, String path,
-                                       List<YangAtomicPath> atomics) {
+    private static String getParsedPath(String nodeId, String path,
+                                        List<YangAtomicPath> atomics,
+                                        PathContext pathCtx) {
 
         String comPath = path;
         List<String> predicateList = new ArrayList<>();
         while (comPath.startsWith(OPEN_SQUARE_BRACKET)) {
             String matchedVal = getMatchedPredicate(comPath);
             if (matchedVal == null || matchedVal.isEmpty()) {
-                throw getPathException();
+                throw getPathException(pathCtx);
             }
             predicateList.add(matchedVal);
             comPath = comPath.substring(matchedVal.length());
@@ -826,9 +827,10 @@ public final class ListenerUtil {
 
         YangAtomicPath atomicPath = new YangAtomicPath();
         YangNodeIdentifier validId =
-                getValidNodeIdentifier(nodeId, pathType, pathCtx);
+                getValidNodeIdentifier(nodeId, pathCtx.type, pathCtx.ctx);
 
-        List<YangPathPredicate> predicates = valPathPredicates(predicateList);
+        List<YangPathPredicate> predicates =
+                valPathPredicates(predicateList, pathCtx);
         atomicPath.setNodeIdentifier(validId);
         atomicPath.setPathPredicatesList(predicates);
         atomics.add(atomicPath);
@@ -840,14 +842,16 @@ public final class ListenerUtil {
      * predicates and storing it in the leaf-ref.
      *
      * @param predicates list of predicates
+     * @param pathCtx    path context of the leaf-ref being parsed
      * @return list of path predicates of an atomic content
      */
-    private static List<YangPathPredicate> valPathPredicates(List<String> predicates) {
+    private static List<YangPathPredicate> valPathPredicates(List<String> predicates,
+                                                             PathContext pathCtx) {
 
         List<YangPathPredicate> result = new ArrayList<>();
         for (String p : predicates) {
             p = p.substring(1, p.length() - 1);
-            result.add(valPathEqualityExp(p.trim()));
+            result.add(valPathEqualityExp(p.trim(), pathCtx));
         }
         return result;
     }
@@ -857,14 +861,16 @@ public final class ListenerUtil {
      * parsing the string assigns it to the YANG path predicate.
      *
      * @param predicate path predicate
+     * @param pathCtx   path context of the leaf-ref being parsed
      * @return YANG path predicate
      */
-    private static YangPathPredicate valPathEqualityExp(String predicate) {
+    private static YangPathPredicate valPathEqualityExp(String predicate,
+                                                        PathContext pathCtx) {
 
         String[] exp = predicate.split(REGEX_EQUAL);
         YangNodeIdentifier nodeId =
-                getValidNodeIdentifier(exp[0].trim(), pathType, pathCtx);
-        YangRelativePath relPath = valPathKeyExp(exp[1].trim());
+                getValidNodeIdentifier(exp[0].trim(), pathCtx.type, pathCtx.ctx);
+        YangRelativePath relPath = valPathKeyExp(exp[1].trim(), pathCtx);
 
         YangPathPredicate pathPredicate = new YangPathPredicate();
         pathPredicate.setNodeId(nodeId);
@@ -878,9 +884,11 @@ public final class ListenerUtil {
      * in the relative path of the leaf-ref.
      *
      * @param relPath relative path
+     * @param pathCtx path context of the leaf-ref being parsed
      * @return YANG relative path
      */
-    private static YangRelativePath valPathKeyExp(String relPath) {
+    private static YangRelativePath valPathKeyExp(String relPath,
+                                                  PathContext pathCtx) {
 
         String[] relative = relPath.split(SLASH_FOR_STRING);
         int count = 0;
@@ -895,7 +903,7 @@ public final class ListenerUtil {
 
         YangRelativePath relativePath = new YangRelativePath();
         relativePath.setAncestorNodeCount(count);
-        relativePath.setAtomicPathList(valRelPathKeyExp(atomicContent));
+        relativePath.setAtomicPathList(valRelPathKeyExp(atomicContent, pathCtx));
         return relativePath;
     }
 
@@ -904,22 +912,24 @@ public final class ListenerUtil {
      * the path predicate, by taking every atomic content in it.
      *
      * @param content atomic content list
+     * @param pathCtx path context of the leaf-ref being parsed
      * @return YANG atomic content list
      */
-    private static List<YangAtomicPath> valRelPathKeyExp(List<String> content) {
+    private static List<YangAtomicPath> valRelPathKeyExp(List<String> content,
+                                                         PathContext pathCtx) {
 
         String current = content.get(0);
         String[] curStr = (current.trim()).split(REGEX_OPEN_BRACE);
         if (!(curStr[0].trim().equals(CURRENT)) ||
                 !(curStr[1].trim().equals(CLOSE_PARENTHESIS))) {
-            throw getPathException();
+            throw getPathException(pathCtx);
         }
 
         content.remove(0);
         List<YangAtomicPath> atomicList = new ArrayList<>();
         for (String relPath : content) {
             YangNodeIdentifier nodeId =
-                    getValidNodeIdentifier(relPath, pathType, pathCtx);
+                    getValidNodeIdentifier(relPath, pathCtx.type, pathCtx.ctx);
             YangAtomicPath atomicPath = new YangAtomicPath();
             atomicPath.setNodeIdentifier(nodeId);
             atomicList.add(atomicPath);
@@ -933,9 +943,11 @@ public final class ListenerUtil {
      *
      * @param path       leaf-ref path
      * @param atomicList atomic content list
+     * @param pathCtx    path context of the leaf-ref being parsed
      * @return remaining path after parsing one atomic content
      */
-    public static String getPath(String path, List<YangAtomicPath> atomicList) {
+    private static String getPath(String path, List<YangAtomicPath> atomicList,
+                                  PathContext pathCtx) {
 
         String comPath = path;
         String nodeId;
@@ -948,7 +960,7 @@ public final class ListenerUtil {
         }
 
         YangNodeIdentifier validNodeId =
-                getValidNodeIdentifier(nodeId, pathType, pathCtx);
+                getValidNodeIdentifier(nodeId, pathCtx.type, pathCtx.ctx);
         YangAtomicPath atomicPath = new YangAtomicPath();
         atomicPath.setNodeIdentifier(validNodeId);
         atomicList.add(atomicPath);
@@ -958,14 +970,15 @@ public final class ListenerUtil {
     /**
      * Returns the path syntax parser exception.
      *
+     * @param pathCtx path context of the leaf-ref being parsed
      * @return parser exception
      */
-    private static ParserException getPathException() {
+    private static ParserException getPathException(PathContext pathCtx) {
         ParserException exception = new ParserException(
-                "YANG file error : Path " + yangLeafRef.getPath() +
+                "YANG file error : Path " + pathCtx.leafRef.getPath() +
                         " does not follow valid path syntax");
-        exception.setLine(pathCtx.getStart().getLine());
-        exception.setCharPosition(pathCtx.getStart().getCharPositionInLine());
+        exception.setLine(pathCtx.ctx.getStart().getLine());
+        exception.setCharPosition(pathCtx.ctx.getStart().getCharPositionInLine());
         return exception;
     }
 
@@ -995,4 +1008,30 @@ public final class ListenerUtil {
         }
         return builder.toString();
     }
+
+    /**
+     * Represents the state of a single leaf-ref path validation. It is created
+     * per path statement, so that parsing of multiple files can be carried out
+     * concurrently.
+     */
+    private static final class PathContext {
+
+        private final YangConstructType type;
+        private final PathStatementContext ctx;
+        private final YangLeafRef leafRef;
+
+        /**
+         * Creates path context of a leaf-ref path statement.
+         *
+         * @param type    construct type
+         * @param ctx     construct details
+         * @param leafRef YANG leaf-ref having path
+         */
+        private PathContext(YangConstructType type, PathStatementContext ctx,
+                            YangLeafRef leafRef) {
+            this.type = type;
+            this.ctx = ctx;
+            this.leafRef = leafRef;
+        }
+    }
 }
@@ -16,41 +16,244 @@
 
 package org.onosproject.yangutils.plugin.buck;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangInclude;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaFile;
+import org.onosproject.yangutils.linker.impl.YangLinkerManager;
 import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
 import org.onosproject.yangutils.translator.tojava.JavaCodeGeneratorUtil;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
-import org.onosproject.yangutils.datamodel.YangNode;
+
+import static java.util.Collections.sort;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IDENTITYREF;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.parseJarFile;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaFile.SCHEMA_FILE_EXTENSION;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.resolveGroupingInDefinationScope;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
+import static org.onosproject.yangutils.utils.UtilConstants.YANG_RESOURCES;
 
 /**
- * Generates Java sources from a Yang model.
+ * Generates Java sources from a Yang model. The models are parsed
+ * concurrently and linked with each other and with the linked data model of
+ * the Yang libraries they depend on, the same way as by the maven plugin.
+ * The linked data model of the models is written with the sources, so that
+ * the libraries depending on them can link with it.
  */
 public class YangGenerator {
 
+    private static final String YANG_META_DATA = "YangMetaData";
+
     private final List<File> models;
+    private final List<File> dependencies;
+    private final int threadCount;
     private String outputDirectory;
 
-    public YangGenerator(List<File> models, String outputDirectory) {
+    /**
+     * Creates a generator of the Java sources of Yang models.
+     *
+     * @param models          Yang files
+     * @param dependencies    source jars of the Yang libraries the models
+     *                        depend on
+     * @param outputDirectory directory of generated sources
+     */
+    public YangGenerator(List<File> models, List<File> dependencies,
+                         String outputDirectory) {
         this.models = models;
+        this.dependencies = dependencies;
         this.outputDirectory = outputDirectory + "/";
+        threadCount = Runtime.getRuntime().availableProcessors();
     }
 
+    /**
+     * Parses, links and translates the Yang models.
+     *
+     * @throws YangParsingException when fails to generate the sources
+     */
     public void execute() throws YangParsingException {
-        for (File model : models) {
-            try {
-                YangPluginConfig config = new YangPluginConfig();
-                config.setCodeGenDir(outputDirectory);
+        try {
+            YangPluginConfig config = new YangPluginConfig();
+            config.setCodeGenDir(outputDirectory);
+
+            List<YangNode> yangNodes = parseModels();
+            Set<YangNode> yangNodeSet = new HashSet<>(yangNodes);
+            yangNodeSet.addAll(getDependencyNodes(yangNodes));
+            YangLinkerManager linker = new YangLinkerManager();
+            linker.setLinkerThreadCount(threadCount);
+            linker.resolveDependencies(yangNodeSet);
+
+            List<YangNode> sortedNodes = new ArrayList<>(yangNodeSet);
+            sort(sortedNodes);
+            for (YangNode yangNode : sortedNodes) {
+                if (yangNode.isToTranslate()) {
+                    JavaCodeGeneratorUtil.generateJavaCode(yangNode, config);
+                }
+            }
+            writeSchemaFile(yangNodes);
+        } catch (Exception e) {
+            throw new YangParsingException(e);
+        }
+    }
+
+    /**
+     * Returns the data model nodes of all the models, parsed on a pool of
+     * parser threads, in the order of the models.
+     *
+     * @return data model nodes
+     * @throws Exception when fails to parse a model
+     */
+    private List<YangNode> parseModels() throws Exception {
+        ExecutorService executor = newFixedThreadPool(threadCount);
+        try {
+            List<Future<YangNode>> results = new ArrayList<>();
+            for (File model : models) {
+                results.add(executor.submit(() -> parseModel(model)));
+            }
+            List<YangNode> yangNodes = new ArrayList<>();
+            for (Future<YangNode> result : results) {
+                yangNodes.add(getParsedNode(result));
+            }
+            return yangNodes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-                YangNode yangNode = new YangUtilsParserManager()
-                        .getDataModel(model.toString());
+    /**
+     * Parses a model, generates its data model tree and resolves the self
+     * file linking of it.
+     *
+     * @param model Yang file
+     * @return data model node
+     * @throws Exception when fails to parse or to link the model
+     */
+    private static YangNode parseModel(File model) throws Exception {
+        YangNode yangNode = new YangUtilsParserManager()
+                .getDataModel(model.toString());
+        YangReferenceResolver resolver = (YangReferenceResolver) yangNode;
+        resolveGroupingInDefinationScope(resolver);
+        resolver.resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
+        resolver.resolveSelfFileLinking(YANG_IDENTITYREF);
+        return yangNode;
+    }
 
-                JavaCodeGeneratorUtil.generateJavaCode(yangNode, config);
-            } catch (Exception e) {
-                throw new YangParsingException(e);
+    /**
+     * Returns the data model node parsed by a parser thread.
+     *
+     * @param result result of the parser thread
+     * @return data model node
+     * @throws Exception when the parser thread fails
+     */
+    private static YangNode getParsedNode(Future<YangNode> result)
+            throws Exception {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Parsing of YANG files is interrupted.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Returns the data model nodes of the dependency libraries, which are
+     * referred by the models, and the nodes they refer to. The schema
+     * entries of a library jar are taken from the in-memory jar schema
+     * cache, when the jar is not changed since it was read by an earlier
+     * build step of the process, and the data model is read from them for
+     * each step, since it is updated by the linker.
+     * <p>
+     * The linked data model of the models is not cached by the step. Buck
+     * runs the step only when the rule key of the library changes, that is
+     * when the content of its models or dependencies changes.
+     *
+     * @param yangNodes data model nodes of models
+     * @return data model nodes of dependencies
+     * @throws IOException when fails to read a dependency
+     */
+    private List<YangNode> getDependencyNodes(List<YangNode> yangNodes)
+            throws IOException {
+        Set<String> moduleNames = new HashSet<>();
+        for (YangNode yangNode : yangNodes) {
+            moduleNames.addAll(getReferredModules(yangNode));
+        }
+        List<YangNode> dependencyNodes = new ArrayList<>();
+        if (moduleNames.isEmpty()) {
+            return dependencyNodes;
+        }
+        for (File dependency : dependencies) {
+            for (YangNode yangNode : parseJarFile(dependency.toString(),
+                                                  moduleNames)) {
+                yangNode.setToTranslate(false);
+                dependencyNodes.add(yangNode);
             }
         }
+        return dependencyNodes;
     }
 
+    /**
+     * Returns the modules imported, included or belonged to by a model.
+     *
+     * @param yangNode data model node of model
+     * @return names of referred modules
+     */
+    private static Set<String> getReferredModules(YangNode yangNode) {
+        Set<String> modules = new HashSet<>();
+        YangReferenceResolver resolver = (YangReferenceResolver) yangNode;
+        for (YangImport yangImport : resolver.getImportList()) {
+            modules.add(yangImport.getModuleName());
+        }
+        for (YangInclude yangInclude : resolver.getIncludeList()) {
+            modules.add(yangInclude.getSubModuleName());
+        }
+        if (yangNode instanceof YangSubModule) {
+            modules.add(((YangSubModule) yangNode).getBelongsTo()
+                                .getBelongsToModuleName());
+        }
+        return modules;
+    }
+
+    /**
+     * Writes the linked data model of the models in the resources of the
+     * generated sources, at the same path as in the jars built by the maven
+     * plugin.
+     *
+     * @param yangNodes data model nodes of models
+     * @throws IOException when fails to write the schema file
+     */
+    private void writeSchemaFile(List<YangNode> yangNodes)
+            throws IOException {
+        File dir = new File(outputDirectory + YANG_RESOURCES);
+        dir.mkdirs();
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(
+                dir.getPath() + SLASH + YANG_META_DATA +
+                        SCHEMA_FILE_EXTENSION));
+        try {
+            YangSchemaFile.write(yangNodes, out);
+        } finally {
+            out.close();
+        }
+    }
 }
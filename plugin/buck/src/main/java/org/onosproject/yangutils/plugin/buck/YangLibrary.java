@@ -46,7 +46,10 @@ public class YangLibrary extends AbstractBuildRule {
 
     @AddToRuleKey
     private final ImmutableSortedSet<SourcePath> srcs;
-    
+
+    @AddToRuleKey
+    private final ImmutableSortedSet<SourcePath> yangDeps;
+
     private final Path genSrcsDirectory;
     private final Path outputDirectory;
     private final Path output;
@@ -54,9 +57,11 @@ public class YangLibrary extends AbstractBuildRule {
     public YangLibrary(
             BuildRuleParams params,
             SourcePathResolver resolver,
-            ImmutableSortedSet<SourcePath> srcs) {
+            ImmutableSortedSet<SourcePath> srcs,
+            ImmutableSortedSet<SourcePath> yangDeps) {
         super(params, resolver);
         this.srcs = srcs;
+        this.yangDeps = yangDeps;
 
         genSrcsDirectory = BuildTargets.getGenPath(getProjectFilesystem(),
                                                    params.getBuildTarget(),
@@ -91,7 +96,12 @@ public class YangLibrary extends AbstractBuildRule {
                 .map(s -> getResolver().getRelativePath(s))
                 .collect(Collectors.toList());
 
-        steps.add(new YangStep(getProjectFilesystem(), sourcePaths, genSrcsDirectory));
+        List<Path> depPaths = yangDeps.stream()
+                .map(s -> getResolver().getRelativePath(s))
+                .collect(Collectors.toList());
+
+        steps.add(new YangStep(getProjectFilesystem(), sourcePaths, depPaths,
+                               genSrcsDirectory));
 
         steps.add(new JarDirectoryStep(
                 getProjectFilesystem(),
@@ -103,6 +113,16 @@ public class YangLibrary extends AbstractBuildRule {
         return steps.build();
     }
 
+    /**
+     * Returns the outputs of the Yang libraries this library depends on,
+     * directly or through other Yang libraries.
+     *
+     * @return outputs of Yang library dependencies
+     */
+    public ImmutableSortedSet<SourcePath> getYangDeps() {
+        return yangDeps;
+    }
+
     @Nullable
     @Override
     public Path getPathToOutput() {
@@ -95,7 +95,8 @@ public class YangLibraryDescription
                 BuildTargets.createFlavoredBuildTarget(
                         unflavoredBuildTarget, SOURCES));
 
-        BuildRule yangLib = resolver.addToIndex(new YangLibrary(yangParams, pathResolver, args.srcs));
+        BuildRule yangLib = resolver.addToIndex(new YangLibrary(yangParams, pathResolver, args.srcs,
+                                                                getYangDeps(resolver, args)));
 
         if (params.getBuildTarget().getFlavors().contains(SOURCES)) {
             return yangLib;
@@ -158,6 +159,29 @@ public class YangLibraryDescription
         return library;
     }
 
+    /**
+     * Returns the outputs of the Yang libraries among the dependencies, and
+     * of the Yang libraries they depend on, to be linked with the models.
+     *
+     * @param resolver build rule resolver
+     * @param args     arguments of the rule
+     * @return outputs of Yang library dependencies
+     */
+    private static ImmutableSortedSet<SourcePath> getYangDeps(BuildRuleResolver resolver,
+                                                              Arg args) {
+        ImmutableSortedSet.Builder<SourcePath> yangDeps = ImmutableSortedSet.naturalOrder();
+        for (BuildTarget dep : args.deps.or(ImmutableSortedSet.<BuildTarget>of())) {
+            Optional<BuildRule> rule = resolver.getRuleOptional(
+                    BuildTargets.createFlavoredBuildTarget(
+                            dep.getUnflavoredBuildTarget(), SOURCES));
+            if (rule.isPresent() && rule.get() instanceof YangLibrary) {
+                yangDeps.add(new BuildTargetSourcePath(rule.get().getBuildTarget()));
+                yangDeps.addAll(((YangLibrary) rule.get()).getYangDeps());
+            }
+        }
+        return yangDeps.build();
+    }
+
     @Override
     public boolean hasFlavors(ImmutableSet<Flavor> flavors) {
         return flavors.isEmpty() || flavors.contains(SOURCES);
@@ -35,14 +35,17 @@ public class YangStep extends AbstractExecutionStep {
 
     private final ProjectFilesystem filesystem;
     private final List<Path> srcs;
+    private final List<Path> deps;
     private final Path output;
 
     YangStep(ProjectFilesystem filesystem,
              List<Path> srcs,
+             List<Path> deps,
              Path genSourcesDirectory) {
         super(DESCRIPTION);
         this.filesystem = filesystem;
         this.srcs = srcs;
+        this.deps = deps;
         this.output = genSourcesDirectory;
     }
 
@@ -52,9 +55,12 @@ public class YangStep extends AbstractExecutionStep {
 
         List<File> sourceFiles = srcs.stream().map(Path::toFile)
                 .collect(Collectors.toList());
+        List<File> depFiles = deps.stream().map(Path::toFile)
+                .collect(Collectors.toList());
 
         try {
-            new YangGenerator(sourceFiles, output.toString()).execute();
+            new YangGenerator(sourceFiles, depFiles, output.toString())
+                    .execute();
             return StepExecutionResult.SUCCESS;
         } catch(YangParsingException e) {
             executionContext.getConsole().printErrorText(e.getMessage());
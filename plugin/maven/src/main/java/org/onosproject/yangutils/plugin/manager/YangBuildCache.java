@@ -0,0 +1,363 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.onosproject.yangutils.datamodel.YangAtomicPath;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangCompilerAnnotation;
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangInclude;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangReferenceResolver;
+import org.onosproject.yangutils.datamodel.YangResolutionInfo;
+import org.onosproject.yangutils.datamodel.YangSubModule;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_COMPILER_ANNOTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
+
+/**
+ * Represents the on-disk build cache of the YANG plugin. It keeps the content
+ * hash, the module dependencies and the linked data model of every YANG file
+ * of the previous build, so that an incremental build needs to parse, link
+ * and translate only the changed YANG files and the files which depend on
+ * them.
+ */
+class YangBuildCache implements Serializable {
+
+    private static final long serialVersionUID = 806201702L;
+    private static final String CACHE_FILE = "YangBuildCache.ser";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String HEX_FORMAT = "%02x";
+
+    /*
+     * Key of the plugin configuration and the dependencies with which the
+     * cache is built.
+     */
+    private final String configKey;
+
+    // Content hash of each YANG file.
+    private final Map<String, String> fileHashes = new HashMap<>();
+
+    // Name of the module or sub-module defined in each YANG file.
+    private final Map<String, String> moduleNames = new HashMap<>();
+
+    // Modules imported, included or belonged to by each YANG file.
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+
+    // Modules augmented or annotated by each YANG file.
+    private final Map<String, Set<String>> augmentedModules = new HashMap<>();
+
+    // Linked data model node of each YANG file.
+    private final Map<String, YangNode> rootNodes = new HashMap<>();
+
+    /**
+     * Creates an empty YANG build cache.
+     *
+     * @param configKey key of plugin configuration and dependencies
+     */
+    YangBuildCache(String configKey) {
+        this.configKey = configKey;
+    }
+
+    /**
+     * Adds a YANG file of the current build to the cache.
+     *
+     * @param fileName YANG file name
+     * @param hash     content hash of the YANG file
+     * @param rootNode linked data model node of the YANG file
+     */
+    void addYangFile(String fileName, String hash, YangNode rootNode) {
+        fileHashes.put(fileName, hash);
+        moduleNames.put(fileName, rootNode.getName());
+        dependencies.put(fileName, getDependencies(rootNode));
+        augmentedModules.put(fileName, getAugmentedModules(rootNode));
+        rootNodes.put(fileName, rootNode);
+    }
+
+    /**
+     * Returns the cached data model node of a YANG file.
+     *
+     * @param fileName YANG file name
+     * @return cached data model node, null if file is not cached
+     */
+    YangNode getRootNode(String fileName) {
+        return rootNodes.get(fileName);
+    }
+
+    /**
+     * Returns the YANG files of previous build.
+     *
+     * @return YANG files of previous build
+     */
+    Set<String> getCachedFiles() {
+        return rootNodes.keySet();
+    }
+
+    /**
+     * Returns the YANG files which need to be built again. A file needs to be
+     * built again when it is new or its content is changed, or when it
+     * imports, includes or belongs to a module which needs to be built again
+     * or which is removed. A module augmented or annotated by a file which
+     * needs to be built again or which is removed is also built again, since
+     * its cached data model has the augments and annotations of the previous
+     * build linked to it.
+     *
+     * @param currentHashes content hash of each YANG file of current build
+     * @return YANG files which need to be built again
+     */
+    Set<String> getChangedFiles(Map<String, String> currentHashes) {
+        Set<String> changedFiles = new HashSet<>();
+        Set<String> changedModules = new HashSet<>();
+        for (Map.Entry<String, String> entry : currentHashes.entrySet()) {
+            String fileName = entry.getKey();
+            if (!entry.getValue().equals(fileHashes.get(fileName))) {
+                addChangedFile(fileName, changedFiles, changedModules);
+            }
+        }
+        for (Map.Entry<String, String> entry : moduleNames.entrySet()) {
+            if (!currentHashes.containsKey(entry.getKey())) {
+                changedModules.add(entry.getValue());
+                changedModules.addAll(augmentedModules.get(entry.getKey()));
+            }
+        }
+
+        boolean isUpdated = true;
+        while (isUpdated) {
+            isUpdated = false;
+            for (String fileName : currentHashes.keySet()) {
+                if (!changedFiles.contains(fileName) &&
+                        isChanged(fileName, changedModules)) {
+                    addChangedFile(fileName, changedFiles, changedModules);
+                    isUpdated = true;
+                }
+            }
+        }
+        return changedFiles;
+    }
+
+    /**
+     * Returns true if a cached YANG file needs to be built again because a
+     * module which it depends on, or which augments or annotates it, needs
+     * to be built again.
+     *
+     * @param fileName       YANG file name
+     * @param changedModules modules which need to be built again
+     * @return true if file needs to be built again
+     */
+    private boolean isChanged(String fileName, Set<String> changedModules) {
+        if (changedModules.contains(moduleNames.get(fileName))) {
+            return true;
+        }
+        for (String module : dependencies.get(fileName)) {
+            if (changedModules.contains(module)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a YANG file which needs to be built again, along with its module
+     * and the modules augmented or annotated by it in the previous build.
+     *
+     * @param fileName       YANG file name
+     * @param changedFiles   files which need to be built again
+     * @param changedModules modules which need to be built again
+     */
+    private void addChangedFile(String fileName, Set<String> changedFiles,
+                                Set<String> changedModules) {
+        changedFiles.add(fileName);
+        if (moduleNames.containsKey(fileName)) {
+            changedModules.add(moduleNames.get(fileName));
+            changedModules.addAll(augmentedModules.get(fileName));
+        }
+    }
+
+    /**
+     * Writes the build cache to the cache directory.
+     *
+     * @param dir cache directory
+     * @throws IOException when fails to write the cache
+     */
+    void write(String dir) throws IOException {
+        new File(dir).mkdirs();
+        FileOutputStream out = new FileOutputStream(dir + SLASH + CACHE_FILE);
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(out);
+        objectOutputStream.writeObject(this);
+        objectOutputStream.close();
+        out.close();
+    }
+
+    /**
+     * Returns the build cache of previous build from the cache directory.
+     * The cache is not used when it does not exist, can not be read or is
+     * built with a different plugin configuration or dependencies.
+     *
+     * @param dir       cache directory
+     * @param configKey key of plugin configuration and dependencies
+     * @return build cache of previous build, null if it can not be used
+     */
+    static YangBuildCache read(String dir, String configKey) {
+        File cacheFile = new File(dir + SLASH + CACHE_FILE);
+        if (!cacheFile.exists()) {
+            return null;
+        }
+        YangBuildCache cache;
+        try {
+            FileInputStream fileInputStream = new FileInputStream(cacheFile);
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(fileInputStream);
+            cache = (YangBuildCache) objectInputStream.readObject();
+            objectInputStream.close();
+            fileInputStream.close();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+        if (!configKey.equals(cache.configKey)) {
+            return null;
+        }
+        return cache;
+    }
+
+    /**
+     * Deletes the build cache from the cache directory.
+     *
+     * @param dir cache directory
+     */
+    static void delete(String dir) {
+        new File(dir + SLASH + CACHE_FILE).delete();
+    }
+
+    /**
+     * Returns the content hash of a YANG file.
+     *
+     * @param fileName YANG file name
+     * @return content hash of YANG file
+     * @throws IOException when fails to read the YANG file
+     */
+    static String getFileHash(String fileName) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        byte[] hash = digest.digest(Files.readAllBytes(Paths.get(fileName)));
+        StringBuilder builder = new StringBuilder();
+        for (byte b : hash) {
+            builder.append(String.format(HEX_FORMAT, b));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the modules which are augmented or annotated by a YANG file.
+     * Linking adds the augments and compiler annotations of the file to the
+     * data model of these modules.
+     *
+     * @param rootNode data model node of YANG file
+     * @return names of augmented modules
+     */
+    static Set<String> getAugmentedModules(YangNode rootNode) {
+        Set<String> modules = new HashSet<>();
+        if (!(rootNode instanceof YangReferenceResolver)) {
+            return modules;
+        }
+        YangReferenceResolver resolver = (YangReferenceResolver) rootNode;
+        YangNode child = rootNode.getChild();
+        while (child != null) {
+            if (child instanceof YangAugment) {
+                addPathModules(resolver, ((YangAugment) child).getTargetNode(),
+                               modules);
+            }
+            child = child.getNextSibling();
+        }
+        for (YangResolutionInfo info : resolver
+                .getUnresolvedResolutionList(YANG_COMPILER_ANNOTATION)) {
+            Object entity = info.getEntityToResolveInfo().getEntityToResolve();
+            if (entity instanceof YangCompilerAnnotation) {
+                addPathModules(resolver, ((YangCompilerAnnotation) entity)
+                        .getAtomicPathList(), modules);
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Adds the imported modules referred by the prefixes of a target path.
+     *
+     * @param resolver root node of YANG file having the path
+     * @param path     target path
+     * @param modules  names of referred modules
+     */
+    private static void addPathModules(YangReferenceResolver resolver,
+                                       List<YangAtomicPath> path,
+                                       Set<String> modules) {
+        if (path == null) {
+            return;
+        }
+        for (YangAtomicPath atomicPath : path) {
+            String prefix = atomicPath.getNodeIdentifier().getPrefix();
+            for (YangImport yangImport : resolver.getImportList()) {
+                if (yangImport.getPrefixId().equals(prefix)) {
+                    modules.add(yangImport.getModuleName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the modules imported, included or belonged to by a YANG file.
+     *
+     * @param rootNode data model node of YANG file
+     * @return names of modules on which the YANG file depends
+     */
+    static Set<String> getDependencies(YangNode rootNode) {
+        Set<String> modules = new HashSet<>();
+        if (rootNode instanceof YangReferenceResolver) {
+            YangReferenceResolver resolver = (YangReferenceResolver) rootNode;
+            for (YangImport yangImport : resolver.getImportList()) {
+                modules.add(yangImport.getModuleName());
+            }
+            for (YangInclude yangInclude : resolver.getIncludeList()) {
+                modules.add(yangInclude.getSubModuleName());
+            }
+        }
+        if (rootNode instanceof YangSubModule) {
+            modules.add(((YangSubModule) rootNode).getBelongsTo()
+                                .getBelongsToModuleName());
+        }
+        return modules;
+    }
+}
@@ -21,24 +21,28 @@ import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Resource;
 import org.apache.maven.project.MavenProject;
 import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaFile;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
 import org.slf4j.Logger;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.parseJarFile;
+import static org.onosproject.yangutils.datamodel.utils.YangSchemaFile.SCHEMA_FILE_EXTENSION;
 import static org.onosproject.yangutils.utils.UtilConstants.HYPHEN;
 import static org.onosproject.yangutils.utils.UtilConstants.JAR;
 import static org.onosproject.yangutils.utils.UtilConstants.PERIOD;
@@ -56,8 +60,8 @@ public final class YangPluginUtils {
     private static final Logger log = getLogger(YangPluginUtils.class);
     private static final String TARGET_RESOURCE_PATH = SLASH + TEMP + SLASH +
             YANG_RESOURCES + SLASH;
-    private static final String SERIALIZED_FILE_EXTENSION = ".ser";
     private static final String YANG_META_DATA = "YangMetaData";
+    private static final String KEY_SEPARATOR = "|";
 
     private YangPluginUtils() {
     }
@@ -136,18 +140,20 @@ public final class YangPluginUtils {
         if (operation) {
             addToProjectResource(dir + SLASH + TEMP + SLASH, project);
         }
-        Set<YangNode> nodes = new HashSet<>();
+        List<YangNode> nodes = new ArrayList<>();
         for (YangFileInfo fileInfo : fileSet) {
             nodes.add(fileInfo.getRootNode());
         }
 
-        String serFileName = serFileDirPath + YANG_META_DATA +
-                SERIALIZED_FILE_EXTENSION;
-        FileOutputStream out = new FileOutputStream(serFileName);
-        ObjectOutputStream objectOutputStream = new ObjectOutputStream(out);
-        objectOutputStream.writeObject(nodes);
-        objectOutputStream.close();
-        out.close();
+        String schemaFileName = serFileDirPath + YANG_META_DATA +
+                SCHEMA_FILE_EXTENSION;
+        OutputStream out = new BufferedOutputStream(
+                new FileOutputStream(schemaFileName));
+        try {
+            YangSchemaFile.write(nodes, out);
+        } finally {
+            out.close();
+        }
     }
 
     /**
@@ -192,24 +198,59 @@ public final class YangPluginUtils {
      * @param project     current maven project
      * @param localRepo   local maven repository
      * @param remoteRepos list of remote repository
-     * @param dir         directory for serialized files
+     * @param moduleNames names of modules needed by the YANG files
      * @return list of resolved datamodel nodes
      * @throws IOException when fails to do IO operations
      */
     static List<YangNode> resolveInterJarDependencies(
             MavenProject project, ArtifactRepository localRepo,
-            List<ArtifactRepository> remoteRepos, String dir)
+            List<ArtifactRepository> remoteRepos, Set<String> moduleNames)
             throws IOException {
 
         List<String> dependenciesJarPaths =
                 resolveDependencyJarPath(project, localRepo, remoteRepos);
         List<YangNode> resolvedDataModelNodes = new ArrayList<>();
         for (String dependency : dependenciesJarPaths) {
-            resolvedDataModelNodes.addAll(parseJarFile(dependency, dir));
+            resolvedDataModelNodes.addAll(parseJarFile(dependency,
+                                                       moduleNames));
         }
         return resolvedDataModelNodes;
     }
 
+    /**
+     * Returns the key of the plugin configuration and the dependency jars,
+     * with which a build is carried out. A build cache is valid only for the
+     * builds with the same key.
+     *
+     * @param config      YANG plugin config
+     * @param project     current maven project
+     * @param localRepo   local maven repository
+     * @param remoteRepos list of remote repository
+     * @return key of build configuration
+     */
+    static String getBuildConfigKey(YangPluginConfig config,
+                                    MavenProject project,
+                                    ArtifactRepository localRepo,
+                                    List<ArtifactRepository> remoteRepos) {
+        YangToJavaNamingConflictUtil resolver = config.getConflictResolver();
+        StringBuilder key = new StringBuilder();
+        key.append(config.getCodeGenDir()).append(KEY_SEPARATOR)
+                .append(config.getCodeGenerateForSbi()).append(KEY_SEPARATOR)
+                .append(resolver.getReplacementForPeriod()).append(KEY_SEPARATOR)
+                .append(resolver.getReplacementForHyphen()).append(KEY_SEPARATOR)
+                .append(resolver.getReplacementForUnderscore())
+                .append(KEY_SEPARATOR)
+                .append(resolver.getPrefixForIdentifier());
+        for (String jarPath : resolveDependencyJarPath(project, localRepo,
+                                                       remoteRepos)) {
+            File jarFile = new File(jarPath);
+            key.append(KEY_SEPARATOR).append(jarPath).append(KEY_SEPARATOR)
+                    .append(jarFile.length()).append(KEY_SEPARATOR)
+                    .append(jarFile.lastModified());
+        }
+        return key.toString();
+    }
+
     /* Adds directory to resources of project */
     private static void addToProjectResource(String dir, MavenProject project) {
         Resource rsc = new Resource();
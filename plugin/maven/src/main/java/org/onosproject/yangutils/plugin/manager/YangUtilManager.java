@@ -25,34 +25,56 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.rtinfo.RuntimeInformation;
+import org.onosproject.yangutils.datamodel.RpcNotificationContainer;
+import org.onosproject.yangutils.datamodel.YangAugment;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangReferenceResolver;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
-import org.onosproject.yangutils.linker.YangLinker;
+import org.onosproject.yangutils.datamodel.utils.YangNamespaceIds;
 import org.onosproject.yangutils.linker.exceptions.LinkerException;
+import org.onosproject.yangutils.linker.impl.YangLinkerLayer;
 import org.onosproject.yangutils.linker.impl.YangLinkerManager;
-import org.onosproject.yangutils.parser.YangUtilsParser;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 import org.onosproject.yangutils.parser.impl.YangUtilsParserManager;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoContainer;
+import org.onosproject.yangutils.translator.tojava.JavaFileInfoTranslator;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
 import org.onosproject.yangutils.utils.io.YangToJavaNamingConflictUtil;
+import org.onosproject.yangutils.utils.io.impl.JavaFileOutput;
 import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static java.util.Collections.sort;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_SOURCES;
 import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
 import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_DERIVED_DATA_TYPE;
 import static org.onosproject.yangutils.datamodel.ResolvableType.YANG_IDENTITYREF;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.getKeyGroups;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.getNamespaceKey;
+import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.mergeKeyGroups;
 import static org.onosproject.yangutils.linker.impl.YangLinkerUtils.resolveGroupingInDefinationScope;
 import static org.onosproject.yangutils.plugin.manager.YangPluginUtils.addToCompilationRoot;
+import static org.onosproject.yangutils.plugin.manager.YangBuildCache.getAugmentedModules;
+import static org.onosproject.yangutils.plugin.manager.YangBuildCache.getDependencies;
+import static org.onosproject.yangutils.plugin.manager.YangBuildCache.getFileHash;
 import static org.onosproject.yangutils.plugin.manager.YangPluginUtils.copyYangFilesToTarget;
+import static org.onosproject.yangutils.plugin.manager.YangPluginUtils.getBuildConfigKey;
 import static org.onosproject.yangutils.plugin.manager.YangPluginUtils.resolveInterJarDependencies;
 import static org.onosproject.yangutils.plugin.manager.YangPluginUtils.serializeDataModel;
 import static org.onosproject.yangutils.translator.tojava.JavaCodeGeneratorUtil.generateJavaCode;
@@ -87,10 +109,12 @@ public class YangUtilManager extends AbstractMojo {
     private YangNode rootNode;
     // YANG file information set.
     private Set<YangFileInfo> yangFileInfoSet = new HashSet<>();
-    private final YangUtilsParser yangUtilsParser = new YangUtilsParserManager();
-    private final YangLinker yangLinker = new YangLinkerManager();
+    private final YangUtilsParserManager yangUtilsParser = new YangUtilsParserManager();
+    private final YangLinkerManager yangLinker = new YangLinkerManager();
     private YangFileInfo curYangFileInfo = new YangFileInfo();
     private final Set<YangNode> yangNodeSet = new HashSet<>();
+    // Content hash of the YANG files, used by incremental build.
+    private final Map<String, String> yangFileHashes = new HashMap<>();
 
     /**
      * Source directory for YANG files.
@@ -184,8 +208,112 @@ public class YangUtilManager extends AbstractMojo {
     @Parameter(defaultValue = "maven.version")
     private String versionProperty;
 
+    /**
+     * Number of worker threads used for parsing and self file linking of
+     * YANG files. Files are parsed one after another when it is not more
+     * than one.
+     */
+    @Parameter(property = "parserThreadCount", defaultValue = "1")
+    private int parserThreadCount;
+
+    /**
+     * Number of worker threads used for inter-file linking. YANG files are
+     * linked one after another when it is not more than one, otherwise the
+     * independent files of each dependency layer are linked concurrently.
+     */
+    @Parameter(property = "linkerThreadCount", defaultValue = "1")
+    private int linkerThreadCount;
+
+    /**
+     * Number of worker threads used for generating Java code. Modules are
+     * translated one after another when it is not more than one.
+     */
+    @Parameter(property = "translatorThreadCount", defaultValue = "1")
+    private int translatorThreadCount;
+
+    /**
+     * Carries out incremental build, in which only the changed YANG files
+     * and the YANG files depending on them are parsed, linked and
+     * translated again.
+     */
+    @Parameter(property = "incrementalBuild", defaultValue = "false")
+    private boolean incrementalBuild;
+
+    /**
+     * Directory of the build cache used by incremental build.
+     */
+    @Parameter(property = "buildCacheDir",
+            defaultValue = "${project.build.directory}/yang-cache")
+    private String buildCacheDir;
+
+    /**
+     * Buffers the temporary code fragments of translation in memory instead
+     * of writing each of them to a temporary file.
+     */
+    @Parameter(property = "tempFragmentsInMemory", defaultValue = "true")
+    private boolean tempFragmentsInMemory;
+
+    /**
+     * Size in characters beyond which a buffered temporary code fragment is
+     * spilled to its temporary file. It is never spilled when it is zero.
+     */
+    @Parameter(property = "tempFragmentSpillThreshold", defaultValue = "0")
+    private int tempFragmentSpillThreshold;
+
+    /**
+     * Generates subtree filtering which creates the result builder only when
+     * content is matched.
+     */
+    @Parameter(property = "lazySubtreeFiltering", defaultValue = "false")
+    private boolean lazySubtreeFiltering;
+
+    /**
+     * Generates default classes which memoize the hash code of the objects
+     * created by their builders. The objects keep unmodifiable copies of the
+     * builder collections, and leave their leaf flags out of the hash code.
+     */
+    @Parameter(property = "memoizedHashCode", defaultValue = "false")
+    private boolean memoizedHashCode;
+
+    /**
+     * Generates the config lists with keys as maps indexed by their key
+     * classes, keeping the insertion order, unless a compiler annotation
+     * gives them another data structure.
+     */
+    @Parameter(property = "keyedListsAsMaps", defaultValue = "false")
+    private boolean keyedListsAsMaps;
+
+    /**
+     * Keeps the parse trees of YANG files in the process, so that the
+     * executions of the plugin sharing its class loader, such as in the
+     * modules of a reactor build, parse a YANG file content once. A changed
+     * YANG file is parsed again.
+     */
+    @Parameter(property = "parseTreeCache", defaultValue = "false")
+    private boolean parseTreeCache;
+
+    /**
+     * Builds the data model tree of a YANG file while it is parsed, and
+     * drops the parse tree of each body statement once it is walked, to
+     * reduce the peak heap of parsing. It is not used with the parse tree
+     * cache.
+     */
+    @Parameter(property = "singlePassParsing", defaultValue = "false")
+    private boolean singlePassParsing;
+
+    /**
+     * Keeps the generated Java files of the previous build whose content is
+     * not changed, so that their timestamps are kept for the incremental
+     * compilation, and deletes the generated files which are not generated
+     * again.
+     */
+    @Parameter(property = "skipUnchangedSources", defaultValue = "false")
+    private boolean skipUnchangedSources;
+
     private String outputDir;
     private String codeGenDir;
+    private String cacheDir;
+    private JavaFileOutput javaFileOutput;
 
     @Override
     public void execute()
@@ -212,6 +340,13 @@ public class YangUtilManager extends AbstractMojo {
             yangPlugin.setConflictResolver(conflictResolver);
 
             yangPlugin.setCodeGenerateForSbi(generateJavaFileForSbi.toLowerCase());
+            yangPlugin.setTempFragmentsInMemory(tempFragmentsInMemory);
+            yangPlugin.setTempFragmentSpillThreshold(tempFragmentSpillThreshold);
+            yangPlugin.setLazySubtreeFiltering(lazySubtreeFiltering);
+            yangPlugin.setMemoizedHashCode(memoizedHashCode);
+            yangPlugin.setKeyedListsAsMaps(keyedListsAsMaps);
+            yangUtilsParser.setParseTreeCached(parseTreeCache);
+            yangUtilsParser.setSinglePass(singlePassParsing);
             /*
              * Obtain the YANG files at a path mentioned in plugin and creates
              * YANG file information set.
@@ -223,28 +358,64 @@ public class YangUtilManager extends AbstractMojo {
                 // No files to translate
                 return;
             }
-            // Resolve inter jar dependency.
-            resolveInterJarDependency();
+            if (incrementalBuild) {
+                cacheDir = getDirectory(baseDir, buildCacheDir);
+                // Take unchanged YANG files from the previous build.
+                loadUnchangedYangFiles(getBuildConfigKey(
+                        yangPlugin, project, localRepository,
+                        remoteRepository));
+            }
 
             // Carry out the parsing for all the YANG files.
-            parseYangFileInfoSet();
+            parseChangedYangFiles();
+
+            // Resolve inter jar dependency.
+            resolveInterJarDependency();
 
             // Resolve dependencies using linker.
             resolveDependenciesUsingLinker();
 
             // Perform translation to JAVA.
+            if (skipUnchangedSources) {
+                javaFileOutput = JavaFileOutput.start(
+                        codeGenDir + DEFAULT_PKG, getCachedCodeDirs());
+            }
             translateToJava(yangPlugin);
+            if (javaFileOutput != null) {
+                javaFileOutput.finish();
+                getLog().info("Generated Java files: " +
+                                      javaFileOutput.getWrittenCount() +
+                                      " written, " +
+                                      javaFileOutput.getUnchangedCount() +
+                                      " unchanged, " +
+                                      javaFileOutput.getDeletedCount() +
+                                      " deleted.");
+                javaFileOutput = null;
+            }
 
             // Serialize data model.
             serializeDataModel(outputDir, yangFileInfoSet, project, true);
             addToCompilationRoot(codeGenDir, project, context);
 
             copyYangFilesToTarget(yangFileInfoSet, outputDir, project);
+
+            if (incrementalBuild) {
+                writeBuildCache(getBuildConfigKey(
+                        yangPlugin, project, localRepository,
+                        remoteRepository));
+            }
         } catch (IOException | ParserException e) {
             String fileName = EMPTY_STRING;
             if (curYangFileInfo != null) {
                 fileName = curYangFileInfo.getYangFileName();
             }
+            if (cacheDir != null) {
+                YangBuildCache.delete(cacheDir);
+            }
+            if (javaFileOutput != null) {
+                javaFileOutput.release();
+                javaFileOutput = null;
+            }
             try {
                 translatorErrorHandler(rootNode, yangPlugin);
                 deleteDirectory(codeGenDir + DEFAULT_PKG);
@@ -282,7 +453,9 @@ public class YangUtilManager extends AbstractMojo {
     }
 
     /**
-     * Resolved inter-jar dependencies.
+     * Resolved inter-jar dependencies. Only the modules imported, included
+     * or belonged to by the YANG files, and the modules they refer to, are
+     * taken from the dependency jars.
      *
      * @throws IOException when fails to do IO operations
      */
@@ -291,7 +464,8 @@ public class YangUtilManager extends AbstractMojo {
         try {
             List<YangNode> interJarResolvedNodes =
                     resolveInterJarDependencies(project, localRepository,
-                                                remoteRepository, outputDir);
+                                                remoteRepository,
+                                                getReferredModules());
             for (YangNode node : interJarResolvedNodes) {
                 YangFileInfo dependentFileInfo = new YangFileInfo();
                 node.setToTranslate(false);
@@ -305,6 +479,20 @@ public class YangUtilManager extends AbstractMojo {
         }
     }
 
+    /**
+     * Returns the names of modules imported, included or belonged to by the
+     * YANG files.
+     *
+     * @return names of referred modules
+     */
+    private Set<String> getReferredModules() {
+        Set<String> modules = new HashSet<>();
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            modules.addAll(getDependencies(yangFileInfo.getRootNode()));
+        }
+        return modules;
+    }
+
     /**
      * Links all the provided with the YANG file info set.
      *
@@ -314,7 +502,15 @@ public class YangUtilManager extends AbstractMojo {
             throws MojoExecutionException {
         createYangNodeSet();
         try {
+            yangLinker.setLinkerThreadCount(linkerThreadCount);
             yangLinker.resolveDependencies(yangNodeSet);
+            for (YangLinkerLayer layer : yangLinker.getLinkerLayers()) {
+                getLog().info("Linked " + layer.getNodes().size() +
+                                      " YANG files of priority " +
+                                      layer.getPriority() + " in " +
+                                      layer.getGroupCount() + " groups: " +
+                                      layer.getLinkingTime() + " ms");
+            }
         } catch (LinkerException e) {
             printLog(e.getFileName(), e.getLineNumber(), e.getCharPositionInLine(),
                      e.getMessage(), e.getLocalizedMessage());
@@ -331,6 +527,173 @@ public class YangUtilManager extends AbstractMojo {
         }
     }
 
+    /**
+     * Takes the data model of the YANG files, which are not changed since
+     * the previous build, from the build cache. These files are neither
+     * parsed nor translated again.
+     *
+     * @param configKey key of plugin configuration and dependencies
+     * @throws IOException when fails to read the YANG files
+     */
+    private void loadUnchangedYangFiles(String configKey)
+            throws IOException {
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            if (yangFileInfo.isForTranslator()) {
+                String fileName = yangFileInfo.getYangFileName();
+                yangFileHashes.put(fileName, getFileHash(fileName));
+            }
+        }
+
+        YangBuildCache cache = YangBuildCache.read(cacheDir, configKey);
+        if (cache == null || !new File(codeGenDir).exists()) {
+            return;
+        }
+        Set<String> changedFiles = cache.getChangedFiles(yangFileHashes);
+        for (String fileName : cache.getCachedFiles()) {
+            if (!yangFileHashes.containsKey(fileName) ||
+                    changedFiles.contains(fileName)) {
+                deleteGeneratedCode(cache.getRootNode(fileName));
+            }
+        }
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            String fileName = yangFileInfo.getYangFileName();
+            if (yangFileInfo.isForTranslator() &&
+                    !changedFiles.contains(fileName)) {
+                YangNode node = cache.getRootNode(fileName);
+                node.setToTranslate(false);
+                yangFileInfo.setRootNode(node);
+            }
+        }
+        getLog().info("Incremental build: " + changedFiles.size() + " of " +
+                              yangFileHashes.size() +
+                              " YANG files need to be built.");
+    }
+
+    /**
+     * Parses the YANG files which are not taken from the build cache. When a
+     * parsed file augments or annotates a module taken from the build cache,
+     * the module is parsed and translated again, so that the augmented
+     * information of the previous build is not linked twice.
+     *
+     * @throws IOException a violation in IO
+     */
+    private void parseChangedYangFiles()
+            throws IOException {
+        parseYangFileInfoSet();
+        while (invalidateAugmentedYangFiles()) {
+            parseYangFileInfoSet();
+        }
+    }
+
+    /**
+     * Removes the cached data model and the generated code of the YANG
+     * files, which are augmented or annotated by the parsed YANG files.
+     *
+     * @return true if any cached data model is removed
+     * @throws IOException when fails to delete the generated code
+     */
+    private boolean invalidateAugmentedYangFiles()
+            throws IOException {
+        Set<String> augmentedModules = new HashSet<>();
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            YangNode node = yangFileInfo.getRootNode();
+            if (yangFileInfo.isForTranslator() && node.isToTranslate()) {
+                augmentedModules.addAll(getAugmentedModules(node));
+            }
+        }
+        boolean isInvalidated = false;
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            YangNode node = yangFileInfo.getRootNode();
+            if (yangFileInfo.isForTranslator() && !node.isToTranslate() &&
+                    augmentedModules.contains(node.getName())) {
+                deleteGeneratedCode(node);
+                yangFileInfo.setRootNode(null);
+                isInvalidated = true;
+            }
+        }
+        return isInvalidated;
+    }
+
+    /**
+     * Deletes the code generated in previous build for a cached data model
+     * node.
+     *
+     * @param node cached data model node
+     * @throws IOException when fails to delete the generated code
+     */
+    private void deleteGeneratedCode(YangNode node)
+            throws IOException {
+        if (skipUnchangedSources) {
+            // Code is compared with the code generated again, and deleted
+            // when it is not generated again.
+            return;
+        }
+        if (node instanceof JavaFileInfoContainer) {
+            JavaFileInfoTranslator javaFileInfo =
+                    ((JavaFileInfoContainer) node).getJavaFileInfo();
+            if (javaFileInfo.getPackage() != null) {
+                deleteDirectory(codeGenDir + getPackageDirPathFromJavaJPackage(
+                        javaFileInfo.getPackage()));
+            }
+        }
+    }
+
+    /**
+     * Returns the directories of the code generated in previous build for
+     * the cached data model nodes, which are not translated again.
+     *
+     * @return directories of generated code of cached nodes
+     */
+    private Set<String> getCachedCodeDirs() {
+        Set<String> dirs = new HashSet<>();
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            YangNode node = yangFileInfo.getRootNode();
+            if (yangFileInfo.isForTranslator() && node != null &&
+                    !node.isToTranslate() &&
+                    node instanceof JavaFileInfoContainer) {
+                JavaFileInfoTranslator javaFileInfo =
+                        ((JavaFileInfoContainer) node).getJavaFileInfo();
+                if (javaFileInfo.getPackage() != null) {
+                    dirs.add(codeGenDir + getPackageDirPathFromJavaJPackage(
+                            javaFileInfo.getPackage()));
+                }
+            }
+        }
+        return dirs;
+    }
+
+    /**
+     * Writes the build cache of the current build.
+     *
+     * @param configKey key of plugin configuration and dependencies
+     * @throws IOException when fails to write the build cache
+     */
+    private void writeBuildCache(String configKey)
+            throws IOException {
+        YangBuildCache cache = new YangBuildCache(configKey);
+        for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+            if (yangFileInfo.isForTranslator()) {
+                String fileName = yangFileInfo.getYangFileName();
+                cache.addYangFile(fileName, yangFileHashes.get(fileName),
+                                  yangFileInfo.getRootNode());
+            }
+        }
+        cache.write(cacheDir);
+    }
+
+    /**
+     * Returns true if the YANG file needs to be parsed. YANG files of
+     * dependent jars and YANG files taken from the build cache are not
+     * parsed.
+     *
+     * @param yangFileInfo YANG file information
+     * @return true if YANG file needs to be parsed
+     */
+    private static boolean isToBeParsed(YangFileInfo yangFileInfo) {
+        return yangFileInfo.isForTranslator() &&
+                yangFileInfo.getRootNode() == null;
+    }
+
     /**
      * Parses all the provided YANG files and generates YANG data model tree.
      *
@@ -338,32 +701,107 @@ public class YangUtilManager extends AbstractMojo {
      */
     public void parseYangFileInfoSet()
             throws IOException {
+        if (parserThreadCount > 1) {
+            parseYangFileInfoSetInParallel();
+            return;
+        }
         for (YangFileInfo yangFileInfo : yangFileInfoSet) {
             curYangFileInfo = yangFileInfo;
-            if (yangFileInfo.isForTranslator()) {
-                try {
-                    YangNode yangNode = yangUtilsParser.getDataModel(
-                            yangFileInfo.getYangFileName());
-                    yangFileInfo.setRootNode(yangNode);
-                    rootNode = yangNode;
-                    resolveGroupingInDefinationScope((YangReferenceResolver) yangNode);
-                    try {
-                        ((YangReferenceResolver) yangNode)
-                                .resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
-                        ((YangReferenceResolver) yangNode)
-                                .resolveSelfFileLinking(YANG_IDENTITYREF);
-                    } catch (DataModelException e) {
-                        printLog(e.getFileName(), e.getLineNumber(), e
-                                .getCharPositionInLine(), e.getMessage(), e
-                                         .getLocalizedMessage());
-                    }
-                } catch (ParserException e) {
-                    printLog(e.getFileName(), e.getLineNumber(), e
-                            .getCharPositionInLine(), e.getMessage(), e
-                                     .getLocalizedMessage());
-                    throw e;
+            if (isToBeParsed(yangFileInfo)) {
+                rootNode = parseYangFile(yangFileInfo);
+            }
+        }
+    }
+
+    /**
+     * Parses all the provided YANG files concurrently on a pool of parser
+     * threads. Each file is parsed and self linked independently, the
+     * results are collected in the order of the YANG file info set, so the
+     * data model handed over to the linker is same as in sequential parsing.
+     *
+     * @throws IOException a violation in IO
+     */
+    private void parseYangFileInfoSetInParallel()
+            throws IOException {
+        ExecutorService executor = newFixedThreadPool(parserThreadCount);
+        Map<YangFileInfo, Future<YangNode>> results = new LinkedHashMap<>();
+        try {
+            for (YangFileInfo yangFileInfo : yangFileInfoSet) {
+                if (isToBeParsed(yangFileInfo)) {
+                    results.put(yangFileInfo, executor.submit(
+                            () -> parseYangFile(yangFileInfo)));
                 }
             }
+            for (Map.Entry<YangFileInfo, Future<YangNode>> result :
+                    results.entrySet()) {
+                curYangFileInfo = result.getKey();
+                rootNode = getParsedNode(result.getValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the data model node of a YANG file parsed by a parser thread.
+     *
+     * @param result result of the parser thread
+     * @return data model node of YANG file
+     * @throws IOException a violation in IO
+     */
+    private YangNode getParsedNode(Future<YangNode> result)
+            throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Parsing of YANG files is interrupted.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ParserException) {
+                throw (ParserException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Parses a YANG file, generates its data model tree and resolves the
+     * self file linking of it.
+     *
+     * @param yangFileInfo YANG file information
+     * @return data model node of YANG file
+     * @throws IOException a violation in IO
+     */
+    private YangNode parseYangFile(YangFileInfo yangFileInfo)
+            throws IOException {
+        try {
+            YangNode yangNode = yangUtilsParser.getDataModel(
+                    yangFileInfo.getYangFileName());
+            yangFileInfo.setRootNode(yangNode);
+            resolveGroupingInDefinationScope((YangReferenceResolver) yangNode);
+            try {
+                ((YangReferenceResolver) yangNode)
+                        .resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
+                ((YangReferenceResolver) yangNode)
+                        .resolveSelfFileLinking(YANG_IDENTITYREF);
+            } catch (DataModelException e) {
+                printLog(e.getFileName(), e.getLineNumber(), e
+                        .getCharPositionInLine(), e.getMessage(), e
+                                 .getLocalizedMessage());
+            }
+            return yangNode;
+        } catch (ParserException e) {
+            printLog(e.getFileName(), e.getLineNumber(), e
+                    .getCharPositionInLine(), e.getMessage(), e
+                             .getLocalizedMessage());
+            throw e;
         }
     }
 
@@ -378,6 +816,10 @@ public class YangUtilManager extends AbstractMojo {
         List<YangNode> yangNodeSortedList = new LinkedList<>();
         yangNodeSortedList.addAll(yangNodeSet);
         sort(yangNodeSortedList);
+        if (translatorThreadCount > 1) {
+            translateToJavaInParallel(yangNodeSortedList, yangPlugin);
+            return;
+        }
         for (YangNode node : yangNodeSortedList) {
             if (node.isToTranslate()) {
                 generateJavaCode(node, yangPlugin);
@@ -385,6 +827,116 @@ public class YangUtilManager extends AbstractMojo {
         }
     }
 
+    /**
+     * Translates the sorted data model nodes concurrently on a pool of
+     * translator threads. Nodes of same priority form a layer, and layers
+     * are translated one after another, so that the imported and included
+     * nodes are translated before the nodes referring to them. Within a
+     * layer, the nodes which share a namespace or augment the same module
+     * are translated by one thread in sorted order, since they update the
+     * same generated package or schema nodes.
+     *
+     * @param sortedNodes data model nodes sorted by priority
+     * @param yangPlugin  YANG plugin config
+     * @throws IOException a violation in IO
+     */
+    private void translateToJavaInParallel(List<YangNode> sortedNodes,
+                                           YangPluginConfig yangPlugin)
+            throws IOException {
+        ExecutorService executor = newFixedThreadPool(translatorThreadCount);
+        try {
+            int index = 0;
+            while (index < sortedNodes.size()) {
+                int priority = sortedNodes.get(index).getPriority();
+                List<YangNode> layer = new ArrayList<>();
+                while (index < sortedNodes.size() &&
+                        sortedNodes.get(index).getPriority() == priority) {
+                    YangNode node = sortedNodes.get(index++);
+                    if (node.isToTranslate()) {
+                        layer.add(node);
+                    }
+                }
+                List<Future<Void>> results = new ArrayList<>();
+                for (List<YangNode> group : getTranslationGroups(layer)) {
+                    results.add(executor.submit(() -> {
+                        for (YangNode node : group) {
+                            generateJavaCode(node, yangPlugin);
+                        }
+                        return null;
+                    }));
+                }
+                waitForTranslation(results);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the groups of nodes of a layer which can be translated
+     * independently. Nodes are in the same group when they share a
+     * namespace or a namespace of augmented module, and each group keeps
+     * the order of the layer.
+     *
+     * @param layer data model nodes of same priority
+     * @return groups of nodes
+     */
+    private static Collection<List<YangNode>> getTranslationGroups(
+            List<YangNode> layer) {
+        Map<Object, Object> keyParents = new HashMap<>();
+        for (YangNode node : layer) {
+            if (node instanceof RpcNotificationContainer) {
+                for (YangAugment augment :
+                        ((RpcNotificationContainer) node).getAugmentList()) {
+                    YangNode target = augment.getAugmentedNode();
+                    if (target == null) {
+                        continue;
+                    }
+                    while (target.getParent() != null) {
+                        target = target.getParent();
+                    }
+                    mergeKeyGroups(keyParents, getNamespaceKey(node),
+                                   getNamespaceKey(target));
+                }
+            }
+        }
+        return getKeyGroups(layer, keyParents);
+    }
+
+    /**
+     * Waits for all the translator threads of a layer, and rethrows the
+     * failure of the first of them in sorted order.
+     *
+     * @param results results of the translator threads
+     * @throws IOException a violation in IO
+     */
+    private static void waitForTranslation(List<Future<Void>> results)
+            throws IOException {
+        Throwable failure = null;
+        for (Future<Void> result : results) {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(
+                        "Translation of YANG files is interrupted.");
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw new IOException(failure);
+        }
+    }
+
     /**
      * Creates a YANG file info set.
      *
@@ -416,6 +968,51 @@ public class YangUtilManager extends AbstractMojo {
         this.yangFileInfoSet = yangFileInfoSet;
     }
 
+    /**
+     * Sets the number of worker threads used for parsing YANG files.
+     *
+     * @param parserThreadCount number of parser threads
+     */
+    void setParserThreadCount(int parserThreadCount) {
+        this.parserThreadCount = parserThreadCount;
+    }
+
+    /**
+     * Sets the number of worker threads used for inter-file linking.
+     *
+     * @param linkerThreadCount number of linker threads
+     */
+    void setLinkerThreadCount(int linkerThreadCount) {
+        this.linkerThreadCount = linkerThreadCount;
+    }
+
+    /**
+     * Returns the layers of YANG files linked concurrently.
+     *
+     * @return linker layers
+     */
+    List<YangLinkerLayer> getLinkerLayers() {
+        return yangLinker.getLinkerLayers();
+    }
+
+    /**
+     * Returns the namespace ids assigned by the linker.
+     *
+     * @return namespace ids
+     */
+    YangNamespaceIds getNamespaceIds() {
+        return yangLinker.getNamespaceIds();
+    }
+
+    /**
+     * Sets the number of worker threads used for generating Java code.
+     *
+     * @param translatorThreadCount number of translator threads
+     */
+    void setTranslatorThreadCount(int translatorThreadCount) {
+        this.translatorThreadCount = translatorThreadCount;
+    }
+
     /**
      * Adds log info for exception.
      *
@@ -16,9 +16,11 @@
 
 package org.onosproject.yangutils.parser.impl;
 
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangModule;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
 
@@ -26,6 +28,11 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
 
 /**
  * Test case for testing YANG utils parser manager.
@@ -100,4 +107,183 @@ public class YangUtilsParserManagerTest {
 
         YangNode node = manager.getDataModel("demo.yang");
     }
-}
\ No newline at end of file
+
+    /**
+     * This test case checks whether the parse tree of a YANG file is taken
+     * from the parse tree cache, until the content of the file is changed.
+     * The parse tree of the earlier content is kept in the cache.
+     */
+    @Test
+    public void getDataModelCachedParseTreeTest() throws IOException, ParserException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("}\n");
+        out.close();
+
+        YangParseTreeCache.clear();
+        manager.setParseTreeCached(true);
+        YangNode node = manager.getDataModel("demo.yang");
+        YangNode cachedNode = manager.getDataModel("demo.yang");
+        assertThat(YangParseTreeCache.size(), is(1));
+        assertThat(cachedNode.getName(), is("ONOS"));
+        assertThat(cachedNode == node, is(false));
+
+        out = new BufferedWriter(new FileWriter(file));
+        out.write("module ONOS2 {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("}\n");
+        out.close();
+
+        YangNode changedNode = manager.getDataModel("demo.yang");
+        assertThat(YangParseTreeCache.size(), is(2));
+        assertThat(changedNode.getName(), is("ONOS2"));
+        YangParseTreeCache.clear();
+    }
+
+    /**
+     * This test case checks whether the identical YANG files at different
+     * paths share one parse tree in the parse tree cache.
+     */
+    @Test
+    public void getDataModelSharedParseTreeTest() throws IOException, ParserException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("}\n");
+        out.close();
+        File otherDir = new File("demo-copy");
+        otherDir.mkdirs();
+        File otherFile = new File(otherDir, "demo.yang");
+        Files.copy(file.toPath(), otherFile.toPath(),
+                   StandardCopyOption.REPLACE_EXISTING);
+
+        YangParseTreeCache.clear();
+        manager.setParseTreeCached(true);
+        try {
+            YangNode node = manager.getDataModel("demo.yang");
+            ParseTree tree = YangParseTreeCache.getParseTree(
+                    YangParseTreeCache.getContentHash(
+                            Files.readAllBytes(file.toPath())));
+            YangNode otherNode = manager.getDataModel(otherFile.getPath());
+            assertThat(YangParseTreeCache.size(), is(1));
+            assertThat(YangParseTreeCache.getParseTree(
+                    YangParseTreeCache.getContentHash(
+                            Files.readAllBytes(otherFile.toPath()))) == tree,
+                       is(true));
+            assertThat(otherNode.getName(), is("ONOS"));
+            assertThat(otherNode == node, is(false));
+        } finally {
+            YangParseTreeCache.clear();
+            otherFile.delete();
+            otherDir.delete();
+        }
+    }
+
+    /**
+     * This test case checks whether the least recently used files are
+     * removed from the parse tree cache when its limit is exceeded.
+     */
+    @Test
+    public void getDataModelCacheLimitTest() throws IOException, ParserException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("}\n");
+        out.close();
+        File otherFile = new File("demo2.yang");
+        out = new BufferedWriter(new FileWriter(otherFile));
+        out.write("module ONOS2 {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("}\n");
+        out.close();
+
+        YangParseTreeCache.clear();
+        manager.setParseTreeCached(true);
+        try {
+            manager.getDataModel("demo.yang");
+            manager.getDataModel("demo2.yang");
+            assertThat(YangParseTreeCache.size(), is(2));
+
+            YangParseTreeCache.setCacheLimit(1);
+            assertThat(YangParseTreeCache.size(), is(1));
+            YangNode node = manager.getDataModel("demo.yang");
+            assertThat(YangParseTreeCache.size(), is(1));
+            assertThat(node.getName(), is("ONOS"));
+        } finally {
+            YangParseTreeCache.setCacheLimit(
+                    YangParseTreeCache.DEFAULT_CACHE_LIMIT);
+            YangParseTreeCache.clear();
+            otherFile.delete();
+        }
+    }
+
+    /**
+     * This test case checks whether the data model tree built while parsing
+     * the YANG file is the same as the one built by walking its parse tree.
+     */
+    @Test
+    public void getDataModelSinglePassTest() throws IOException, ParserException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("typedef type1 {\n");
+        out.write("type string;\n");
+        out.write("}\n");
+        out.write("container cont1 {\n");
+        out.write("leaf leaf1 {\n");
+        out.write("type type1;\n");
+        out.write("}\n");
+        out.write("}\n");
+        out.write("leaf leaf2 {\n");
+        out.write("type int32;\n");
+        out.write("}\n");
+        out.write("}\n");
+        out.close();
+
+        manager.setSinglePass(true);
+        YangNode node = manager.getDataModel("demo.yang");
+        assertThat(node.getName(), is("ONOS"));
+        assertThat(node.getChild().getName(), is("type1"));
+        assertThat(node.getChild().getNextSibling().getName(), is("cont1"));
+        assertThat(node.getChild().getNextSibling().getNextSibling() == null,
+                   is(true));
+        assertThat(((YangModule) node).getListOfLeaf().get(0).getName(),
+                   is("leaf2"));
+    }
+
+    /**
+     * This test case checks whether the parser exception is generated, when
+     * a body statement of the YANG file parsed in single pass is incorrect.
+     */
+    @Test(expected = ParserException.class)
+    public void getDataModelSinglePassIncorrectFileTest() throws IOException, ParserException {
+
+        out.write("module ONOS {\n");
+        out.write("yang-version 1;\n");
+        out.write("namespace urn:ietf:params:xml:ns:yang:ietf-ospf;\n");
+        out.write("prefix On;\n");
+        out.write("container cont1 {\n");
+        out.write("leaf leaf1 {\n");
+        out.write("type string\n");
+        out.write("}\n");
+        out.write("}\n");
+        out.write("}\n");
+        out.close();
+
+        manager.setSinglePass(true);
+        YangNode node = manager.getDataModel("demo.yang");
+    }
+}
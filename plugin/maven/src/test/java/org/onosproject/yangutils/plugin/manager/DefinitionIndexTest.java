@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangFeature;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangTypeDef;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaGroupingTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaModuleTranslator;
+import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaTypeDefTranslator;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for the index of definitions used by the linker.
+ */
+public class DefinitionIndexTest {
+
+    /**
+     * Checks definitions are found by name and kind, and the index follows
+     * the changes in children of the node.
+     *
+     * @throws DataModelException when fails to add child
+     */
+    @Test
+    public void processDefinitionIndex() throws DataModelException {
+        YangModule module = new YangJavaModuleTranslator();
+        module.setName("Test");
+        YangTypeDef typeDef = new YangJavaTypeDefTranslator();
+        typeDef.setName("hello");
+        module.addChild(typeDef);
+
+        assertThat(module.getTypeDef("hello") == typeDef, is(true));
+        assertThat(module.getGrouping("hello"), is(nullValue()));
+
+        YangGrouping grouping = new YangJavaGroupingTranslator();
+        grouping.setName("hello");
+        module.addChild(grouping);
+        YangTypeDef duplicate = new YangJavaTypeDefTranslator();
+        duplicate.setName("hello");
+        module.addChild(duplicate);
+
+        assertThat(module.getGrouping("hello") == grouping, is(true));
+        assertThat(module.getTypeDef("hello") == typeDef, is(true));
+
+        YangFeature feature = new YangFeature();
+        feature.setName("feature1");
+        assertThat(module.getFeature("feature1"), is(nullValue()));
+        module.addFeatureList(feature);
+        assertThat(module.getFeature("feature1") == feature, is(true));
+    }
+}
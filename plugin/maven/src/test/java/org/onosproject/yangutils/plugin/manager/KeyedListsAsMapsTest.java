@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Test cases for the keyed lists generated as maps indexed by their keys.
+ */
+public class KeyedListsAsMapsTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/keyedListsAsMaps/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String PKG = "org.onosproject.yang.gen.v1.test.test" +
+            ".test.";
+    private static final String CONT1 = PKG + "DefaultCont1";
+    private static final String LIST1 = PKG + "cont1.List1";
+    private static final String DEFAULT_LIST1 = PKG + "cont1.DefaultList1";
+    private static final String LIST1_KEYS = PKG + "cont1.List1Keys";
+
+    /**
+     * Returns the key of the list with the given name.
+     *
+     * @param loader class loader of generated code
+     * @param name   name of list entry
+     * @return key of list entry
+     * @throws Exception when fails to create key
+     */
+    private Object getKey(ClassLoader loader, String name) throws Exception {
+        Object key = loader.loadClass(LIST1_KEYS).newInstance();
+        key.getClass().getMethod("name", String.class).invoke(key, name);
+        return key;
+    }
+
+    /**
+     * Returns the list entry with the given name.
+     *
+     * @param loader class loader of generated code
+     * @param name   name of list entry
+     * @return list entry
+     * @throws Exception when fails to build list entry
+     */
+    private Object getList1(ClassLoader loader, String name) throws Exception {
+        Object builder = loader.loadClass(DEFAULT_LIST1).getMethod("builder")
+                .invoke(null);
+        builder.getClass().getMethod("name", String.class)
+                .invoke(builder, name);
+        return builder.getClass().getMethod("build").invoke(builder);
+    }
+
+    /**
+     * Checks keyed config lists are generated as maps, which keep the entries
+     * in insertion order and are looked up by key.
+     */
+    @Test
+    public void processKeyedListsAsMaps() throws Exception {
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/pstcodegen";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setKeyedListsAsMaps(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        URLClassLoader loader = new URLClassLoader(
+                new URL[]{new File(COMP).toURI().toURL()},
+                getClass().getClassLoader());
+        try {
+            Class<?> keysClass = loader.loadClass(LIST1_KEYS);
+            Class<?> listClass = loader.loadClass(LIST1);
+            Object builder = loader.loadClass(CONT1).getMethod("builder")
+                    .invoke(null);
+            Object second = getList1(loader, "b");
+            Object first = getList1(loader, "a");
+            builder.getClass().getMethod("addToList1", keysClass, listClass)
+                    .invoke(builder, getKey(loader, "b"), second);
+            builder.getClass().getMethod("addToList1", keysClass, listClass)
+                    .invoke(builder, getKey(loader, "a"), first);
+            Object cont = builder.getClass().getMethod("build").invoke(builder);
+
+            Map<?, ?> list1 = (Map<?, ?>) cont.getClass().getMethod("list1")
+                    .invoke(cont);
+            assertThat(list1.size(), is(2));
+            assertThat(list1.get(getKey(loader, "a")) == first, is(true));
+            assertThat(list1.get(getKey(loader, "c")) == null, is(true));
+            assertThat(new ArrayList<>(list1.values()).get(0) == second,
+                       is(true));
+        } finally {
+            loader.close();
+        }
+        deleteDirectory(DIR);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.io.YangPluginConfig.compileCode;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Test cases for the generated default classes which memoize their hash
+ * code.
+ */
+public class MemoizedHashCodeTest {
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+    private static final String DIR = "target/memoizedHashCode/";
+    private static final String COMP = System.getProperty("user.dir") + File
+            .separator + DIR;
+    private static final String CONT1 =
+            "org.onosproject.yang.gen.v1.test.test.test.DefaultCont1";
+
+    /**
+     * Returns a container built by its builder with the given leaf value.
+     *
+     * @param loader class loader of generated code
+     * @param value  value of leaf
+     * @return container
+     * @throws Exception when fails to build container
+     */
+    private Object getCont1(ClassLoader loader, int value) throws Exception {
+        Object builder = loader.loadClass(CONT1).getMethod("builder")
+                .invoke(null);
+        builder.getClass().getMethod("leaf1", int.class).invoke(builder, value);
+        return builder.getClass().getMethod("build").invoke(builder);
+    }
+
+    /**
+     * Checks memoized hash code and equals of generated default classes.
+     */
+    @Test
+    public void processMemoizedHashCode() throws Exception {
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/pstcodegen";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setMemoizedHashCode(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        URLClassLoader loader = new URLClassLoader(
+                new URL[]{new File(COMP).toURI().toURL()},
+                getClass().getClassLoader());
+        try {
+            Object cont = getCont1(loader, 1);
+            Object same = getCont1(loader, 1);
+            Object other = getCont1(loader, 2);
+            assertThat(cont.hashCode() == same.hashCode(), is(true));
+            assertThat(cont.hashCode() == cont.hashCode(), is(true));
+            assertThat(cont.equals(same), is(true));
+            assertThat(cont.equals(other), is(false));
+
+            // Objects not created by builder do not keep their hash code.
+            Constructor<?> constructor = loader.loadClass(CONT1)
+                    .getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Object created = constructor.newInstance();
+            int hashCode = created.hashCode();
+            Field leaf1 = created.getClass().getDeclaredField("leaf1");
+            leaf1.setAccessible(true);
+            leaf1.setInt(created, 1);
+            assertThat(created.hashCode() == hashCode, is(false));
+        } finally {
+            loader.close();
+        }
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks objects built with memoized hash code keep their own
+     * unmodifiable collections.
+     */
+    @Test
+    public void processBuiltCollections() throws Exception {
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/pstcodegen";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setMemoizedHashCode(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+
+        URLClassLoader loader = new URLClassLoader(
+                new URL[]{new File(COMP).toURI().toURL()},
+                getClass().getClassLoader());
+        try {
+            Object builder = loader.loadClass(CONT1).getMethod("builder")
+                    .invoke(null);
+            builder.getClass().getMethod("addToLeafList1", Integer.class)
+                    .invoke(builder, 1);
+            Object cont = builder.getClass().getMethod("build")
+                    .invoke(builder);
+            int hashCode = cont.hashCode();
+
+            // Builder changed after build is not seen by the built object.
+            builder.getClass().getMethod("addToLeafList1", Integer.class)
+                    .invoke(builder, 2);
+            List<?> leafList1 = (List<?>) cont.getClass()
+                    .getMethod("leafList1").invoke(cont);
+            assertThat(leafList1.size(), is(1));
+            assertThat(cont.hashCode() == hashCode, is(true));
+
+            boolean isModified;
+            try {
+                leafList1.clear();
+                isModified = true;
+            } catch (UnsupportedOperationException e) {
+                isModified = false;
+            }
+            assertThat(isModified, is(false));
+
+            // Leaf flags are not part of the memoized hash code.
+            BitSet flags = (BitSet) cont.getClass()
+                    .getMethod("valueLeafFlags").invoke(cont);
+            flags.set(1);
+            assertThat(cont.hashCode() == hashCode, is(true));
+        } finally {
+            loader.close();
+        }
+        deleteDirectory(DIR);
+    }
+}
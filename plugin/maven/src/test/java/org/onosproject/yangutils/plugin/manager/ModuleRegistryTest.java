@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangModuleRegistry;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangRevision;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaModuleTranslator;
+
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.findReferredNode;
+
+/**
+ * Test cases for the registry of modules used by the linker.
+ */
+public class ModuleRegistryTest {
+
+    private static final String MODULE = "Test";
+
+    /**
+     * Returns a module with the given revision.
+     *
+     * @param revDate revision date
+     * @return module
+     */
+    private YangModule getModule(Date revDate) {
+        YangModule module = new YangJavaModuleTranslator();
+        module.setName(MODULE);
+        YangRevision revision = new YangRevision();
+        revision.setRevDate(revDate);
+        module.setRevision(revision);
+        return module;
+    }
+
+    /**
+     * Checks an import with revision is linked with the module of the same
+     * revision, and an import without revision with the first module.
+     *
+     * @throws DataModelException when module is not found
+     */
+    @Test
+    public void processImportWithRevision() throws DataModelException {
+        Date oldRevision = new Date(1000000L);
+        Date newRevision = new Date(2000000L);
+        YangModule oldModule = getModule(oldRevision);
+        YangModule newModule = getModule(newRevision);
+
+        YangModuleRegistry registry = new YangModuleRegistry();
+        registry.addNode(oldModule);
+        registry.addNode(newModule);
+
+        assertThat(registry.getNode(MODULE) == oldModule, is(true));
+        assertThat(registry.getNode(MODULE, newRevision) == newModule,
+                   is(true));
+        assertThat(registry.getNode("Other"), is(nullValue()));
+
+        YangImport yangImport = new YangImport();
+        yangImport.setModuleName(MODULE);
+        yangImport.setRevision(newRevision);
+        yangImport.addReferenceToImport(registry);
+        assertThat(yangImport.getImportedNode() == newModule, is(true));
+
+        yangImport = new YangImport();
+        yangImport.setModuleName(MODULE);
+        yangImport.addReferenceToImport(registry);
+        assertThat(yangImport.getImportedNode() == oldModule, is(true));
+    }
+
+    /**
+     * Checks an import is linked in the same way when the modules are given
+     * as a node set.
+     *
+     * @throws DataModelException when module is not found
+     */
+    @Test
+    public void processImportWithNodeSet() throws DataModelException {
+        Date oldRevision = new Date(1000000L);
+        Date newRevision = new Date(2000000L);
+        YangModule oldModule = getModule(oldRevision);
+        YangModule newModule = getModule(newRevision);
+
+        Set<YangNode> nodes = new LinkedHashSet<>();
+        nodes.add(oldModule);
+        nodes.add(newModule);
+        assertThat(findReferredNode(nodes, MODULE) == oldModule, is(true));
+
+        YangImport yangImport = new YangImport();
+        yangImport.setModuleName(MODULE);
+        yangImport.setRevision(newRevision);
+        yangImport.addReferenceToImport(nodes);
+        assertThat(yangImport.getImportedNode() == newModule, is(true));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.linker.impl.YangLinkerLayer;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Test cases for inter-file linking of YANG files on multiple linker threads.
+ */
+public class ParallelLinkingTest {
+
+    private static final String SERIAL_DIR = "target/seriallinking/";
+    private static final String PARALLEL_DIR = "target/parallellinking/";
+
+    /**
+     * Links the YANG files of a directory and generates Java code for them.
+     *
+     * @param dir         YANG files directory
+     * @param codeGenDir  code generation directory
+     * @param threadCount number of linker threads
+     */
+    private void generateCode(String dir, String codeGenDir, int threadCount)
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.setLinkerThreadCount(threadCount);
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(dir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        int linkedFiles = 0;
+        for (YangLinkerLayer layer : utilManager.getLinkerLayers()) {
+            assertThat(layer.getGroupCount() > 0, is(true));
+            linkedFiles += layer.getNodes().size();
+        }
+        assertThat(linkedFiles, is(threadCount > 1 ?
+                utilManager.getYangFileInfoSet().size() : 0));
+
+        deleteDirectory(codeGenDir);
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(codeGenDir);
+        utilManager.translateToJava(yangPluginConfig);
+    }
+
+    /**
+     * Adds the content of the files in a directory tree, keyed by path
+     * relative to the root directory.
+     *
+     * @param root  root directory
+     * @param dir   directory
+     * @param files content of files
+     */
+    private void addFiles(File root, File dir, Map<String, byte[]> files)
+            throws IOException {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                addFiles(root, child, files);
+            } else {
+                files.put(root.toPath().relativize(child.toPath()).toString(),
+                          Files.readAllBytes(child.toPath()));
+            }
+        }
+    }
+
+    /**
+     * Returns the content of the files in a directory tree.
+     *
+     * @param dir directory
+     * @return content of files
+     */
+    private Map<String, byte[]> getFiles(String dir) throws IOException {
+        Map<String, byte[]> files = new TreeMap<>();
+        addFiles(new File(dir), new File(dir), files);
+        return files;
+    }
+
+    /**
+     * Checks the code generated after linking on multiple threads is same
+     * as the code generated after linking on a single thread.
+     *
+     * @param dir YANG files directory
+     */
+    private void checkParallelLinking(String dir)
+            throws IOException, MojoExecutionException {
+        generateCode(dir, SERIAL_DIR, 1);
+        generateCode(dir, PARALLEL_DIR, 4);
+
+        Map<String, byte[]> serialFiles = getFiles(SERIAL_DIR);
+        Map<String, byte[]> parallelFiles = getFiles(PARALLEL_DIR);
+        assertThat(serialFiles.isEmpty(), is(false));
+        assertThat(parallelFiles.keySet(), is(serialFiles.keySet()));
+        for (Map.Entry<String, byte[]> file : serialFiles.entrySet()) {
+            assertThat(file.getKey(), Arrays.equals(
+                    parallelFiles.get(file.getKey()), file.getValue()),
+                       is(true));
+        }
+
+        deleteDirectory(SERIAL_DIR);
+        deleteDirectory(PARALLEL_DIR);
+    }
+
+    /**
+     * Checks parallel linking of inter file IETF models.
+     */
+    @Test
+    public void processParallelLinking()
+            throws IOException, MojoExecutionException {
+        checkParallelLinking("src/test/resources/interfileietf");
+    }
+
+    /**
+     * Checks parallel linking of models augmenting other models.
+     */
+    @Test
+    public void processParallelAugmentLinking()
+            throws IOException, MojoExecutionException {
+        checkParallelLinking("src/test/resources/augmentTranslator");
+    }
+
+    /**
+     * Checks parallel linking of modules with sub modules.
+     */
+    @Test
+    public void processParallelSubModuleLinking()
+            throws IOException, MojoExecutionException {
+        checkParallelLinking("src/test/resources/interfileuseswithinclude");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Test cases for parsing of YANG files on multiple parser threads.
+ */
+public class ParallelParsingTest {
+
+    private static final String DIR = "src/test/resources/interfileietf";
+
+    /**
+     * Checks parallel parsing produces the same data model as sequential
+     * parsing and can be linked and translated.
+     */
+    @Test
+    public void processParallelParsing()
+            throws IOException, MojoExecutionException {
+
+        YangUtilManager serialManager = new YangUtilManager();
+        serialManager.createYangFileInfoSet(YangFileScanner.getYangFiles(DIR));
+        serialManager.parseYangFileInfoSet();
+
+        Map<String, String> serialModules = new HashMap<>();
+        for (YangFileInfo fileInfo : serialManager.getYangFileInfoSet()) {
+            serialModules.put(fileInfo.getYangFileName(),
+                              fileInfo.getRootNode().getName());
+        }
+
+        YangUtilManager parallelManager = new YangUtilManager();
+        parallelManager.setParserThreadCount(4);
+        parallelManager.createYangFileInfoSet(YangFileScanner.getYangFiles(DIR));
+        parallelManager.parseYangFileInfoSet();
+
+        assertThat(parallelManager.getYangFileInfoSet().size(),
+                   is(serialModules.size()));
+        for (YangFileInfo fileInfo : parallelManager.getYangFileInfoSet()) {
+            YangNode node = fileInfo.getRootNode();
+            assertThat(node, is(notNullValue()));
+            assertThat(node.getName(),
+                       is(serialModules.get(fileInfo.getYangFileName())));
+        }
+
+        parallelManager.resolveDependenciesUsingLinker();
+
+        deleteDirectory("target/parallelparsing/");
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir("target/parallelparsing/");
+        parallelManager.translateToJava(yangPluginConfig);
+        deleteDirectory("target/parallelparsing/");
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Test cases for generation of Java code on multiple translator threads.
+ */
+public class ParallelTranslationTest {
+
+    private static final String SERIAL_DIR = "target/serialtranslation/";
+    private static final String PARALLEL_DIR = "target/paralleltranslation/";
+
+    /**
+     * Generates Java code for the YANG files of a directory.
+     *
+     * @param dir         YANG files directory
+     * @param codeGenDir  code generation directory
+     * @param threadCount number of translator threads
+     */
+    private void generateCode(String dir, String codeGenDir, int threadCount)
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.setTranslatorThreadCount(threadCount);
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(dir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        deleteDirectory(codeGenDir);
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(codeGenDir);
+        utilManager.translateToJava(yangPluginConfig);
+    }
+
+    /**
+     * Adds the content of the files in a directory tree, keyed by path
+     * relative to the root directory.
+     *
+     * @param root  root directory
+     * @param dir   directory
+     * @param files content of files
+     */
+    private void addFiles(File root, File dir, Map<String, byte[]> files)
+            throws IOException {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                addFiles(root, child, files);
+            } else {
+                files.put(root.toPath().relativize(child.toPath()).toString(),
+                          Files.readAllBytes(child.toPath()));
+            }
+        }
+    }
+
+    /**
+     * Returns the content of the files in a directory tree.
+     *
+     * @param dir directory
+     * @return content of files
+     */
+    private Map<String, byte[]> getFiles(String dir) throws IOException {
+        Map<String, byte[]> files = new TreeMap<>();
+        addFiles(new File(dir), new File(dir), files);
+        return files;
+    }
+
+    /**
+     * Checks the code generated on multiple threads is same as the code
+     * generated on a single thread.
+     *
+     * @param dir YANG files directory
+     */
+    private void checkParallelTranslation(String dir)
+            throws IOException, MojoExecutionException {
+        generateCode(dir, SERIAL_DIR, 1);
+        generateCode(dir, PARALLEL_DIR, 4);
+
+        Map<String, byte[]> serialFiles = getFiles(SERIAL_DIR);
+        Map<String, byte[]> parallelFiles = getFiles(PARALLEL_DIR);
+        assertThat(serialFiles.isEmpty(), is(false));
+        assertThat(parallelFiles.keySet(), is(serialFiles.keySet()));
+        for (Map.Entry<String, byte[]> file : serialFiles.entrySet()) {
+            assertThat(file.getKey(), Arrays.equals(
+                    parallelFiles.get(file.getKey()), file.getValue()),
+                       is(true));
+        }
+
+        deleteDirectory(SERIAL_DIR);
+        deleteDirectory(PARALLEL_DIR);
+    }
+
+    /**
+     * Checks parallel translation of inter file IETF models.
+     */
+    @Test
+    public void processParallelTranslation()
+            throws IOException, MojoExecutionException {
+        checkParallelTranslation("src/test/resources/interfileietf");
+    }
+
+    /**
+     * Checks parallel translation of models augmenting other models.
+     */
+    @Test
+    public void processParallelAugmentTranslation()
+            throws IOException, MojoExecutionException {
+        checkParallelTranslation("src/test/resources/augmentTranslator");
+    }
+
+    /**
+     * Checks parallel translation of modules with sub modules.
+     */
+    @Test
+    public void processParallelSubModuleTranslation()
+            throws IOException, MojoExecutionException {
+        checkParallelTranslation("src/test/resources/interfileuseswithinclude");
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangPatternRestriction;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.utils.YangRegexUtils.getPattern;
+import static org.onosproject.yangutils.datamodel.utils.YangRegexUtils.toJavaRegex;
+
+/**
+ * Test cases for the compiled patterns of pattern restrictions.
+ */
+public class PatternRestrictionTest {
+
+    private static final String IPV4_ADDRESS =
+            "(([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])\\.){3}" +
+                    "([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])" +
+                    "(%[\\p{N}\\p{L}]+)?";
+
+    /**
+     * Returns true if the value matches the YANG regular expression.
+     *
+     * @param yangRegex YANG regular expression
+     * @param value     value
+     * @return true if the value matches
+     */
+    private boolean matches(String yangRegex, String value) {
+        return getPattern(yangRegex).matcher(value).matches();
+    }
+
+    /**
+     * Checks the YANG regular expression syntax is translated to Java.
+     */
+    @Test
+    public void processRegexTranslation() {
+        assertThat(toJavaRegex(IPV4_ADDRESS), is(IPV4_ADDRESS));
+        assertThat(toJavaRegex("^a$"), is("\\^a\\$"));
+        assertThat(toJavaRegex("[^a^]"), is("[^a\\^]"));
+        assertThat(toJavaRegex("[a-z-[aeiou]]"), is("[a-z&&[^aeiou]]"));
+        assertThat(toJavaRegex("[a-z-[^aeiou]]"), is("[a-z&&[aeiou]]"));
+        assertThat(toJavaRegex("\\p{IsBasicLatin}+"),
+                   is("\\p{InBasicLatin}+"));
+
+        assertThat(matches("^a$", "^a$"), is(true));
+        assertThat(matches("^a$", "a"), is(false));
+        assertThat(matches("[a-z-[aeiou]]+", "xyz"), is(true));
+        assertThat(matches("[a-z-[aeiou]]+", "xaz"), is(false));
+        assertThat(matches("[a&&b]", "&"), is(true));
+        assertThat(matches("\\i\\c*", "_name-1.x"), is(true));
+        assertThat(matches("\\i\\c*", "1name"), is(false));
+        assertThat(matches("[\\i-[:]][\\c-[:]]*", "a:b"), is(false));
+        assertThat(matches("\\d+", "\u0661\u0662"), is(true));
+        assertThat(matches("\\s", "\f"), is(false));
+        assertThat(matches(IPV4_ADDRESS, "192.168.1.1"), is(true));
+        assertThat(matches(IPV4_ADDRESS, "192.168.1.256"), is(false));
+    }
+
+    /**
+     * Checks patterns are compiled once and the compiled patterns follow
+     * the changes in patterns of the restriction.
+     */
+    @Test
+    public void processCompiledPatterns() {
+        YangPatternRestriction restriction = new YangPatternRestriction();
+        restriction.addPattern("[a-z]+");
+        List<Pattern> patterns = restriction.getCompiledPatterns();
+        assertThat(patterns.size(), is(1));
+        assertThat(restriction.getCompiledPatterns() == patterns, is(true));
+        assertThat(getPattern("[a-z]+") == patterns.get(0), is(true));
+        assertThat(restriction.isMatching("abc"), is(true));
+        assertThat(restriction.isMatching("123"), is(false));
+
+        restriction.addPattern("[0-9]+");
+        assertThat(restriction.getCompiledPatterns().size(), is(2));
+        assertThat(restriction.isMatching("123"), is(true));
+        assertThat(restriction.isMatching("abc123"), is(false));
+    }
+}
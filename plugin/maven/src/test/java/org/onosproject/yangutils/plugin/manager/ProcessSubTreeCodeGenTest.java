@@ -60,4 +60,27 @@ public class ProcessSubTreeCodeGenTest {
         deleteDirectory(DIR);
     }
 
+    /**
+     * Checks pst translation with lazily built filtering results should not
+     * result in any exception.
+     *
+     * @throws MojoExecutionException
+     */
+    @Test
+    public void processLazyTranslator() throws IOException, ParserException, MojoExecutionException {
+
+        deleteDirectory(DIR);
+        String searchDir = "src/test/resources/pstcodegen";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        yangPluginConfig.setLazySubtreeFiltering(true);
+        utilManager.translateToJava(yangPluginConfig);
+        compileCode(COMP);
+        deleteDirectory(DIR);
+    }
 }
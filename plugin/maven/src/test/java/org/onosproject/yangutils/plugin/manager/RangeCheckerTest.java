@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangDecimal64;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangRangeInterval;
+import org.onosproject.yangutils.datamodel.YangRangeRestriction;
+import org.onosproject.yangutils.datamodel.YangType;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangBuiltInDataTypeInfo;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangInt8;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.YangUint64;
+import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaLeafTranslator;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.DECIMAL64;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT64;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.INT8;
+import static org.onosproject.yangutils.datamodel.utils.builtindatatype.YangDataTypes.UINT64;
+
+/**
+ * Test cases for validation of integer and decimal64 values against range
+ * restrictions.
+ */
+public class RangeCheckerTest {
+
+    /**
+     * Returns a leaf of the given type.
+     *
+     * @param dataType     data type
+     * @param extendedInfo extended info of the type
+     * @param <T>          type of extended info
+     * @return leaf
+     */
+    private <T> YangLeaf getLeaf(YangDataTypes dataType, T extendedInfo) {
+        YangType<T> type = new YangType<>();
+        type.setDataType(dataType);
+        type.setDataTypeExtendedInfo(extendedInfo);
+        YangLeaf leaf = new YangJavaLeafTranslator();
+        leaf.setName("leaf");
+        leaf.setDataType(type);
+        return leaf;
+    }
+
+    /**
+     * Returns true if the value is valid for the leaf.
+     *
+     * @param leaf  leaf
+     * @param value value
+     * @return true if the value is valid
+     */
+    private boolean isValid(YangLeaf leaf, String value) {
+        try {
+            leaf.isValueValid(value);
+            return true;
+        } catch (DataModelException | DataTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds an interval to the range restriction.
+     *
+     * @param restriction range restriction
+     * @param start       start value
+     * @param end         end value
+     * @throws DataModelException when interval is not in ascending order
+     */
+    private void addInterval(YangRangeRestriction restriction,
+                             YangBuiltInDataTypeInfo start,
+                             YangBuiltInDataTypeInfo end)
+            throws DataModelException {
+        YangRangeInterval interval = new YangRangeInterval<>();
+        interval.setStartValue(start);
+        interval.setEndValue(end);
+        restriction.addRangeRestrictionInterval(interval);
+    }
+
+    /**
+     * Checks integer values against range restrictions and the value space
+     * of the type.
+     *
+     * @throws DataModelException when fails to add interval
+     */
+    @Test
+    public void processIntegerRange() throws DataModelException {
+        YangRangeRestriction<YangInt8> int8Range = new YangRangeRestriction<>();
+        addInterval(int8Range, new YangInt8("1"), new YangInt8("10"));
+        addInterval(int8Range, new YangInt8("20"), new YangInt8("max"));
+        YangLeaf int8Leaf = getLeaf(INT8, int8Range);
+
+        assertThat(isValid(int8Leaf, "1"), is(true));
+        assertThat(isValid(int8Leaf, "+10"), is(true));
+        assertThat(isValid(int8Leaf, "127"), is(true));
+        assertThat(isValid(int8Leaf, "0"), is(false));
+        assertThat(isValid(int8Leaf, "15"), is(false));
+        assertThat(isValid(int8Leaf, "128"), is(false));
+        assertThat(isValid(int8Leaf, "-"), is(false));
+        assertThat(isValid(int8Leaf, "1.0"), is(false));
+        assertThat(isValid(int8Leaf, "max"), is(true));
+
+        YangRangeRestriction<YangUint64> uint64Range =
+                new YangRangeRestriction<>();
+        addInterval(uint64Range, new YangUint64("10"),
+                    new YangUint64("9223372036854775807"));
+        addInterval(uint64Range, new YangUint64("18446744073709551610"),
+                    new YangUint64("max"));
+        YangLeaf uint64Leaf = getLeaf(UINT64, uint64Range);
+
+        assertThat(isValid(uint64Leaf, "10"), is(true));
+        assertThat(isValid(uint64Leaf, "9223372036854775807"), is(true));
+        assertThat(isValid(uint64Leaf, "9223372036854775808"), is(false));
+        assertThat(isValid(uint64Leaf, "18446744073709551615"), is(true));
+        assertThat(isValid(uint64Leaf, "18446744073709551616"), is(false));
+        assertThat(isValid(uint64Leaf, "9"), is(false));
+        assertThat(isValid(uint64Leaf, "-1"), is(false));
+
+        YangLeaf int64Leaf = getLeaf(INT64, null);
+        assertThat(isValid(int64Leaf, "-9223372036854775808"), is(true));
+        assertThat(isValid(int64Leaf, "9223372036854775807"), is(true));
+        assertThat(isValid(int64Leaf, "9223372036854775808"), is(false));
+        assertThat(isValid(int64Leaf, "99999999999999999999"), is(false));
+    }
+
+    /**
+     * Checks decimal64 values against range restrictions and fraction
+     * digits.
+     *
+     * @throws DataModelException when fails to add interval
+     */
+    @Test
+    public void processDecimal64Range() throws DataModelException {
+        YangRangeRestriction range = new YangRangeRestriction();
+        addInterval(range, new YangDecimal64(new BigDecimal("1.5")),
+                    new YangDecimal64(new BigDecimal("10.25")));
+        YangDecimal64<YangRangeRestriction> decimal64 = new YangDecimal64<>();
+        decimal64.setFractionDigit(2);
+        decimal64.setRangeRestrictedExtendedInfo(range);
+        YangLeaf leaf = getLeaf(DECIMAL64, decimal64);
+
+        assertThat(isValid(leaf, "1.5"), is(true));
+        assertThat(isValid(leaf, "2"), is(true));
+        assertThat(isValid(leaf, "10.25"), is(true));
+        assertThat(isValid(leaf, "-1.5"), is(false));
+        assertThat(isValid(leaf, "10.26"), is(false));
+        assertThat(isValid(leaf, "1.500"), is(true));
+        assertThat(isValid(leaf, "1.499"), is(false));
+        assertThat(isValid(leaf, "1.2.3"), is(false));
+
+        YangDecimal64<YangRangeRestriction> unrestricted =
+                new YangDecimal64<>();
+        unrestricted.setFractionDigit(18);
+        YangLeaf unrestrictedLeaf = getLeaf(DECIMAL64, unrestricted);
+        assertThat(isValid(unrestrictedLeaf, "-9.223372036854775808"),
+                   is(true));
+        assertThat(isValid(unrestrictedLeaf, "0.5"), is(true));
+        assertThat(isValid(unrestrictedLeaf, "10"), is(false));
+    }
+}
@@ -20,12 +20,15 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.Test;
 import org.onosproject.yangutils.datamodel.YangLeaf;
 import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangModule;
 import org.onosproject.yangutils.datamodel.YangNode;
 import org.onosproject.yangutils.datamodel.YangSchemaNode;
 import org.onosproject.yangutils.datamodel.YangSchemaNodeContextInfo;
 import org.onosproject.yangutils.datamodel.YangSchemaNodeIdentifier;
 import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.YangNamespaceIds;
 import org.onosproject.yangutils.parser.exceptions.ParserException;
+import org.onosproject.yangutils.translator.tojava.javamodel.YangJavaModuleTranslator;
 import org.onosproject.yangutils.utils.io.YangPluginConfig;
 import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
 
@@ -38,6 +41,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.utils.YangNamespaceIds.UNKNOWN_NAMESPACE_ID;
 import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
 
 /**
@@ -215,4 +219,111 @@ public class SchemaNodeTest {
 
         rootNode.getChild().getNotificationSchemaNode("TESTNOTIFICATION1");
     }
+
+    /**
+     * Checks lookup of child schema nodes by name and namespace id.
+     *
+     * @throws IOException            a violation in IO rule
+     * @throws ParserException        a violation in parser rule
+     * @throws MojoExecutionException a violation in mojo rule
+     * @throws DataModelException     a violation in data model rule
+     */
+    @Test
+    public void processChildSchemaLookup()
+            throws IOException, ParserException,
+            MojoExecutionException, DataModelException {
+
+        deleteDirectory("target/schemaMap/");
+        String searchDir = "src/test/resources/schemaMap";
+        utilManager
+                .createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir("target/schemaMap/");
+        utilManager.translateToJava(yangPluginConfig);
+
+        YangNode rootNode = utilManager.getYangNodeSet().iterator().next();
+        YangNamespaceIds namespaceIds = utilManager.getNamespaceIds();
+        int namespaceId = namespaceIds.getNamespaceId("http://huawei.com");
+        assertThat(namespaceId == UNKNOWN_NAMESPACE_ID, is(false));
+        assertThat(namespaceIds.getNamespaceId("Testmodule"), is(namespaceId));
+        assertThat(rootNode.getYangSchemaNodeIdentifier().getNameSpaceId(),
+                   is(namespaceId));
+
+        YangNode container = rootNode.getChild();
+        assertThat(rootNode.findChildSchema("testcontainer", namespaceId)
+                           .getSchemaNode() == container, is(true));
+        assertThat(rootNode.findChildSchema("testcontainer", namespaceId + 1),
+                   is(nullValue()));
+        assertThat(rootNode.findChildSchema("unknown", namespaceId),
+                   is(nullValue()));
+
+        YangSchemaNodeContextInfo pretzel =
+                container.findChildSchema("pretzel", namespaceId);
+        assertThat(pretzel.getContextSwitchedNode() == container.getChild(),
+                   is(true));
+        YangSchemaNodeContextInfo leaf =
+                container.findChildSchema("testleaf", namespaceId);
+        assertThat(leaf.getSchemaNode().findChildSchema("testleaf",
+                                                        namespaceId),
+                   is(nullValue()));
+
+        YangSchemaNodeIdentifier first = new YangSchemaNodeIdentifier();
+        first.setName("testleaf");
+        first.setNameSpace(rootNode.getNameSpace());
+        YangSchemaNodeIdentifier second = new YangSchemaNodeIdentifier();
+        second.setName("testleaf");
+        second.setNameSpace(container.getNameSpace());
+        assertThat(first.equals(second), is(true));
+        assertThat(first.hashCode(), is(second.hashCode()));
+        second.setName("pretzel");
+        assertThat(first.hashCode() == second.hashCode(), is(false));
+
+        deleteDirectory("target/schemaMap/");
+    }
+
+    /**
+     * Returns a module with the given name and namespace URI.
+     *
+     * @param name name of module
+     * @param uri  namespace URI
+     * @return module
+     */
+    private YangModule getModule(String name, String uri) {
+        YangModule module = new YangJavaModuleTranslator();
+        module.setName(name);
+        module.setModuleNamespace(uri);
+        return module;
+    }
+
+    /**
+     * Checks namespace ids are assigned by namespace URI within a set of
+     * namespace ids, and are not assigned by lookups.
+     */
+    @Test
+    public void processNamespaceIds() {
+        YangModule first = getModule("module", "urn:first");
+        YangModule second = getModule("module", "urn:second");
+        YangModule copy = getModule("copy", "urn:first");
+        YangModule unlinked = getModule("unlinked", "urn:unlinked");
+
+        assertThat(YangNamespaceIds.getNamespaceId(unlinked),
+                   is(UNKNOWN_NAMESPACE_ID));
+
+        YangNamespaceIds namespaceIds = new YangNamespaceIds();
+        int firstId = namespaceIds.addNamespace(first);
+        int secondId = namespaceIds.addNamespace(second);
+        assertThat(firstId == secondId, is(false));
+        assertThat(namespaceIds.addNamespace(copy), is(firstId));
+        assertThat(YangNamespaceIds.getNamespaceId(second), is(secondId));
+        assertThat(namespaceIds.getNamespaceId("urn:second"), is(secondId));
+        assertThat(namespaceIds.getNamespaceId("module"), is(firstId));
+
+        assertThat(namespaceIds.getNamespaceId("urn:unlinked"),
+                   is(UNKNOWN_NAMESPACE_ID));
+        assertThat(YangNamespaceIds.getNamespaceId(unlinked),
+                   is(UNKNOWN_NAMESPACE_ID));
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangBits;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.YangSchemaSnapshot;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for the frozen snapshot of linked schema trees.
+ */
+public class SchemaSnapshotTest {
+
+    private static final String MODULE = "TypeValidator";
+    private static final int THREADS = 4;
+    private static final int ITERATIONS = 2000;
+
+    /**
+     * Returns the snapshot of the linked type validator model.
+     *
+     * @return schema snapshot
+     */
+    private YangSchemaSnapshot getSnapshot()
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(
+                "src/test/resources/typevalidator"));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        List<YangNode> nodes = new ArrayList<>();
+        for (YangFileInfo fileInfo : utilManager.getYangFileInfoSet()) {
+            nodes.add(fileInfo.getRootNode());
+        }
+        return YangSchemaSnapshot.freeze(nodes);
+    }
+
+    /**
+     * Returns the leaf of the container of the module.
+     *
+     * @param module module
+     * @param name   name of leaf
+     * @return leaf
+     */
+    private YangLeaf getLeaf(YangNode module, String name) {
+        YangNode node = module.getChild();
+        while (!(node instanceof YangContainer)) {
+            node = node.getNextSibling();
+        }
+        for (YangLeaf leaf : ((YangContainer) node).getListOfLeaf()) {
+            if (leaf.getName().equals(name)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if the value is valid for the leaf.
+     *
+     * @param leaf  leaf
+     * @param value value
+     * @return true if the value is valid
+     */
+    private boolean isValid(YangLeaf leaf, String value) {
+        try {
+            leaf.isValueValid(value);
+            return true;
+        } catch (DataModelException | DataTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks frozen nodes cannot be relinked and bits values are parsed
+     * without changing the type.
+     */
+    @Test
+    public void processFrozenSchema()
+            throws IOException, MojoExecutionException {
+        YangSchemaSnapshot snapshot = getSnapshot();
+        YangNode module = snapshot.getNode(MODULE);
+        assertThat(module.isFrozen(), is(true));
+        assertThat(snapshot.getRootNodes().size(), is(1));
+
+        boolean isRelinked;
+        try {
+            module.setChild(null);
+            isRelinked = true;
+        } catch (IllegalStateException e) {
+            isRelinked = false;
+        }
+        assertThat(isRelinked, is(false));
+
+        YangBits bits = (YangBits) getLeaf(module, "flags").getDataType()
+                .getDataTypeExtendedInfo();
+        YangBits value = bits.fromString("one two");
+        assertThat(value.getBitDataSet().cardinality(), is(2));
+        assertThat(bits.getBitDataSet().isEmpty(), is(true));
+    }
+
+    /**
+     * Checks values are validated concurrently on a frozen schema.
+     */
+    @Test
+    public void processConcurrentValidation() throws Exception {
+        YangNode module = getSnapshot().getNode(MODULE);
+        YangLeaf percent = getLeaf(module, "percent");
+        YangLeaf name = getLeaf(module, "name");
+        YangLeaf state = getLeaf(module, "state");
+        YangLeaf flags = getLeaf(module, "flags");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                boolean isCorrect = true;
+                for (int j = 0; j < ITERATIONS; j++) {
+                    isCorrect &= isValid(percent, "7")
+                            && !isValid(percent, "70")
+                            && isValid(name, "abc")
+                            && !isValid(name, "a1")
+                            && isValid(state, "up")
+                            && !isValid(state, "left")
+                            && isValid(flags, "two one")
+                            && !isValid(flags, "three");
+                }
+                return isCorrect;
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(), is(true));
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Checks decimal64 values which the compiled validator rejects are
+     * validated concurrently on a frozen schema, through the fraction-digits
+     * value ranges shared by all threads.
+     */
+    @Test
+    public void processConcurrentDecimal64Validation() throws Exception {
+        YangLeaf ratio = getLeaf(getSnapshot().getNode(MODULE), "ratio");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                boolean isCorrect = true;
+                for (int j = 0; j < ITERATIONS; j++) {
+                    isCorrect &= isValid(ratio, "12.5")
+                            && !isValid(ratio, "1000000000000000000000")
+                            && !isValid(ratio, "-1000000000000000000000")
+                            && !isValid(ratio, "ratio");
+                }
+                return isCorrect;
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(), is(true));
+        }
+        executor.shutdown();
+    }
+}
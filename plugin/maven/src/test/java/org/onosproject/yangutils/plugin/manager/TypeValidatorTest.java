@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangContainer;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.exceptions.DataModelException;
+import org.onosproject.yangutils.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for validation of values with the compiled validators of
+ * types.
+ */
+public class TypeValidatorTest {
+
+    /**
+     * Returns true if the value is valid for the leaf.
+     *
+     * @param leaf  leaf
+     * @param value value
+     * @return true if the value is valid
+     */
+    private boolean isValid(YangLeaf leaf, String value) {
+        try {
+            leaf.isValueValid(value);
+            return true;
+        } catch (DataModelException | DataTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks values of linked leaves of derived, union, bits and empty
+     * types, twice so that the reused validators are checked as well.
+     */
+    @Test
+    public void processTypeValidation()
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(
+                "src/test/resources/typevalidator"));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangNode module = utilManager.getYangFileInfoSet().iterator().next()
+                .getRootNode();
+        YangNode container = module.getChild();
+        while (!(container instanceof YangContainer)) {
+            container = container.getNextSibling();
+        }
+        Map<String, YangLeaf> leaves = new HashMap<>();
+        for (YangLeaf leaf : ((YangContainer) container).getListOfLeaf()) {
+            leaves.put(leaf.getName(), leaf);
+        }
+        YangLeaf percent = leaves.get("percent");
+        YangLeaf name = leaves.get("name");
+        YangLeaf state = leaves.get("state");
+        YangLeaf flags = leaves.get("flags");
+        YangLeaf present = leaves.get("present");
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(isValid(percent, "10"), is(true));
+            assertThat(isValid(percent, "11"), is(false));
+            assertThat(isValid(percent, "x"), is(false));
+
+            assertThat(isValid(name, "abc"), is(true));
+            assertThat(isValid(name, "abcdefghi"), is(false));
+            assertThat(isValid(name, "ABC"), is(false));
+
+            assertThat(isValid(state, "-5"), is(true));
+            assertThat(isValid(state, "down"), is(true));
+            assertThat(isValid(state, "200"), is(false));
+            assertThat(isValid(state, "left"), is(false));
+
+            assertThat(isValid(flags, "one"), is(true));
+            assertThat(isValid(flags, " one two "), is(true));
+            assertThat(isValid(flags, "one three"), is(false));
+
+            assertThat(isValid(present, ""), is(true));
+            assertThat(isValid(present, "x"), is(false));
+        }
+    }
+}
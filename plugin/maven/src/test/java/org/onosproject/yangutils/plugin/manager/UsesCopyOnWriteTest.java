@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangAugment;
+import org.onosproject.yangutils.datamodel.YangAugmentableNode;
+import org.onosproject.yangutils.datamodel.YangGrouping;
+import org.onosproject.yangutils.datamodel.YangLeaf;
+import org.onosproject.yangutils.datamodel.YangLeavesHolder;
+import org.onosproject.yangutils.datamodel.YangMust;
+import org.onosproject.yangutils.datamodel.YangNamespace;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for the nodes cloned from groupings, which share the state of
+ * the grouping definition until it is written for the cloned node.
+ */
+public class UsesCopyOnWriteTest {
+
+    /**
+     * Returns the nodes of the data model trees, except the grouping
+     * definitions.
+     *
+     * @param roots root nodes
+     * @return nodes of data model trees
+     */
+    private static List<YangNode> getDataNodes(Iterable<YangNode> roots) {
+        List<YangNode> nodes = new ArrayList<>();
+        Deque<YangNode> stack = new ArrayDeque<>();
+        for (YangNode root : roots) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            YangNode node = stack.pop();
+            nodes.add(node);
+            for (YangNode child = node.getChild(); child != null;
+                 child = child.getNextSibling()) {
+                if (!(child instanceof YangGrouping)) {
+                    stack.push(child);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Checks cloned nodes share the schema node identifier of the grouping
+     * definition until either node sets its namespace, and each keeps the
+     * augments of its own.
+     */
+    @Test
+    public void processCopyOnWrite()
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        String searchDir = "src/test/resources/interfileietf";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangNode cloned = null;
+        int augmentCount = 0;
+        for (YangNode node : getDataNodes(utilManager.getYangNodeSet())) {
+            YangNode definition = (YangNode) node.getReferredSchema();
+            if (definition != null) {
+                cloned = node;
+                assertThat(node.getYangSchemaNodeIdentifier() ==
+                                   definition.getYangSchemaNodeIdentifier(),
+                           is(true));
+            }
+            if (node instanceof YangAugmentableNode) {
+                for (YangAugment augment : ((YangAugmentableNode) node)
+                        .getAugmentedInfoList()) {
+                    augmentCount++;
+                    assertThat(augment.getAugmentedNode() == node, is(true));
+                }
+            }
+        }
+        assertThat(cloned != null, is(true));
+        assertThat(augmentCount > 0, is(true));
+
+        // Writing the same namespace keeps the identifier shared.
+        YangNode definition = (YangNode) cloned.getReferredSchema();
+        YangNamespace namespace = cloned.getNameSpace();
+        cloned.setNameSpace(namespace);
+        assertThat(cloned.getYangSchemaNodeIdentifier() ==
+                           definition.getYangSchemaNodeIdentifier(),
+                   is(true));
+
+        // Namespace written by the definition is not seen by cloned node.
+        YangNamespace other = (YangNamespace) utilManager.getYangNodeSet()
+                .iterator().next();
+        definition.setNameSpace(other);
+        assertThat(definition.getNameSpace() == other, is(true));
+        assertThat(cloned.getNameSpace() == namespace, is(true));
+        assertThat(cloned.getName(), is(definition.getName()));
+    }
+
+    /**
+     * Checks cloned leaves share the type and the constraint lists of the
+     * grouping definition until the cloned leaf adds a constraint.
+     */
+    @Test
+    public void processLeafCopyOnWrite()
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        String searchDir = "src/test/resources/interfileietf";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangLeaf cloned = null;
+        for (YangNode node : getDataNodes(utilManager.getYangNodeSet())) {
+            if (!(node instanceof YangLeavesHolder) ||
+                    ((YangLeavesHolder) node).getListOfLeaf() == null) {
+                continue;
+            }
+            for (YangLeaf leaf : ((YangLeavesHolder) node).getListOfLeaf()) {
+                YangLeaf definition = leaf.getReferredSchema();
+                if (definition != null && definition.getDataType() ==
+                        leaf.getDataType()) {
+                    cloned = leaf;
+                }
+            }
+        }
+        assertThat(cloned != null, is(true));
+
+        YangLeaf definition = cloned.getReferredSchema();
+        assertThat(cloned.getListOfMust() == definition.getListOfMust(),
+                   is(true));
+        assertThat(cloned.getIfFeatureList() == definition.getIfFeatureList(),
+                   is(true));
+
+        // Constraint added to the cloned leaf is not seen by the definition.
+        int mustCount = definition.getListOfMust().size();
+        cloned.addMust(new YangMust());
+        assertThat(cloned.getListOfMust().size(), is(mustCount + 1));
+        assertThat(definition.getListOfMust().size(), is(mustCount));
+        assertThat(cloned.getDataType() == definition.getDataType(), is(true));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.plugin.manager.YangBuildCache.getAugmentedModules;
+import static org.onosproject.yangutils.plugin.manager.YangBuildCache.getFileHash;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Test cases for YANG build cache used by incremental build.
+ */
+public class YangBuildCacheTest {
+
+    private static final String DIR = "src/test/resources/interfileietf";
+    private static final String CACHE_DIR = "target/yangbuildcache";
+    private static final String KEY = "key";
+
+    private final YangUtilManager utilManager = new YangUtilManager();
+
+    /**
+     * Returns build cache of the linked IETF network models.
+     *
+     * @param hashes content hash of YANG files
+     * @return build cache
+     */
+    private YangBuildCache getBuildCache(Map<String, String> hashes)
+            throws IOException, MojoExecutionException {
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(DIR));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangBuildCache cache = new YangBuildCache(KEY);
+        for (YangFileInfo fileInfo : utilManager.getYangFileInfoSet()) {
+            String fileName = fileInfo.getYangFileName();
+            hashes.put(fileName, getFileHash(fileName));
+            cache.addYangFile(fileName, hashes.get(fileName),
+                              fileInfo.getRootNode());
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the YANG file name of a module.
+     *
+     * @param moduleName module name
+     * @return YANG file name
+     */
+    private String file(String moduleName) {
+        for (YangFileInfo fileInfo : utilManager.getYangFileInfoSet()) {
+            if (fileInfo.getRootNode().getName().equals(moduleName)) {
+                return fileInfo.getYangFileName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks files importing a changed file, directly or indirectly, need to
+     * be built again.
+     */
+    @Test
+    public void processChangedFiles()
+            throws IOException, MojoExecutionException {
+
+        Map<String, String> hashes = new HashMap<>();
+        YangBuildCache cache = getBuildCache(hashes);
+
+        assertThat(cache.getChangedFiles(hashes).isEmpty(), is(true));
+
+        Map<String, String> changedHashes = new HashMap<>(hashes);
+        changedHashes.put(file("ietf-network"), "changed");
+        Set<String> changedFiles = cache.getChangedFiles(changedHashes);
+        assertThat(changedFiles.size(), is(3));
+        assertThat(changedFiles.contains(file("ietf-network")), is(true));
+        assertThat(changedFiles.contains(file("ietf-network-topology")),
+                   is(true));
+        assertThat(changedFiles.contains(file("ietf-te-topology")),
+                   is(true));
+
+        Map<String, String> removedHashes = new HashMap<>(hashes);
+        removedHashes.remove(file("ietf-schedule"));
+        changedFiles = cache.getChangedFiles(removedHashes);
+        assertThat(changedFiles.contains(file("ietf-te-topology")),
+                   is(true));
+        assertThat(changedFiles.contains(file("ietf-yang-types")),
+                   is(false));
+    }
+
+    /**
+     * Checks modules augmented by a YANG file deleted between two builds
+     * need to be built again, so that the augments of the deleted file are
+     * not kept in their cached data model.
+     */
+    @Test
+    public void processDeletedAugmentingFile()
+            throws IOException, MojoExecutionException {
+
+        deleteDirectory(CACHE_DIR);
+        Map<String, String> hashes = new HashMap<>();
+        getBuildCache(hashes).write(CACHE_DIR);
+
+        YangBuildCache cache = YangBuildCache.read(CACHE_DIR, KEY);
+        hashes.remove(file("ietf-te-topology"));
+        Set<String> changedFiles = cache.getChangedFiles(hashes);
+        assertThat(changedFiles.contains(file("ietf-network")), is(true));
+        assertThat(changedFiles.contains(file("ietf-network-topology")),
+                   is(true));
+        assertThat(changedFiles.contains(file("ietf-te-types")), is(false));
+        deleteDirectory(CACHE_DIR);
+    }
+
+    /**
+     * Checks a module annotated by a changed or deleted YANG file needs to
+     * be built again, since linking sets the compiler annotation on its
+     * cached data model.
+     */
+    @Test
+    public void processCompilerAnnotatedModule()
+            throws IOException, MojoExecutionException {
+
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(
+                "src/test/resources/compilerAnnotation"));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangBuildCache cache = new YangBuildCache(KEY);
+        Map<String, String> hashes = new HashMap<>();
+        for (YangFileInfo fileInfo : utilManager.getYangFileInfoSet()) {
+            String fileName = fileInfo.getYangFileName();
+            hashes.put(fileName, getFileHash(fileName));
+            cache.addYangFile(fileName, hashes.get(fileName),
+                              fileInfo.getRootNode());
+        }
+        assertThat(getAugmentedModules(cache.getRootNode(file("test1")))
+                           .contains("test"), is(true));
+
+        Map<String, String> changedHashes = new HashMap<>(hashes);
+        changedHashes.put(file("test1"), "changed");
+        assertThat(cache.getChangedFiles(changedHashes).contains(file("test")),
+                   is(true));
+
+        hashes.remove(file("test1"));
+        assertThat(cache.getChangedFiles(hashes).contains(file("test")),
+                   is(true));
+    }
+
+    /**
+     * Checks augmented modules of a YANG file.
+     */
+    @Test
+    public void processAugmentedModules()
+            throws IOException, MojoExecutionException {
+
+        Map<String, String> hashes = new HashMap<>();
+        YangBuildCache cache = getBuildCache(hashes);
+
+        Set<String> modules = getAugmentedModules(
+                cache.getRootNode(file("ietf-te-topology")));
+        assertThat(modules.contains("ietf-network"), is(true));
+        assertThat(modules.contains("ietf-network-topology"), is(true));
+        assertThat(getAugmentedModules(
+                cache.getRootNode(file("ietf-inet-types"))).isEmpty(),
+                   is(true));
+    }
+
+    /**
+     * Checks build cache is read back only with the same key.
+     */
+    @Test
+    public void processWriteAndRead()
+            throws IOException, MojoExecutionException {
+
+        deleteDirectory(CACHE_DIR);
+        Map<String, String> hashes = new HashMap<>();
+        getBuildCache(hashes).write(CACHE_DIR);
+
+        YangBuildCache cache = YangBuildCache.read(CACHE_DIR, KEY);
+        assertThat(cache, is(notNullValue()));
+        assertThat(cache.getChangedFiles(hashes).isEmpty(), is(true));
+        assertThat(cache.getRootNode(file("ietf-network")).getName(),
+                   is("ietf-network"));
+
+        assertThat(YangBuildCache.read(CACHE_DIR, "other"), is(nullValue()));
+
+        YangBuildCache.delete(CACHE_DIR);
+        assertThat(YangBuildCache.read(CACHE_DIR, KEY), is(nullValue()));
+        deleteDirectory(CACHE_DIR);
+    }
+}
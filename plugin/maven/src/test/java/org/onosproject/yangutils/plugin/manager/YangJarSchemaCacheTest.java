@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.YangJarSchemaCache;
+import org.onosproject.yangutils.datamodel.utils.YangJarSchemaCache.SchemaEntry;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaFile;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.datamodel.utils.DataModelUtils.parseJarFile;
+import static org.onosproject.yangutils.datamodel.utils.YangJarSchemaCache.getSchemaEntries;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Test cases for the cache of data model entries of dependency jars.
+ */
+public class YangJarSchemaCacheTest {
+
+    private static final String DIR = "src/test/resources/interfileietf";
+    private static final String TARGET = "target/yangjarschemacache";
+    private static final String JAR = TARGET + "/dependency.jar";
+    private static final String OTHER_JAR = TARGET + "/other.jar";
+    private static final String ENTRY = "yang/resources/YangMetaData.yms";
+
+    /**
+     * Returns the schema file of the linked IETF network models.
+     *
+     * @return schema file content
+     */
+    private byte[] getSchemaFile()
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(DIR));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        List<YangNode> nodes = new ArrayList<>();
+        for (YangFileInfo fileInfo : utilManager.getYangFileInfoSet()) {
+            nodes.add(fileInfo.getRootNode());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        YangSchemaFile.write(nodes, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes a jar with the given schema file.
+     *
+     * @param content      schema file content
+     * @param lastModified modification time of the jar
+     */
+    private void writeJar(byte[] content, long lastModified)
+            throws IOException {
+        writeJar(JAR, content, lastModified);
+    }
+
+    /**
+     * Writes a jar at the given path with the given schema file.
+     *
+     * @param jar          jar file path
+     * @param content      schema file content
+     * @param lastModified modification time of the jar
+     */
+    private void writeJar(String jar, byte[] content, long lastModified)
+            throws IOException {
+        JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+        out.putNextEntry(new JarEntry(ENTRY));
+        out.write(content);
+        out.closeEntry();
+        out.close();
+        new File(jar).setLastModified(lastModified);
+    }
+
+    /**
+     * Checks jar entries are read once and the data model is read from
+     * them for each use.
+     */
+    @Test
+    public void processCachedJar()
+            throws IOException, MojoExecutionException {
+
+        deleteDirectory(TARGET);
+        new File(TARGET).mkdirs();
+        YangJarSchemaCache.clear();
+        byte[] schemaFile = getSchemaFile();
+        writeJar(schemaFile, 1000000L);
+
+        List<SchemaEntry> entries = getSchemaEntries(JAR);
+        assertThat(entries.size(), is(1));
+        assertThat(entries.get(0).isSchemaFile(), is(true));
+        assertThat(getSchemaEntries(JAR) == entries, is(true));
+
+        List<YangNode> nodes = parseJarFile(
+                JAR, Collections.singleton("ietf-inet-types"));
+        assertThat(nodes.size(), is(1));
+        assertThat(nodes.get(0).getName(), is("ietf-inet-types"));
+        List<YangNode> otherNodes = parseJarFile(
+                JAR, Collections.singleton("ietf-inet-types"));
+        assertThat(otherNodes.get(0) == nodes.get(0), is(false));
+
+        // Same content with another modification time.
+        writeJar(schemaFile, 2000000L);
+        assertThat(getSchemaEntries(JAR) == entries, is(true));
+
+        // Changed content.
+        writeJar(new byte[16], 2000000L);
+        List<SchemaEntry> changedEntries = getSchemaEntries(JAR);
+        assertThat(changedEntries == entries, is(false));
+        assertThat(changedEntries.get(0).getContent().length, is(16));
+
+        YangJarSchemaCache.clear();
+        deleteDirectory(TARGET);
+    }
+
+    /**
+     * Checks the least recently used jars are removed from the cache when
+     * the cache limit is exceeded, and a jar bigger than the limit is not
+     * cached.
+     */
+    @Test
+    public void processCacheLimit() throws IOException {
+
+        deleteDirectory(TARGET);
+        new File(TARGET).mkdirs();
+        YangJarSchemaCache.clear();
+        writeJar(JAR, new byte[1000], 1000000L);
+        writeJar(OTHER_JAR, new byte[1000], 1000000L);
+
+        try {
+            YangJarSchemaCache.setCacheLimit(1500);
+            List<SchemaEntry> entries = getSchemaEntries(JAR);
+            assertThat(getSchemaEntries(JAR) == entries, is(true));
+
+            List<SchemaEntry> otherEntries = getSchemaEntries(OTHER_JAR);
+            assertThat(getSchemaEntries(OTHER_JAR) == otherEntries, is(true));
+            assertThat(getSchemaEntries(JAR) == entries, is(false));
+
+            YangJarSchemaCache.setCacheLimit(500);
+            entries = getSchemaEntries(JAR);
+            assertThat(getSchemaEntries(JAR) == entries, is(false));
+        } finally {
+            YangJarSchemaCache.setCacheLimit(
+                    YangJarSchemaCache.DEFAULT_CACHE_LIMIT);
+            YangJarSchemaCache.clear();
+            deleteDirectory(TARGET);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.plugin.manager;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.datamodel.YangImport;
+import org.onosproject.yangutils.datamodel.YangModule;
+import org.onosproject.yangutils.datamodel.YangNode;
+import org.onosproject.yangutils.datamodel.utils.YangSchemaFile;
+import org.onosproject.yangutils.utils.io.impl.YangFileScanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test cases for the schema file format of linked YANG data model.
+ */
+public class YangSchemaFileTest {
+
+    private static final String DIR = "src/test/resources/interfileietf";
+
+    /**
+     * Returns the schema file of the linked IETF network models.
+     *
+     * @return schema file content
+     */
+    private byte[] getSchemaFile()
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(DIR));
+        utilManager.parseYangFileInfoSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        List<YangNode> nodes = new ArrayList<>();
+        for (YangFileInfo fileInfo : utilManager.getYangFileInfoSet()) {
+            nodes.add(fileInfo.getRootNode());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        YangSchemaFile.write(nodes, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the loaded modules by name.
+     *
+     * @param nodes root nodes of loaded modules
+     * @return loaded modules by name
+     */
+    private Map<String, YangNode> getModules(Set<YangNode> nodes) {
+        Map<String, YangNode> modules = new HashMap<>();
+        for (YangNode node : nodes) {
+            modules.put(node.getName(), node);
+        }
+        return modules;
+    }
+
+    /**
+     * Checks all modules are read back with the references across modules.
+     */
+    @Test
+    public void processReadAll()
+            throws IOException, MojoExecutionException {
+
+        byte[] schemaFile = getSchemaFile();
+        Map<String, YangNode> modules = getModules(YangSchemaFile.read(
+                new ByteArrayInputStream(schemaFile), null));
+
+        assertThat(modules.size(), is(7));
+        YangModule topology = (YangModule) modules.get("ietf-network-topology");
+        for (YangImport yangImport : topology.getImportList()) {
+            assertThat(yangImport.getImportedNode() ==
+                               modules.get(yangImport.getModuleName()),
+                       is(true));
+        }
+        assertThat(topology.getChild().getParent() == topology, is(true));
+    }
+
+    /**
+     * Checks only the needed modules and the modules they refer to are read.
+     */
+    @Test
+    public void processReadSelected()
+            throws IOException, MojoExecutionException {
+
+        byte[] schemaFile = getSchemaFile();
+        Map<String, YangNode> modules = getModules(YangSchemaFile.read(
+                new ByteArrayInputStream(schemaFile),
+                Collections.singleton("ietf-inet-types")));
+        assertThat(modules.size(), is(1));
+        assertThat(modules.containsKey("ietf-inet-types"), is(true));
+
+        modules = getModules(YangSchemaFile.read(
+                new ByteArrayInputStream(schemaFile),
+                Collections.singleton("ietf-network-topology")));
+        assertThat(modules.containsKey("ietf-network-topology"), is(true));
+        assertThat(modules.containsKey("ietf-network"), is(true));
+        assertThat(modules.containsKey("ietf-inet-types"), is(true));
+    }
+
+    /**
+     * Checks equal strings of different modules are read as one string.
+     */
+    @Test
+    public void processSharedStrings()
+            throws IOException, MojoExecutionException {
+
+        byte[] schemaFile = getSchemaFile();
+        Map<String, YangNode> modules = getModules(YangSchemaFile.read(
+                new ByteArrayInputStream(schemaFile), null));
+
+        YangModule topology = (YangModule) modules.get("ietf-network-topology");
+        for (YangImport yangImport : topology.getImportList()) {
+            assertThat(yangImport.getModuleName() ==
+                               modules.get(yangImport.getModuleName())
+                                       .getName(),
+                       is(true));
+        }
+    }
+
+    /**
+     * Checks a file of another format is not read.
+     */
+    @Test(expected = IOException.class)
+    public void processInvalidFile() throws IOException {
+        YangSchemaFile.read(new ByteArrayInputStream(new byte[16]), null);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.utils.io.impl;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Test;
+import org.onosproject.yangutils.plugin.manager.YangUtilManager;
+import org.onosproject.yangutils.utils.io.YangPluginConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Tests the output stage of generated Java files, which keeps the files of
+ * the previous build whose content is not changed.
+ */
+public final class JavaFileOutputTest {
+
+    private static final String DIR = "target/javaFileOutput/";
+    private static final String GEN_DIR = DIR + "org/onosproject/yang/gen";
+    private static final long OLD_TIME = 1000000000000L;
+
+    /**
+     * Generates the code of the YANG files.
+     *
+     * @throws IOException            when fails to generate the code
+     * @throws MojoExecutionException when fails to link the YANG files
+     */
+    private static void generateCode()
+            throws IOException, MojoExecutionException {
+        YangUtilManager utilManager = new YangUtilManager();
+        String searchDir = "src/test/resources/pstcodegen";
+        utilManager.createYangFileInfoSet(YangFileScanner.getYangFiles(searchDir));
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        YangPluginConfig yangPluginConfig = new YangPluginConfig();
+        yangPluginConfig.setCodeGenDir(DIR);
+        utilManager.translateToJava(yangPluginConfig);
+    }
+
+    /**
+     * Returns the content of the Java files under a directory, keyed by
+     * their path.
+     *
+     * @param dir     directory
+     * @param content content of files
+     * @return content of files
+     * @throws IOException when fails to read a file
+     */
+    private static Map<String, String> getContent(File dir,
+                                                  Map<String, String> content)
+            throws IOException {
+        for (File file : dir.listFiles()) {
+            if (file.isDirectory()) {
+                getContent(file, content);
+            } else {
+                content.put(file.getPath(),
+                            new String(Files.readAllBytes(file.toPath())));
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Checks the files generated again with the same content are not
+     * written, and the files not generated again are deleted.
+     *
+     * @throws IOException            when fails to do IO operations
+     * @throws MojoExecutionException when fails to link the YANG files
+     */
+    @Test
+    public void processUnchangedSources()
+            throws IOException, MojoExecutionException {
+        deleteDirectory(DIR);
+        generateCode();
+        Map<String, String> generated = getContent(new File(GEN_DIR),
+                                                   new HashMap<>());
+        for (String path : generated.keySet()) {
+            assertThat(new File(path).setLastModified(OLD_TIME), is(true));
+        }
+        File stale = new File(GEN_DIR + SLASH + "stale" + SLASH +
+                                      "Stale.java");
+        stale.getParentFile().mkdirs();
+        assertThat(stale.createNewFile(), is(true));
+
+        JavaFileOutput output = JavaFileOutput.start(GEN_DIR, new HashSet<>());
+        try {
+            generateCode();
+        } finally {
+            output.finish();
+        }
+        assertThat(output.getWrittenCount(), is(0));
+        assertThat(output.getUnchangedCount(), is(generated.size()));
+        assertThat(output.getDeletedCount(), is(1));
+        assertThat(stale.getParentFile().exists(), is(false));
+        assertThat(getContent(new File(GEN_DIR), new HashMap<>()),
+                   is(generated));
+        for (String path : generated.keySet()) {
+            assertThat(new File(path).lastModified(), is(OLD_TIME));
+        }
+
+        // A changed file is written, and the files under a kept directory
+        // are neither compared nor deleted.
+        String changedPath = generated.keySet().iterator().next();
+        File changed = new File(changedPath);
+        Files.write(changed.toPath(), "changed".getBytes());
+        File kept = new File(GEN_DIR + SLASH + "kept" + SLASH + "Kept.java");
+        kept.getParentFile().mkdirs();
+        assertThat(kept.createNewFile(), is(true));
+
+        HashSet<String> keptDirs = new HashSet<>();
+        keptDirs.add(kept.getParent());
+        output = JavaFileOutput.start(GEN_DIR, keptDirs);
+        try {
+            generateCode();
+        } finally {
+            output.finish();
+        }
+        assertThat(output.getWrittenCount(), is(1));
+        assertThat(output.getUnchangedCount(), is(generated.size() - 1));
+        assertThat(output.getDeletedCount(), is(0));
+        assertThat(kept.exists(), is(true));
+        assertThat(new String(Files.readAllBytes(changed.toPath())),
+                   is(generated.get(changedPath)));
+        deleteDirectory(DIR);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.utils.io.impl;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.UtilConstants.FOUR_SPACE_INDENTATION;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.closeFile;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.readAppendFile;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.updateFileHandle;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.insertDataIntoJavaFile;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.validateLineLength;
+
+/**
+ * Tests the in-memory store of generated Java files.
+ */
+public final class JavaFileStoreTest {
+
+    private static final String BASE_DIR = "target/javafilestore";
+    private static final String TEST_DATA_1 = "package org.onosproject.yang" +
+            ".gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev20151208" +
+            ".ietfnetwork.networks.network;\n\n";
+    private static final String TEST_DATA_2 = "public class Test {\r\n" +
+            "    protected org.onosproject.yang.gen.v1.urn.ietf.params.xml" +
+            ".ns.yang.ietf.inet.types.rev20130715.ietfinettypes.Ipv4Address" +
+            " address;\r    public int a;\n";
+    private static final String TEST_DATA_3 = "    public void method(String" +
+            " parameterOne, String parameterTwo, String parameterThree," +
+            " String parameterFour) {\n    }\n}";
+
+    /**
+     * Returns the content of a file.
+     *
+     * @param file file
+     * @return content of file
+     * @throws IOException when fails to read the file
+     */
+    private static String getContent(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * Checks buffered content is written once with the line length
+     * validated, in the same way as the content of a file is validated.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processValidatedWrite() throws IOException {
+        deleteDirectory(BASE_DIR);
+        File dir = new File(BASE_DIR + SLASH + "file");
+        dir.mkdirs();
+        File diskFile = new File(dir, "Test.java");
+        updateFileHandle(diskFile, TEST_DATA_1 + TEST_DATA_2 + TEST_DATA_3,
+                         false);
+        validateLineLength(diskFile);
+
+        File memoryDir = new File(BASE_DIR + SLASH + "memory");
+        memoryDir.mkdirs();
+        File file = new File(memoryDir, "Test.java");
+        JavaFileStore.create(file);
+        insertDataIntoJavaFile(file, TEST_DATA_1);
+        insertDataIntoJavaFile(file, TEST_DATA_2);
+        insertDataIntoJavaFile(file, TEST_DATA_3);
+        assertThat(file.exists(), is(false));
+
+        validateLineLength(file);
+        assertThat(JavaFileStore.isBuffered(file), is(false));
+        assertThat(getContent(file), is(getContent(diskFile)));
+
+        // Content inserted after the file is written is appended to it.
+        insertDataIntoJavaFile(file, TEST_DATA_1);
+        assertThat(getContent(file),
+                   is(getContent(diskFile) + TEST_DATA_1));
+        deleteDirectory(BASE_DIR);
+    }
+
+    /**
+     * Checks buffered content is read in the same way as from a generated
+     * file, and is written without change when the file is closed.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processBufferedReadAndClose() throws IOException {
+        deleteDirectory(BASE_DIR);
+        File dir = new File(BASE_DIR + SLASH + "file");
+        dir.mkdirs();
+        File diskFile = new File(dir, "Test.java");
+        updateFileHandle(diskFile, TEST_DATA_2 + TEST_DATA_3, false);
+
+        File memoryDir = new File(BASE_DIR + SLASH + "memory");
+        memoryDir.mkdirs();
+        File file = new File(memoryDir, "Test.java");
+        JavaFileStore.create(file);
+        JavaFileStore.append(file, TEST_DATA_2);
+        JavaFileStore.append(file, TEST_DATA_3);
+        assertThat(JavaFileStore.read(file, FOUR_SPACE_INDENTATION),
+                   is(readAppendFile(diskFile.getPath(),
+                                     FOUR_SPACE_INDENTATION)));
+
+        closeFile(file, false);
+        assertThat(JavaFileStore.isBuffered(file), is(false));
+        assertThat(getContent(file), is(getContent(diskFile)));
+
+        JavaFileStore.create(file);
+        closeFile(file, true);
+        assertThat(JavaFileStore.isBuffered(file), is(false));
+        assertThat(file.exists(), is(false));
+        deleteDirectory(BASE_DIR);
+    }
+
+    /**
+     * Checks buffers under a deleted directory are released.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processReleaseAll() throws IOException {
+        File file = new File(BASE_DIR + SLASH + "release" + SLASH +
+                                     "Test.java");
+        File other = new File(BASE_DIR + "released" + SLASH + "Test.java");
+        JavaFileStore.create(file);
+        JavaFileStore.create(other);
+
+        deleteDirectory(BASE_DIR);
+        assertThat(JavaFileStore.isBuffered(file), is(false));
+        assertThat(JavaFileStore.isBuffered(other), is(true));
+        JavaFileStore.release(other);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-present Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yangutils.utils.io.impl;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yangutils.utils.UtilConstants.EMPTY_STRING;
+import static org.onosproject.yangutils.utils.UtilConstants.SLASH;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.closeFile;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.readAppendFile;
+import static org.onosproject.yangutils.utils.io.impl.FileSystemUtil.updateFileHandle;
+import static org.onosproject.yangutils.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Tests the in-memory store of temporary code fragments.
+ */
+public final class TempFragmentStoreTest {
+
+    private static final String BASE_DIR = "target/tempfragmentstore";
+    private static final String TEST_DATA_1 = "    public int a;\n\n";
+    private static final String TEST_DATA_2 = "    \n        \n    public int b;";
+    private static final String TEST_DATA_3 = "\n    public int c;\n";
+
+    /**
+     * Checks buffered content is read in the same way as from a temporary
+     * file.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processBufferedRead() throws IOException {
+        deleteDirectory(BASE_DIR);
+        File dir = new File(BASE_DIR + SLASH + "file");
+        dir.mkdirs();
+        File diskFile = new File(dir, "Attributes.tmp");
+        updateFileHandle(diskFile, TEST_DATA_1 + TEST_DATA_2 + TEST_DATA_3,
+                         false);
+
+        File file = new File(BASE_DIR + SLASH + "memory" + SLASH +
+                                     "Attributes.tmp");
+        assertThat(TempFragmentStore.create(file), is(true));
+        assertThat(TempFragmentStore.create(file), is(false));
+        TempFragmentStore.append(file, TEST_DATA_1, 0);
+        TempFragmentStore.append(file, TEST_DATA_2, 0);
+        TempFragmentStore.append(file, TEST_DATA_3, 0);
+
+        assertThat(file.exists(), is(false));
+        assertThat(TempFragmentStore.read(file),
+                   is(readAppendFile(diskFile.getPath(), EMPTY_STRING)));
+
+        closeFile(file);
+        assertThat(TempFragmentStore.isBuffered(file), is(false));
+        deleteDirectory(BASE_DIR);
+    }
+
+    /**
+     * Checks buffered content beyond the spill threshold is moved to the
+     * temporary file without change in content.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processSpilledRead() throws IOException {
+        deleteDirectory(BASE_DIR);
+        File file = new File(BASE_DIR + SLASH + "spill" + SLASH +
+                                     "Attributes.tmp");
+        TempFragmentStore.create(file);
+        TempFragmentStore.append(file, TEST_DATA_1, 0);
+        String expected = TempFragmentStore.read(file);
+        TempFragmentStore.release(file);
+
+        TempFragmentStore.create(file);
+        TempFragmentStore.append(file, TEST_DATA_1, 10);
+        assertThat(file.exists(), is(true));
+        assertThat(TempFragmentStore.read(file), is(expected));
+
+        closeFile(file);
+        assertThat(file.exists(), is(false));
+        assertThat(TempFragmentStore.isBuffered(file), is(false));
+        deleteDirectory(BASE_DIR);
+    }
+
+    /**
+     * Checks buffers under a directory are released.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processReleaseAll() throws IOException {
+        File file = new File(BASE_DIR + SLASH + "release" + SLASH +
+                                     "Attributes.tmp");
+        File other = new File(BASE_DIR + SLASH + "released" + SLASH +
+                                      "Attributes.tmp");
+        TempFragmentStore.create(file);
+        TempFragmentStore.create(other);
+
+        TempFragmentStore.releaseAll(BASE_DIR + SLASH + "release");
+        assertThat(TempFragmentStore.isBuffered(file), is(false));
+        assertThat(TempFragmentStore.isBuffered(other), is(true));
+        TempFragmentStore.release(other);
+    }
+}